@@ -0,0 +1,22 @@
+package com.finova.account.client;
+
+import com.finova.account.dto.AccountEventDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feign client for analytics-service event ingestion
+ */
+@FeignClient(name = "analytics-service")
+public interface AnalyticsClient {
+    
+    /**
+     * Deliver a batch of account events; analytics deduplicates by event ID
+     */
+    @PostMapping("/api/analytics/events")
+    Map<String, Object> ingestEvents(@RequestBody List<AccountEventDTO> events);
+}
@@ -0,0 +1,22 @@
+package com.finova.account.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.Map;
+
+/**
+ * Feign client for planning-service
+ */
+@FeignClient(name = "planning-service")
+public interface PlanningClient {
+    
+    /**
+     * Get the default retirement plan projection for a user
+     */
+    @GetMapping("/api/planning/retirement-plan/{userId}")
+    Map<String, Object> getRetirementPlan(@PathVariable("userId") Long userId,
+                                          @RequestHeader(value = "Authorization", required = false) String authorization);
+}
@@ -0,0 +1,22 @@
+package com.finova.account.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.Map;
+
+/**
+ * Feign client for user-service
+ */
+@FeignClient(name = "user-service")
+public interface UserClient {
+    
+    /**
+     * Get a user's profile
+     */
+    @GetMapping("/api/users/{id}")
+    Map<String, Object> getUserProfile(@PathVariable("id") Long id,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization);
+}
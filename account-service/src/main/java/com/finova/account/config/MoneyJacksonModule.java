@@ -0,0 +1,43 @@
+package com.finova.account.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.finova.account.model.Money;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Jackson module writing Money as a plain decimal number (e.g. 1250.50) and reading it back
+ * from numbers or numeric strings, failing the mapping on sub-cent input. Registered with Spring Boot's ObjectMapper as a bean.
+ */
+@Component
+public class MoneyJacksonModule extends SimpleModule {
+    
+    public MoneyJacksonModule() {
+        super("MoneyJacksonModule");
+        addSerializer(Money.class, new JsonSerializer<Money>() {
+            @Override
+            public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeNumber(value.toBigDecimal());
+            }
+        });
+        addDeserializer(Money.class, new JsonDeserializer<Money>() {
+            @Override
+            public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                String text = parser.getValueAsString();
+                try {
+                    return text != null ? Money.of(text.trim()) : null;
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    throw JsonMappingException.from(parser, e.getMessage(), e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.finova.account.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional service method to be re-executed when it fails with an
+ * optimistic locking conflict. Each attempt runs in a fresh transaction, so the
+ * method re-reads current state before re-applying its changes.
+ * 
+ * Only for operations whose outcome does not depend on the state the client last saw,
+ * such as deletes. Client edits carry a version instead and are rejected when it is stale,
+ * since re-applying them would overwrite the change they conflicted with.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OptimisticRetry {
+}
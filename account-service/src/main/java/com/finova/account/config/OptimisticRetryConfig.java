@@ -0,0 +1,37 @@
+package com.finova.account.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the optimistic locking retry advisor for {@link OptimisticRetry} methods.
+ * The meter registry is resolved lazily because advisors are created while other
+ * post-processors are still being initialised.
+ */
+@Configuration
+public class OptimisticRetryConfig {
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor optimisticRetryAdvisor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${finova.retry.optimistic.max-attempts:4}") int maxAttempts,
+            @Value("${finova.retry.optimistic.initial-backoff-ms:20}") long initialBackoffMs,
+            @Value("${finova.retry.optimistic.max-backoff-ms:500}") long maxBackoffMs) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(OptimisticRetry.class),
+            new OptimisticRetryInterceptor(meterRegistry, maxAttempts, initialBackoffMs, maxBackoffMs));
+        // Run before (outside) the transaction interceptor so each attempt gets a new transaction
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
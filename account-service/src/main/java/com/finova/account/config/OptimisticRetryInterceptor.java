@@ -0,0 +1,81 @@
+package com.finova.account.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link OptimisticRetry} methods on optimistic locking conflicts with
+ * bounded attempts and full-jitter exponential backoff.
+ * 
+ * The interceptor must run outside the transaction interceptor so that every attempt
+ * gets its own transaction. When the method is already called inside an active
+ * transaction it does not retry, and the conflict propagates to the outermost caller.
+ */
+public class OptimisticRetryInterceptor implements MethodInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetryInterceptor.class);
+    
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    
+    public OptimisticRetryInterceptor(ObjectProvider<MeterRegistry> meterRegistry, int maxAttempts,
+                                      long initialBackoffMs, long maxBackoffMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        
+        String operation = invocation.getMethod().getDeclaringClass().getSimpleName()
+            + "." + invocation.getMethod().getName();
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // Each attempt needs its own copy of the invocation to re-run the interceptor chain
+                MethodInvocation current = attempt == 1
+                    ? invocation
+                    : ((ProxyMethodInvocation) invocation).invocableClone();
+                return current.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                meterRegistry.getObject().counter("finova.optimistic.conflicts", "operation", operation).increment();
+                
+                if (attempt >= maxAttempts) {
+                    meterRegistry.getObject().counter("finova.optimistic.exhausted", "operation", operation).increment();
+                    logger.warn("Optimistic lock conflict on {} not resolved after {} attempts", operation, attempt);
+                    throw ex;
+                }
+                
+                long backoff = backoffMillis(attempt);
+                logger.debug("Optimistic lock conflict on {} (attempt {}), retrying in {} ms", operation, attempt, backoff);
+                meterRegistry.getObject().counter("finova.optimistic.retries", "operation", operation).increment();
+                Thread.sleep(backoff);
+            }
+        }
+    }
+    
+    /**
+     * Full jitter: a random delay between zero and the capped exponential backoff
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
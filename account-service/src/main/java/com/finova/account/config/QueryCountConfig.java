@@ -0,0 +1,49 @@
+package com.finova.account.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request query counting for non-production profiles.
+ * Counts JDBC statements through QueryCountingDataSourcePostProcessor and entity loads and
+ * collection fetches through Hibernate statistics (QueryCountingStatistics), and exposes them as
+ * X-Query-Count, X-Entity-Load-Count and X-Collection-Fetch-Count headers and as
+ * finova.jdbc.request.statements and finova.hibernate.request.* metrics.
+ * AccountControllerQueryBudgetTest asserts budgets on them.
+ */
+@Configuration
+@Profile("!prod")
+@ConditionalOnProperty(name = "finova.query-budget.enabled", havingValue = "true")
+public class QueryCountConfig {
+    
+    private static final String STATS_FACTORY = "hibernate.stats.factory";
+    
+    @Bean
+    public static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+        return new QueryCountingDataSourcePostProcessor();
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, "true");
+            properties.put(STATS_FACTORY, (StatisticsFactory) QueryCountingStatistics::new);
+        };
+    }
+    
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+            new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,62 @@
+package com.finova.account.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the database work done by each request and records it as Micrometer distributions
+ * tagged by endpoint. Response headers are added by QueryCountResponseAdvice before the body
+ * is written, or here when the response has no body.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+    
+    public static final String STATEMENT_COUNT_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOAD_COUNT_HEADER = "X-Entity-Load-Count";
+    public static final String COLLECTION_FETCH_COUNT_HEADER = "X-Collection-Fetch-Count";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryCounts counts = RequestQueryCounts.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryCounts.end();
+            if (!response.isCommitted()) {
+                response.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(counts.getStatements()));
+                response.setHeader(ENTITY_LOAD_COUNT_HEADER, String.valueOf(counts.getEntityLoads()));
+                response.setHeader(COLLECTION_FETCH_COUNT_HEADER, String.valueOf(counts.getCollectionFetches()));
+            }
+            record(request, counts);
+        }
+    }
+    
+    private void record(HttpServletRequest request, RequestQueryCounts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        summary("finova.jdbc.request.statements", request.getMethod(), uri).record(counts.getStatements());
+        summary("finova.hibernate.request.entity.loads", request.getMethod(), uri).record(counts.getEntityLoads());
+        summary("finova.hibernate.request.collection.fetches", request.getMethod(), uri).record(counts.getCollectionFetches());
+    }
+    
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry);
+    }
+}
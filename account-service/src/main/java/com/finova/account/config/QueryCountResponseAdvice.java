@@ -0,0 +1,36 @@
+package com.finova.account.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the current request's query counts as response headers just before the body is written.
+ * Does nothing unless QueryCountFilter is counting the request.
+ */
+@ControllerAdvice
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryCounts counts = RequestQueryCounts.current();
+        if (counts != null) {
+            response.getHeaders().set(QueryCountFilter.STATEMENT_COUNT_HEADER, String.valueOf(counts.getStatements()));
+            response.getHeaders().set(QueryCountFilter.ENTITY_LOAD_COUNT_HEADER, String.valueOf(counts.getEntityLoads()));
+            response.getHeaders().set(QueryCountFilter.COLLECTION_FETCH_COUNT_HEADER,
+                String.valueOf(counts.getCollectionFetches()));
+        }
+        return body;
+    }
+}
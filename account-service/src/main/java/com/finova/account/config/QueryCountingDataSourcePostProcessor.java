@@ -0,0 +1,63 @@
+package com.finova.account.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+
+/**
+ * Wraps DataSource beans so every statement created on one of their connections is attributed
+ * to the request running on the current thread (see RequestQueryCounts). Counting at the JDBC
+ * level covers Hibernate, Spring Data native queries and JdbcTemplate alike; a JDBC batch counts
+ * as the one statement it is prepared as.
+ */
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+    
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, dataSource, (result, method) ->
+                result instanceof Connection connection && method.getName().equals("getConnection")
+                    ? proxy(Connection.class, connection, QueryCountingDataSourcePostProcessor::countStatement)
+                    : result);
+        }
+        return bean;
+    }
+    
+    private static Object countStatement(Object result, Method method) {
+        if (STATEMENT_FACTORIES.contains(method.getName())) {
+            RequestQueryCounts counts = RequestQueryCounts.current();
+            if (counts != null) {
+                counts.statementPrepared();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Proxy one JDBC interface, passing each call's result through onResult.
+     * unwrap and isWrapperFor reach the target, so pool metrics still find the real DataSource.
+     */
+    private static <T> T proxy(Class<T> type, T target, ResultHandler onResult) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return onResult.handle(method.invoke(target, args), method);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSourcePostProcessor.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+    
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Object result, Method method);
+    }
+}
@@ -0,0 +1,34 @@
+package com.finova.account.config;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics that also attribute entity loads and collection fetches to the request
+ * running on the current thread (see RequestQueryCounts). Statements are counted at the JDBC
+ * level instead, since Hibernate does not see JdbcTemplate work.
+ */
+public class QueryCountingStatistics extends StatisticsImpl {
+    
+    public QueryCountingStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+    
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RequestQueryCounts counts = RequestQueryCounts.current();
+        if (counts != null) {
+            counts.entityLoaded();
+        }
+    }
+    
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        RequestQueryCounts counts = RequestQueryCounts.current();
+        if (counts != null) {
+            counts.collectionFetched();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.finova.account.config;
+
+/**
+ * JDBC statement and Hibernate load counts for the request running on the current thread.
+ * Counting only happens between begin() and end(); work on other threads is not attributed.
+ */
+public class RequestQueryCounts {
+    
+    private static final ThreadLocal<RequestQueryCounts> CURRENT = new ThreadLocal<>();
+    
+    private long statements;
+    private long entityLoads;
+    private long collectionFetches;
+    
+    /**
+     * Start counting for the current thread
+     */
+    public static RequestQueryCounts begin() {
+        RequestQueryCounts counts = new RequestQueryCounts();
+        CURRENT.set(counts);
+        return counts;
+    }
+    
+    /**
+     * Get the counts for the current thread, or null when not counting
+     */
+    public static RequestQueryCounts current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Stop counting for the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    void statementPrepared() { statements++; }
+    void entityLoaded() { entityLoads++; }
+    void collectionFetched() { collectionFetches++; }
+    
+    public long getStatements() { return statements; }
+    public long getEntityLoads() { return entityLoads; }
+    public long getCollectionFetches() { return collectionFetches; }
+}
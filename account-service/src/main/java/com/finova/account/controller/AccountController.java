@@ -1,39 +1,93 @@
 package com.finova.account.controller;
 
 import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.dto.AccountSummaryDTO;
 import com.finova.account.dto.ContributionDTO;
 import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.dto.ContributionHistoryDTO;
+import com.finova.account.dto.ContributionImportJobDTO;
+import com.finova.account.dto.AuditEntryDTO;
+import com.finova.account.model.Money;
+import com.finova.account.repository.ContributionTypeTotals;
+import com.finova.account.service.AccountSummaryService;
+import com.finova.account.service.AuditTrail;
+import com.finova.account.service.BalanceLedgerService;
+import com.finova.account.service.DashboardService;
 import com.finova.account.service.RetirementAccountService;
 import com.finova.account.service.ContributionService;
+import com.finova.account.service.ContributionHistoryService;
+import com.finova.account.service.ContributionImportService;
 import com.finova.account.service.IncomeSourceService;
+import com.finova.account.service.ResourceVersionService;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Account management operations
  * Handles retirement accounts, contributions, and income sources
  */
 @RestController
+@Validated
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class AccountController {
-
+    
+    // Per-user data: shared caches such as the gateway must not store it, browsers revalidate with If-None-Match
+    private static final CacheControl USER_DATA_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private RetirementAccountService retirementAccountService;
     
     @Autowired
     private ContributionService contributionService;
     
+    @Autowired
+    private ContributionImportService contributionImportService;
+    
+    @Autowired
+    private ContributionHistoryService contributionHistoryService;
+    
     @Autowired
     private IncomeSourceService incomeSourceService;
-
+    
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private AuditTrail auditTrail;
+    
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+    
     /**
      * Health check endpoint
      */
@@ -45,16 +99,16 @@ public class AccountController {
         response.put("timestamp", String.valueOf(System.currentTimeMillis()));
         return ResponseEntity.ok(response);
     }
-
+    
     // ========== RETIREMENT ACCOUNTS ENDPOINTS ==========
     
     /**
      * Get all retirement accounts for a user
      */
     @GetMapping("/accounts/user/{userId}")
-    public ResponseEntity<List<RetirementAccountDTO>> getAccountsByUserId(@PathVariable Long userId) {
-        List<RetirementAccountDTO> accounts = retirementAccountService.getAccountsByUserId(userId);
-        return ResponseEntity.ok(accounts);
+    public ResponseEntity<List<RetirementAccountDTO>> getAccountsByUserId(@PathVariable Long userId, WebRequest request) {
+        return conditionalGet(request, resourceVersionService.getUserETag("accounts", userId),
+            () -> retirementAccountService.getAccountsByUserId(userId));
     }
     
     /**
@@ -63,6 +117,9 @@ public class AccountController {
     @GetMapping("/accounts/user/{userId}/primary")
     public ResponseEntity<RetirementAccountDTO> getPrimaryAccount(@PathVariable Long userId) {
         RetirementAccountDTO account = retirementAccountService.getPrimaryAccountByUserId(userId);
+        if (account == null) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok(account);
     }
     
@@ -104,48 +161,108 @@ public class AccountController {
         return ResponseEntity.noContent().build();
     }
     
+    // ========== BALANCE LEDGER ENDPOINTS ==========
+    
+    /**
+     * Get account balance computed from the ledger, optionally as of a point in time
+     */
+    @GetMapping("/accounts/{accountId}/balance")
+    public ResponseEntity<Map<String, Object>> getAccountBalance(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        BigDecimal balance = asOf != null
+            ? balanceLedgerService.getBalanceAsOf(accountId, asOf)
+            : balanceLedgerService.getCurrentBalance(accountId);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("accountId", accountId);
+        response.put("balance", balance);
+        response.put("balanceFormatted", String.format("$%,.2f", balance));
+        response.put("asOf", asOf != null ? asOf : LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Get the most recent ledger entries for an account
+     */
+    @GetMapping("/accounts/{accountId}/ledger")
+    public ResponseEntity<List<BalanceLedgerEntryDTO>> getLedgerEntries(
+            @PathVariable Long accountId,
+            @RequestParam(defaultValue = "50") @Min(1) int limit) {
+        List<BalanceLedgerEntryDTO> entries = balanceLedgerService.getRecentEntries(accountId, Math.min(limit, 500));
+        return ResponseEntity.ok(entries);
+    }
+    
+    /**
+     * Append a balance-affecting event to an account's ledger
+     */
+    @PostMapping("/accounts/{accountId}/ledger")
+    public ResponseEntity<BalanceLedgerEntryDTO> postLedgerEntry(
+            @PathVariable Long accountId,
+            @Valid @RequestBody BalanceLedgerEntryDTO entryDTO) {
+        BalanceLedgerEntryDTO entry = retirementAccountService.postLedgerEntry(accountId, entryDTO);
+        return ResponseEntity.ok(entry);
+    }
+    
+    /**
+     * Get the most recent audit entries for an account, contribution or income source
+     */
+    @GetMapping("/audit/{entityType}/{entityId}")
+    public ResponseEntity<List<AuditEntryDTO>> getAuditEntries(
+            @PathVariable String entityType,
+            @PathVariable Long entityId,
+            @RequestParam(defaultValue = "50") @Min(1) int limit) {
+        List<AuditEntryDTO> entries = auditTrail.getRecentEntries(entityType, entityId, Math.min(limit, 500));
+        return ResponseEntity.ok(entries);
+    }
+    
     // ========== CONTRIBUTIONS ENDPOINTS ==========
     
     /**
      * Get all contributions for a user
      */
     @GetMapping("/contributions/user/{userId}")
-    public ResponseEntity<List<ContributionDTO>> getContributionsByUserId(@PathVariable Long userId) {
-        List<ContributionDTO> contributions = contributionService.getContributionsByUserId(userId);
-        return ResponseEntity.ok(contributions);
+    public ResponseEntity<List<ContributionDTO>> getContributionsByUserId(@PathVariable Long userId, WebRequest request) {
+        return conditionalGet(request, resourceVersionService.getUserETag("contributions", userId),
+            () -> contributionService.getContributionsByUserId(userId));
     }
     
     /**
      * Get all contributions for an account
      */
     @GetMapping("/contributions/account/{accountId}")
-    public ResponseEntity<List<ContributionDTO>> getContributionsByAccountId(@PathVariable Long accountId) {
-        List<ContributionDTO> contributions = contributionService.getContributionsByAccountId(accountId);
-        return ResponseEntity.ok(contributions);
+    public ResponseEntity<List<ContributionDTO>> getContributionsByAccountId(@PathVariable Long accountId,
+                                                                             WebRequest request) {
+        return conditionalGet(request, resourceVersionService.getAccountContributionsETag(accountId),
+            () -> contributionService.getContributionsByAccountId(accountId));
     }
     
     /**
      * Get contribution summary for a user
      */
     @GetMapping("/contributions/user/{userId}/summary")
-    public ResponseEntity<Map<String, Object>> getContributionsSummary(@PathVariable Long userId) {
+    public ResponseEntity<Map<String, Object>> getContributionsSummary(@PathVariable Long userId, WebRequest request) {
+        return conditionalGet(request, resourceVersionService.getUserETag("contributions-summary", userId),
+            () -> buildContributionsSummary(userId));
+    }
+    
+    private Map<String, Object> buildContributionsSummary(Long userId) {
         List<ContributionDTO> contributions = contributionService.getContributionsByUserId(userId);
+        List<ContributionTypeTotals> totalsByType = contributionService.getContributionTotalsByType(userId);
         
-        BigDecimal totalMonthly = contributions.stream()
-            .map(ContributionDTO::getMonthlyAmount)
-            .filter(amount -> amount != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalAnnual = totalMonthly.multiply(new BigDecimal("12"));
+        // One aggregate row per contribution type, so these sums are over a handful of rows
+        Money totalMonthly = Money.sum(totalsByType, totals -> Money.of(totals.getTotalMonthly()));
+        Money totalAnnual = Money.sum(totalsByType, totals -> Money.of(totals.getTotalAnnual()));
         
         Map<String, Object> summary = new HashMap<>();
         summary.put("contributions", contributions);
+        summary.put("totalsByType", totalsByType);
         summary.put("totalMonthly", totalMonthly);
         summary.put("totalAnnual", totalAnnual);
-        summary.put("totalMonthlyFormatted", String.format("$%,.0f", totalMonthly));
-        summary.put("totalAnnualFormatted", String.format("$%,.0f", totalAnnual));
+        summary.put("totalMonthlyFormatted", String.format("$%,.0f", totalMonthly.toBigDecimal()));
+        summary.put("totalAnnualFormatted", String.format("$%,.0f", totalAnnual.toBigDecimal()));
         
-        return ResponseEntity.ok(summary);
+        return summary;
     }
     
     /**
@@ -174,7 +291,7 @@ public class AccountController {
     @PutMapping("/contributions/account/{accountId}/bulk")
     public ResponseEntity<List<ContributionDTO>> updateContributions(
             @PathVariable Long accountId,
-            @Valid @RequestBody List<ContributionDTO> contributions) {
+            @Valid @RequestBody List<@NotNull ContributionDTO> contributions) {
         List<ContributionDTO> updatedContributions = contributionService.updateContributions(accountId, contributions);
         return ResponseEntity.ok(updatedContributions);
     }
@@ -188,6 +305,68 @@ public class AccountController {
         return ResponseEntity.noContent().build();
     }
     
+    /**
+     * Import pay-period contributions from a payroll CSV file streamed in the request body.
+     * The import runs in the background; poll the returned job for its progress.
+     * Pass the jobId of a failed import to resume it from its last committed row.
+     */
+    @PostMapping(value = "/contributions/import", consumes = {"text/csv", "text/plain", "application/octet-stream"})
+    public ResponseEntity<ContributionImportJobDTO> importContributions(
+            InputStream body,
+            @RequestParam(required = false) String fileName,
+            @RequestParam(required = false) Long jobId) {
+        ContributionImportJobDTO job = contributionImportService.importContributions(body, fileName, jobId);
+        return ResponseEntity.accepted().body(job);
+    }
+    
+    /**
+     * Get the progress and rejected rows of a contribution import
+     */
+    @GetMapping("/contributions/import/{jobId}")
+    public ResponseEntity<ContributionImportJobDTO> getContributionImport(@PathVariable Long jobId) {
+        ContributionImportJobDTO job = contributionImportService.getImportJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+    
+    /**
+     * Record a batch of per-pay-period contributions
+     */
+    @PostMapping("/contributions/history")
+    public ResponseEntity<Map<String, Object>> recordContributionHistory(
+            @Valid @NotEmpty @RequestBody List<@NotNull ContributionHistoryDTO> entries) {
+        Map<String, Object> result = contributionHistoryService.recordHistory(entries);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Get an account's pay-period contribution history for dates in [from, to), defaulting to the last year
+     */
+    @GetMapping("/contributions/account/{accountId}/history")
+    public ResponseEntity<List<ContributionHistoryDTO>> getContributionHistory(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(5000) int limit) {
+        LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+        LocalDate start = from != null ? from : end.minusYears(1);
+        List<ContributionHistoryDTO> history = contributionHistoryService.getAccountHistory(accountId, start, end, limit);
+        return ResponseEntity.ok(history);
+    }
+    
+    /**
+     * Get a user's contribution history totals by type for dates in [from, to), defaulting to the last year
+     */
+    @GetMapping("/contributions/user/{userId}/history/summary")
+    public ResponseEntity<Map<String, Object>> getContributionHistorySummary(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+        LocalDate start = from != null ? from : end.minusYears(1);
+        Map<String, Object> summary = contributionHistoryService.getHistoryTotals(userId, start, end);
+        return ResponseEntity.ok(summary);
+    }
+    
     // ========== INCOME SOURCES ENDPOINTS ==========
     
     /**
@@ -205,23 +384,15 @@ public class AccountController {
     @GetMapping("/income-sources/user/{userId}/summary")
     public ResponseEntity<Map<String, Object>> getIncomeSourcesSummary(@PathVariable Long userId) {
         List<IncomeSourceDTO> incomeSources = incomeSourceService.getIncomeSourcesByUserId(userId);
-        
-        BigDecimal totalProjectedIncome = incomeSources.stream()
-            .map(IncomeSourceDTO::getProjectedMonthlyIncome)
-            .filter(amount -> amount != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        BigDecimal totalCurrentBalance = incomeSources.stream()
-            .map(IncomeSourceDTO::getCurrentBalance)
-            .filter(amount -> amount != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money totalProjectedIncome = incomeSourceService.getTotalProjectedMonthlyIncome(userId);
+        Money totalCurrentBalance = incomeSourceService.getTotalCurrentBalance(userId);
         
         Map<String, Object> summary = new HashMap<>();
         summary.put("incomeSources", incomeSources);
         summary.put("totalProjectedIncome", totalProjectedIncome);
         summary.put("totalCurrentBalance", totalCurrentBalance);
-        summary.put("totalProjectedIncomeFormatted", String.format("$%,.0f", totalProjectedIncome));
-        summary.put("totalCurrentBalanceFormatted", String.format("$%,.2f", totalCurrentBalance));
+        summary.put("totalProjectedIncomeFormatted", String.format("$%,.0f", totalProjectedIncome.toBigDecimal()));
+        summary.put("totalCurrentBalanceFormatted", String.format("$%,.2f", totalCurrentBalance.toBigDecimal()));
         
         return ResponseEntity.ok(summary);
     }
@@ -259,31 +430,62 @@ public class AccountController {
      * Get dashboard summary for a user (combines account, contributions, and income sources)
      */
     @GetMapping("/dashboard/{userId}")
-    public ResponseEntity<Map<String, Object>> getDashboardData(@PathVariable Long userId) {
-        RetirementAccountDTO primaryAccount = retirementAccountService.getPrimaryAccountByUserId(userId);
-        List<ContributionDTO> contributions = contributionService.getContributionsByUserId(userId);
-        List<IncomeSourceDTO> incomeSources = incomeSourceService.getIncomeSourcesByUserId(userId);
-        
-        // Calculate totals
-        BigDecimal totalMonthlyContributions = contributions.stream()
-            .map(ContributionDTO::getMonthlyAmount)
-            .filter(amount -> amount != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        BigDecimal totalProjectedIncome = incomeSources.stream()
-            .map(IncomeSourceDTO::getProjectedMonthlyIncome)
-            .filter(amount -> amount != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        Map<String, Object> dashboardData = new HashMap<>();
-        dashboardData.put("primaryAccount", primaryAccount);
-        dashboardData.put("contributions", contributions);
-        dashboardData.put("incomeSources", incomeSources);
-        dashboardData.put("totalMonthlyContributions", totalMonthlyContributions);
-        dashboardData.put("totalProjectedIncome", totalProjectedIncome);
-        dashboardData.put("status", primaryAccount != null ? 
-            (primaryAccount.isOnTrack() ? "You are on track! ✓" : "Behind schedule") : "No data");
-        
-        return ResponseEntity.ok(dashboardData);
+    public ResponseEntity<Map<String, Object>> getDashboardData(@PathVariable Long userId, WebRequest request) {
+        return conditionalGet(request, resourceVersionService.getUserETag("dashboard", userId),
+            () -> dashboardService.getDashboardData(userId));
+    }
+    
+    /**
+     * Get the precomputed dashboard totals and status for a user (a single primary-key lookup)
+     */
+    @GetMapping("/dashboard/{userId}/summary")
+    public ResponseEntity<AccountSummaryDTO> getDashboardSummary(@PathVariable Long userId) {
+        return ResponseEntity.ok(accountSummaryService.getSummary(userId));
+    }
+    
+    /**
+     * Get dashboard summary combined with the user's planning projection and profile,
+     * fetched from planning-service and user-service in parallel
+     */
+    @GetMapping("/dashboard/{userId}/composite")
+    public ResponseEntity<Map<String, Object>> getCompositeDashboard(
+            @PathVariable Long userId,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        return ResponseEntity.ok(dashboardService.getCompositeDashboard(userId, authorization));
+    }
+    
+    /**
+     * Answer a GET with 304 Not Modified when the client's If-None-Match matches the current ETag,
+     * so the body is neither loaded nor serialized; otherwise return it with its ETag
+     */
+    private <T> ResponseEntity<T> conditionalGet(WebRequest request, String etag, Supplier<T> body) {
+        // checkNotModified has already set the 304 status and the ETag header
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(USER_DATA_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(USER_DATA_CACHE_CONTROL).body(body.get());
+    }
+    
+    /**
+     * Update based on a stale version, or a concurrent modification that could not be resolved by retrying
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Conflict");
+        response.put("message", "The resource was modified by another request; reload it and apply the change again");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+    
+    /**
+     * Invalid request bodies or parameters caught by method validation, such as a null
+     * element or field in a batch, or an out-of-range limit
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Bad Request");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
     }
 }
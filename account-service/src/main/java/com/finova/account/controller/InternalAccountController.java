@@ -0,0 +1,55 @@
+package com.finova.account.controller;
+
+import com.finova.account.service.AccountBulkLookupService;
+import com.finova.account.service.AccountProvisioningService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for service-to-service account operations.
+ * Lives outside /api and has no CORS mapping; SecurityConfig requires the internal service
+ * role for every request under /internal.
+ */
+@RestController
+@RequestMapping("/internal")
+public class InternalAccountController {
+    
+    @Autowired
+    private AccountBulkLookupService accountBulkLookupService;
+    
+    @Autowired
+    private AccountProvisioningService accountProvisioningService;
+    
+    /**
+     * Stream accounts, contributions and income sources for a batch of users as
+     * newline-delimited JSON, one line per user
+     */
+    @PostMapping(value = "/accounts/bulk", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> getAccountsForUsers(@RequestBody(required = false) List<Long> userIds) {
+        if (userIds == null || userIds.size() > accountBulkLookupService.getMaxUsers()) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> accountBulkLookupService.writeAccounts(userIds, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+    
+    /**
+     * Provision default accounts for a batch of newly registered users (idempotent)
+     */
+    @PostMapping("/provisioning/users")
+    public ResponseEntity<Map<String, List<Long>>> provisionUsers(@RequestBody(required = false) List<Long> userIds) {
+        if (userIds == null || userIds.size() > accountProvisioningService.getMaxUsers()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(accountProvisioningService.provisionUsers(userIds));
+    }
+}
@@ -0,0 +1,57 @@
+package com.finova.account.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for account change events relayed from the outbox to analytics-service
+ */
+public class AccountEventDTO {
+    
+    private String eventId; // idempotency key
+    private String eventType;
+    private String aggregateType;
+    private Long aggregateId;
+    private Long userId;
+    private LocalDateTime occurredAt;
+    
+    @JsonRawValue
+    private String payload;
+    
+    // Constructors
+    public AccountEventDTO() {}
+    
+    public AccountEventDTO(String eventId, String eventType, String aggregateType, Long aggregateId,
+                          Long userId, LocalDateTime occurredAt, String payload) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.userId = userId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+    
+    // Getters and Setters
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+    
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+    
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+}
@@ -0,0 +1,58 @@
+package com.finova.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for AccountSummary data transfer
+ */
+public class AccountSummaryDTO {
+    
+    private Long userId;
+    private Long primaryAccountId;
+    private BigDecimal currentBalance;
+    private BigDecimal totalMonthlyContributions;
+    private BigDecimal totalAnnualContributions;
+    private BigDecimal totalProjectedIncome;
+    private String status;
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public AccountSummaryDTO() {}
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Long getPrimaryAccountId() { return primaryAccountId; }
+    public void setPrimaryAccountId(Long primaryAccountId) { this.primaryAccountId = primaryAccountId; }
+    
+    public BigDecimal getCurrentBalance() { return currentBalance; }
+    public void setCurrentBalance(BigDecimal currentBalance) { this.currentBalance = currentBalance; }
+    
+    public BigDecimal getTotalMonthlyContributions() { return totalMonthlyContributions; }
+    public void setTotalMonthlyContributions(BigDecimal totalMonthlyContributions) { 
+        this.totalMonthlyContributions = totalMonthlyContributions; 
+    }
+    
+    public BigDecimal getTotalAnnualContributions() { return totalAnnualContributions; }
+    public void setTotalAnnualContributions(BigDecimal totalAnnualContributions) { 
+        this.totalAnnualContributions = totalAnnualContributions; 
+    }
+    
+    public BigDecimal getTotalProjectedIncome() { return totalProjectedIncome; }
+    public void setTotalProjectedIncome(BigDecimal totalProjectedIncome) { this.totalProjectedIncome = totalProjectedIncome; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    /**
+     * Check if user is on track with their retirement goals
+     */
+    public boolean isOnTrack() {
+        return "on_track".equals(status);
+    }
+}
@@ -0,0 +1,43 @@
+package com.finova.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for AuditEntry data transfer
+ */
+public class AuditEntryDTO {
+    
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private Long userId;
+    private String action;
+    private Map<String, Object> changes;
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public AuditEntryDTO() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+    
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+    
+    public Map<String, Object> getChanges() { return changes; }
+    public void setChanges(Map<String, Object> changes) { this.changes = changes; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
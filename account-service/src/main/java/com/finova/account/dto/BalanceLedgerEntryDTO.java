@@ -0,0 +1,59 @@
+package com.finova.account.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for BalanceLedgerEntry data transfer
+ */
+public class BalanceLedgerEntryDTO {
+    
+    private Long id;
+    private Long accountId;
+    private Long sequenceNumber;
+    
+    @NotBlank(message = "Entry type is required")
+    private String entryType;
+    
+    @NotNull(message = "Amount is required")
+    @Digits(integer = 10, fraction = 2, message = "Amount must be whole cents with at most 10 integer digits")
+    private BigDecimal amount;
+    
+    private String description;
+    private LocalDateTime recordedAt;
+    
+    // Constructors
+    public BalanceLedgerEntryDTO() {}
+    
+    public BalanceLedgerEntryDTO(String entryType, BigDecimal amount, String description) {
+        this.entryType = entryType;
+        this.amount = amount;
+        this.description = description;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    
+    public Long getSequenceNumber() { return sequenceNumber; }
+    public void setSequenceNumber(Long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
+    
+    public String getEntryType() { return entryType; }
+    public void setEntryType(String entryType) { this.entryType = entryType; }
+    
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
@@ -1,5 +1,6 @@
 package com.finova.account.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 
@@ -21,10 +22,13 @@ public class ContributionDTO {
     private BigDecimal percentage;
     
     @PositiveOrZero(message = "Monthly amount must be positive or zero")
+    @Digits(integer = 8, fraction = 2, message = "Monthly amount must be whole cents with at most 8 integer digits")
     private BigDecimal monthlyAmount;
     
+    @Digits(integer = 10, fraction = 2, message = "Annual amount must be whole cents with at most 10 integer digits")
     private BigDecimal annualAmount;
     private LocalDate effectiveDate;
+    private Long version;
     
     // Constructors
     public ContributionDTO() {}
@@ -60,6 +64,9 @@ public class ContributionDTO {
     public LocalDate getEffectiveDate() { return effectiveDate; }
     public void setEffectiveDate(LocalDate effectiveDate) { this.effectiveDate = effectiveDate; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     /**
      * Get display name for contribution type
      */
@@ -0,0 +1,59 @@
+package com.finova.account.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for ContributionHistory data transfer
+ */
+public class ContributionHistoryDTO {
+    
+    private Long id;
+    
+    @NotNull(message = "Account ID is required")
+    private Long accountId;
+    
+    private Long userId;
+    
+    @NotBlank(message = "Contribution type is required")
+    private String contributionType;
+    
+    @NotNull(message = "Pay period date is required")
+    private LocalDate payPeriodDate;
+    
+    @NotNull(message = "Amount is required")
+    @Digits(integer = 8, fraction = 2, message = "Amount must be whole cents with at most 8 integer digits")
+    private BigDecimal amount;
+    
+    private LocalDateTime recordedAt;
+    
+    // Constructors
+    public ContributionHistoryDTO() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getContributionType() { return contributionType; }
+    public void setContributionType(String contributionType) { this.contributionType = contributionType; }
+    
+    public LocalDate getPayPeriodDate() { return payPeriodDate; }
+    public void setPayPeriodDate(LocalDate payPeriodDate) { this.payPeriodDate = payPeriodDate; }
+    
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
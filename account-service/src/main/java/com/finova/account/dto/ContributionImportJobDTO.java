@@ -0,0 +1,78 @@
+package com.finova.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for ContributionImportJob data transfer
+ */
+public class ContributionImportJobDTO {
+    
+    private Long id;
+    private String fileName;
+    private String status;
+    private long lastCommittedRow;
+    private long importedRows;
+    private long failedRows;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private List<RowError> errors = new ArrayList<>();
+    
+    // Constructors
+    public ContributionImportJobDTO() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public long getLastCommittedRow() { return lastCommittedRow; }
+    public void setLastCommittedRow(long lastCommittedRow) { this.lastCommittedRow = lastCommittedRow; }
+    
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+    
+    public long getFailedRows() { return failedRows; }
+    public void setFailedRows(long failedRows) { this.failedRows = failedRows; }
+    
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+    
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+    
+    /**
+     * A rejected row and the reason it was rejected
+     */
+    public static class RowError {
+        
+        private long row;
+        private String message;
+        
+        public RowError() {}
+        
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+        
+        public long getRow() { return row; }
+        public void setRow(long row) { this.row = row; }
+        
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -1,5 +1,6 @@
 package com.finova.account.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 
@@ -19,13 +20,16 @@ public class IncomeSourceDTO {
     private String sourceName;
     
     @PositiveOrZero(message = "Current balance must be positive or zero")
+    @Digits(integer = 10, fraction = 2, message = "Current balance must be whole cents with at most 10 integer digits")
     private BigDecimal currentBalance;
     
     @PositiveOrZero(message = "Projected monthly income must be positive or zero")
+    @Digits(integer = 8, fraction = 2, message = "Projected monthly income must be whole cents with at most 8 integer digits")
     private BigDecimal projectedMonthlyIncome;
     
     private String provider;
     private boolean active = true;
+    private Long version;
     
     // Constructors
     public IncomeSourceDTO() {}
@@ -69,6 +73,9 @@ public class IncomeSourceDTO {
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     /**
      * Get display name for source type
      */
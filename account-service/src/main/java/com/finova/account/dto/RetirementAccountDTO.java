@@ -1,5 +1,6 @@
 package com.finova.account.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -24,17 +25,22 @@ public class RetirementAccountDTO {
     private String accountType;
     
     @PositiveOrZero(message = "Current balance must be positive or zero")
+    @Digits(integer = 10, fraction = 2, message = "Current balance must be whole cents with at most 10 integer digits")
     private BigDecimal currentBalance;
     
     private LocalDate asOfDate;
     
     @PositiveOrZero(message = "Estimated monthly income must be positive or zero")
+    @Digits(integer = 8, fraction = 2, message = "Estimated monthly income must be whole cents with at most 8 integer digits")
     private BigDecimal estimatedMonthlyIncome;
     
     @PositiveOrZero(message = "Estimated monthly goal must be positive or zero")
+    @Digits(integer = 8, fraction = 2, message = "Estimated monthly goal must be whole cents with at most 8 integer digits")
     private BigDecimal estimatedMonthlyGoal;
     
     private String status;
+    private boolean primaryAccount;
+    private Long version;
     
     private List<ContributionDTO> contributions;
     private List<IncomeSourceDTO> incomeSources;
@@ -87,6 +93,12 @@ public class RetirementAccountDTO {
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
     
+    public boolean isPrimaryAccount() { return primaryAccount; }
+    public void setPrimaryAccount(boolean primaryAccount) { this.primaryAccount = primaryAccount; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public List<ContributionDTO> getContributions() { return contributions; }
     public void setContributions(List<ContributionDTO> contributions) { this.contributions = contributions; }
     
@@ -0,0 +1,36 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Marker recording that a user's default accounts have been provisioned.
+ * The user ID is the primary key, so concurrent or repeated provisioning of the same
+ * user fails on insert instead of creating duplicate accounts.
+ */
+@Entity
+@Table(name = "account_provisioning")
+public class AccountProvisioning {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "provisioned_at", nullable = false, updatable = false)
+    private LocalDateTime provisionedAt;
+    
+    // Constructors
+    public AccountProvisioning() {}
+    
+    public AccountProvisioning(Long userId) {
+        this.userId = userId;
+        this.provisionedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public LocalDateTime getProvisionedAt() { return provisionedAt; }
+    public void setProvisionedAt(LocalDateTime provisionedAt) { this.provisionedAt = provisionedAt; }
+}
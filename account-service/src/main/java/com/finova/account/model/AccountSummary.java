@@ -0,0 +1,89 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalised per-user totals shown on the dashboard, maintained by AccountSummaryService
+ * in the same transaction as every write to accounts, contributions and income sources.
+ */
+@Entity
+@Table(name = "account_summary")
+public class AccountSummary {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "primary_account_id")
+    private Long primaryAccountId;
+    
+    // Balance of the primary account
+    @Column(name = "current_balance", precision = 12, scale = 2, nullable = false)
+    private Money currentBalance;
+    
+    @Column(name = "total_monthly_contributions", precision = 12, scale = 2, nullable = false)
+    private Money totalMonthlyContributions;
+    
+    @Column(name = "total_annual_contributions", precision = 14, scale = 2, nullable = false)
+    private Money totalAnnualContributions;
+    
+    // Active income sources only
+    @Column(name = "total_projected_income", precision = 12, scale = 2, nullable = false)
+    private Money totalProjectedIncome;
+    
+    @Column(name = "status")
+    private String status; // primary account status: "on_track", "behind", "ahead"
+    
+    // Optimistic locking version
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public AccountSummary() {}
+    
+    public AccountSummary(Long userId) {
+        this.userId = userId;
+        this.currentBalance = Money.ZERO;
+        this.totalMonthlyContributions = Money.ZERO;
+        this.totalAnnualContributions = Money.ZERO;
+        this.totalProjectedIncome = Money.ZERO;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Long getPrimaryAccountId() { return primaryAccountId; }
+    public void setPrimaryAccountId(Long primaryAccountId) { this.primaryAccountId = primaryAccountId; }
+    
+    public Money getCurrentBalance() { return currentBalance; }
+    public void setCurrentBalance(Money currentBalance) { this.currentBalance = currentBalance; }
+    
+    public Money getTotalMonthlyContributions() { return totalMonthlyContributions; }
+    public void setTotalMonthlyContributions(Money totalMonthlyContributions) { 
+        this.totalMonthlyContributions = totalMonthlyContributions; 
+    }
+    
+    public Money getTotalAnnualContributions() { return totalAnnualContributions; }
+    public void setTotalAnnualContributions(Money totalAnnualContributions) { 
+        this.totalAnnualContributions = totalAnnualContributions; 
+    }
+    
+    public Money getTotalProjectedIncome() { return totalProjectedIncome; }
+    public void setTotalProjectedIncome(Money totalProjectedIncome) { this.totalProjectedIncome = totalProjectedIncome; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,61 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Audit log entry recording the field-level changes made to an entity by one write.
+ * Entries are written in batches by AuditTrail and never updated.
+ */
+@Entity
+@Table(name = "audit_log")
+public class AuditEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "entity_type", nullable = false, updatable = false)
+    private String entityType; // "account", "contribution", "income_source"
+    
+    @Column(name = "entity_id", nullable = false, updatable = false)
+    private Long entityId;
+    
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+    
+    @Column(name = "action", nullable = false, updatable = false)
+    private String action; // "update"
+    
+    // JSON object of changed fields: {"field": {"from": ..., "to": ...}}
+    @Column(name = "changes", length = 8000, nullable = false, updatable = false)
+    private String changes;
+    
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public AuditEntry() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+    
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+    
+    public String getChanges() { return changes; }
+    public void setChanges(String changes) { this.changes = changes; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,70 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Periodic checkpoint of an account balance.
+ * Stores the running balance up to and including a ledger sequence number, so balance
+ * queries only need to add the tail of entries written after the checkpoint.
+ */
+@Entity
+@Table(name = "balance_checkpoints",
+       uniqueConstraints = @UniqueConstraint(name = "uk_balance_checkpoint_account_sequence",
+                                             columnNames = {"account_id", "sequence_number"}))
+public class BalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    // Last ledger sequence number included in the balance
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(name = "balance", precision = 14, scale = 2, nullable = false, updatable = false)
+    private BigDecimal balance;
+
+    // Recorded time of the last entry included in the balance
+    @Column(name = "as_of", nullable = false, updatable = false)
+    private LocalDateTime asOf;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public BalanceCheckpoint() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public BalanceCheckpoint(Long accountId, Long sequenceNumber, BigDecimal balance, LocalDateTime asOf) {
+        this();
+        this.accountId = accountId;
+        this.sequenceNumber = sequenceNumber;
+        this.balance = balance;
+        this.asOf = asOf;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public Long getSequenceNumber() { return sequenceNumber; }
+    public void setSequenceNumber(Long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public LocalDateTime getAsOf() { return asOf; }
+    public void setAsOf(LocalDateTime asOf) { this.asOf = asOf; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
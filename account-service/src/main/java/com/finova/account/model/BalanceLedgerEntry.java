@@ -0,0 +1,76 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only ledger entry recording a single balance-affecting event for a retirement account.
+ * Entries are never updated or deleted; the account balance is derived from them.
+ */
+@Entity
+@Table(name = "balance_ledger",
+       uniqueConstraints = @UniqueConstraint(name = "uk_balance_ledger_account_sequence",
+                                             columnNames = {"account_id", "sequence_number"}))
+public class BalanceLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    // Position of this entry in the account's ledger, starting at 1
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(name = "entry_type", nullable = false, updatable = false)
+    private String entryType; // "opening", "adjustment", "contribution", "withdrawal", "market_change"
+
+    @Column(name = "amount", precision = 12, scale = 2, nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    // Constructors
+    public BalanceLedgerEntry() {
+        this.recordedAt = LocalDateTime.now();
+    }
+
+    public BalanceLedgerEntry(Long accountId, Long sequenceNumber, String entryType,
+                              BigDecimal amount, String description) {
+        this();
+        this.accountId = accountId;
+        this.sequenceNumber = sequenceNumber;
+        this.entryType = entryType;
+        this.amount = amount;
+        this.description = description;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public Long getSequenceNumber() { return sequenceNumber; }
+    public void setSequenceNumber(Long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
+
+    public String getEntryType() { return entryType; }
+    public void setEntryType(String entryType) { this.entryType = entryType; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
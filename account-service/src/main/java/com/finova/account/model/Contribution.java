@@ -24,14 +24,19 @@ public class Contribution {
     private BigDecimal percentage;
     
     @Column(name = "monthly_amount", precision = 10, scale = 2)
-    private BigDecimal monthlyAmount;
+    private Money monthlyAmount;
     
     @Column(name = "annual_amount", precision = 12, scale = 2)
-    private BigDecimal annualAmount;
+    private Money annualAmount;
     
     @Column(name = "effective_date")
     private LocalDate effectiveDate;
     
+    // Optimistic locking version
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -49,7 +54,7 @@ public class Contribution {
         this.updatedAt = LocalDateTime.now();
     }
     
-    public Contribution(String contributionType, BigDecimal percentage, BigDecimal monthlyAmount, 
+    public Contribution(String contributionType, BigDecimal percentage, Money monthlyAmount, 
                        RetirementAccount account) {
         this();
         this.contributionType = contributionType;
@@ -59,7 +64,7 @@ public class Contribution {
         
         // Calculate annual amount from monthly
         if (monthlyAmount != null) {
-            this.annualAmount = monthlyAmount.multiply(new BigDecimal("12"));
+            this.annualAmount = monthlyAmount.times(12);
         }
     }
     
@@ -79,21 +84,24 @@ public class Contribution {
     public BigDecimal getPercentage() { return percentage; }
     public void setPercentage(BigDecimal percentage) { this.percentage = percentage; }
     
-    public BigDecimal getMonthlyAmount() { return monthlyAmount; }
-    public void setMonthlyAmount(BigDecimal monthlyAmount) { 
+    public Money getMonthlyAmount() { return monthlyAmount; }
+    public void setMonthlyAmount(Money monthlyAmount) { 
         this.monthlyAmount = monthlyAmount;
         // Auto-calculate annual amount
         if (monthlyAmount != null) {
-            this.annualAmount = monthlyAmount.multiply(new BigDecimal("12"));
+            this.annualAmount = monthlyAmount.times(12);
         }
     }
     
-    public BigDecimal getAnnualAmount() { return annualAmount; }
-    public void setAnnualAmount(BigDecimal annualAmount) { this.annualAmount = annualAmount; }
+    public Money getAnnualAmount() { return annualAmount; }
+    public void setAnnualAmount(Money annualAmount) { this.annualAmount = annualAmount; }
     
     public LocalDate getEffectiveDate() { return effectiveDate; }
     public void setEffectiveDate(LocalDate effectiveDate) { this.effectiveDate = effectiveDate; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
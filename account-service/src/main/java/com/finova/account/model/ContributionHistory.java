@@ -0,0 +1,67 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One contribution made in a single pay period. Rows are append-only history, unlike the
+ * current elections in {@link Contribution}.
+ * 
+ * On PostgreSQL the table is range-partitioned by month on pay_period_date, so queries
+ * should always bound pay_period_date to let the planner prune partitions.
+ */
+@Entity
+@Table(name = "contribution_history")
+public class ContributionHistory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+    
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+    
+    @Column(name = "contribution_type", nullable = false, updatable = false)
+    private String contributionType; // "pre_tax", "roth", "employer_match"
+    
+    // Partition key
+    @Column(name = "pay_period_date", nullable = false, updatable = false)
+    private LocalDate payPeriodDate;
+    
+    @Column(name = "amount", precision = 10, scale = 2, nullable = false, updatable = false)
+    private Money amount;
+    
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+    
+    // Constructors
+    public ContributionHistory() {
+        this.recordedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getContributionType() { return contributionType; }
+    public void setContributionType(String contributionType) { this.contributionType = contributionType; }
+    
+    public LocalDate getPayPeriodDate() { return payPeriodDate; }
+    public void setPayPeriodDate(LocalDate payPeriodDate) { this.payPeriodDate = payPeriodDate; }
+    
+    public Money getAmount() { return amount; }
+    public void setAmount(Money amount) { this.amount = amount; }
+    
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
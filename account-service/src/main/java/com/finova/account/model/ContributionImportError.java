@@ -0,0 +1,47 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+
+/**
+ * A rejected row from a bulk contribution import
+ */
+@Entity
+@Table(name = "contribution_import_errors",
+       indexes = @Index(name = "idx_contribution_import_errors_job", columnList = "job_id, file_row"))
+public class ContributionImportError {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private Long jobId;
+    
+    @Column(name = "file_row", nullable = false, updatable = false)
+    private Long rowNumber;
+    
+    @Column(name = "message", length = 500, updatable = false)
+    private String message;
+    
+    // Constructors
+    public ContributionImportError() {}
+    
+    public ContributionImportError(Long jobId, Long rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+    
+    public Long getRowNumber() { return rowNumber; }
+    public void setRowNumber(Long rowNumber) { this.rowNumber = rowNumber; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
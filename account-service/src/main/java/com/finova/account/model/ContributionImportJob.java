@@ -0,0 +1,96 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress record for a bulk contribution import.
+ * Each committed chunk advances lastCommittedRow in the same transaction as its inserts,
+ * so a failed or interrupted import can be restarted from the next row.
+ */
+@Entity
+@Table(name = "contribution_import_jobs")
+public class ContributionImportJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "file_name")
+    private String fileName;
+    
+    @Column(name = "status", nullable = false)
+    private String status; // "queued", "running", "completed", "failed"
+    
+    // Last data record (1-based, excluding the header) whose outcome has been committed
+    @Column(name = "last_committed_row", nullable = false)
+    private long lastCommittedRow;
+    
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+    
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+    
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    // Constructors
+    public ContributionImportJob() {
+        this.status = "queued";
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public ContributionImportJob(String fileName) {
+        this();
+        this.fileName = fileName;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public long getLastCommittedRow() { return lastCommittedRow; }
+    public void setLastCommittedRow(long lastCommittedRow) { this.lastCommittedRow = lastCommittedRow; }
+    
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+    
+    public long getFailedRows() { return failedRows; }
+    public void setFailedRows(long failedRows) { this.failedRows = failedRows; }
+    
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+    
+    /**
+     * Check if the import has finished successfully
+     */
+    public boolean isCompleted() {
+        return "completed".equals(status);
+    }
+}
@@ -1,7 +1,6 @@
 package com.finova.account.model;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -23,10 +22,10 @@ public class IncomeSource {
     private String sourceName; // e.g., "Traditional IRA - Fidelity"
     
     @Column(name = "current_balance", precision = 12, scale = 2)
-    private BigDecimal currentBalance;
+    private Money currentBalance;
     
     @Column(name = "projected_monthly_income", precision = 10, scale = 2)
-    private BigDecimal projectedMonthlyIncome;
+    private Money projectedMonthlyIncome;
     
     @Column(name = "provider")
     private String provider; // e.g., "Fidelity", "Finova"
@@ -34,6 +33,11 @@ public class IncomeSource {
     @Column(name = "is_active")
     private boolean active = true;
     
+    // Optimistic locking version
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -52,8 +56,8 @@ public class IncomeSource {
         this.active = true;
     }
     
-    public IncomeSource(String sourceType, String sourceName, BigDecimal currentBalance, 
-                       BigDecimal projectedMonthlyIncome) {
+    public IncomeSource(String sourceType, String sourceName, Money currentBalance, 
+                       Money projectedMonthlyIncome) {
         this();
         this.sourceType = sourceType;
         this.sourceName = sourceName;
@@ -77,11 +81,11 @@ public class IncomeSource {
     public String getSourceName() { return sourceName; }
     public void setSourceName(String sourceName) { this.sourceName = sourceName; }
     
-    public BigDecimal getCurrentBalance() { return currentBalance; }
-    public void setCurrentBalance(BigDecimal currentBalance) { this.currentBalance = currentBalance; }
+    public Money getCurrentBalance() { return currentBalance; }
+    public void setCurrentBalance(Money currentBalance) { this.currentBalance = currentBalance; }
     
-    public BigDecimal getProjectedMonthlyIncome() { return projectedMonthlyIncome; }
-    public void setProjectedMonthlyIncome(BigDecimal projectedMonthlyIncome) { 
+    public Money getProjectedMonthlyIncome() { return projectedMonthlyIncome; }
+    public void setProjectedMonthlyIncome(Money projectedMonthlyIncome) { 
         this.projectedMonthlyIncome = projectedMonthlyIncome; 
     }
     
@@ -91,6 +95,9 @@ public class IncomeSource {
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,138 @@
+package com.finova.account.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+/**
+ * Exact monetary amount held as a long number of cents.
+ * 
+ * Sums and comparisons work on the long directly, so aggregating amounts does not allocate
+ * a BigDecimal per step; conversion to BigDecimal happens at the API and database boundaries
+ * (MoneyConverter, MoneyJacksonModule). Arithmetic throws ArithmeticException on overflow
+ * rather than wrapping.
+ */
+public final class Money implements Comparable<Money> {
+    
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+    
+    private final long cents;
+    
+    private Money(long cents) {
+        this.cents = cents;
+    }
+    
+    /**
+     * Create an amount from a number of cents
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+    
+    /**
+     * Create an amount from a decimal; null stays null.
+     * Sub-cent input is rejected with IllegalArgumentException rather than rounded away, and an
+     * amount too large for a long number of cents throws ArithmeticException.
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal wholeCents;
+        try {
+            wholeCents = amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount has more than " + SCALE + " decimal places: " + amount.toPlainString());
+        }
+        return ofCents(wholeCents.unscaledValue().longValueExact());
+    }
+    
+    /**
+     * Create an amount from a decimal string such as "1250.50"
+     */
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+    
+    /**
+     * Sum an amount over a collection, skipping nulls, without allocating per element
+     */
+    public static <T> Money sum(Iterable<T> items, Function<T, Money> amount) {
+        long total = 0L;
+        for (T item : items) {
+            Money value = amount.apply(item);
+            if (value != null) {
+                total = Math.addExact(total, value.cents);
+            }
+        }
+        return ofCents(total);
+    }
+    
+    /**
+     * Convert a possibly-null amount to a BigDecimal for DTOs and payloads
+     */
+    public static BigDecimal toBigDecimal(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+    
+    /**
+     * Treat a missing amount as zero
+     */
+    public static Money orZero(Money money) {
+        return money != null ? money : ZERO;
+    }
+    
+    public long getCents() { return cents; }
+    
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+    
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+    
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+    
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+    
+    public int signum() {
+        return Long.signum(cents);
+    }
+    
+    public boolean isZero() {
+        return cents == 0L;
+    }
+    
+    /**
+     * Convert to a BigDecimal with two decimal places
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+    
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).cents == cents;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+    
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
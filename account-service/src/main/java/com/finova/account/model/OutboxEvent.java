@@ -0,0 +1,98 @@
+package com.finova.account.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transactional outbox row describing a change to an account aggregate.
+ * Written in the same transaction as the entity change and relayed to analytics-service
+ * asynchronously; the event ID doubles as the consumer's idempotency key.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, unique = true, updatable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType; // "account", "contribution", "income_source"
+    
+    @Column(name = "aggregate_id", updatable = false)
+    private Long aggregateId;
+    
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+    
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType; // e.g. "account.updated", "contribution.created"
+    
+    @Column(name = "payload", length = 8000, updatable = false)
+    private String payload; // JSON
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    @Column(name = "attempts")
+    private int attempts;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    // Constructors
+    public OutboxEvent() {
+        this.eventId = UUID.randomUUID().toString();
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public OutboxEvent(String aggregateType, Long aggregateId, Long userId, String eventType, String payload) {
+        this();
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.userId = userId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+    
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+    
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -1,7 +1,6 @@
 package com.finova.account.model;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,40 +26,58 @@ public class RetirementAccount {
     @Column(name = "account_type")
     private String accountType; // "401a", "401k", "IRA", etc.
     
-    @Column(name = "current_balance", precision = 12, scale = 2)
-    private BigDecimal currentBalance;
+    // Materialised from the balance ledger; only written on insert or by the ledger append
+    @Column(name = "current_balance", precision = 12, scale = 2, updatable = false)
+    private Money currentBalance;
     
     @Column(name = "as_of_date")
     private LocalDate asOfDate;
     
     @Column(name = "estimated_monthly_income", precision = 10, scale = 2)
-    private BigDecimal estimatedMonthlyIncome;
+    private Money estimatedMonthlyIncome;
     
     @Column(name = "estimated_monthly_goal", precision = 10, scale = 2)
-    private BigDecimal estimatedMonthlyGoal;
+    private Money estimatedMonthlyGoal;
     
     @Column(name = "status")
     private String status; // "on_track", "behind", "ahead"
     
+    // Denormalised flag for the user's oldest account, maintained by RetirementAccountService
+    @Column(name = "is_primary", nullable = false)
+    private boolean primaryAccount;
+    
+    // Optimistic locking version
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
+    // Sequence number of the last balance ledger entry, advanced by a conditional update on append
+    @Column(name = "ledger_sequence", nullable = false, updatable = false)
+    private Long ledgerSequence;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    // One-to-many relationship with contributions
-    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // One-to-many relationship with contributions. Refresh is not cascaded: ledger appends
+    // refresh the account for its new balance and must not reload these collections.
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY,
+               cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE, CascadeType.DETACH})
     private List<Contribution> contributions;
     
     // One-to-many relationship with income sources
-    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY,
+               cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE, CascadeType.DETACH})
     private List<IncomeSource> incomeSources;
     
     // Constructors
     public RetirementAccount() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
-        this.currentBalance = BigDecimal.ZERO;
+        this.currentBalance = Money.ZERO;
+        this.ledgerSequence = 0L;
         this.status = "on_track";
         this.asOfDate = LocalDate.now();
     }
@@ -91,25 +108,34 @@ public class RetirementAccount {
     public String getAccountType() { return accountType; }
     public void setAccountType(String accountType) { this.accountType = accountType; }
     
-    public BigDecimal getCurrentBalance() { return currentBalance; }
-    public void setCurrentBalance(BigDecimal currentBalance) { this.currentBalance = currentBalance; }
+    public Money getCurrentBalance() { return currentBalance; }
+    public void setCurrentBalance(Money currentBalance) { this.currentBalance = currentBalance; }
     
     public LocalDate getAsOfDate() { return asOfDate; }
     public void setAsOfDate(LocalDate asOfDate) { this.asOfDate = asOfDate; }
     
-    public BigDecimal getEstimatedMonthlyIncome() { return estimatedMonthlyIncome; }
-    public void setEstimatedMonthlyIncome(BigDecimal estimatedMonthlyIncome) { 
+    public Money getEstimatedMonthlyIncome() { return estimatedMonthlyIncome; }
+    public void setEstimatedMonthlyIncome(Money estimatedMonthlyIncome) { 
         this.estimatedMonthlyIncome = estimatedMonthlyIncome; 
     }
     
-    public BigDecimal getEstimatedMonthlyGoal() { return estimatedMonthlyGoal; }
-    public void setEstimatedMonthlyGoal(BigDecimal estimatedMonthlyGoal) { 
+    public Money getEstimatedMonthlyGoal() { return estimatedMonthlyGoal; }
+    public void setEstimatedMonthlyGoal(Money estimatedMonthlyGoal) { 
         this.estimatedMonthlyGoal = estimatedMonthlyGoal; 
     }
     
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
     
+    public boolean isPrimaryAccount() { return primaryAccount; }
+    public void setPrimaryAccount(boolean primaryAccount) { this.primaryAccount = primaryAccount; }
+    
+    public Long getLedgerSequence() { return ledgerSequence; }
+    public void setLedgerSequence(Long ledgerSequence) { this.ledgerSequence = ledgerSequence; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,13 @@
+package com.finova.account.repository;
+
+/**
+ * Projection of the columns needed to resolve a user's account by type
+ */
+public interface AccountKeyView {
+    
+    Long getId();
+    
+    Long getUserId();
+    
+    String getAccountType();
+}
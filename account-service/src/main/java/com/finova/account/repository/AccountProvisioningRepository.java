@@ -0,0 +1,25 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.AccountProvisioning;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for AccountProvisioning entity
+ */
+@Repository
+public interface AccountProvisioningRepository extends JpaRepository<AccountProvisioning, Long> {
+    
+    /**
+     * Insert a provisioning marker, failing with a constraint violation if the user is already provisioned
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_provisioning (user_id, provisioned_at) VALUES (:userId, :provisionedAt)",
+           nativeQuery = true)
+    int insertMarker(@Param("userId") Long userId, @Param("provisionedAt") LocalDateTime provisionedAt);
+}
@@ -0,0 +1,25 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.AccountSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for AccountSummary entity
+ */
+@Repository
+public interface AccountSummaryRepository extends JpaRepository<AccountSummary, Long> {
+    
+    /**
+     * Find a user's summary row and lock it until the current transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountSummary s WHERE s.userId = :userId")
+    Optional<AccountSummary> findByUserIdForUpdate(@Param("userId") Long userId);
+}
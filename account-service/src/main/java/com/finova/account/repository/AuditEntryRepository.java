@@ -0,0 +1,21 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.AuditEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for AuditEntry entity
+ */
+@Repository
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+    
+    /**
+     * Find the most recent audit entries for an entity, newest first
+     */
+    List<AuditEntry> findByEntityTypeAndEntityIdOrderByOccurredAtDescIdDesc(String entityType, Long entityId,
+                                                                          Pageable pageable);
+}
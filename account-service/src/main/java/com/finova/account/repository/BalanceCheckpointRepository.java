@@ -0,0 +1,25 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for BalanceCheckpoint entity
+ */
+@Repository
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+    
+    /**
+     * Find the latest checkpoint for an account
+     */
+    Optional<BalanceCheckpoint> findFirstByAccountIdOrderBySequenceNumberDesc(Long accountId);
+    
+    /**
+     * Find the latest checkpoint for an account at or before a sequence number
+     */
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndSequenceNumberLessThanEqualOrderBySequenceNumberDesc(
+            Long accountId, Long sequenceNumber);
+}
@@ -0,0 +1,49 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.BalanceLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for BalanceLedgerEntry entity
+ */
+@Repository
+public interface BalanceLedgerRepository extends JpaRepository<BalanceLedgerEntry, Long> {
+    
+    /**
+     * Find the most recent ledger entries for an account, newest first
+     */
+    List<BalanceLedgerEntry> findByAccountIdOrderBySequenceNumberDesc(Long accountId, Pageable pageable);
+    
+    /**
+     * Sum the ledger entries written after a sequence number (the tail after a checkpoint)
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM BalanceLedgerEntry e " +
+           "WHERE e.accountId = :accountId AND e.sequenceNumber > :afterSequence")
+    BigDecimal sumAmountsAfterSequence(@Param("accountId") Long accountId,
+                                       @Param("afterSequence") Long afterSequence);
+    
+    /**
+     * Sum the ledger entries in the sequence range (afterSequence, upToSequence]
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM BalanceLedgerEntry e " +
+           "WHERE e.accountId = :accountId AND e.sequenceNumber > :afterSequence " +
+           "AND e.sequenceNumber <= :upToSequence")
+    BigDecimal sumAmountsBetweenSequences(@Param("accountId") Long accountId,
+                                          @Param("afterSequence") Long afterSequence,
+                                          @Param("upToSequence") Long upToSequence);
+    
+    /**
+     * Find the highest sequence number recorded no later than a point in time, or null if none was
+     */
+    @Query("SELECT MAX(e.sequenceNumber) FROM BalanceLedgerEntry e " +
+           "WHERE e.accountId = :accountId AND e.recordedAt <= :asOf")
+    Long findLastSequenceRecordedBy(@Param("accountId") Long accountId, @Param("asOf") LocalDateTime asOf);
+}
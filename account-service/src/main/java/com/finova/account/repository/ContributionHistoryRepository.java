@@ -0,0 +1,49 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.ContributionHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for ContributionHistory entity.
+ * Every query bounds pay_period_date to the half-open range [from, to) so PostgreSQL
+ * only scans the monthly partitions that overlap it.
+ */
+@Repository
+public interface ContributionHistoryRepository extends JpaRepository<ContributionHistory, Long> {
+    
+    /**
+     * Find an account's pay-period history within a date range, oldest first
+     */
+    @Query("SELECT h FROM ContributionHistory h WHERE h.accountId = :accountId " +
+           "AND h.payPeriodDate >= :from AND h.payPeriodDate < :to " +
+           "ORDER BY h.payPeriodDate, h.id")
+    List<ContributionHistory> findByAccountIdInPeriod(@Param("accountId") Long accountId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to,
+                                                      Pageable pageable);
+    
+    /**
+     * Calculate a user's contribution totals within a date range, grouped by contribution type
+     */
+    @Query("SELECT h.contributionType AS contributionType, SUM(h.amount) AS totalAmount, " +
+           "COUNT(h) AS payPeriodCount FROM ContributionHistory h WHERE h.userId = :userId " +
+           "AND h.payPeriodDate >= :from AND h.payPeriodDate < :to GROUP BY h.contributionType")
+    List<ContributionHistoryTotals> getTotalsByTypeForUserIdInPeriod(@Param("userId") Long userId,
+                                                                    @Param("from") LocalDate from,
+                                                                    @Param("to") LocalDate to);
+    
+    /**
+     * Delete history older than a cutoff (used for retention where the table is not partitioned)
+     */
+    @Modifying
+    @Query("DELETE FROM ContributionHistory h WHERE h.payPeriodDate < :cutoff")
+    int deleteByPayPeriodDateBefore(@Param("cutoff") LocalDate cutoff);
+}
@@ -0,0 +1,15 @@
+package com.finova.account.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of contribution history totals aggregated by contribution type
+ */
+public interface ContributionHistoryTotals {
+    
+    String getContributionType();
+    
+    BigDecimal getTotalAmount();
+    
+    Long getPayPeriodCount();
+}
@@ -0,0 +1,25 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.ContributionImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ContributionImportError entity
+ */
+@Repository
+public interface ContributionImportErrorRepository extends JpaRepository<ContributionImportError, Long> {
+    
+    /**
+     * Find the first rejected rows of an import, in file order
+     */
+    List<ContributionImportError> findByJobIdOrderByRowNumberAsc(Long jobId, Pageable pageable);
+    
+    /**
+     * Count rejected rows stored for an import
+     */
+    long countByJobId(Long jobId);
+}
@@ -0,0 +1,45 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.ContributionImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for ContributionImportJob entity
+ */
+@Repository
+public interface ContributionImportJobRepository extends JpaRepository<ContributionImportJob, Long> {
+    
+    /**
+     * Record a committed chunk if the job is still at the expected row.
+     * Returns 0 when another run of the same job committed first.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ContributionImportJob j SET j.lastCommittedRow = :toRow, " +
+           "j.importedRows = j.importedRows + :imported, j.failedRows = j.failedRows + :failed, " +
+           "j.updatedAt = :updatedAt " +
+           "WHERE j.id = :jobId AND j.lastCommittedRow = :fromRow")
+    int advance(@Param("jobId") Long jobId,
+                @Param("fromRow") long fromRow,
+                @Param("toRow") long toRow,
+                @Param("imported") long imported,
+                @Param("failed") long failed,
+                @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Set the status of an import job
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ContributionImportJob j SET j.status = :status, j.errorMessage = :errorMessage, " +
+           "j.updatedAt = :updatedAt, j.completedAt = :completedAt WHERE j.id = :jobId")
+    int updateStatus(@Param("jobId") Long jobId,
+                     @Param("status") String status,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("updatedAt") LocalDateTime updatedAt,
+                     @Param("completedAt") LocalDateTime completedAt);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,4 +50,30 @@ public interface ContributionRepository extends JpaRepository<Contribution, Long
      */
     @Query("SELECT c FROM Contribution c WHERE c.account.userId = :userId AND c.contributionType = :type")
     List<Contribution> findByUserIdAndType(@Param("userId") Long userId, @Param("type") String contributionType);
+    
+    /**
+     * Find lightweight views of all contributions for a user's accounts
+     */
+    @Query("SELECT c.id AS id, c.account.id AS accountId, c.contributionType AS contributionType, " +
+           "c.percentage AS percentage, c.monthlyAmount AS monthlyAmount, c.annualAmount AS annualAmount, " +
+           "c.effectiveDate AS effectiveDate, c.version AS version " +
+           "FROM Contribution c WHERE c.account.userId = :userId ORDER BY c.id")
+    List<ContributionView> findViewsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Find lightweight views of all contributions for a batch of accounts
+     */
+    @Query("SELECT c.id AS id, c.account.id AS accountId, c.contributionType AS contributionType, " +
+           "c.percentage AS percentage, c.monthlyAmount AS monthlyAmount, c.annualAmount AS annualAmount, " +
+           "c.effectiveDate AS effectiveDate, c.version AS version " +
+           "FROM Contribution c WHERE c.account.id IN :accountIds ORDER BY c.id")
+    List<ContributionView> findViewsByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+    
+    /**
+     * Calculate monthly and annual contribution totals for a user, grouped by contribution type
+     */
+    @Query("SELECT c.contributionType AS contributionType, SUM(c.monthlyAmount) AS totalMonthly, " +
+           "SUM(c.annualAmount) AS totalAnnual, COUNT(c) AS contributionCount " +
+           "FROM Contribution c WHERE c.account.userId = :userId GROUP BY c.contributionType")
+    List<ContributionTypeTotals> getTotalsByTypeForUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,17 @@
+package com.finova.account.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of contribution totals aggregated by contribution type
+ */
+public interface ContributionTypeTotals {
+    
+    String getContributionType();
+    
+    BigDecimal getTotalMonthly();
+    
+    BigDecimal getTotalAnnual();
+    
+    Long getContributionCount();
+}
@@ -0,0 +1,28 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Lightweight read-only projection of a contribution, loaded without hydrating entities
+ */
+public interface ContributionView {
+    
+    Long getId();
+    
+    Long getAccountId();
+    
+    String getContributionType();
+    
+    BigDecimal getPercentage();
+    
+    Money getMonthlyAmount();
+    
+    Money getAnnualAmount();
+    
+    LocalDate getEffectiveDate();
+    
+    Long getVersion();
+}
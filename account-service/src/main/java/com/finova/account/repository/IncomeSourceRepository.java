@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +21,12 @@ public interface IncomeSourceRepository extends JpaRepository<IncomeSource, Long
      */
     List<IncomeSource> findByAccountId(Long accountId);
     
+    /**
+     * Find all income sources for a batch of accounts
+     */
+    @Query("SELECT i FROM IncomeSource i WHERE i.account.id IN :accountIds ORDER BY i.id")
+    List<IncomeSource> findByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+    
     /**
      * Find all active income sources for a user
      */
@@ -0,0 +1,56 @@
+package com.finova.account.repository;
+
+import com.finova.account.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for OutboxEvent entity
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    /**
+     * Find the next batch of unpublished events in commit order
+     */
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+    
+    /**
+     * Find the oldest unpublished event (used for relay lag)
+     */
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullOrderByIdAsc();
+    
+    /**
+     * Count unpublished events
+     */
+    long countByPublishedAtIsNull();
+    
+    /**
+     * Mark a batch of events as published
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    /**
+     * Record a failed delivery attempt for a batch of events
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id IN :ids")
+    int markFailed(@Param("ids") List<Long> ids, @Param("error") String error);
+    
+    /**
+     * Delete published events older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt IS NOT NULL AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
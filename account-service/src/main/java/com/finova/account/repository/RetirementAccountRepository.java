@@ -2,10 +2,13 @@ package com.finova.account.repository;
 
 import com.finova.account.model.RetirementAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,10 +29,39 @@ public interface RetirementAccountRepository extends JpaRepository<RetirementAcc
     Optional<RetirementAccount> findByUserIdAndAccountType(Long userId, String accountType);
     
     /**
-     * Find primary retirement account for a user (first account)
+     * Find the account flagged as a user's primary account
      */
-    @Query("SELECT ra FROM RetirementAccount ra WHERE ra.userId = :userId ORDER BY ra.createdAt ASC")
-    Optional<RetirementAccount> findPrimaryByUserId(@Param("userId") Long userId);
+    Optional<RetirementAccount> findFirstByUserIdAndPrimaryAccountTrue(Long userId);
+    
+    /**
+     * Find a user's oldest account, which is their primary account
+     */
+    Optional<RetirementAccount> findFirstByUserIdOrderByCreatedAtAscIdAsc(Long userId);
+    
+    /**
+     * Check whether a user already has a primary account
+     */
+    boolean existsByUserIdAndPrimaryAccountTrue(Long userId);
+    
+    /**
+     * Find all accounts for a batch of users, grouped by user with the oldest account first
+     */
+    @Query("SELECT ra FROM RetirementAccount ra WHERE ra.userId IN :userIds ORDER BY ra.userId, ra.createdAt, ra.id")
+    List<RetirementAccount> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    /**
+     * Find account keys for a batch of users, oldest account first
+     */
+    @Query("SELECT ra.id AS id, ra.userId AS userId, ra.accountType AS accountType " +
+           "FROM RetirementAccount ra WHERE ra.userId IN :userIds ORDER BY ra.createdAt ASC, ra.id ASC")
+    List<AccountKeyView> findKeysByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    /**
+     * Find account keys for a batch of account IDs
+     */
+    @Query("SELECT ra.id AS id, ra.userId AS userId, ra.accountType AS accountType " +
+           "FROM RetirementAccount ra WHERE ra.id IN :accountIds")
+    List<AccountKeyView> findKeysByIdIn(@Param("accountIds") Collection<Long> accountIds);
     
     /**
      * Count total accounts for a user
@@ -40,4 +72,26 @@ public interface RetirementAccountRepository extends JpaRepository<RetirementAcc
      * Find accounts by status
      */
     List<RetirementAccount> findByUserIdAndStatus(Long userId, String status);
+    
+    /**
+     * Read the current ledger head (last appended sequence number) for an account
+     */
+    @Query("SELECT ra.ledgerSequence FROM RetirementAccount ra WHERE ra.id = :accountId")
+    Optional<Long> findLedgerSequence(@Param("accountId") Long accountId);
+    
+    /**
+     * Advance the ledger head and the materialised balance if the head is still at the expected value.
+     * Returns 0 when another writer appended first. The update holds the account row lock until
+     * commit. Native because the balance is a converted Money attribute, which JPQL arithmetic
+     * cannot operate on; pending changes are flushed first. The caller refreshes the account if it
+     * has it loaded, since the update bypasses the persistence context.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE retirement_accounts SET ledger_sequence = ledger_sequence + 1, " +
+                   "current_balance = current_balance + :amount " +
+                   "WHERE id = :accountId AND ledger_sequence = :expectedSequence",
+           nativeQuery = true)
+    int advanceLedger(@Param("accountId") Long accountId,
+                      @Param("expectedSequence") Long expectedSequence,
+                      @Param("amount") BigDecimal amount);
 }
@@ -0,0 +1,137 @@
+package com.finova.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.dto.ContributionDTO;
+import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.model.IncomeSource;
+import com.finova.account.model.RetirementAccount;
+import com.finova.account.repository.ContributionRepository;
+import com.finova.account.repository.ContributionView;
+import com.finova.account.repository.IncomeSourceRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for loading accounts for many users at once (internal callers such as
+ * analytics batch jobs and advisor views).
+ * 
+ * Users are processed in chunks of chunk-size. Each chunk loads its accounts, contributions
+ * and income sources with three IN-list queries in a short transaction and is written to the
+ * response before the next chunk is read, so memory and transaction length stay bounded
+ * however many users are requested.
+ */
+@Service
+public class AccountBulkLookupService {
+    
+    private static final byte[] NEWLINE = {'\n'};
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private ContributionRepository contributionRepository;
+    
+    @Autowired
+    private IncomeSourceRepository incomeSourceRepository;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${finova.bulk-lookup.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${finova.bulk-lookup.max-users:10000}")
+    private int maxUsers;
+    
+    public int getMaxUsers() { return maxUsers; }
+    
+    /**
+     * Write one JSON line per requested user, in user ID order:
+     * {"userId": ..., "accounts": [account with contributions and incomeSources, ...]}.
+     * Users without accounts are included with an empty list.
+     */
+    public void writeAccounts(Collection<Long> userIds, OutputStream out) throws IOException {
+        List<Long> ids = new ArrayList<>(userIds.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(TreeSet::new)));
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<Long, List<RetirementAccountDTO>> accountsByUser = transactionTemplate.execute(status -> loadChunk(chunk));
+            for (Long userId : chunk) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("userId", userId);
+                line.put("accounts", accountsByUser.getOrDefault(userId, List.of()));
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write(NEWLINE);
+            }
+            out.flush();
+        }
+    }
+    
+    /**
+     * Load and group the accounts, contributions and income sources of one chunk of users
+     */
+    private Map<Long, List<RetirementAccountDTO>> loadChunk(List<Long> userIds) {
+        List<RetirementAccount> accounts = retirementAccountRepository.findByUserIdIn(userIds);
+        Map<Long, List<RetirementAccountDTO>> accountsByUser = new HashMap<>();
+        if (accounts.isEmpty()) {
+            return accountsByUser;
+        }
+        
+        List<Long> accountIds = accounts.stream().map(RetirementAccount::getId).collect(Collectors.toList());
+        Map<Long, List<ContributionDTO>> contributionsByAccount = new HashMap<>();
+        for (ContributionView view : contributionRepository.findViewsByAccountIdIn(accountIds)) {
+            contributionsByAccount.computeIfAbsent(view.getAccountId(), id -> new ArrayList<>())
+                .add(contributionService.convertToDTO(view));
+        }
+        Map<Long, List<IncomeSourceDTO>> incomeSourcesByAccount = new HashMap<>();
+        for (IncomeSource incomeSource : incomeSourceRepository.findByAccountIdIn(accountIds)) {
+            incomeSourcesByAccount.computeIfAbsent(incomeSource.getAccount().getId(), id -> new ArrayList<>())
+                .add(incomeSourceService.convertToDTO(incomeSource));
+        }
+        
+        for (RetirementAccount account : accounts) {
+            RetirementAccountDTO dto = retirementAccountService.convertToDTO(account);
+            dto.setContributions(contributionsByAccount.getOrDefault(account.getId(), List.of()));
+            dto.setIncomeSources(incomeSourcesByAccount.getOrDefault(account.getId(), List.of()));
+            accountsByUser.computeIfAbsent(account.getUserId(), id -> new ArrayList<>()).add(dto);
+        }
+        
+        // Detach this chunk's entities in case the persistence context outlives the transaction
+        entityManager.clear();
+        return accountsByUser;
+    }
+}
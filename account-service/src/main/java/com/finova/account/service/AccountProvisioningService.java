@@ -0,0 +1,121 @@
+package com.finova.account.service;
+
+import com.finova.account.model.AccountProvisioning;
+import com.finova.account.model.RetirementAccount;
+import com.finova.account.repository.AccountKeyView;
+import com.finova.account.repository.AccountProvisioningRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for provisioning default accounts for newly registered users.
+ * 
+ * Provisioning is driven by user-service registration events, delivered in batches and
+ * possibly more than once. Each user is provisioned in its own transaction guarded by an
+ * insert into account_provisioning, so redelivered or concurrent batches never create
+ * duplicate accounts and one failing user does not hold back the rest of the batch.
+ */
+@Service
+public class AccountProvisioningService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AccountProvisioningService.class);
+    
+    @Autowired
+    private AccountProvisioningRepository accountProvisioningRepository;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${finova.provisioning.max-users:1000}")
+    private int maxUsers;
+    
+    public int getMaxUsers() { return maxUsers; }
+    
+    /**
+     * Provision default accounts for a batch of users.
+     * Returns the user IDs that were provisioned, were already provisioned, or failed.
+     */
+    public Map<String, List<Long>> provisionUsers(Collection<Long> userIds) {
+        Set<Long> pending = new LinkedHashSet<>(userIds);
+        pending.remove(null);
+        List<Long> provisioned = new ArrayList<>();
+        List<Long> alreadyProvisioned = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        
+        // One query each for users already provisioned and users that already have accounts
+        for (AccountProvisioning marker : accountProvisioningRepository.findAllById(pending)) {
+            pending.remove(marker.getUserId());
+            alreadyProvisioned.add(marker.getUserId());
+        }
+        Set<Long> usersWithAccounts = new HashSet<>();
+        if (!pending.isEmpty()) {
+            for (AccountKeyView key : retirementAccountRepository.findKeysByUserIdIn(pending)) {
+                usersWithAccounts.add(key.getUserId());
+            }
+        }
+        
+        for (Long userId : pending) {
+            boolean createDefaults = !usersWithAccounts.contains(userId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> provisionUser(userId, createDefaults));
+                (createDefaults ? provisioned : alreadyProvisioned).add(userId);
+            } catch (DataIntegrityViolationException e) {
+                // Another delivery of the same registration provisioned this user first
+                alreadyProvisioned.add(userId);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to provision accounts for user {}: {}", userId, e.getMessage());
+                failed.add(userId);
+            }
+        }
+        
+        Map<String, List<Long>> result = new HashMap<>();
+        result.put("provisioned", provisioned);
+        result.put("alreadyProvisioned", alreadyProvisioned);
+        result.put("failed", failed);
+        return result;
+    }
+    
+    /**
+     * Record the provisioning marker and create the user's default account and sample data
+     */
+    private void provisionUser(Long userId, boolean createDefaults) {
+        accountProvisioningRepository.insertMarker(userId, LocalDateTime.now());
+        if (createDefaults) {
+            RetirementAccount account = retirementAccountService.createDefaultAccount(userId);
+            contributionService.createSampleContributions(account);
+            incomeSourceService.createSampleIncomeSources(account);
+            accountSummaryService.refresh(userId);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountSummaryDTO;
+import com.finova.account.model.AccountSummary;
+import com.finova.account.model.Money;
+import com.finova.account.model.RetirementAccount;
+import com.finova.account.repository.AccountSummaryRepository;
+import com.finova.account.repository.ContributionRepository;
+import com.finova.account.repository.ContributionTypeTotals;
+import com.finova.account.repository.IncomeSourceRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains the per-user account_summary row read by the dashboard.
+ * 
+ * Each contribution, income source and ledger write applies its change as a single relative
+ * UPDATE (total = total + delta), which the database serialises on the row lock, so concurrent
+ * writers never lose each other's changes. Payroll imports write contribution history only
+ * and leave the summary untouched. Edits to the primary account copy its balance and
+ * status; the balance is read from the account row by the UPDATE itself, since ledger appends
+ * change it in SQL and a loaded entity may predate them. Deleting an account, or a user with no
+ * summary row yet, recomputes the row from child data while holding a pessimistic lock on it.
+ * All maintenance runs in the caller's transaction.
+ */
+@Service
+@Transactional
+public class AccountSummaryService {
+    
+    private static final String ADD_CONTRIBUTIONS_SQL =
+        "UPDATE account_summary SET total_monthly_contributions = total_monthly_contributions + ?, " +
+        "total_annual_contributions = total_annual_contributions + ?, version = version + 1, updated_at = ? " +
+        "WHERE user_id = ?";
+    
+    private static final String ADD_PROJECTED_INCOME_SQL =
+        "UPDATE account_summary SET total_projected_income = total_projected_income + ?, " +
+        "version = version + 1, updated_at = ? WHERE user_id = ?";
+    
+    private static final String ADD_BALANCE_SQL =
+        "UPDATE account_summary SET current_balance = current_balance + ?, " +
+        "version = version + 1, updated_at = ? WHERE user_id = ? AND primary_account_id = ?";
+    
+    // The balance is read from the account row in the same statement, never from a loaded entity
+    private static final String SET_PRIMARY_ACCOUNT_SQL =
+        "UPDATE account_summary SET primary_account_id = ?, " +
+        "current_balance = COALESCE((SELECT a.current_balance FROM retirement_accounts a WHERE a.id = ?), 0), " +
+        "status = ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+    
+    private static final String ACCOUNT_BALANCE_SQL =
+        "SELECT current_balance FROM retirement_accounts WHERE id = ?";
+    
+    @Autowired
+    private AccountSummaryRepository accountSummaryRepository;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private ContributionRepository contributionRepository;
+    
+    @Autowired
+    private IncomeSourceRepository incomeSourceRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Get a user's summary with one primary-key lookup.
+     * Users without a summary row (no accounts yet) get an empty summary.
+     */
+    @Transactional(readOnly = true)
+    public AccountSummaryDTO getSummary(Long userId) {
+        return convertToDTO(accountSummaryRepository.findById(userId).orElseGet(() -> new AccountSummary(userId)));
+    }
+    
+    /**
+     * Add to a user's contribution totals
+     */
+    public void addContributions(Long userId, Money monthlyDelta, Money annualDelta) {
+        if (monthlyDelta.isZero() && annualDelta.isZero()) {
+            return;
+        }
+        int updated = jdbcTemplate.update(ADD_CONTRIBUTIONS_SQL, monthlyDelta.toBigDecimal(),
+            annualDelta.toBigDecimal(), Timestamp.valueOf(LocalDateTime.now()), userId);
+        if (updated == 0) {
+            refresh(userId);
+        }
+    }
+    
+    /**
+     * Add to a user's projected income total
+     */
+    public void addProjectedIncome(Long userId, Money delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        int updated = jdbcTemplate.update(ADD_PROJECTED_INCOME_SQL, delta.toBigDecimal(),
+            Timestamp.valueOf(LocalDateTime.now()), userId);
+        if (updated == 0) {
+            refresh(userId);
+        }
+    }
+    
+    /**
+     * Add to the summary balance if the account is the user's primary account
+     */
+    public void addBalance(Long userId, Long accountId, Money delta) {
+        if (!delta.isZero()) {
+            jdbcTemplate.update(ADD_BALANCE_SQL, delta.toBigDecimal(), Timestamp.valueOf(LocalDateTime.now()),
+                userId, accountId);
+        }
+    }
+    
+    /**
+     * Copy a primary account's stored balance and its status into its owner's summary.
+     * The account's changes must already be flushed. Creating or editing an account never
+     * changes the contribution or income totals.
+     */
+    public void updatePrimaryAccount(RetirementAccount account) {
+        if (!account.isPrimaryAccount()) {
+            return;
+        }
+        int updated = jdbcTemplate.update(SET_PRIMARY_ACCOUNT_SQL, account.getId(), account.getId(),
+            account.getStatus(), Timestamp.valueOf(LocalDateTime.now()), account.getUserId());
+        if (updated == 0) {
+            refresh(account.getUserId());
+        }
+    }
+    
+    /**
+     * Recompute a user's summary from their accounts, contributions and income sources.
+     * The existing row is locked first, so a concurrent delta waits and is applied on top.
+     */
+    public AccountSummary refresh(Long userId) {
+        AccountSummary summary = accountSummaryRepository.findByUserIdForUpdate(userId)
+            .orElseGet(() -> new AccountSummary(userId));
+        
+        RetirementAccount primaryAccount = retirementAccountRepository.findFirstByUserIdAndPrimaryAccountTrue(userId)
+            .or(() -> retirementAccountRepository.findFirstByUserIdOrderByCreatedAtAscIdAsc(userId))
+            .orElse(null);
+        summary.setPrimaryAccountId(primaryAccount != null ? primaryAccount.getId() : null);
+        // Read the stored balance: the entity may have been loaded before a ledger append in this transaction
+        summary.setCurrentBalance(primaryAccount != null ? Money.orZero(Money.of(jdbcTemplate.queryForObject(
+            ACCOUNT_BALANCE_SQL, BigDecimal.class, primaryAccount.getId()))) : Money.ZERO);
+        summary.setStatus(primaryAccount != null ? primaryAccount.getStatus() : null);
+        
+        List<ContributionTypeTotals> totalsByType = contributionRepository.getTotalsByTypeForUserId(userId);
+        summary.setTotalMonthlyContributions(Money.sum(totalsByType, totals -> Money.of(totals.getTotalMonthly())));
+        summary.setTotalAnnualContributions(Money.sum(totalsByType, totals -> Money.of(totals.getTotalAnnual())));
+        summary.setTotalProjectedIncome(Money.orZero(
+            Money.of(incomeSourceRepository.getTotalProjectedMonthlyIncomeByUserId(userId))));
+        summary.setUpdatedAt(LocalDateTime.now());
+        return accountSummaryRepository.save(summary);
+    }
+    
+    /**
+     * Convert AccountSummary entity to DTO
+     */
+    private AccountSummaryDTO convertToDTO(AccountSummary summary) {
+        AccountSummaryDTO dto = new AccountSummaryDTO();
+        dto.setUserId(summary.getUserId());
+        dto.setPrimaryAccountId(summary.getPrimaryAccountId());
+        dto.setCurrentBalance(Money.toBigDecimal(summary.getCurrentBalance()));
+        dto.setTotalMonthlyContributions(Money.toBigDecimal(summary.getTotalMonthlyContributions()));
+        dto.setTotalAnnualContributions(Money.toBigDecimal(summary.getTotalAnnualContributions()));
+        dto.setTotalProjectedIncome(Money.toBigDecimal(summary.getTotalProjectedIncome()));
+        dto.setStatus(summary.getStatus());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        return dto;
+    }
+}
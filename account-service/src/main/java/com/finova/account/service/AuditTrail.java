@@ -0,0 +1,557 @@
+package com.finova.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.dto.AuditEntryDTO;
+import com.finova.account.model.AuditEntry;
+import com.finova.account.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous audit trail of field-level changes made by account, contribution and
+ * income source updates.
+ *
+ * Services hand over before/after snapshots; once the surrounding transaction commits the
+ * record is placed on a bounded lock-free ring buffer and a single writer thread diffs and
+ * inserts records in JDBC batches, so request threads never wait on audit inserts or locks.
+ * When the buffer is full the overflow policy either writes the record on the caller's thread
+ * ("caller-runs", the default, which never loses entries) or drops it ("drop"). On graceful
+ * shutdown the writer drains the buffer before the datasource is closed.
+ *
+ * A batch that cannot be written is retried with backoff up to max-write-attempts times. If the
+ * database still answers, some record in the batch is being rejected: the batch is split in
+ * halves until each rejected record is on its own, the rest is written, and only the rejected
+ * records are appended to the rejected file for inspection. If the database does not answer,
+ * the batch goes to the spill file instead, as do entries still unwritten when the shutdown
+ * timeout expires and entries whose caller-runs write fails. The writer replays the spill file
+ * at the next startup; lines that cannot be parsed or are rejected again move to the rejected
+ * file, so they are never replayed twice.
+ */
+@Component
+public class AuditTrail implements SmartLifecycle {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuditTrail.class);
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_log (entity_type, entity_id, user_id, action, changes, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+    
+    // Version counters and display-only getters are not part of an entity's audited state
+    private static final Set<String> IGNORED_FIELDS = Set.of("version", "displayType", "onTrack");
+    
+    private static final TypeReference<LinkedHashMap<String, Object>> SNAPSHOT_TYPE = new TypeReference<>() {};
+    
+    private static final long MAX_RETRY_BACKOFF_MS = 5000;
+    
+    private final AuditEntryRepository auditEntryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectMapper objectMapper;
+    
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter writtenCounter;
+    private final Counter failureCounter;
+    private final Counter spilledCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+    
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxWriteAttempts;
+    private final String overflowPolicy;
+    private final long shutdownTimeoutMs;
+    private final Path spillFile;
+    private final Path rejectedFile;
+    
+    private final AuditRingBuffer<AuditRecord> buffer;
+    // Producers register before checking accepting and deregister after their offer. stop()
+    // clears accepting and then waits for the count to reach zero before the writer's final
+    // drain, so no offer can land after it without producers ever taking a lock.
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private volatile boolean accepting;
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile long stopDeadline;
+    
+    public AuditTrail(AuditEntryRepository auditEntryRepository, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                      @Value("${finova.audit.enabled:true}") boolean enabled,
+                      @Value("${finova.audit.buffer-capacity:8192}") int bufferCapacity,
+                      @Value("${finova.audit.batch-size:256}") int batchSize,
+                      @Value("${finova.audit.flush-interval-ms:200}") long flushIntervalMs,
+                      @Value("${finova.audit.max-write-attempts:5}") int maxWriteAttempts,
+                      @Value("${finova.audit.overflow-policy:caller-runs}") String overflowPolicy,
+                      @Value("${finova.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+                      @Value("${finova.audit.spill-file:data/audit-spill.ndjson}") String spillFile) {
+        this.auditEntryRepository = auditEntryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Amounts are compared and stored as exact decimals, never as doubles
+        this.objectMapper = objectMapper.copy().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.spillFile = Paths.get(spillFile);
+        this.rejectedFile = this.spillFile.resolveSibling(this.spillFile.getFileName() + ".rejected");
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.enqueuedCounter = meterRegistry.counter("finova.audit.enqueued");
+        this.droppedCounter = meterRegistry.counter("finova.audit.dropped");
+        this.callerRunsCounter = meterRegistry.counter("finova.audit.caller_runs");
+        this.writtenCounter = meterRegistry.counter("finova.audit.written");
+        this.failureCounter = meterRegistry.counter("finova.audit.write.failures");
+        this.spilledCounter = meterRegistry.counter("finova.audit.spilled");
+        this.rejectedCounter = meterRegistry.counter("finova.audit.rejected");
+        this.batchTimer = meterRegistry.timer("finova.audit.batch");
+        meterRegistry.gauge("finova.audit.queue.depth", buffer, AuditRingBuffer::size);
+        meterRegistry.gauge("finova.audit.queue.capacity", buffer, AuditRingBuffer::capacity);
+    }
+    
+    /**
+     * Record an update of an entity from its before and after DTOs.
+     * The entry is queued only if the current transaction commits.
+     */
+    public void recordUpdate(String entityType, Long entityId, Long userId, Object before, Object after) {
+        if (!enabled) {
+            return;
+        }
+        AuditRecord record = new AuditRecord(entityType, entityId, userId, "update",
+            snapshot(before), snapshot(after), LocalDateTime.now());
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(record);
+                }
+            });
+        } else {
+            enqueue(record);
+        }
+    }
+    
+    /**
+     * Get the most recent audit entries for an entity, newest first
+     */
+    public List<AuditEntryDTO> getRecentEntries(String entityType, Long entityId, int limit) {
+        return auditEntryRepository.findByEntityTypeAndEntityIdOrderByOccurredAtDescIdDesc(
+                entityType, entityId, PageRequest.of(0, limit)).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    private void enqueue(AuditRecord record) {
+        boolean accepted;
+        boolean queued;
+        activeProducers.incrementAndGet();
+        try {
+            accepted = accepting;
+            queued = accepted && buffer.offer(record);
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+        if (queued) {
+            enqueuedCounter.increment();
+            return;
+        }
+        if (accepted && "drop".equals(overflowPolicy)) {
+            droppedCounter.increment();
+            logger.warn("Audit buffer full, dropped {} {} update", record.entityType(), record.entityId());
+            return;
+        }
+        // Buffer full under caller-runs, or the writer is not running: write on this thread
+        callerRunsCounter.increment();
+        try {
+            writeBatch(List.of(record));
+        } catch (RuntimeException ex) {
+            failureCounter.increment();
+            logger.error("Failed to write audit entry for {} {}", record.entityType(), record.entityId(), ex);
+            spill(List.of(record));
+        }
+    }
+    
+    /**
+     * Writer loop: drain up to batch-size records, write them, and park briefly when idle
+     */
+    private void runWriter() {
+        replaySpill();
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            drainTo(batch);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                continue;
+            }
+            writeWithRetry(batch);
+            batch.clear();
+        }
+        
+        // Shutting down: no producer can offer any more, so this drain empties the buffer.
+        // Write until the shutdown timeout, then spill the rest without touching the database.
+        while (true) {
+            drainTo(batch);
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (pastStopDeadline()) {
+                spill(batch);
+            } else {
+                writeWithRetry(batch);
+            }
+            batch.clear();
+        }
+    }
+    
+    private void drainTo(List<AuditRecord> batch) {
+        AuditRecord record;
+        while (batch.size() < batchSize && (record = buffer.poll()) != null) {
+            batch.add(record);
+        }
+    }
+    
+    /**
+     * Write a batch, retrying with capped backoff up to max-write-attempts. A batch that still
+     * fails while the database answers is split to write everything but its rejected records.
+     * Returns false if the batch was spilled instead: the database did not answer, or stopping
+     * had passed the shutdown timeout.
+     */
+    private boolean writeWithRetry(List<AuditRecord> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batchTimer.record(() -> writeBatch(batch));
+                return true;
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                logger.warn("Audit batch of {} entries failed (attempt {} of {})",
+                    batch.size(), attempt, maxWriteAttempts, ex);
+            }
+            if (pastStopDeadline() || (attempt >= maxWriteAttempts && !databaseAvailable())) {
+                spill(batch);
+                return false;
+            }
+            if (attempt >= maxWriteAttempts) {
+                isolateRejected(batch);
+                return true;
+            }
+            long backoffMs = Math.min(100L << Math.min(attempt, 6), MAX_RETRY_BACKOFF_MS);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+        }
+    }
+    
+    /**
+     * Split a failing batch in halves, writing each once, until every failing record is on its
+     * own. A lone record that fails while the database answers is rejected; if the database
+     * stopped answering meanwhile, it is spilled for replay instead.
+     */
+    private void isolateRejected(List<AuditRecord> batch) {
+        if (batch.size() == 1) {
+            if (databaseAvailable()) {
+                reject(batch);
+            } else {
+                spill(batch);
+            }
+            return;
+        }
+        int middle = batch.size() / 2;
+        for (List<AuditRecord> half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+            try {
+                writeBatch(half);
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                isolateRejected(half);
+            }
+        }
+    }
+    
+    private boolean databaseAvailable() {
+        try {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+    
+    private boolean pastStopDeadline() {
+        return !running && System.nanoTime() - stopDeadline >= 0;
+    }
+    
+    /**
+     * Append records to the spill file, one JSON line each, for replay at the next startup
+     */
+    private void spill(List<AuditRecord> records) {
+        if (append(spillFile, toLines(records))) {
+            spilledCounter.increment(records.size());
+            logger.warn("Spilled {} audit entries to {}", records.size(), spillFile);
+        }
+    }
+    
+    /**
+     * Set aside records the database rejects, so they are kept for inspection but never retried
+     */
+    private void reject(List<AuditRecord> records) {
+        rejectLines(toLines(records));
+    }
+    
+    private void rejectLines(List<String> lines) {
+        if (append(rejectedFile, lines)) {
+            rejectedCounter.increment(lines.size());
+            logger.error("Moved {} audit entries the database rejects to {}", lines.size(), rejectedFile);
+        }
+    }
+    
+    private List<String> toLines(List<AuditRecord> records) {
+        List<String> lines = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            try {
+                lines.add(objectMapper.writeValueAsString(record));
+            } catch (JsonProcessingException ex) {
+                droppedCounter.increment();
+                logger.error("Lost audit entry for {} {}: could not serialize it", record.entityType(), record.entityId(), ex);
+            }
+        }
+        return lines;
+    }
+    
+    /**
+     * Append lines to a file; returns false, counting them as dropped, if the file cannot be written
+     */
+    private synchronized boolean append(Path file, List<String> lines) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (String line : lines) {
+                    out.write(line);
+                    out.newLine();
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            droppedCounter.increment(lines.size());
+            logger.error("Lost {} audit entries: could not write them to {}", lines.size(), file, ex);
+            return false;
+        }
+    }
+    
+    /**
+     * Write entries spilled by an earlier run. The spill file is renamed first, so entries that
+     * fail again are spilled to a fresh file rather than into the one being replayed. Lines that
+     * cannot be parsed are rejected; if the database stops answering, the rest is spilled again.
+     */
+    private void replaySpill() {
+        Path replay = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        try {
+            if (Files.exists(spillFile) && !Files.exists(replay)) {
+                Files.move(spillFile, replay);
+            }
+            if (!Files.exists(replay)) {
+                return;
+            }
+            List<AuditRecord> records = new ArrayList<>();
+            List<String> unreadable = new ArrayList<>();
+            try (BufferedReader in = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        records.add(objectMapper.readValue(line, AuditRecord.class));
+                    } catch (JsonProcessingException ex) {
+                        unreadable.add(line);
+                    }
+                }
+            }
+            if (!unreadable.isEmpty()) {
+                rejectLines(unreadable);
+            }
+            for (int from = 0; from < records.size(); from += batchSize) {
+                int to = Math.min(from + batchSize, records.size());
+                if (!writeWithRetry(records.subList(from, to))) {
+                    spill(records.subList(to, records.size()));
+                    break;
+                }
+            }
+            Files.delete(replay);
+            logger.info("Replayed {} spilled audit entries from {}", records.size(), replay);
+        } catch (IOException ex) {
+            logger.error("Failed to replay spilled audit entries from {}", replay, ex);
+        }
+    }
+    
+    private void writeBatch(List<AuditRecord> records) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            Map<String, Object> changes = diff(record.before(), record.after());
+            if (changes.isEmpty()) {
+                continue;
+            }
+            rows.add(new Object[] {
+                record.entityType(), record.entityId(), record.userId(), record.action(),
+                toJson(changes), Timestamp.valueOf(record.occurredAt())
+            });
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        writtenCounter.increment(rows.size());
+    }
+    
+    /**
+     * Changed fields between two snapshots as {"field": {"from": ..., "to": ...}}
+     */
+    private Map<String, Object> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            String field = entry.getKey();
+            Object from = before.get(field);
+            Object to = entry.getValue();
+            if (!Objects.equals(from, to)) {
+                Map<String, Object> change = new LinkedHashMap<>();
+                change.put("from", from);
+                change.put("to", to);
+                changes.put(field, change);
+            }
+        }
+        return changes;
+    }
+    
+    private Map<String, Object> snapshot(Object dto) {
+        Map<String, Object> fields = objectMapper.convertValue(dto, SNAPSHOT_TYPE);
+        fields.keySet().removeIf(field -> IGNORED_FIELDS.contains(field) || field.startsWith("formatted"));
+        fields.values().removeIf(value -> value instanceof List || value instanceof Map);
+        return fields;
+    }
+    
+    private AuditEntryDTO convertToDTO(AuditEntry entry) {
+        AuditEntryDTO dto = new AuditEntryDTO();
+        dto.setId(entry.getId());
+        dto.setEntityType(entry.getEntityType());
+        dto.setEntityId(entry.getEntityId());
+        dto.setUserId(entry.getUserId());
+        dto.setAction(entry.getAction());
+        try {
+            dto.setChanges(objectMapper.readValue(entry.getChanges(), SNAPSHOT_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse audit changes for entry " + entry.getId(), e);
+        }
+        dto.setOccurredAt(entry.getOccurredAt());
+        return dto;
+    }
+    
+    private String toJson(Map<String, Object> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize audit changes", e);
+        }
+    }
+    
+    @Override
+    public void start() {
+        accepting = true;
+        running = true;
+        writer = new Thread(this::runWriter, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @Override
+    public void stop() {
+        stopDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        accepting = false;
+        // A producer that saw accepting before it was cleared is still registered; its offer
+        // never blocks, so this wait is brief
+        while (activeProducers.get() != 0) {
+            Thread.onSpinWait();
+        }
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(shutdownTimeoutMs + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writer = null;
+        if (current != null && current.isAlive()) {
+            logger.warn("Audit writer still busy after {} ms with {} entries buffered", shutdownTimeoutMs, buffer.size());
+            return;
+        }
+        
+        // Only reached with entries left if the writer died unexpectedly; it no longer consumes
+        List<AuditRecord> remaining = new ArrayList<>(batchSize);
+        drainTo(remaining);
+        while (!remaining.isEmpty()) {
+            spill(remaining);
+            remaining.clear();
+            drainTo(remaining);
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Stop after the web server has stopped accepting requests but before the datasource closes
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+    
+    private record AuditRecord(String entityType, Long entityId, Long userId, String action,
+                               Map<String, Object> before, Map<String, Object> after,
+                               LocalDateTime occurredAt) {}
+}
@@ -0,0 +1,194 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.model.BalanceCheckpoint;
+import com.finova.account.model.BalanceLedgerEntry;
+import com.finova.account.model.RetirementAccount;
+import com.finova.account.repository.BalanceCheckpointRepository;
+import com.finova.account.repository.BalanceLedgerRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the append-only balance ledger.
+ * 
+ * Every balance-affecting event is appended as a ledger entry. Appends claim the next
+ * sequence number with a conditional UPDATE on the account's ledger head. The UPDATE takes
+ * the account row lock until commit, so concurrent appends to one account are serialised by
+ * the database; a writer whose expected head was overtaken updates no row and retries.
+ * A checkpoint row is written every {@code checkpoint-interval} entries, and balances are
+ * computed as the latest checkpoint plus the tail of entries after it.
+ * 
+ * The ledger is ordered by sequence number. Entry timestamps come from the clock of whichever
+ * node wrote them, so they are only used to find where a point in time falls in that order.
+ */
+@Service
+@Transactional
+public class BalanceLedgerService {
+    
+    @Autowired
+    private BalanceLedgerRepository balanceLedgerRepository;
+    
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${finova.ledger.checkpoint-interval:100}")
+    private int checkpointInterval;
+    
+    @Value("${finova.ledger.max-append-attempts:5}")
+    private int maxAppendAttempts;
+    
+    /**
+     * Append a balance-affecting event to an account's ledger
+     */
+    public BalanceLedgerEntry appendEntry(Long accountId, String entryType, BigDecimal amount, String description) {
+        for (int attempt = 1; attempt <= maxAppendAttempts; attempt++) {
+            BalanceLedgerEntry entry = tryAppend(accountId, readHead(accountId), entryType, amount, description);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        throw appendFailure(accountId);
+    }
+    
+    /**
+     * Append an adjustment entry that moves the ledger balance to the given target.
+     * Returns the resulting balance; no entry is written if the balance is unchanged.
+     */
+    public BigDecimal adjustBalanceTo(Long accountId, BigDecimal targetBalance, String description) {
+        for (int attempt = 1; attempt <= maxAppendAttempts; attempt++) {
+            // The delta must be computed against the same head the append is conditioned on
+            Long head = readHead(accountId);
+            BigDecimal delta = targetBalance.subtract(getBalanceThrough(accountId, head));
+            if (delta.signum() == 0
+                    || tryAppend(accountId, head, "adjustment", delta, description) != null) {
+                return targetBalance;
+            }
+        }
+        throw appendFailure(accountId);
+    }
+    
+    /**
+     * Get the current balance for an account (latest checkpoint plus the tail of entries)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getCurrentBalance(Long accountId) {
+        BalanceCheckpoint checkpoint = balanceCheckpointRepository
+            .findFirstByAccountIdOrderBySequenceNumberDesc(accountId)
+            .orElse(null);
+        
+        BigDecimal base = checkpoint != null ? checkpoint.getBalance() : BigDecimal.ZERO;
+        Long afterSequence = checkpoint != null ? checkpoint.getSequenceNumber() : 0L;
+        return base.add(balanceLedgerRepository.sumAmountsAfterSequence(accountId, afterSequence));
+    }
+    
+    /**
+     * Get the balance for an account as it was at a point in time: the balance through the last
+     * entry recorded by then. An entry whose timestamp is skewed earlier than one before it brings
+     * its predecessors with it, so the result is always a balance the account actually had.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAsOf(Long accountId, LocalDateTime asOf) {
+        Long sequenceNumber = balanceLedgerRepository.findLastSequenceRecordedBy(accountId, asOf);
+        return sequenceNumber != null ? getBalanceThrough(accountId, sequenceNumber) : BigDecimal.ZERO;
+    }
+    
+    /**
+     * Get the most recent ledger entries for an account, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<BalanceLedgerEntryDTO> getRecentEntries(Long accountId, int limit) {
+        return balanceLedgerRepository
+            .findByAccountIdOrderBySequenceNumberDesc(accountId, PageRequest.of(0, limit))
+            .stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Claim sequence number expectedHead + 1 and write the entry.
+     * Returns null if another writer advanced the head first.
+     */
+    private BalanceLedgerEntry tryAppend(Long accountId, Long expectedHead, String entryType,
+                                         BigDecimal amount, String description) {
+        if (retirementAccountRepository.advanceLedger(accountId, expectedHead, amount) != 1) {
+            return null;
+        }
+        refreshIfLoaded(accountId);
+        BalanceLedgerEntry entry = balanceLedgerRepository.save(
+            new BalanceLedgerEntry(accountId, expectedHead + 1, entryType, amount, description));
+        
+        if (entry.getSequenceNumber() % checkpointInterval == 0) {
+            BigDecimal balance = getBalanceThrough(accountId, entry.getSequenceNumber());
+            balanceCheckpointRepository.save(new BalanceCheckpoint(
+                accountId, entry.getSequenceNumber(), balance, entry.getRecordedAt()));
+        }
+        return entry;
+    }
+    
+    /**
+     * Compute the balance including every entry up to and including a sequence number
+     */
+    private BigDecimal getBalanceThrough(Long accountId, Long sequenceNumber) {
+        BalanceCheckpoint checkpoint = balanceCheckpointRepository
+            .findFirstByAccountIdAndSequenceNumberLessThanEqualOrderBySequenceNumberDesc(accountId, sequenceNumber)
+            .orElse(null);
+        
+        BigDecimal base = checkpoint != null ? checkpoint.getBalance() : BigDecimal.ZERO;
+        Long afterSequence = checkpoint != null ? checkpoint.getSequenceNumber() : 0L;
+        return base.add(balanceLedgerRepository.sumAmountsBetweenSequences(accountId, afterSequence, sequenceNumber));
+    }
+    
+    /**
+     * Reload the account's balance and ledger head after the native update, but only if this
+     * persistence context already holds it; other loaded entities are left untouched.
+     */
+    private void refreshIfLoaded(Long accountId) {
+        RetirementAccount account = entityManager.getReference(RetirementAccount.class, accountId);
+        if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(account)) {
+            entityManager.refresh(account);
+        }
+    }
+    
+    private Long readHead(Long accountId) {
+        return retirementAccountRepository.findLedgerSequence(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+    }
+    
+    private RuntimeException appendFailure(Long accountId) {
+        return new RuntimeException("Could not append ledger entry for account " + accountId
+            + " after " + maxAppendAttempts + " attempts");
+    }
+    
+    /**
+     * Convert BalanceLedgerEntry entity to DTO
+     */
+    public BalanceLedgerEntryDTO convertToDTO(BalanceLedgerEntry entry) {
+        BalanceLedgerEntryDTO dto = new BalanceLedgerEntryDTO();
+        dto.setId(entry.getId());
+        dto.setAccountId(entry.getAccountId());
+        dto.setSequenceNumber(entry.getSequenceNumber());
+        dto.setEntryType(entry.getEntryType());
+        dto.setAmount(entry.getAmount());
+        dto.setDescription(entry.getDescription());
+        dto.setRecordedAt(entry.getRecordedAt());
+        return dto;
+    }
+}
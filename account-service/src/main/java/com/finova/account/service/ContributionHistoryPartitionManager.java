@@ -0,0 +1,193 @@
+package com.finova.account.service;
+
+import com.finova.account.repository.ContributionHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and retires the monthly partitions of contribution_history.
+ * 
+ * Partitions are created partitions-ahead months in advance by a daily job, so writes
+ * normally never wait on DDL; a write for a month without a partition (e.g. a back-dated
+ * pay period) creates it on demand. Partitions that end before the retention window are
+ * detached and dropped, which is far cheaper than deleting their rows. On databases
+ * without partitioning (H2 in development) retention falls back to a range delete.
+ */
+@Component
+public class ContributionHistoryPartitionManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ContributionHistoryPartitionManager.class);
+    
+    private static final String PARENT_TABLE = "contribution_history";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private static final String LIST_PARTITIONS_SQL =
+        "SELECT c.relname FROM pg_inherits i " +
+        "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+        "WHERE p.relname = ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ContributionHistoryRepository contributionHistoryRepository;
+    
+    @Value("${finova.contribution-history.partitions-ahead:3}")
+    private int partitionsAhead;
+    
+    @Value("${finova.contribution-history.retention-months:84}")
+    private int retentionMonths;
+    
+    private final TransactionTemplate ddlTransaction;
+    
+    // Months known to have a partition, so the write path only checks the catalog once per month
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+    private volatile Boolean partitioned;
+    
+    public ContributionHistoryPartitionManager(PlatformTransactionManager transactionManager) {
+        // DDL runs and commits on its own, so the parent table lock is not held by the caller's transaction
+        this.ddlTransaction = new TransactionTemplate(transactionManager);
+        this.ddlTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * Create upcoming partitions and retire expired ones; runs at startup and then daily
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${finova.contribution-history.maintenance-cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        try {
+            createUpcomingPartitions();
+            retireExpiredHistory();
+        } catch (DataAccessException e) {
+            logger.warn("Contribution history partition maintenance failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Make sure a partition exists for the month of each given pay period date
+     */
+    public void ensurePartitions(Collection<LocalDate> payPeriodDates) {
+        if (!isPartitioned()) {
+            return;
+        }
+        Set<YearMonth> months = new TreeSet<>();
+        for (LocalDate date : payPeriodDates) {
+            months.add(YearMonth.from(date));
+        }
+        months.removeAll(knownPartitions);
+        if (!months.isEmpty()) {
+            knownPartitions.addAll(listPartitions());
+            for (YearMonth month : months) {
+                createPartition(month);
+            }
+        }
+    }
+    
+    /**
+     * Create partitions for the current month and the next partitions-ahead months
+     */
+    public void createUpcomingPartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        knownPartitions.addAll(listPartitions());
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= partitionsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+    
+    /**
+     * Remove history older than retention-months, by dropping whole partitions where possible
+     */
+    public void retireExpiredHistory() {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths);
+        if (!isPartitioned()) {
+            Integer deleted = ddlTransaction.execute(status ->
+                contributionHistoryRepository.deleteByPayPeriodDateBefore(oldestRetained.atDay(1)));
+            if (deleted != null && deleted > 0) {
+                logger.info("Deleted {} contribution history rows before {}", deleted, oldestRetained);
+            }
+            return;
+        }
+        
+        for (YearMonth month : listPartitions()) {
+            if (month.isBefore(oldestRetained)) {
+                String partition = partitionName(month);
+                ddlTransaction.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                });
+                knownPartitions.remove(month);
+                logger.info("Dropped contribution history partition {}", partition);
+            }
+        }
+    }
+    
+    private void createPartition(YearMonth month) {
+        if (knownPartitions.contains(month)) {
+            return;
+        }
+        String partition = partitionName(month);
+        try {
+            ddlTransaction.executeWithoutResult(status -> jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + PARENT_TABLE +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')"));
+            logger.info("Created contribution history partition {}", partition);
+        } catch (DataAccessException e) {
+            // Another instance may have created the same partition concurrently
+            if (!listPartitions().contains(month)) {
+                throw e;
+            }
+        }
+        knownPartitions.add(month);
+    }
+    
+    private List<YearMonth> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, PARENT_TABLE).stream()
+            .map(PARTITION_NAME::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> YearMonth.parse(matcher.group(1), PARTITION_SUFFIX))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+    
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return partitioned;
+    }
+    
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
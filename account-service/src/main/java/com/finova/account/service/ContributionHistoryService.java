@@ -0,0 +1,125 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.ContributionHistoryDTO;
+import com.finova.account.model.ContributionHistory;
+import com.finova.account.model.Money;
+import com.finova.account.repository.AccountKeyView;
+import com.finova.account.repository.ContributionHistoryRepository;
+import com.finova.account.repository.ContributionHistoryTotals;
+import com.finova.account.repository.RetirementAccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for per-pay-period contribution history.
+ * Reads always take a date range so only the matching monthly partitions are scanned.
+ */
+@Service
+@Transactional
+public class ContributionHistoryService {
+    
+    private static final String INSERT_HISTORY_SQL =
+        "INSERT INTO contribution_history (account_id, user_id, contribution_type, pay_period_date, amount, recorded_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private ContributionHistoryRepository contributionHistoryRepository;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private ContributionHistoryPartitionManager partitionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Record a batch of pay-period contributions. Rows are inserted with a single JDBC batch,
+     * since identity keys would otherwise make Hibernate insert them one at a time.
+     */
+    public Map<String, Object> recordHistory(List<ContributionHistoryDTO> entries) {
+        Map<Long, AccountKeyView> accounts = retirementAccountRepository.findKeysByIdIn(
+                entries.stream().map(ContributionHistoryDTO::getAccountId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(AccountKeyView::getId, Function.identity()));
+        for (ContributionHistoryDTO entry : entries) {
+            if (!accounts.containsKey(entry.getAccountId())) {
+                throw new RuntimeException("Account not found with id: " + entry.getAccountId());
+            }
+        }
+        
+        partitionManager.ensurePartitions(entries.stream()
+            .map(ContributionHistoryDTO::getPayPeriodDate)
+            .collect(Collectors.toSet()));
+        
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getAccountId());
+            ps.setLong(2, accounts.get(entry.getAccountId()).getUserId());
+            ps.setString(3, entry.getContributionType());
+            ps.setDate(4, Date.valueOf(entry.getPayPeriodDate()));
+            ps.setBigDecimal(5, Money.of(entry.getAmount()).toBigDecimal());
+            ps.setTimestamp(6, recordedAt);
+        });
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("recorded", entries.size());
+        return result;
+    }
+    
+    /**
+     * Get an account's pay-period history for dates in [from, to), oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<ContributionHistoryDTO> getAccountHistory(Long accountId, LocalDate from, LocalDate to, int limit) {
+        return contributionHistoryRepository.findByAccountIdInPeriod(accountId, from, to, PageRequest.of(0, limit))
+            .stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Get a user's contribution totals for dates in [from, to), grouped by contribution type
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getHistoryTotals(Long userId, LocalDate from, LocalDate to) {
+        List<ContributionHistoryTotals> totalsByType =
+            contributionHistoryRepository.getTotalsByTypeForUserIdInPeriod(userId, from, to);
+        
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("from", from);
+        summary.put("to", to);
+        summary.put("totalsByType", totalsByType);
+        summary.put("total", Money.sum(totalsByType, totals -> Money.of(totals.getTotalAmount())));
+        return summary;
+    }
+    
+    /**
+     * Convert ContributionHistory entity to DTO
+     */
+    private ContributionHistoryDTO convertToDTO(ContributionHistory history) {
+        ContributionHistoryDTO dto = new ContributionHistoryDTO();
+        dto.setId(history.getId());
+        dto.setAccountId(history.getAccountId());
+        dto.setUserId(history.getUserId());
+        dto.setContributionType(history.getContributionType());
+        dto.setPayPeriodDate(history.getPayPeriodDate());
+        dto.setAmount(Money.toBigDecimal(history.getAmount()));
+        dto.setRecordedAt(history.getRecordedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,504 @@
+package com.finova.account.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.finova.account.dto.ContributionImportJobDTO;
+import com.finova.account.model.ContributionImportError;
+import com.finova.account.model.ContributionImportJob;
+import com.finova.account.model.Money;
+import com.finova.account.repository.AccountKeyView;
+import com.finova.account.repository.ContributionImportErrorRepository;
+import com.finova.account.repository.ContributionImportJobRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk import of payroll contribution files into contribution history.
+ *
+ * An upload is spooled to a temporary file and the job is returned as "queued"; the import
+ * itself runs on a small bounded executor and its progress is read from the job. The file is
+ * parsed as CSV records (quoted fields may contain commas, quotes and line breaks), so memory
+ * use is bounded by the chunk size rather than the file size. Each chunk resolves its users'
+ * accounts with one IN query (kept in a bounded LRU cache across chunks), inserts its rows with
+ * a JDBC batch, stores its rejected rows and advances the job's committed row in a single
+ * transaction. A failed import is resumed by re-sending the same file with its job ID; records
+ * up to the last committed chunk are skipped.
+ *
+ * Expected columns (header row required, any order, others ignored): user_id, contribution_type,
+ * amount, pay_period_date (yyyy-MM-dd), and optionally account_type.
+ */
+@Service
+public class ContributionImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ContributionImportService.class);
+    
+    private static final String INSERT_HISTORY_SQL =
+        "INSERT INTO contribution_history (account_id, user_id, contribution_type, pay_period_date, amount, recorded_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+        .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+        .enable(CsvParser.Feature.TRIM_SPACES)
+        .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+        .build();
+    
+    @Autowired
+    private ContributionImportJobRepository importJobRepository;
+    
+    @Autowired
+    private ContributionImportErrorRepository importErrorRepository;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private ContributionHistoryPartitionManager partitionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${finova.import.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${finova.import.account-cache-size:10000}")
+    private int accountCacheSize;
+    
+    @Value("${finova.import.max-stored-errors:1000}")
+    private int maxStoredErrors;
+    
+    @Value("${finova.import.max-concurrent:2}")
+    private int maxConcurrent;
+    
+    @Value("${finova.import.queue-capacity:16}")
+    private int queueCapacity;
+    
+    private ExecutorService importExecutor;
+    
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "contribution-import-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        importExecutor = executor;
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        // Interrupted imports keep their committed rows and can be resumed
+        importExecutor.shutdownNow();
+    }
+    
+    /**
+     * Queue a contribution file for import, or for resuming a previous import of the same file
+     * when jobId is given. The returned job is polled for progress.
+     */
+    public ContributionImportJobDTO importContributions(InputStream input, String fileName, Long jobId) {
+        ContributionImportJob job;
+        if (jobId != null) {
+            job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Import job not found with id: " + jobId));
+            if (job.isCompleted()) {
+                return getImportJob(jobId);
+            }
+            updateStatus(jobId, "queued", null);
+        } else {
+            job = importJobRepository.save(new ContributionImportJob(fileName));
+        }
+        Long id = job.getId();
+        
+        // The request body is gone once the response is sent, so the file is copied first
+        Path spool;
+        try {
+            spool = Files.createTempFile("finova-import-" + id + "-", ".csv");
+            Files.copy(input, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Contribution import {} could not be received: {}", id, e.getMessage());
+            updateStatus(id, "failed", "Upload interrupted: " + e.getMessage());
+            return getImportJob(id);
+        }
+        
+        try {
+            importExecutor.execute(() -> runImport(id, spool));
+        } catch (RejectedExecutionException e) {
+            deleteSpool(spool);
+            updateStatus(id, "failed", "Too many imports in progress; resume this job later");
+        }
+        return getImportJob(id);
+    }
+    
+    /**
+     * Run a queued import to completion or failure on an import thread
+     */
+    private void runImport(Long jobId, Path spool) {
+        ImportRun run = null;
+        try (InputStream input = Files.newInputStream(spool)) {
+            ContributionImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Import job not found with id: " + jobId));
+            updateStatus(jobId, "running", null);
+            run = new ImportRun(jobId, job.getLastCommittedRow(), importErrorRepository.countByJobId(jobId));
+            run.execute(input);
+            updateStatus(jobId, "completed", null);
+            logger.info("Contribution import {} completed at row {}", jobId, run.committedRow);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Contribution import {} failed after row {}: {}", jobId, run != null ? run.committedRow : 0,
+                e.getMessage());
+            updateStatus(jobId, "failed", e.getMessage());
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+    
+    private void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            logger.warn("Unable to delete import spool file {}: {}", spool, e.getMessage());
+        }
+    }
+    
+    /**
+     * Get the progress of an import with its first rejected rows
+     */
+    public ContributionImportJobDTO getImportJob(Long jobId) {
+        ContributionImportJob job = importJobRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Import job not found with id: " + jobId));
+        
+        ContributionImportJobDTO dto = new ContributionImportJobDTO();
+        dto.setId(job.getId());
+        dto.setFileName(job.getFileName());
+        dto.setStatus(job.getStatus());
+        dto.setLastCommittedRow(job.getLastCommittedRow());
+        dto.setImportedRows(job.getImportedRows());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setCompletedAt(job.getCompletedAt());
+        dto.setErrors(importErrorRepository
+            .findByJobIdOrderByRowNumberAsc(jobId, PageRequest.of(0, MAX_REPORTED_ERRORS)).stream()
+            .map(error -> new ContributionImportJobDTO.RowError(error.getRowNumber(), error.getMessage()))
+            .collect(Collectors.toList()));
+        return dto;
+    }
+    
+    /**
+     * Set the job status outside of any chunk transaction
+     */
+    private void updateStatus(Long jobId, String status, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = errorMessage != null && errorMessage.length() > 1000
+            ? errorMessage.substring(0, 1000) : errorMessage;
+        transactionTemplate.executeWithoutResult(tx -> importJobRepository.updateStatus(
+            jobId, status, message, now, "completed".equals(status) ? now : null));
+    }
+    
+    /**
+     * State of a single pass over an import file
+     */
+    private class ImportRun {
+        
+        private final Long jobId;
+        private final long resumeAfterRow;
+        private long committedRow;
+        private long storedErrors;
+        
+        // Accounts per user, oldest first; users without accounts are cached as empty lists
+        private final Map<Long, List<AccountKeyView>> accountCache =
+            new LinkedHashMap<Long, List<AccountKeyView>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, List<AccountKeyView>> eldest) {
+                    return size() > accountCacheSize;
+                }
+            };
+        
+        ImportRun(Long jobId, long resumeAfterRow, long storedErrors) {
+            this.jobId = jobId;
+            this.resumeAfterRow = resumeAfterRow;
+            this.committedRow = resumeAfterRow;
+            this.storedErrors = storedErrors;
+        }
+        
+        void execute(InputStream input) throws IOException {
+            try (MappingIterator<List<String>> records = CSV_MAPPER.readerForListOf(String.class).readValues(input)) {
+                if (!records.hasNext()) {
+                    throw new IllegalArgumentException("Import file is empty");
+                }
+                Map<String, Integer> columns = parseHeader(records.next());
+                
+                List<ImportRow> chunk = new ArrayList<>(chunkSize);
+                long rowNumber = 0;
+                while (records.hasNext()) {
+                    List<String> fields = records.next();
+                    rowNumber++;
+                    if (rowNumber <= resumeAfterRow) {
+                        continue;
+                    }
+                    chunk.add(ImportRow.parse(rowNumber, fields, columns));
+                    if (chunk.size() >= chunkSize) {
+                        commitChunk(chunk, rowNumber);
+                        chunk.clear();
+                    }
+                }
+                if (rowNumber > committedRow) {
+                    commitChunk(chunk, rowNumber);
+                }
+            }
+        }
+        
+        /**
+         * Write one chunk and advance the job to toRow atomically
+         */
+        private void commitChunk(List<ImportRow> chunk, long toRow) {
+            long fromRow = committedRow;
+            transactionTemplate.executeWithoutResult(tx -> {
+                resolveAccounts(chunk);
+                
+                List<ImportRow> accepted = new ArrayList<>();
+                List<ImportRow> rejected = new ArrayList<>();
+                for (ImportRow row : chunk) {
+                    (row.error == null ? accepted : rejected).add(row);
+                }
+                
+                LocalDateTime now = LocalDateTime.now();
+                if (!accepted.isEmpty()) {
+                    partitionManager.ensurePartitions(accepted.stream()
+                        .map(row -> row.payPeriodDate)
+                        .collect(Collectors.toSet()));
+                    Timestamp timestamp = Timestamp.valueOf(now);
+                    jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, accepted, accepted.size(), (ps, row) -> {
+                        ps.setLong(1, row.accountId);
+                        ps.setLong(2, row.userId);
+                        ps.setString(3, row.contributionType);
+                        ps.setDate(4, Date.valueOf(row.payPeriodDate));
+                        ps.setBigDecimal(5, row.amount);
+                        ps.setTimestamp(6, timestamp);
+                    });
+                }
+                
+                // Rejected rows are always counted, but only the first max-stored-errors are kept
+                List<ContributionImportError> errors = new ArrayList<>();
+                for (ImportRow row : rejected) {
+                    if (storedErrors + errors.size() >= maxStoredErrors) {
+                        break;
+                    }
+                    errors.add(new ContributionImportError(jobId, row.rowNumber, row.error));
+                }
+                importErrorRepository.saveAll(errors);
+                
+                if (importJobRepository.advance(jobId, fromRow, toRow, accepted.size(), rejected.size(), now) == 0) {
+                    throw new IllegalStateException("Import job " + jobId + " was advanced past row " + fromRow
+                        + " by another run");
+                }
+                if (!accepted.isEmpty()) {
+                    outboxService.record("contribution_import", jobId, null, "contribution.imported",
+                        Map.of("jobId", jobId, "fromRow", fromRow + 1, "toRow", toRow, "importedRows", accepted.size()));
+                }
+                storedErrors += errors.size();
+            });
+            committedRow = toRow;
+        }
+        
+        /**
+         * Resolve account IDs for a chunk, querying only users not already cached
+         */
+        private void resolveAccounts(List<ImportRow> chunk) {
+            Map<Long, List<AccountKeyView>> resolved = new HashMap<>();
+            Set<Long> missing = new HashSet<>();
+            for (ImportRow row : chunk) {
+                if (row.error == null && !resolved.containsKey(row.userId)) {
+                    List<AccountKeyView> cached = accountCache.get(row.userId);
+                    if (cached != null) {
+                        resolved.put(row.userId, cached);
+                    } else {
+                        missing.add(row.userId);
+                    }
+                }
+            }
+            
+            if (!missing.isEmpty()) {
+                Map<Long, List<AccountKeyView>> found = new HashMap<>();
+                for (AccountKeyView key : retirementAccountRepository.findKeysByUserIdIn(missing)) {
+                    found.computeIfAbsent(key.getUserId(), userId -> new ArrayList<>()).add(key);
+                }
+                for (Long userId : missing) {
+                    List<AccountKeyView> accounts = found.getOrDefault(userId, List.of());
+                    resolved.put(userId, accounts);
+                    accountCache.put(userId, accounts);
+                }
+            }
+            
+            for (ImportRow row : chunk) {
+                if (row.error == null) {
+                    row.resolve(resolved.get(row.userId));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Map lower-cased header names to column positions, checking required columns are present
+     */
+    private static Map<String, Integer> parseHeader(List<String> names) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = i == 0 && names.get(i).startsWith("\uFEFF") ? names.get(i).substring(1) : names.get(i);
+            columns.put(name.toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("user_id", "contribution_type", "amount", "pay_period_date")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+    
+    /**
+     * A parsed data row; error is set when the row is rejected
+     */
+    private static class ImportRow {
+        
+        private final long rowNumber;
+        private Long userId;
+        private String accountType;
+        private String contributionType;
+        private BigDecimal amount;
+        private LocalDate payPeriodDate;
+        private Long accountId;
+        private String error;
+        
+        private ImportRow(long rowNumber) {
+            this.rowNumber = rowNumber;
+        }
+        
+        static ImportRow parse(long rowNumber, List<String> fields, Map<String, Integer> columns) {
+            ImportRow row = new ImportRow(rowNumber);
+            try {
+                String userId = field(fields, columns, "user_id");
+                if (userId == null) {
+                    throw new IllegalArgumentException("user_id is required");
+                }
+                try {
+                    row.userId = Long.valueOf(userId);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid user_id: '" + userId + "'");
+                }
+                row.accountType = field(fields, columns, "account_type");
+                row.contributionType = field(fields, columns, "contribution_type");
+                if (row.contributionType == null) {
+                    throw new IllegalArgumentException("contribution_type is required");
+                }
+                row.amount = amount(fields, columns, "amount");
+                if (row.amount == null) {
+                    throw new IllegalArgumentException("amount is required");
+                }
+                String payPeriodDate = field(fields, columns, "pay_period_date");
+                if (payPeriodDate == null) {
+                    throw new IllegalArgumentException("pay_period_date is required");
+                }
+                try {
+                    row.payPeriodDate = LocalDate.parse(payPeriodDate);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid pay_period_date: '" + payPeriodDate + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                row.error = e.getMessage();
+            }
+            return row;
+        }
+        
+        void resolve(List<AccountKeyView> accounts) {
+            if (accounts.isEmpty()) {
+                error = "No retirement account found for user_id: " + userId;
+                return;
+            }
+            if (accountType == null) {
+                accountId = accounts.get(0).getId();
+                return;
+            }
+            for (AccountKeyView account : accounts) {
+                if (accountType.equalsIgnoreCase(account.getAccountType())) {
+                    accountId = account.getId();
+                    return;
+                }
+            }
+            error = "No " + accountType + " account found for user_id: " + userId;
+        }
+        
+        private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+        
+        private static BigDecimal amount(List<String> fields, Map<String, Integer> columns, String name) {
+            String value = field(fields, columns, name);
+            if (value == null) {
+                return null;
+            }
+            BigDecimal amount;
+            try {
+                amount = new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + name + ": '" + value + "'");
+            }
+            if (amount.signum() < 0) {
+                throw new IllegalArgumentException(name + " must be positive or zero");
+            }
+            // Rejects sub-cent amounts instead of rounding them
+            return Money.of(amount).toBigDecimal();
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.finova.account.service;
 
+import com.finova.account.config.OptimisticRetry;
 import com.finova.account.dto.ContributionDTO;
 import com.finova.account.model.Contribution;
+import com.finova.account.model.Money;
 import com.finova.account.model.RetirementAccount;
 import com.finova.account.repository.ContributionRepository;
+import com.finova.account.repository.ContributionTypeTotals;
+import com.finova.account.repository.ContributionView;
 import com.finova.account.repository.RetirementAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -28,25 +34,38 @@ public class ContributionService {
     @Autowired
     private RetirementAccountRepository retirementAccountRepository;
     
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private AuditTrail auditTrail;
+    
     /**
      * Get all contributions for a user
      */
+    @Transactional(readOnly = true)
     public List<ContributionDTO> getContributionsByUserId(Long userId) {
-        List<Contribution> contributions = contributionRepository.findByUserId(userId);
-        
-        // If no contributions exist, create sample ones
-        if (contributions.isEmpty()) {
-            contributions = createSampleContributions(userId);
-        }
-        
+        List<ContributionView> contributions = contributionRepository.findViewsByUserId(userId);
         return contributions.stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
     
+    /**
+     * Get monthly and annual contribution totals for a user, grouped by contribution type
+     */
+    @Transactional(readOnly = true)
+    public List<ContributionTypeTotals> getContributionTotalsByType(Long userId) {
+        return contributionRepository.getTotalsByTypeForUserId(userId);
+    }
+    
     /**
      * Get all contributions for an account
      */
+    @Transactional(readOnly = true)
     public List<ContributionDTO> getContributionsByAccountId(Long accountId) {
         List<Contribution> contributions = contributionRepository.findByAccountId(accountId);
         return contributions.stream()
@@ -60,81 +79,88 @@ public class ContributionService {
     public ContributionDTO createContribution(ContributionDTO contributionDTO) {
         Contribution contribution = convertToEntity(contributionDTO);
         Contribution savedContribution = contributionRepository.save(contribution);
-        return convertToDTO(savedContribution);
+        updateSummary(savedContribution, Money.ZERO, Money.ZERO);
+        return recordChange(savedContribution, "contribution.created");
     }
     
     /**
-     * Update contribution
+     * Update contribution. A version, when given, must match the stored one, so a client editing
+     * a copy that has since changed gets a conflict instead of overwriting the newer values.
+     * The change is flushed so the returned version is the one the client must send next.
      */
     public ContributionDTO updateContribution(Long contributionId, ContributionDTO contributionDTO) {
         Contribution existingContribution = contributionRepository.findById(contributionId)
             .orElseThrow(() -> new RuntimeException("Contribution not found with id: " + contributionId));
+        if (contributionDTO.getVersion() != null && !contributionDTO.getVersion().equals(existingContribution.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Contribution.class, contributionId);
+        }
+        
+        Money previousMonthly = Money.orZero(existingContribution.getMonthlyAmount());
+        Money previousAnnual = Money.orZero(existingContribution.getAnnualAmount());
+        ContributionDTO before = convertToDTO(existingContribution);
         
         // Update fields
         existingContribution.setContributionType(contributionDTO.getContributionType());
         existingContribution.setPercentage(contributionDTO.getPercentage());
-        existingContribution.setMonthlyAmount(contributionDTO.getMonthlyAmount());
-        existingContribution.setAnnualAmount(contributionDTO.getAnnualAmount());
+        existingContribution.setMonthlyAmount(Money.of(contributionDTO.getMonthlyAmount()));
+        existingContribution.setAnnualAmount(Money.of(contributionDTO.getAnnualAmount()));
         existingContribution.setEffectiveDate(contributionDTO.getEffectiveDate());
         
-        Contribution savedContribution = contributionRepository.save(existingContribution);
-        return convertToDTO(savedContribution);
+        Contribution savedContribution = contributionRepository.saveAndFlush(existingContribution);
+        updateSummary(savedContribution, previousMonthly, previousAnnual);
+        ContributionDTO after = recordChange(savedContribution, "contribution.updated");
+        auditTrail.recordUpdate("contribution", contributionId, savedContribution.getAccount().getUserId(), before, after);
+        return after;
     }
     
     /**
-     * Update multiple contributions (for bulk operations)
+     * Update multiple contributions (for bulk operations); each versioned contribution is checked as in a single update
      */
     public List<ContributionDTO> updateContributions(Long accountId, List<ContributionDTO> contributionDTOs) {
-        List<Contribution> updatedContributions = new ArrayList<>();
+        List<ContributionDTO> updatedContributions = new ArrayList<>();
         
         for (ContributionDTO dto : contributionDTOs) {
             if (dto.getId() != null) {
-                // Update existing contribution
-                ContributionDTO updated = updateContribution(dto.getId(), dto);
-                updatedContributions.add(convertToEntity(updated));
+                // Update existing contribution; the result carries the advanced version
+                updatedContributions.add(updateContribution(dto.getId(), dto));
             } else {
                 // Create new contribution
                 dto.setAccountId(accountId);
-                Contribution created = convertToEntity(dto);
-                updatedContributions.add(contributionRepository.save(created));
+                Contribution created = contributionRepository.save(convertToEntity(dto));
+                updateSummary(created, Money.ZERO, Money.ZERO);
+                updatedContributions.add(recordChange(created, "contribution.created"));
             }
         }
         
-        return updatedContributions.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return updatedContributions;
     }
     
     /**
      * Delete contribution
      */
+    @OptimisticRetry
     public void deleteContribution(Long contributionId) {
-        if (!contributionRepository.existsById(contributionId)) {
-            throw new RuntimeException("Contribution not found with id: " + contributionId);
-        }
-        contributionRepository.deleteById(contributionId);
+        Contribution contribution = contributionRepository.findById(contributionId)
+            .orElseThrow(() -> new RuntimeException("Contribution not found with id: " + contributionId));
+        contributionRepository.delete(contribution);
+        accountSummaryService.addContributions(contribution.getAccount().getUserId(),
+            Money.orZero(contribution.getMonthlyAmount()).negate(), Money.orZero(contribution.getAnnualAmount()).negate());
+        outboxService.record("contribution", contributionId, contribution.getAccount().getUserId(),
+            "contribution.deleted", Map.of("id", contributionId, "accountId", contribution.getAccount().getId()));
     }
     
     /**
-     * Create sample contributions for demo purposes
+     * Create sample contributions for a newly provisioned account
      */
-    private List<Contribution> createSampleContributions(Long userId) {
-        // Find the primary account for this user
-        RetirementAccount primaryAccount = retirementAccountRepository.findPrimaryByUserId(userId)
-            .orElse(null);
-        
-        if (primaryAccount == null) {
-            return new ArrayList<>();
-        }
-        
+    public List<Contribution> createSampleContributions(RetirementAccount primaryAccount) {
         List<Contribution> contributions = new ArrayList<>();
         
         // Pre-Tax Contribution
         Contribution preTax = new Contribution();
         preTax.setContributionType("pre_tax");
         preTax.setPercentage(new BigDecimal("8"));
-        preTax.setMonthlyAmount(new BigDecimal("520"));
-        preTax.setAnnualAmount(new BigDecimal("6240"));
+        preTax.setMonthlyAmount(Money.of("520"));
+        preTax.setAnnualAmount(Money.of("6240"));
         preTax.setAccount(primaryAccount);
         preTax.setEffectiveDate(LocalDate.now());
         contributions.add(contributionRepository.save(preTax));
@@ -143,8 +169,8 @@ public class ContributionService {
         Contribution roth = new Contribution();
         roth.setContributionType("roth");
         roth.setPercentage(new BigDecimal("2"));
-        roth.setMonthlyAmount(new BigDecimal("130"));
-        roth.setAnnualAmount(new BigDecimal("1560"));
+        roth.setMonthlyAmount(Money.of("130"));
+        roth.setAnnualAmount(Money.of("1560"));
         roth.setAccount(primaryAccount);
         roth.setEffectiveDate(LocalDate.now());
         contributions.add(contributionRepository.save(roth));
@@ -153,8 +179,8 @@ public class ContributionService {
         Contribution employerMatch = new Contribution();
         employerMatch.setContributionType("employer_match");
         employerMatch.setPercentage(new BigDecimal("5"));
-        employerMatch.setMonthlyAmount(new BigDecimal("325"));
-        employerMatch.setAnnualAmount(new BigDecimal("3900"));
+        employerMatch.setMonthlyAmount(Money.of("325"));
+        employerMatch.setAnnualAmount(Money.of("3900"));
         employerMatch.setAccount(primaryAccount);
         employerMatch.setEffectiveDate(LocalDate.now());
         contributions.add(contributionRepository.save(employerMatch));
@@ -162,6 +188,25 @@ public class ContributionService {
         return contributions;
     }
     
+    /**
+     * Apply the change from a contribution's previous amounts to its current ones to the owner's account summary
+     */
+    private void updateSummary(Contribution contribution, Money previousMonthly, Money previousAnnual) {
+        accountSummaryService.addContributions(contribution.getAccount().getUserId(),
+            Money.orZero(contribution.getMonthlyAmount()).minus(previousMonthly),
+            Money.orZero(contribution.getAnnualAmount()).minus(previousAnnual));
+    }
+    
+    /**
+     * Record an outbox event carrying the contribution's current state
+     */
+    private ContributionDTO recordChange(Contribution contribution, String eventType) {
+        ContributionDTO dto = convertToDTO(contribution);
+        outboxService.record("contribution", contribution.getId(), contribution.getAccount().getUserId(),
+            eventType, dto);
+        return dto;
+    }
+    
     /**
      * Convert Contribution entity to DTO
      */
@@ -171,9 +216,26 @@ public class ContributionService {
         dto.setAccountId(contribution.getAccount().getId());
         dto.setContributionType(contribution.getContributionType());
         dto.setPercentage(contribution.getPercentage());
-        dto.setMonthlyAmount(contribution.getMonthlyAmount());
-        dto.setAnnualAmount(contribution.getAnnualAmount());
+        dto.setMonthlyAmount(Money.toBigDecimal(contribution.getMonthlyAmount()));
+        dto.setAnnualAmount(Money.toBigDecimal(contribution.getAnnualAmount()));
         dto.setEffectiveDate(contribution.getEffectiveDate());
+        dto.setVersion(contribution.getVersion());
+        return dto;
+    }
+    
+    /**
+     * Convert ContributionView projection to DTO
+     */
+    public ContributionDTO convertToDTO(ContributionView view) {
+        ContributionDTO dto = new ContributionDTO();
+        dto.setId(view.getId());
+        dto.setAccountId(view.getAccountId());
+        dto.setContributionType(view.getContributionType());
+        dto.setPercentage(view.getPercentage());
+        dto.setMonthlyAmount(Money.toBigDecimal(view.getMonthlyAmount()));
+        dto.setAnnualAmount(Money.toBigDecimal(view.getAnnualAmount()));
+        dto.setEffectiveDate(view.getEffectiveDate());
+        dto.setVersion(view.getVersion());
         return dto;
     }
     
@@ -185,8 +247,8 @@ public class ContributionService {
         contribution.setId(dto.getId());
         contribution.setContributionType(dto.getContributionType());
         contribution.setPercentage(dto.getPercentage());
-        contribution.setMonthlyAmount(dto.getMonthlyAmount());
-        contribution.setAnnualAmount(dto.getAnnualAmount());
+        contribution.setMonthlyAmount(Money.of(dto.getMonthlyAmount()));
+        contribution.setAnnualAmount(Money.of(dto.getAnnualAmount()));
         contribution.setEffectiveDate(dto.getEffectiveDate());
         
         // Set the account if accountId is provided
@@ -0,0 +1,203 @@
+package com.finova.account.service;
+
+import com.finova.account.client.PlanningClient;
+import com.finova.account.client.UserClient;
+import com.finova.account.dto.AccountSummaryDTO;
+import com.finova.account.dto.ContributionDTO;
+import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Service class for dashboard aggregation.
+ * 
+ * The composite dashboard fetches the planning projection and user profile in parallel
+ * with the account-service's own queries. Each downstream runs on its own bounded executor
+ * (a bulkhead), so a slow service can only exhaust its own threads, and every call has a
+ * timeout after which the dashboard is returned without that section. The timeout does not
+ * interrupt the HTTP call itself, so each Feign client's connect and read timeouts are set to
+ * the same budget (spring.cloud.openfeign.client.config) and free the thread soon after.
+ */
+@Service
+public class DashboardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private PlanningClient planningClient;
+    
+    @Autowired
+    private UserClient userClient;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${finova.downstream.planning-service.timeout-ms:1500}")
+    private long planningTimeoutMs;
+    
+    @Value("${finova.downstream.planning-service.max-concurrent:16}")
+    private int planningMaxConcurrent;
+    
+    @Value("${finova.downstream.user-service.timeout-ms:1000}")
+    private long userTimeoutMs;
+    
+    @Value("${finova.downstream.user-service.max-concurrent:16}")
+    private int userMaxConcurrent;
+    
+    @Value("${finova.downstream.queue-capacity:32}")
+    private int queueCapacity;
+    
+    private ExecutorService planningExecutor;
+    private ExecutorService userExecutor;
+    
+    @PostConstruct
+    void initBulkheads() {
+        planningExecutor = bulkhead("planning-service", planningMaxConcurrent);
+        userExecutor = bulkhead("user-service", userMaxConcurrent);
+    }
+    
+    @PreDestroy
+    void shutdownBulkheads() {
+        planningExecutor.shutdownNow();
+        userExecutor.shutdownNow();
+    }
+    
+    /**
+     * Get dashboard summary for a user (combines account, contributions, and income sources)
+     */
+    public Map<String, Object> getDashboardData(Long userId) {
+        RetirementAccountDTO primaryAccount = retirementAccountService.getPrimaryAccountByUserId(userId);
+        List<ContributionDTO> contributions = contributionService.getContributionsByUserId(userId);
+        List<IncomeSourceDTO> incomeSources = incomeSourceService.getIncomeSourcesByUserId(userId);
+        
+        // Totals and status come from the precomputed summary row rather than the child rows
+        AccountSummaryDTO summary = accountSummaryService.getSummary(userId);
+        
+        Map<String, Object> dashboardData = new HashMap<>();
+        dashboardData.put("primaryAccount", primaryAccount);
+        dashboardData.put("contributions", contributions);
+        dashboardData.put("incomeSources", incomeSources);
+        dashboardData.put("totalMonthlyContributions", summary.getTotalMonthlyContributions());
+        dashboardData.put("totalProjectedIncome", summary.getTotalProjectedIncome());
+        dashboardData.put("status", summary.getPrimaryAccountId() != null ? 
+            (summary.isOnTrack() ? "You are on track! ✓" : "Behind schedule") : "No data");
+        
+        return dashboardData;
+    }
+    
+    /**
+     * Get the account dashboard combined with the user's planning projection and profile.
+     * Downstream sections that fail or time out are returned as null and reported in "sources".
+     */
+    public Map<String, Object> getCompositeDashboard(Long userId, String authorization) {
+        CompletableFuture<DownstreamResult> planning = callDownstream("planning-service", planningExecutor,
+            planningTimeoutMs, () -> planningClient.getRetirementPlan(userId, authorization));
+        CompletableFuture<DownstreamResult> profile = callDownstream("user-service", userExecutor,
+            userTimeoutMs, () -> userClient.getUserProfile(userId, authorization));
+        
+        // Our own database work overlaps with the downstream calls
+        Map<String, Object> dashboardData = getDashboardData(userId);
+        
+        DownstreamResult planningResult = planning.join();
+        DownstreamResult profileResult = profile.join();
+        
+        dashboardData.put("retirementPlan", planningResult.body);
+        dashboardData.put("userProfile", profileResult.body);
+        dashboardData.put("sources", Map.of(
+            "planning-service", planningResult.outcome,
+            "user-service", profileResult.outcome
+        ));
+        return dashboardData;
+    }
+    
+    private CompletableFuture<DownstreamResult> callDownstream(String service, ExecutorService executor,
+                                                               long timeoutMs, Supplier<Map<String, Object>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Map<String, Object>> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Bulkhead full for {}, skipping call", service);
+            return CompletableFuture.completedFuture(record(sample, service, DownstreamResult.failed("rejected")));
+        }
+        
+        return future
+            .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .handle((body, ex) -> {
+                if (ex == null) {
+                    return record(sample, service, new DownstreamResult(body, "ok"));
+                }
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                String outcome = cause instanceof TimeoutException ? "timeout" : "error";
+                logger.warn("Call to {} failed ({}): {}", service, outcome, cause.toString());
+                return record(sample, service, DownstreamResult.failed(outcome));
+            });
+    }
+    
+    private DownstreamResult record(Timer.Sample sample, String service, DownstreamResult result) {
+        sample.stop(meterRegistry.timer("finova.dashboard.downstream", "service", service, "outcome", result.outcome));
+        return result;
+    }
+    
+    private ExecutorService bulkhead(String service, int maxConcurrent) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, service + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    private static class DownstreamResult {
+        private final Map<String, Object> body;
+        private final String outcome;
+        
+        DownstreamResult(Map<String, Object> body, String outcome) {
+            this.body = body;
+            this.outcome = outcome;
+        }
+        
+        static DownstreamResult failed(String outcome) {
+            return new DownstreamResult(null, outcome);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.finova.account.service;
+
+import com.finova.account.client.AnalyticsClient;
+import com.finova.account.dto.AccountEventDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Delivers outbox events to analytics-service's ingestion endpoint over HTTP
+ */
+@Component
+@ConditionalOnProperty(name = "finova.outbox.transport", havingValue = "http", matchIfMissing = true)
+public class HttpOutboxPublisher implements OutboxPublisher {
+    
+    @Autowired
+    private AnalyticsClient analyticsClient;
+    
+    @Override
+    public void publish(List<AccountEventDTO> events) {
+        analyticsClient.ingestEvents(events);
+    }
+}
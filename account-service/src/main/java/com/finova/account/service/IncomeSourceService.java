@@ -1,17 +1,21 @@
 package com.finova.account.service;
 
+import com.finova.account.config.OptimisticRetry;
 import com.finova.account.dto.IncomeSourceDTO;
 import com.finova.account.model.IncomeSource;
+import com.finova.account.model.Money;
 import com.finova.account.model.RetirementAccount;
 import com.finova.account.repository.IncomeSourceRepository;
 import com.finova.account.repository.RetirementAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,25 +31,48 @@ public class IncomeSourceService {
     @Autowired
     private RetirementAccountRepository retirementAccountRepository;
     
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private AuditTrail auditTrail;
+    
     /**
      * Get all income sources for a user
      */
+    @Transactional(readOnly = true)
     public List<IncomeSourceDTO> getIncomeSourcesByUserId(Long userId) {
         List<IncomeSource> incomeSources = incomeSourceRepository.findActiveByUserId(userId);
-        
-        // If no income sources exist, create sample ones
-        if (incomeSources.isEmpty()) {
-            incomeSources = createSampleIncomeSources(userId);
-        }
-        
         return incomeSources.stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
     
+    /**
+     * Get total projected monthly income across a user's active income sources
+     */
+    @Transactional(readOnly = true)
+    public Money getTotalProjectedMonthlyIncome(Long userId) {
+        BigDecimal total = incomeSourceRepository.getTotalProjectedMonthlyIncomeByUserId(userId);
+        return total != null ? Money.of(total) : Money.ZERO;
+    }
+    
+    /**
+     * Get total current balance across a user's active income sources
+     */
+    @Transactional(readOnly = true)
+    public Money getTotalCurrentBalance(Long userId) {
+        BigDecimal total = incomeSourceRepository.getTotalCurrentBalanceByUserId(userId);
+        return total != null ? Money.of(total) : Money.ZERO;
+    }
+    
     /**
      * Get all income sources for an account
      */
+    @Transactional(readOnly = true)
     public List<IncomeSourceDTO> getIncomeSourcesByAccountId(Long accountId) {
         List<IncomeSource> incomeSources = incomeSourceRepository.findByAccountId(accountId);
         return incomeSources.stream()
@@ -59,58 +86,65 @@ public class IncomeSourceService {
     public IncomeSourceDTO createIncomeSource(IncomeSourceDTO incomeSourceDTO) {
         IncomeSource incomeSource = convertToEntity(incomeSourceDTO);
         IncomeSource savedIncomeSource = incomeSourceRepository.save(incomeSource);
-        return convertToDTO(savedIncomeSource);
+        updateSummary(savedIncomeSource, summaryProjection(savedIncomeSource));
+        return recordChange(savedIncomeSource, "income_source.created");
     }
     
     /**
-     * Update income source
+     * Update income source; a version, when given, must match the stored one
      */
     public IncomeSourceDTO updateIncomeSource(Long incomeSourceId, IncomeSourceDTO incomeSourceDTO) {
         IncomeSource existingIncomeSource = incomeSourceRepository.findById(incomeSourceId)
             .orElseThrow(() -> new RuntimeException("Income source not found with id: " + incomeSourceId));
+        if (incomeSourceDTO.getVersion() != null && !incomeSourceDTO.getVersion().equals(existingIncomeSource.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(IncomeSource.class, incomeSourceId);
+        }
+        
+        Money previousProjection = summaryProjection(existingIncomeSource);
+        IncomeSourceDTO before = convertToDTO(existingIncomeSource);
         
         // Update fields
         existingIncomeSource.setSourceType(incomeSourceDTO.getSourceType());
         existingIncomeSource.setSourceName(incomeSourceDTO.getSourceName());
-        existingIncomeSource.setCurrentBalance(incomeSourceDTO.getCurrentBalance());
-        existingIncomeSource.setProjectedMonthlyIncome(incomeSourceDTO.getProjectedMonthlyIncome());
+        existingIncomeSource.setCurrentBalance(Money.of(incomeSourceDTO.getCurrentBalance()));
+        existingIncomeSource.setProjectedMonthlyIncome(Money.of(incomeSourceDTO.getProjectedMonthlyIncome()));
         existingIncomeSource.setProvider(incomeSourceDTO.getProvider());
         existingIncomeSource.setActive(incomeSourceDTO.isActive());
         
-        IncomeSource savedIncomeSource = incomeSourceRepository.save(existingIncomeSource);
-        return convertToDTO(savedIncomeSource);
+        IncomeSource savedIncomeSource = incomeSourceRepository.saveAndFlush(existingIncomeSource);
+        updateSummary(savedIncomeSource, summaryProjection(savedIncomeSource).minus(previousProjection));
+        IncomeSourceDTO after = recordChange(savedIncomeSource, "income_source.updated");
+        auditTrail.recordUpdate("income_source", incomeSourceId,
+            savedIncomeSource.getAccount() != null ? savedIncomeSource.getAccount().getUserId() : null, before, after);
+        return after;
     }
     
     /**
      * Delete income source
      */
+    @OptimisticRetry
     public void deleteIncomeSource(Long incomeSourceId) {
-        if (!incomeSourceRepository.existsById(incomeSourceId)) {
-            throw new RuntimeException("Income source not found with id: " + incomeSourceId);
-        }
-        incomeSourceRepository.deleteById(incomeSourceId);
+        IncomeSource incomeSource = incomeSourceRepository.findById(incomeSourceId)
+            .orElseThrow(() -> new RuntimeException("Income source not found with id: " + incomeSourceId));
+        incomeSourceRepository.delete(incomeSource);
+        updateSummary(incomeSource, summaryProjection(incomeSource).negate());
+        outboxService.record("income_source", incomeSourceId,
+            incomeSource.getAccount() != null ? incomeSource.getAccount().getUserId() : null,
+            "income_source.deleted", Map.of("id", incomeSourceId));
     }
     
     /**
-     * Create sample income sources for demo purposes
+     * Create sample income sources for a newly provisioned account
      */
-    private List<IncomeSource> createSampleIncomeSources(Long userId) {
-        // Find the primary account for this user
-        RetirementAccount primaryAccount = retirementAccountRepository.findPrimaryByUserId(userId)
-            .orElse(null);
-        
-        if (primaryAccount == null) {
-            return new ArrayList<>();
-        }
-        
+    public List<IncomeSource> createSampleIncomeSources(RetirementAccount primaryAccount) {
         List<IncomeSource> incomeSources = new ArrayList<>();
         
         // 401k - Finova
         IncomeSource source1 = new IncomeSource();
         source1.setSourceType("401k");
         source1.setSourceName("401(k) - Finova");
-        source1.setCurrentBalance(new BigDecimal("106965.67"));
-        source1.setProjectedMonthlyIncome(new BigDecimal("2980"));
+        source1.setCurrentBalance(Money.of("106965.67"));
+        source1.setProjectedMonthlyIncome(Money.of("2980"));
         source1.setProvider("Finova");
         source1.setAccount(primaryAccount);
         incomeSources.add(incomeSourceRepository.save(source1));
@@ -119,8 +153,8 @@ public class IncomeSourceService {
         IncomeSource source2 = new IncomeSource();
         source2.setSourceType("ira");
         source2.setSourceName("Traditional IRA - Fidelity");
-        source2.setCurrentBalance(new BigDecimal("45230.00"));
-        source2.setProjectedMonthlyIncome(new BigDecimal("1285"));
+        source2.setCurrentBalance(Money.of("45230.00"));
+        source2.setProjectedMonthlyIncome(Money.of("1285"));
         source2.setProvider("Fidelity");
         source2.setAccount(primaryAccount);
         incomeSources.add(incomeSourceRepository.save(source2));
@@ -129,27 +163,54 @@ public class IncomeSourceService {
         IncomeSource source3 = new IncomeSource();
         source3.setSourceType("pension");
         source3.setSourceName("Pension (estimated monthly)");
-        source3.setCurrentBalance(new BigDecimal("0"));
-        source3.setProjectedMonthlyIncome(new BigDecimal("1850"));
+        source3.setCurrentBalance(Money.ZERO);
+        source3.setProjectedMonthlyIncome(Money.of("1850"));
         source3.setAccount(primaryAccount);
         incomeSources.add(incomeSourceRepository.save(source3));
         
         return incomeSources;
     }
     
+    /**
+     * The amount an income source contributes to the summary's projected income (only active sources count)
+     */
+    private Money summaryProjection(IncomeSource incomeSource) {
+        return incomeSource.isActive() ? Money.orZero(incomeSource.getProjectedMonthlyIncome()) : Money.ZERO;
+    }
+    
+    /**
+     * Apply a change in projected income to the owner's account summary
+     */
+    private void updateSummary(IncomeSource incomeSource, Money delta) {
+        if (incomeSource.getAccount() != null) {
+            accountSummaryService.addProjectedIncome(incomeSource.getAccount().getUserId(), delta);
+        }
+    }
+    
+    /**
+     * Record an outbox event carrying the income source's current state
+     */
+    private IncomeSourceDTO recordChange(IncomeSource incomeSource, String eventType) {
+        IncomeSourceDTO dto = convertToDTO(incomeSource);
+        outboxService.record("income_source", incomeSource.getId(),
+            incomeSource.getAccount() != null ? incomeSource.getAccount().getUserId() : null, eventType, dto);
+        return dto;
+    }
+    
     /**
      * Convert IncomeSource entity to DTO
      */
-    private IncomeSourceDTO convertToDTO(IncomeSource incomeSource) {
+    public IncomeSourceDTO convertToDTO(IncomeSource incomeSource) {
         IncomeSourceDTO dto = new IncomeSourceDTO();
         dto.setId(incomeSource.getId());
         dto.setAccountId(incomeSource.getAccount() != null ? incomeSource.getAccount().getId() : null);
         dto.setSourceType(incomeSource.getSourceType());
         dto.setSourceName(incomeSource.getSourceName());
-        dto.setCurrentBalance(incomeSource.getCurrentBalance());
-        dto.setProjectedMonthlyIncome(incomeSource.getProjectedMonthlyIncome());
+        dto.setCurrentBalance(Money.toBigDecimal(incomeSource.getCurrentBalance()));
+        dto.setProjectedMonthlyIncome(Money.toBigDecimal(incomeSource.getProjectedMonthlyIncome()));
         dto.setProvider(incomeSource.getProvider());
         dto.setActive(incomeSource.isActive());
+        dto.setVersion(incomeSource.getVersion());
         return dto;
     }
     
@@ -161,8 +222,8 @@ public class IncomeSourceService {
         incomeSource.setId(dto.getId());
         incomeSource.setSourceType(dto.getSourceType());
         incomeSource.setSourceName(dto.getSourceName());
-        incomeSource.setCurrentBalance(dto.getCurrentBalance());
-        incomeSource.setProjectedMonthlyIncome(dto.getProjectedMonthlyIncome());
+        incomeSource.setCurrentBalance(Money.of(dto.getCurrentBalance()));
+        incomeSource.setProjectedMonthlyIncome(Money.of(dto.getProjectedMonthlyIncome()));
         incomeSource.setProvider(dto.getProvider());
         incomeSource.setActive(dto.isActive());
         
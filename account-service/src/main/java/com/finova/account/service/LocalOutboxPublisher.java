@@ -0,0 +1,33 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-process stand-in for a message broker, for local development and tests.
+ * Events are published as Spring application events that any listener can consume.
+ */
+@Component
+@ConditionalOnProperty(name = "finova.outbox.transport", havingValue = "local")
+public class LocalOutboxPublisher implements OutboxPublisher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LocalOutboxPublisher.class);
+    
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    
+    @Override
+    public void publish(List<AccountEventDTO> events) {
+        for (AccountEventDTO event : events) {
+            logger.debug("Publishing {} event {} locally", event.getEventType(), event.getEventId());
+            applicationEventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountEventDTO;
+
+import java.util.List;
+
+/**
+ * Transport used by the outbox relay to deliver account events.
+ * Implementations must either deliver the whole batch or throw.
+ */
+public interface OutboxPublisher {
+    
+    void publish(List<AccountEventDTO> events);
+}
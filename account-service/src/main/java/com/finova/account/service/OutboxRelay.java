@@ -0,0 +1,137 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountEventDTO;
+import com.finova.account.model.OutboxEvent;
+import com.finova.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the transactional outbox in batches and delivers events to analytics.
+ * 
+ * Delivery is at-least-once: a batch is marked published only after the transport
+ * accepts it, so a crash in between re-sends the batch and analytics deduplicates by
+ * event ID. A failed batch stops the current run to preserve commit order.
+ */
+@Component
+public class OutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int retentionHours;
+    
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher outboxPublisher,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                       @Value("${finova.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${finova.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${finova.outbox.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+                       @Value("${finova.outbox.retention-hours:24}") int retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionHours = retentionHours;
+        this.publishedCounter = meterRegistry.counter("finova.outbox.published");
+        this.failureCounter = meterRegistry.counter("finova.outbox.publish.failures");
+        this.batchTimer = meterRegistry.timer("finova.outbox.relay.batch");
+        meterRegistry.gauge("finova.outbox.pending", pendingEvents);
+        meterRegistry.gauge("finova.outbox.lag.seconds", lagSeconds);
+    }
+    
+    /**
+     * Relay pending events, up to max-batches-per-run batches per invocation
+     */
+    @Scheduled(fixedDelayString = "${finova.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<OutboxEvent> batch = transactionTemplate.execute(status ->
+                outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize)));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+            List<AccountEventDTO> events = batch.stream().map(this::convertToDTO).collect(Collectors.toList());
+            
+            try {
+                batchTimer.record(() -> outboxPublisher.publish(events));
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                logger.warn("Outbox relay failed to deliver {} events: {}", batch.size(), e.getMessage());
+                String error = e.getMessage() != null && e.getMessage().length() > 1000
+                    ? e.getMessage().substring(0, 1000) : e.getMessage();
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markFailed(ids, error));
+                break;
+            }
+            
+            transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+            publishedCounter.increment(batch.size());
+            
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        
+        updateLagMetrics();
+    }
+    
+    /**
+     * Remove published events once they are past the retention window
+     */
+    @Scheduled(fixedDelayString = "${finova.outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            logger.debug("Purged {} published outbox events", deleted);
+        }
+    }
+    
+    private void updateLagMetrics() {
+        transactionTemplate.executeWithoutResult(status -> {
+            pendingEvents.set(outboxEventRepository.countByPublishedAtIsNull());
+            lagSeconds.set(outboxEventRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).getSeconds())
+                .orElse(0L));
+        });
+    }
+    
+    private AccountEventDTO convertToDTO(OutboxEvent event) {
+        return new AccountEventDTO(event.getEventId(), event.getEventType(), event.getAggregateType(),
+            event.getAggregateId(), event.getUserId(), event.getCreatedAt(), event.getPayload());
+    }
+}
@@ -0,0 +1,38 @@
+package com.finova.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.model.OutboxEvent;
+import com.finova.account.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for writing transactional outbox events.
+ * Events must be recorded inside the transaction that changes the entity, so the
+ * change and its event commit or roll back together.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Record a change event for an aggregate
+     */
+    public OutboxEvent record(String aggregateType, Long aggregateId, Long userId, String eventType, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, userId, eventType, json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize " + eventType + " event payload", e);
+        }
+    }
+}
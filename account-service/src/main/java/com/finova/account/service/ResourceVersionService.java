@@ -0,0 +1,66 @@
+package com.finova.account.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Computes strong ETags for account-service reads from version and updated-at columns.
+ *
+ * A tag is a digest of row counts, version sums, ledger sequences and latest update times,
+ * read with one aggregate statement and without loading entities or building DTOs. Inserts,
+ * deletes, versioned updates and ledger postings (which bump ledger_sequence in place) all
+ * change the tag. Callers compute the tag before loading the data, so a concurrent write can
+ * only make the tag older than the body, which costs the client one extra full response.
+ */
+@Service
+public class ResourceVersionService {
+    
+    private static final String USER_STATE_SQL =
+        "SELECT 'a', COUNT(*), COALESCE(SUM(COALESCE(a.version, 0) + a.ledger_sequence), 0), MAX(a.updated_at), MAX(a.id) " +
+        "FROM retirement_accounts a WHERE a.user_id = ? " +
+        "UNION ALL SELECT 'c', COUNT(*), COALESCE(SUM(COALESCE(c.version, 0)), 0), MAX(c.updated_at), MAX(c.id) " +
+        "FROM contributions c JOIN retirement_accounts a ON a.id = c.account_id WHERE a.user_id = ? " +
+        "UNION ALL SELECT 'i', COUNT(*), COALESCE(SUM(COALESCE(i.version, 0)), 0), MAX(i.updated_at), MAX(i.id) " +
+        "FROM income_sources i JOIN retirement_accounts a ON a.id = i.account_id WHERE a.user_id = ? " +
+        "UNION ALL SELECT 's', COUNT(*), COALESCE(SUM(COALESCE(s.version, 0)), 0), MAX(s.updated_at), MAX(s.user_id) " +
+        "FROM account_summary s WHERE s.user_id = ?";
+    
+    private static final String ACCOUNT_CONTRIBUTIONS_STATE_SQL =
+        "SELECT 'a', COUNT(*), COALESCE(SUM(COALESCE(a.version, 0)), 0), MAX(a.updated_at), MAX(a.id) " +
+        "FROM retirement_accounts a WHERE a.id = ? " +
+        "UNION ALL SELECT 'c', COUNT(*), COALESCE(SUM(COALESCE(c.version, 0)), 0), MAX(c.updated_at), MAX(c.id) " +
+        "FROM contributions c WHERE c.account_id = ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * ETag for a representation built from a user's accounts, contributions, income sources and summary
+     */
+    public String getUserETag(String resource, Long userId) {
+        return etag(resource, USER_STATE_SQL, userId, userId, userId, userId);
+    }
+    
+    /**
+     * ETag for a representation built from one account's contributions
+     */
+    public String getAccountContributionsETag(Long accountId) {
+        return etag("account-contributions", ACCOUNT_CONTRIBUTIONS_STATE_SQL, accountId, accountId);
+    }
+    
+    private String etag(String resource, String sql, Object... args) {
+        StringBuilder state = new StringBuilder(resource);
+        jdbcTemplate.query(sql, rs -> {
+            state.append('|').append(rs.getString(1))
+                .append(':').append(rs.getLong(2))
+                .append(':').append(rs.getLong(3))
+                .append(':').append(rs.getTimestamp(4))
+                .append(':').append(rs.getLong(5));
+        }, args);
+        return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
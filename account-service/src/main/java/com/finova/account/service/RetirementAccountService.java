@@ -3,15 +3,22 @@ package com.finova.account.service;
 import com.finova.account.dto.RetirementAccountDTO;
 import com.finova.account.dto.ContributionDTO;
 import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.config.OptimisticRetry;
+import com.finova.account.model.BalanceLedgerEntry;
+import com.finova.account.model.Money;
 import com.finova.account.model.RetirementAccount;
 import com.finova.account.repository.RetirementAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -30,9 +37,22 @@ public class RetirementAccountService {
     @Autowired
     private IncomeSourceService incomeSourceService;
     
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private AuditTrail auditTrail;
+    
     /**
      * Get all retirement accounts for a user
      */
+    @Transactional(readOnly = true)
     public List<RetirementAccountDTO> getAccountsByUserId(Long userId) {
         List<RetirementAccount> accounts = retirementAccountRepository.findByUserId(userId);
         return accounts.stream()
@@ -41,18 +61,20 @@ public class RetirementAccountService {
     }
     
     /**
-     * Get primary retirement account for a user (for dashboard)
-     * If none exists, creates a default account with sample data
+     * Get primary retirement account for a user (for dashboard), or null if the user has none
      */
+    @Transactional(readOnly = true)
     public RetirementAccountDTO getPrimaryAccountByUserId(Long userId) {
-        RetirementAccount account = retirementAccountRepository.findPrimaryByUserId(userId)
-            .orElseGet(() -> createDefaultAccount(userId));
-        return convertToDTOWithDetails(account);
+        return retirementAccountRepository.findFirstByUserIdAndPrimaryAccountTrue(userId)
+            .or(() -> retirementAccountRepository.findFirstByUserIdOrderByCreatedAtAscIdAsc(userId))
+            .map(this::convertToDTOWithDetails)
+            .orElse(null);
     }
     
     /**
      * Get retirement account by ID
      */
+    @Transactional(readOnly = true)
     public RetirementAccountDTO getAccountById(Long accountId) {
         RetirementAccount account = retirementAccountRepository.findById(accountId)
             .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
@@ -64,71 +86,140 @@ public class RetirementAccountService {
      */
     public RetirementAccountDTO createAccount(RetirementAccountDTO accountDTO) {
         RetirementAccount account = convertToEntity(accountDTO);
-        RetirementAccount savedAccount = retirementAccountRepository.save(account);
-        return convertToDTO(savedAccount);
+        RetirementAccount savedAccount = saveWithOpeningBalance(account, accountDTO.getCurrentBalance());
+        accountSummaryService.updatePrimaryAccount(savedAccount);
+        return recordChange(savedAccount, "account.created");
     }
     
     /**
-     * Update retirement account
+     * Update retirement account; a version, when given, must match the stored one
      */
     public RetirementAccountDTO updateAccount(Long accountId, RetirementAccountDTO accountDTO) {
         RetirementAccount existingAccount = retirementAccountRepository.findById(accountId)
             .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+        if (accountDTO.getVersion() != null && !accountDTO.getVersion().equals(existingAccount.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(RetirementAccount.class, accountId);
+        }
+        RetirementAccountDTO before = convertToDTO(existingAccount);
+        
+        // Balance changes are recorded as ledger adjustments rather than overwritten in place;
+        // the append refreshes the loaded account with its new balance.
+        if (accountDTO.getCurrentBalance() != null) {
+            balanceLedgerService.adjustBalanceTo(accountId, accountDTO.getCurrentBalance(), "Balance updated");
+        }
         
         // Update fields
         existingAccount.setAccountName(accountDTO.getAccountName());
         existingAccount.setAccountType(accountDTO.getAccountType());
-        existingAccount.setCurrentBalance(accountDTO.getCurrentBalance());
         existingAccount.setAsOfDate(accountDTO.getAsOfDate());
-        existingAccount.setEstimatedMonthlyIncome(accountDTO.getEstimatedMonthlyIncome());
-        existingAccount.setEstimatedMonthlyGoal(accountDTO.getEstimatedMonthlyGoal());
+        existingAccount.setEstimatedMonthlyIncome(Money.of(accountDTO.getEstimatedMonthlyIncome()));
+        existingAccount.setEstimatedMonthlyGoal(Money.of(accountDTO.getEstimatedMonthlyGoal()));
         existingAccount.setStatus(accountDTO.getStatus());
         
-        RetirementAccount savedAccount = retirementAccountRepository.save(existingAccount);
-        return convertToDTO(savedAccount);
+        RetirementAccount savedAccount = retirementAccountRepository.saveAndFlush(existingAccount);
+        accountSummaryService.updatePrimaryAccount(savedAccount);
+        RetirementAccountDTO after = recordChange(savedAccount, "account.updated");
+        auditTrail.recordUpdate("account", accountId, savedAccount.getUserId(), before, after);
+        return after;
+    }
+    
+    /**
+     * Append a balance-affecting event to an account's ledger
+     */
+    public BalanceLedgerEntryDTO postLedgerEntry(Long accountId, BalanceLedgerEntryDTO entryDTO) {
+        RetirementAccount account = retirementAccountRepository.findById(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+        BalanceLedgerEntry entry = balanceLedgerService.appendEntry(
+            accountId, entryDTO.getEntryType(), entryDTO.getAmount(), entryDTO.getDescription());
+        BalanceLedgerEntryDTO result = balanceLedgerService.convertToDTO(entry);
+        accountSummaryService.addBalance(account.getUserId(), accountId, Money.of(entryDTO.getAmount()));
+        
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("entry", result);
+        payload.put("currentBalance", balanceLedgerService.getCurrentBalance(accountId));
+        payload.put("accountType", account.getAccountType());
+        outboxService.record("account", accountId, account.getUserId(), "account.balance_changed", payload);
+        return result;
     }
     
     /**
      * Delete retirement account
      */
+    @OptimisticRetry
     public void deleteAccount(Long accountId) {
-        if (!retirementAccountRepository.existsById(accountId)) {
-            throw new RuntimeException("Account not found with id: " + accountId);
+        RetirementAccount account = retirementAccountRepository.findById(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+        retirementAccountRepository.delete(account);
+        
+        // Promote the next oldest account; the delete is flushed first so the user never has two primaries
+        if (account.isPrimaryAccount()) {
+            retirementAccountRepository.flush();
+            retirementAccountRepository.findFirstByUserIdOrderByCreatedAtAscIdAsc(account.getUserId())
+                .ifPresent(next -> next.setPrimaryAccount(true));
         }
-        retirementAccountRepository.deleteById(accountId);
+        accountSummaryService.refresh(account.getUserId());
+        outboxService.record("account", accountId, account.getUserId(), "account.deleted", Map.of("id", accountId));
     }
     
     /**
-     * Create a default retirement account with sample data for demo purposes
+     * Create the default retirement account for a newly provisioned user
      */
-    private RetirementAccount createDefaultAccount(Long userId) {
+    public RetirementAccount createDefaultAccount(Long userId) {
         RetirementAccount account = new RetirementAccount();
         account.setUserId(userId);
         account.setAccountName("New York City Deferred Compensation 401(a) Plan");
         account.setAccountType("401a");
-        account.setCurrentBalance(new BigDecimal("106965.67"));
-        account.setEstimatedMonthlyIncome(new BigDecimal("6965"));
-        account.setEstimatedMonthlyGoal(new BigDecimal("6210"));
+        account.setEstimatedMonthlyIncome(Money.of("6965"));
+        account.setEstimatedMonthlyGoal(Money.of("6210"));
         account.setStatus("on_track");
         account.setAsOfDate(LocalDate.now());
         
-        return retirementAccountRepository.save(account);
+        RetirementAccount savedAccount = saveWithOpeningBalance(account, new BigDecimal("106965.67"));
+        recordChange(savedAccount, "account.created");
+        return savedAccount;
+    }
+    
+    /**
+     * Record an outbox event carrying the account's current state
+     */
+    private RetirementAccountDTO recordChange(RetirementAccount account, String eventType) {
+        RetirementAccountDTO dto = convertToDTO(account);
+        outboxService.record("account", account.getId(), account.getUserId(), eventType, dto);
+        return dto;
+    }
+    
+    /**
+     * Save a new account and record its opening balance as the first ledger entry.
+     * The user's first account becomes their primary account.
+     */
+    private RetirementAccount saveWithOpeningBalance(RetirementAccount account, BigDecimal openingBalance) {
+        account.setPrimaryAccount(!retirementAccountRepository.existsByUserIdAndPrimaryAccountTrue(account.getUserId()));
+        account.setCurrentBalance(Money.ZERO);
+        account.setLedgerSequence(0L);
+        RetirementAccount savedAccount = retirementAccountRepository.save(account);
+        
+        if (openingBalance != null && openingBalance.signum() != 0) {
+            balanceLedgerService.appendEntry(savedAccount.getId(), "opening", openingBalance, "Opening balance");
+        }
+        return savedAccount;
     }
     
     /**
      * Convert RetirementAccount entity to DTO
      */
-    private RetirementAccountDTO convertToDTO(RetirementAccount account) {
+    public RetirementAccountDTO convertToDTO(RetirementAccount account) {
         RetirementAccountDTO dto = new RetirementAccountDTO();
         dto.setId(account.getId());
         dto.setUserId(account.getUserId());
         dto.setAccountName(account.getAccountName());
         dto.setAccountType(account.getAccountType());
-        dto.setCurrentBalance(account.getCurrentBalance());
+        dto.setCurrentBalance(Money.toBigDecimal(account.getCurrentBalance()));
         dto.setAsOfDate(account.getAsOfDate());
-        dto.setEstimatedMonthlyIncome(account.getEstimatedMonthlyIncome());
-        dto.setEstimatedMonthlyGoal(account.getEstimatedMonthlyGoal());
+        dto.setEstimatedMonthlyIncome(Money.toBigDecimal(account.getEstimatedMonthlyIncome()));
+        dto.setEstimatedMonthlyGoal(Money.toBigDecimal(account.getEstimatedMonthlyGoal()));
         dto.setStatus(account.getStatus());
+        dto.setPrimaryAccount(account.isPrimaryAccount());
+        dto.setVersion(account.getVersion());
         return dto;
     }
     
@@ -157,10 +248,10 @@ public class RetirementAccountService {
         account.setUserId(dto.getUserId());
         account.setAccountName(dto.getAccountName());
         account.setAccountType(dto.getAccountType());
-        account.setCurrentBalance(dto.getCurrentBalance());
+        account.setCurrentBalance(Money.of(dto.getCurrentBalance()));
         account.setAsOfDate(dto.getAsOfDate());
-        account.setEstimatedMonthlyIncome(dto.getEstimatedMonthlyIncome());
-        account.setEstimatedMonthlyGoal(dto.getEstimatedMonthlyGoal());
+        account.setEstimatedMonthlyIncome(Money.of(dto.getEstimatedMonthlyIncome()));
+        account.setEstimatedMonthlyGoal(Money.of(dto.getEstimatedMonthlyGoal()));
         account.setStatus(dto.getStatus());
         return account;
     }
@@ -0,0 +1,119 @@
+-- Baseline of the account-service schema as previously generated by Hibernate.
+-- Databases created before migrations were introduced are baselined at this version.
+
+CREATE TABLE retirement_accounts (
+    id                       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id                  BIGINT       NOT NULL,
+    account_name             VARCHAR(255) NOT NULL,
+    account_type             VARCHAR(255),
+    current_balance          NUMERIC(12, 2),
+    ledger_sequence          BIGINT       NOT NULL,
+    as_of_date               DATE,
+    estimated_monthly_income NUMERIC(10, 2),
+    estimated_monthly_goal   NUMERIC(10, 2),
+    status                   VARCHAR(255),
+    version                  BIGINT,
+    created_at               TIMESTAMP(6),
+    updated_at               TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE contributions (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id        BIGINT       NOT NULL,
+    contribution_type VARCHAR(255) NOT NULL,
+    percentage        NUMERIC(5, 2),
+    monthly_amount    NUMERIC(10, 2),
+    annual_amount     NUMERIC(12, 2),
+    effective_date    DATE,
+    version           BIGINT,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_contributions_account FOREIGN KEY (account_id) REFERENCES retirement_accounts (id)
+);
+
+CREATE TABLE income_sources (
+    id                       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id               BIGINT,
+    source_type              VARCHAR(255) NOT NULL,
+    source_name              VARCHAR(255),
+    current_balance          NUMERIC(12, 2),
+    projected_monthly_income NUMERIC(10, 2),
+    provider                 VARCHAR(255),
+    is_active                BOOLEAN,
+    version                  BIGINT,
+    created_at               TIMESTAMP(6),
+    updated_at               TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_income_sources_account FOREIGN KEY (account_id) REFERENCES retirement_accounts (id)
+);
+
+CREATE TABLE balance_ledger (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id      BIGINT         NOT NULL,
+    sequence_number BIGINT         NOT NULL,
+    entry_type      VARCHAR(255)   NOT NULL,
+    amount          NUMERIC(12, 2) NOT NULL,
+    description     VARCHAR(255),
+    recorded_at     TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_balance_ledger_account_sequence UNIQUE (account_id, sequence_number)
+);
+
+CREATE TABLE balance_checkpoints (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id      BIGINT         NOT NULL,
+    sequence_number BIGINT         NOT NULL,
+    balance         NUMERIC(14, 2) NOT NULL,
+    as_of           TIMESTAMP(6)   NOT NULL,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_balance_checkpoint_account_sequence UNIQUE (account_id, sequence_number)
+);
+
+CREATE TABLE outbox_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_id       VARCHAR(36)   NOT NULL,
+    aggregate_type VARCHAR(255)  NOT NULL,
+    aggregate_id   BIGINT,
+    user_id        BIGINT,
+    event_type     VARCHAR(255)  NOT NULL,
+    payload        VARCHAR(8000),
+    created_at     TIMESTAMP(6)  NOT NULL,
+    published_at   TIMESTAMP(6),
+    attempts       INTEGER,
+    last_error     VARCHAR(1000),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outbox_events_event_id UNIQUE (event_id)
+);
+
+CREATE TABLE contribution_import_jobs (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    file_name          VARCHAR(255),
+    status             VARCHAR(255)  NOT NULL,
+    last_committed_row BIGINT        NOT NULL,
+    imported_rows      BIGINT        NOT NULL,
+    failed_rows        BIGINT        NOT NULL,
+    error_message      VARCHAR(1000),
+    created_at         TIMESTAMP(6)  NOT NULL,
+    updated_at         TIMESTAMP(6),
+    completed_at       TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE contribution_import_errors (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    job_id   BIGINT NOT NULL,
+    file_row BIGINT NOT NULL,
+    message  VARCHAR(500),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_contribution_import_errors_job ON contribution_import_errors (job_id, file_row);
+
+CREATE TABLE account_provisioning (
+    user_id        BIGINT       NOT NULL,
+    provisioned_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id)
+);
@@ -0,0 +1,16 @@
+-- Denormalised primary-account flag and the indexes behind the per-user lookups.
+
+ALTER TABLE retirement_accounts ADD COLUMN is_primary BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- The primary account is the user's oldest account
+UPDATE retirement_accounts ra SET is_primary = TRUE
+WHERE ra.id = (SELECT r2.id FROM retirement_accounts r2
+               WHERE r2.user_id = ra.user_id
+               ORDER BY r2.created_at, r2.id
+               LIMIT 1);
+
+CREATE INDEX idx_retirement_accounts_user_created ON retirement_accounts (user_id, created_at);
+
+CREATE INDEX idx_contributions_account ON contributions (account_id);
+
+CREATE INDEX idx_income_sources_account ON income_sources (account_id);
@@ -0,0 +1,29 @@
+-- Denormalised per-user dashboard totals, maintained on write by AccountSummaryService.
+
+CREATE TABLE account_summary (
+    user_id                     BIGINT         NOT NULL,
+    primary_account_id          BIGINT,
+    current_balance             NUMERIC(12, 2) NOT NULL,
+    total_monthly_contributions NUMERIC(12, 2) NOT NULL,
+    total_annual_contributions  NUMERIC(14, 2) NOT NULL,
+    total_projected_income      NUMERIC(12, 2) NOT NULL,
+    status                      VARCHAR(255),
+    version                     BIGINT,
+    updated_at                  TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+-- Backfill one row per user from their primary account and child rows
+INSERT INTO account_summary (user_id, primary_account_id, current_balance, total_monthly_contributions,
+                             total_annual_contributions, total_projected_income, status, version, updated_at)
+SELECT ra.user_id, ra.id, COALESCE(ra.current_balance, 0),
+       COALESCE((SELECT SUM(c.monthly_amount) FROM contributions c
+                 JOIN retirement_accounts a ON a.id = c.account_id WHERE a.user_id = ra.user_id), 0),
+       COALESCE((SELECT SUM(c.annual_amount) FROM contributions c
+                 JOIN retirement_accounts a ON a.id = c.account_id WHERE a.user_id = ra.user_id), 0),
+       COALESCE((SELECT SUM(i.projected_monthly_income) FROM income_sources i
+                 JOIN retirement_accounts a ON a.id = i.account_id
+                 WHERE a.user_id = ra.user_id AND i.is_active = TRUE), 0),
+       ra.status, 0, CURRENT_TIMESTAMP
+FROM retirement_accounts ra
+WHERE ra.is_primary = TRUE;
@@ -0,0 +1,15 @@
+-- Audit trail of field-level changes to accounts, contributions and income sources,
+-- written asynchronously in batches by AuditTrail.
+
+CREATE TABLE audit_log (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    entity_type VARCHAR(64)   NOT NULL,
+    entity_id   BIGINT        NOT NULL,
+    user_id     BIGINT,
+    action      VARCHAR(32)   NOT NULL,
+    changes     VARCHAR(8000) NOT NULL,
+    occurred_at TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_audit_log_entity ON audit_log (entity_type, entity_id, occurred_at);
@@ -0,0 +1,17 @@
+-- Per-pay-period contribution history. PostgreSQL partitions this table by month
+-- (see postgresql/V4); H2 keeps a plain table with the same columns and indexes.
+
+CREATE TABLE contribution_history (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id        BIGINT         NOT NULL,
+    user_id           BIGINT         NOT NULL,
+    contribution_type VARCHAR(255)   NOT NULL,
+    pay_period_date   DATE           NOT NULL,
+    amount            NUMERIC(10, 2) NOT NULL,
+    recorded_at       TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_contribution_history_account_period ON contribution_history (account_id, pay_period_date);
+
+CREATE INDEX idx_contribution_history_user_period ON contribution_history (user_id, pay_period_date);
@@ -0,0 +1,3 @@
+-- At most one primary account per user. H2 has no partial indexes, so this is PostgreSQL only.
+
+CREATE UNIQUE INDEX uk_retirement_accounts_user_primary ON retirement_accounts (user_id) WHERE is_primary;
@@ -0,0 +1,21 @@
+-- Per-pay-period contribution history, range-partitioned by month on pay_period_date.
+-- Monthly partitions (contribution_history_pYYYYMM) are created ahead of time and dropped
+-- after the retention window by ContributionHistoryPartitionManager.
+-- The partition key must be part of the primary key, and identity columns are not
+-- supported on partitioned tables before PostgreSQL 17, so id comes from a sequence.
+
+CREATE TABLE contribution_history (
+    id                BIGSERIAL,
+    account_id        BIGINT         NOT NULL,
+    user_id           BIGINT         NOT NULL,
+    contribution_type VARCHAR(255)   NOT NULL,
+    pay_period_date   DATE           NOT NULL,
+    amount            NUMERIC(10, 2) NOT NULL,
+    recorded_at       TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id, pay_period_date)
+) PARTITION BY RANGE (pay_period_date);
+
+-- Created on the parent, so every partition gets its own local copy
+CREATE INDEX idx_contribution_history_account_period ON contribution_history (account_id, pay_period_date);
+
+CREATE INDEX idx_contribution_history_user_period ON contribution_history (user_id, pay_period_date);
@@ -0,0 +1,139 @@
+package com.finova.account.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the optimistic locking retry advisor
+ */
+@DisplayName("OptimisticRetryInterceptor Tests")
+class OptimisticRetryInterceptorTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    
+    @Test
+    @DisplayName("Should re-run a conflicting method until it succeeds")
+    void shouldRetryUntilSuccess() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(2), 4);
+        
+        // When
+        String result = service.delete();
+        
+        // Then
+        assertThat(result).isEqualTo("deleted");
+        assertThat(service.calls()).isEqualTo(3);
+        assertThat(count("finova.optimistic.conflicts")).isEqualTo(2);
+        assertThat(count("finova.optimistic.retries")).isEqualTo(2);
+        assertThat(count("finova.optimistic.exhausted")).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should give up and rethrow the conflict after the maximum attempts")
+    void shouldRethrowWhenAttemptsAreExhausted() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(10), 3);
+        
+        // When & Then
+        assertThatThrownBy(service::delete).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(service.calls()).isEqualTo(3);
+        assertThat(count("finova.optimistic.exhausted")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Should not retry inside a caller's transaction")
+    void shouldNotRetryInsideAnActiveTransaction() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(1), 4);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        
+        // When & Then
+        assertThatThrownBy(service::delete).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(service.calls()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Should not retry other failures or unannotated methods")
+    void shouldOnlyRetryAnnotatedConflicts() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(1), 4);
+        
+        // When & Then
+        assertThatThrownBy(service::update).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+        assertThat(service.calls()).isEqualTo(2);
+    }
+    
+    private ConflictingService proxy(ConflictingService target, int maxAttempts) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(OptimisticRetryConfig.optimisticRetryAdvisor(
+            beanFactory.getBeanProvider(MeterRegistry.class), maxAttempts, 1, 2));
+        return (ConflictingService) factory.getProxy();
+    }
+    
+    private double count(String name) {
+        return meterRegistry.find(name).counters().stream().mapToDouble(counter -> counter.count()).sum();
+    }
+    
+    /**
+     * Fails its first calls with an optimistic locking conflict
+     */
+    static class ConflictingService {
+        
+        private final int conflicts;
+        private int calls;
+        
+        ConflictingService() {
+            this(0);
+        }
+        
+        ConflictingService(int conflicts) {
+            this.conflicts = conflicts;
+        }
+        
+        @OptimisticRetry
+        public String delete() {
+            return conflictOrElse("deleted");
+        }
+        
+        public String update() {
+            return conflictOrElse("updated");
+        }
+        
+        @OptimisticRetry
+        public String fail() {
+            calls++;
+            throw new IllegalStateException("Not a conflict");
+        }
+        
+        public int calls() {
+            return calls;
+        }
+        
+        private String conflictOrElse(String result) {
+            if (++calls <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.finova.account.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.dto.ContributionDTO;
+import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.service.ContributionService;
+import com.finova.account.service.IncomeSourceService;
+import com.finova.account.service.RetirementAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Version checks on client updates: a stale version is a 409 and leaves the stored row untouched
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureMockMvc
+@DisplayName("AccountController Conflict Tests")
+class AccountControllerConflictTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(30_000);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    private RetirementAccountDTO account;
+    private ContributionDTO contribution;
+    private IncomeSourceDTO incomeSource;
+    
+    @BeforeEach
+    void seedUser() {
+        RetirementAccountDTO newAccount = new RetirementAccountDTO();
+        newAccount.setUserId(USER_IDS.incrementAndGet());
+        newAccount.setAccountName("Conflict Test 401(k)");
+        newAccount.setAccountType("401k");
+        newAccount.setCurrentBalance(new BigDecimal("50000.00"));
+        newAccount.setAsOfDate(LocalDate.now());
+        account = retirementAccountService.createAccount(newAccount);
+        
+        ContributionDTO newContribution = new ContributionDTO();
+        newContribution.setAccountId(account.getId());
+        newContribution.setContributionType("pre_tax");
+        newContribution.setPercentage(new BigDecimal("5"));
+        newContribution.setMonthlyAmount(new BigDecimal("250"));
+        newContribution.setAnnualAmount(new BigDecimal("3000"));
+        newContribution.setEffectiveDate(LocalDate.now());
+        contribution = contributionService.createContribution(newContribution);
+        
+        IncomeSourceDTO newIncomeSource = new IncomeSourceDTO();
+        newIncomeSource.setAccountId(account.getId());
+        newIncomeSource.setSourceType("ira");
+        newIncomeSource.setSourceName("Conflict Test IRA");
+        newIncomeSource.setCurrentBalance(new BigDecimal("1000"));
+        newIncomeSource.setProjectedMonthlyIncome(new BigDecimal("100"));
+        newIncomeSource.setActive(true);
+        incomeSource = incomeSourceService.createIncomeSource(newIncomeSource);
+    }
+    
+    @Test
+    @DisplayName("PUT /api/contributions/{id} - Current version is applied and advanced")
+    void shouldApplyUpdateWithCurrentVersion() throws Exception {
+        // Given
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/contributions/{id}", contribution.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contribution)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthlyAmount", is(300.0)))
+            .andExpect(jsonPath("$.version", is(contribution.getVersion().intValue() + 1)));
+    }
+    
+    @Test
+    @DisplayName("PUT /api/contributions/{id} - Stale version is rejected with 409")
+    void shouldRejectContributionUpdateWithStaleVersion() throws Exception {
+        // Given another client has already saved its edit
+        ContributionDTO otherClient = copy(contribution, ContributionDTO.class);
+        otherClient.setMonthlyAmount(new BigDecimal("400"));
+        contributionService.updateContribution(contribution.getId(), otherClient);
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/contributions/{id}", contribution.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contribution)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error", is("Conflict")));
+        assertThat(contributionService.getContributionsByAccountId(account.getId()))
+            .singleElement()
+            .satisfies(stored -> assertThat(stored.getMonthlyAmount()).isEqualByComparingTo("400"));
+    }
+    
+    @Test
+    @DisplayName("PUT /api/contributions/account/{id}/bulk - Current versions are applied and advanced")
+    void shouldApplyBulkUpdateWithCurrentVersion() throws Exception {
+        // Given
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/contributions/account/{accountId}/bulk", account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(contribution))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id", is(contribution.getId().intValue())))
+            .andExpect(jsonPath("$[0].monthlyAmount", is(300.0)))
+            .andExpect(jsonPath("$[0].version", is(contribution.getVersion().intValue() + 1)));
+    }
+    
+    @Test
+    @DisplayName("PUT /api/contributions/account/{id}/bulk - Stale version rejects the whole batch")
+    void shouldRejectBulkUpdateWithStaleVersion() throws Exception {
+        // Given
+        ContributionDTO otherClient = copy(contribution, ContributionDTO.class);
+        otherClient.setMonthlyAmount(new BigDecimal("400"));
+        contributionService.updateContribution(contribution.getId(), otherClient);
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/contributions/account/{accountId}/bulk", account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(contribution))))
+            .andExpect(status().isConflict());
+    }
+    
+    @Test
+    @DisplayName("PUT /api/income-sources/{id} - Stale version is rejected with 409")
+    void shouldRejectIncomeSourceUpdateWithStaleVersion() throws Exception {
+        // Given
+        IncomeSourceDTO otherClient = copy(incomeSource, IncomeSourceDTO.class);
+        otherClient.setProjectedMonthlyIncome(new BigDecimal("150"));
+        incomeSourceService.updateIncomeSource(incomeSource.getId(), otherClient);
+        incomeSource.setProjectedMonthlyIncome(new BigDecimal("900"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/income-sources/{id}", incomeSource.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(incomeSource)))
+            .andExpect(status().isConflict());
+    }
+    
+    @Test
+    @DisplayName("PUT /api/accounts/{id} - Stale version is rejected with 409 before any ledger adjustment")
+    void shouldRejectAccountUpdateWithStaleVersion() throws Exception {
+        // Given
+        RetirementAccountDTO otherClient = copy(account, RetirementAccountDTO.class);
+        otherClient.setAccountName("Renamed elsewhere");
+        retirementAccountService.updateAccount(account.getId(), otherClient);
+        account.setCurrentBalance(new BigDecimal("1.00"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/accounts/{id}", account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(account)))
+            .andExpect(status().isConflict());
+        RetirementAccountDTO stored = retirementAccountService.getAccountById(account.getId());
+        assertThat(stored.getAccountName()).isEqualTo("Renamed elsewhere");
+        assertThat(stored.getCurrentBalance()).isEqualByComparingTo("50000.00");
+    }
+    
+    @Test
+    @DisplayName("PUT /api/contributions/{id} - Update without a version is applied")
+    void shouldApplyUpdateWithoutVersion() throws Exception {
+        // Given
+        contribution.setVersion(null);
+        contribution.setMonthlyAmount(new BigDecimal("275"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/contributions/{id}", contribution.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contribution)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthlyAmount", is(275.0)));
+    }
+    
+    private <T> T copy(T dto, Class<T> type) {
+        return objectMapper.convertValue(dto, type);
+    }
+}
@@ -0,0 +1,456 @@
+package com.finova.account.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.client.PlanningClient;
+import com.finova.account.client.UserClient;
+import com.finova.account.config.QueryCountFilter;
+import com.finova.account.config.RequestQueryCounts;
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.dto.ContributionDTO;
+import com.finova.account.dto.ContributionHistoryDTO;
+import com.finova.account.dto.ContributionImportJobDTO;
+import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.service.AccountBulkLookupService;
+import com.finova.account.service.AuditTrail;
+import com.finova.account.service.ContributionHistoryService;
+import com.finova.account.service.ContributionImportService;
+import com.finova.account.service.ContributionService;
+import com.finova.account.service.IncomeSourceService;
+import com.finova.account.service.RetirementAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Query budgets for AccountController endpoints.
+ * Each test seeds a fresh user outside the measured request, then fails if the endpoint executes
+ * more SQL statements, entity loads or collection fetches than its budget. Raise a budget only
+ * when the extra queries are intended.
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "finova.query-budget.enabled=true",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureMockMvc
+@DisplayName("AccountController query budgets")
+class AccountControllerQueryBudgetTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(10_000);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    @Autowired
+    private ContributionImportService contributionImportService;
+    
+    @Autowired
+    private ContributionHistoryService contributionHistoryService;
+    
+    @Autowired
+    private AccountBulkLookupService accountBulkLookupService;
+    
+    @Autowired
+    private AuditTrail auditTrail;
+    
+    @MockBean
+    private PlanningClient planningClient;
+    
+    @MockBean
+    private UserClient userClient;
+    
+    private Long userId;
+    private RetirementAccountDTO account;
+    private ContributionDTO contribution;
+    private IncomeSourceDTO incomeSource;
+    
+    @BeforeEach
+    void seedUser() {
+        userId = USER_IDS.incrementAndGet();
+        
+        RetirementAccountDTO newAccount = new RetirementAccountDTO();
+        newAccount.setUserId(userId);
+        newAccount.setAccountName("Budget Test 401(k)");
+        newAccount.setAccountType("401k");
+        newAccount.setCurrentBalance(new BigDecimal("50000.00"));
+        newAccount.setAsOfDate(LocalDate.now());
+        newAccount.setStatus("on_track");
+        account = retirementAccountService.createAccount(newAccount);
+        
+        for (String type : List.of("pre_tax", "roth", "employer_match")) {
+            contribution = contributionService.createContribution(contribution(type, "250"));
+        }
+        for (int i = 0; i < 3; i++) {
+            incomeSource = incomeSourceService.createIncomeSource(incomeSource("Source " + i));
+        }
+    }
+    
+    // ========== ACCOUNT ENDPOINTS ==========
+    
+    @Test
+    void getAccountsByUserId() throws Exception {
+        assertWithinBudget(get("/api/accounts/user/{userId}", userId), 2, 1, 0);
+    }
+    
+    @Test
+    void getPrimaryAccount() throws Exception {
+        assertWithinBudget(get("/api/accounts/user/{userId}/primary", userId), 3, 7, 0);
+    }
+    
+    @Test
+    void getAccountById() throws Exception {
+        assertWithinBudget(get("/api/accounts/{accountId}", account.getId()), 3, 7, 0);
+    }
+    
+    @Test
+    void createAccount() throws Exception {
+        RetirementAccountDTO newAccount = new RetirementAccountDTO();
+        newAccount.setUserId(userId);
+        newAccount.setAccountName("Budget Test IRA");
+        newAccount.setAccountType("ira");
+        newAccount.setCurrentBalance(new BigDecimal("1000.00"));
+        // The opening balance append refreshes the new account's balance and ledger head
+        assertWithinBudget(json(post("/api/accounts"), newAccount), 7, 1, 0);
+    }
+    
+    @Test
+    void updateAccount() throws Exception {
+        account.setAccountName("Renamed");
+        account.setCurrentBalance(new BigDecimal("51000.00"));
+        assertWithinBudget(json(put("/api/accounts/{accountId}", account.getId()), account), 10, 2, 0);
+    }
+    
+    @Test
+    void deleteAccount() throws Exception {
+        // Removing the account cascades to its contributions and income sources
+        assertWithinBudget(delete("/api/accounts/{accountId}", account.getId()), 18, 8, 2);
+    }
+    
+    @Test
+    void getBalance() throws Exception {
+        assertWithinBudget(get("/api/accounts/{accountId}/balance", account.getId()), 2, 0, 0);
+    }
+    
+    @Test
+    void getBalanceAsOf() throws Exception {
+        assertWithinBudget(get("/api/accounts/{accountId}/balance", account.getId())
+            .param("asOf", LocalDate.now().atStartOfDay().plusDays(1).toString()), 3, 1, 0);
+    }
+    
+    @Test
+    void getLedger() throws Exception {
+        assertWithinBudget(get("/api/accounts/{accountId}/ledger", account.getId()), 1, 1, 0);
+    }
+    
+    @Test
+    void postLedgerEntry() throws Exception {
+        BalanceLedgerEntryDTO entry = new BalanceLedgerEntryDTO("contribution", new BigDecimal("250.00"), "Payroll");
+        // The append refreshes the loaded account, one single-row select
+        assertWithinBudget(json(post("/api/accounts/{accountId}/ledger", account.getId()), entry), 9, 2, 0);
+    }
+    
+    @Test
+    void getAuditEntries() throws Exception {
+        for (String name : List.of("Renamed once", "Renamed twice")) {
+            account.setAccountName(name);
+            account = retirementAccountService.updateAccount(account.getId(), account);
+        }
+        awaitAuditEntries(2);
+        assertWithinBudget(get("/api/audit/account/{entityId}", account.getId()), 1, 2, 0);
+    }
+    
+    // ========== CONTRIBUTION ENDPOINTS ==========
+    
+    @Test
+    void getContributionsByUserId() throws Exception {
+        assertWithinBudget(get("/api/contributions/user/{userId}", userId), 2, 0, 0);
+    }
+    
+    @Test
+    void getContributionsByAccountId() throws Exception {
+        assertWithinBudget(get("/api/contributions/account/{accountId}", account.getId()), 2, 3, 0);
+    }
+    
+    @Test
+    void getContributionsSummary() throws Exception {
+        assertWithinBudget(get("/api/contributions/user/{userId}/summary", userId), 3, 0, 0);
+    }
+    
+    @Test
+    void createContribution() throws Exception {
+        assertWithinBudget(json(post("/api/contributions"), contribution("roth", "75")), 4, 1, 0);
+    }
+    
+    @Test
+    void updateContribution() throws Exception {
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        assertWithinBudget(json(put("/api/contributions/{id}", contribution.getId()), contribution), 5, 2, 0);
+    }
+    
+    @Test
+    void updateContributions() throws Exception {
+        contribution.setMonthlyAmount(new BigDecimal("310"));
+        List<ContributionDTO> contributions = List.of(contribution, contribution("roth", "40"));
+        assertWithinBudget(json(put("/api/contributions/account/{accountId}/bulk", account.getId()), contributions),
+            8, 2, 0);
+    }
+    
+    @Test
+    void deleteContribution() throws Exception {
+        assertWithinBudget(delete("/api/contributions/{id}", contribution.getId()), 5, 2, 0);
+    }
+    
+    @Test
+    void importContributions() throws Exception {
+        String file = "user_id,contribution_type,amount,pay_period_date\n" + userId + ",pre_tax,250.00,2026-01-15\n";
+        assertWithinBudget(post("/api/contributions/import").contentType("text/csv").content(file), 2, 0, 0);
+    }
+    
+    @Test
+    void getContributionImport() throws Exception {
+        ContributionImportJobDTO job = contributionImportService.importContributions(
+            new ByteArrayInputStream("user_id,contribution_type,amount,pay_period_date\n".getBytes(StandardCharsets.UTF_8)),
+            "empty.csv", null);
+        assertWithinBudget(get("/api/contributions/import/{jobId}", job.getId()), 2, 1, 0);
+    }
+    
+    @Test
+    void recordContributionHistory() throws Exception {
+        List<ContributionHistoryDTO> entries = List.of(
+            historyEntry("pre_tax", LocalDate.of(2026, 1, 15)), historyEntry("roth", LocalDate.of(2026, 1, 15)),
+            historyEntry("pre_tax", LocalDate.of(2026, 1, 31)));
+        assertWithinBudget(json(post("/api/contributions/history"), entries), 2, 0, 0);
+    }
+    
+    @Test
+    void getContributionHistory() throws Exception {
+        contributionHistoryService.recordHistory(List.of(
+            historyEntry("pre_tax", LocalDate.now()), historyEntry("roth", LocalDate.now())));
+        // One entity load per returned entry, from the single range query
+        assertWithinBudget(get("/api/contributions/account/{accountId}/history", account.getId()), 1, 2, 0);
+    }
+    
+    @Test
+    void getContributionHistorySummary() throws Exception {
+        contributionHistoryService.recordHistory(List.of(
+            historyEntry("pre_tax", LocalDate.now()), historyEntry("roth", LocalDate.now())));
+        assertWithinBudget(get("/api/contributions/user/{userId}/history/summary", userId), 1, 0, 0);
+    }
+    
+    // ========== INTERNAL ENDPOINTS ==========
+    
+    @Test
+    void provisionUsers() throws Exception {
+        List<Long> newUsers = List.of(USER_IDS.incrementAndGet(), USER_IDS.incrementAndGet(), USER_IDS.incrementAndGet());
+        // Two lookups for the batch, then each user's marker, default account, sample data and summary
+        assertWithinBudget(json(provision(), newUsers), 2 + 20 * newUsers.size(), newUsers.size(), 0);
+    }
+    
+    @Test
+    void provisionUsersRedelivered() throws Exception {
+        List<Long> newUsers = List.of(USER_IDS.incrementAndGet(), USER_IDS.incrementAndGet(), USER_IDS.incrementAndGet());
+        mockMvc.perform(json(provision(), newUsers));
+        assertWithinBudget(json(provision(), newUsers), 1, newUsers.size(), 0);
+    }
+    
+    @Test
+    void getAccountsForUsers() throws Exception {
+        List<Long> userIds = List.of(userId, USER_IDS.incrementAndGet(), USER_IDS.incrementAndGet());
+        // POST /internal/accounts/bulk streams its body after the request thread returns, outside the
+        // filter's counts, so measure the streaming work itself: one IN-list query per table per chunk
+        RequestQueryCounts counts = RequestQueryCounts.begin();
+        try {
+            accountBulkLookupService.writeAccounts(userIds, OutputStream.nullOutputStream());
+        } finally {
+            RequestQueryCounts.end();
+        }
+        assertSoftly(softly -> {
+            softly.assertThat(counts.getStatements()).as("bulk lookup SQL statements").isLessThanOrEqualTo(3);
+            softly.assertThat(counts.getEntityLoads()).as("bulk lookup entity loads").isLessThanOrEqualTo(4);
+            softly.assertThat(counts.getCollectionFetches()).as("bulk lookup collection fetches").isLessThanOrEqualTo(0);
+        });
+    }
+    
+    // ========== INCOME SOURCE ENDPOINTS ==========
+    
+    @Test
+    void getIncomeSourcesByUserId() throws Exception {
+        assertWithinBudget(get("/api/income-sources/user/{userId}", userId), 1, 3, 0);
+    }
+    
+    @Test
+    void getIncomeSourcesSummary() throws Exception {
+        assertWithinBudget(get("/api/income-sources/user/{userId}/summary", userId), 3, 3, 0);
+    }
+    
+    @Test
+    void createIncomeSource() throws Exception {
+        assertWithinBudget(json(post("/api/income-sources"), incomeSource("New source")), 4, 1, 0);
+    }
+    
+    @Test
+    void updateIncomeSource() throws Exception {
+        incomeSource.setProjectedMonthlyIncome(new BigDecimal("900"));
+        assertWithinBudget(json(put("/api/income-sources/{id}", incomeSource.getId()), incomeSource), 5, 2, 0);
+    }
+    
+    @Test
+    void deleteIncomeSource() throws Exception {
+        assertWithinBudget(delete("/api/income-sources/{id}", incomeSource.getId()), 5, 2, 0);
+    }
+    
+    // ========== DASHBOARD ENDPOINTS ==========
+    
+    @Test
+    void getDashboardData() throws Exception {
+        assertWithinBudget(get("/api/dashboard/{userId}", userId), 7, 8, 0);
+    }
+    
+    @Test
+    void getDashboardSummary() throws Exception {
+        assertWithinBudget(get("/api/dashboard/{userId}/summary", userId), 1, 1, 0);
+    }
+    
+    @Test
+    void getCompositeDashboard() throws Exception {
+        when(planningClient.getRetirementPlan(anyLong(), any())).thenReturn(Map.of("projectedBalance", 1_200_000));
+        when(userClient.getUserProfile(anyLong(), any())).thenReturn(Map.of("firstName", "Alex"));
+        assertWithinBudget(get("/api/dashboard/{userId}/composite", userId), 6, 8, 0);
+    }
+    
+    @Test
+    void getDashboardDataNotModified() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/dashboard/{userId}", userId)).andReturn().getResponse();
+        String etag = first.getHeader("ETag");
+        assertThat(etag).as("dashboard ETag").isNotNull();
+        
+        MockHttpServletResponse revalidated = mockMvc.perform(get("/api/dashboard/{userId}", userId)
+            .header("If-None-Match", etag)).andReturn().getResponse();
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getContentLength()).isZero();
+        assertThat(revalidated.getHeader(QueryCountFilter.ENTITY_LOAD_COUNT_HEADER)).isEqualTo("0");
+        
+        contribution.setMonthlyAmount(new BigDecimal("300"));
+        contributionService.updateContribution(contribution.getId(), contribution);
+        MockHttpServletResponse changed = mockMvc.perform(get("/api/dashboard/{userId}", userId)
+            .header("If-None-Match", etag)).andReturn().getResponse();
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader("ETag")).isNotEqualTo(etag);
+    }
+    
+    /**
+     * Perform a request and check its counts against the budget
+     */
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, int maxStatements,
+                                    int maxEntityLoads, int maxCollectionFetches) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        String endpoint = request.buildRequest(null).getMethod() + " " + request.buildRequest(null).getRequestURI();
+        
+        assertThat(response.getStatus()).as("%s status", endpoint).isLessThan(300);
+        assertSoftly(softly -> {
+            softly.assertThat(count(response, QueryCountFilter.STATEMENT_COUNT_HEADER))
+                .as("%s SQL statements", endpoint).isLessThanOrEqualTo(maxStatements);
+            softly.assertThat(count(response, QueryCountFilter.ENTITY_LOAD_COUNT_HEADER))
+                .as("%s entity loads", endpoint).isLessThanOrEqualTo(maxEntityLoads);
+            softly.assertThat(count(response, QueryCountFilter.COLLECTION_FETCH_COUNT_HEADER))
+                .as("%s collection fetches", endpoint).isLessThanOrEqualTo(maxCollectionFetches);
+        });
+    }
+    
+    /**
+     * Wait for the audit writer to insert the seeded account's entries, outside the measured request
+     */
+    private void awaitAuditEntries(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (auditTrail.getRecentEntries("account", account.getId(), expected).size() < expected) {
+            assertThat(System.currentTimeMillis()).as("audit entries written").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+    
+    private long count(MockHttpServletResponse response, String header) {
+        String value = response.getHeader(header);
+        assertThat(value).as("%s header", header).isNotNull();
+        return Long.parseLong(value);
+    }
+    
+    private static MockHttpServletRequestBuilder provision() {
+        return post("/internal/provisioning/users").with(jwt().authorities(new SimpleGrantedAuthority("ROLE_service")));
+    }
+    
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+    
+    private ContributionDTO contribution(String type, String monthlyAmount) {
+        ContributionDTO dto = new ContributionDTO();
+        dto.setAccountId(account.getId());
+        dto.setContributionType(type);
+        dto.setPercentage(new BigDecimal("5"));
+        dto.setMonthlyAmount(new BigDecimal(monthlyAmount));
+        dto.setAnnualAmount(new BigDecimal(monthlyAmount).multiply(new BigDecimal("12")));
+        dto.setEffectiveDate(LocalDate.now());
+        return dto;
+    }
+    
+    private ContributionHistoryDTO historyEntry(String type, LocalDate payPeriodDate) {
+        ContributionHistoryDTO dto = new ContributionHistoryDTO();
+        dto.setAccountId(account.getId());
+        dto.setContributionType(type);
+        dto.setAmount(new BigDecimal("250.00"));
+        dto.setPayPeriodDate(payPeriodDate);
+        return dto;
+    }
+    
+    private IncomeSourceDTO incomeSource(String name) {
+        IncomeSourceDTO dto = new IncomeSourceDTO();
+        dto.setAccountId(account.getId());
+        dto.setSourceType("ira");
+        dto.setSourceName(name);
+        dto.setCurrentBalance(new BigDecimal("1000"));
+        dto.setProjectedMonthlyIncome(new BigDecimal("100"));
+        dto.setActive(true);
+        return dto;
+    }
+}
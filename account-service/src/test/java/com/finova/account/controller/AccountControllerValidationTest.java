@@ -0,0 +1,141 @@
+package com.finova.account.controller;
+
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.service.RetirementAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Integration tests for request validation on AccountController: malformed bodies and
+ * parameters must be answered with 400 before they reach a service
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureMockMvc
+@DisplayName("AccountController validation Tests")
+class AccountControllerValidationTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(80_000);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    private Long accountId;
+    
+    @BeforeEach
+    void createAccount() {
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(USER_IDS.incrementAndGet());
+        account.setAccountName("Validation Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("10000.00"));
+        account.setAsOfDate(LocalDate.now());
+        accountId = retirementAccountService.createAccount(account).getId();
+    }
+    
+    @Test
+    @DisplayName("Should reject a history entry without a pay period date or amount with 400")
+    void shouldRejectHistoryEntryWithMissingFields() throws Exception {
+        // When
+        MockHttpServletResponse missingDate = perform(json(post("/api/contributions/history"),
+            "[{\"accountId\":" + accountId + ",\"contributionType\":\"pre_tax\",\"amount\":250.00}]"));
+        MockHttpServletResponse missingAmount = perform(json(post("/api/contributions/history"),
+            "[{\"accountId\":" + accountId + ",\"contributionType\":\"pre_tax\",\"payPeriodDate\":\"2026-01-15\"}]"));
+        
+        // Then
+        assertThat(missingDate.getStatus()).isEqualTo(400);
+        assertThat(missingDate.getContentAsString()).contains("Pay period date is required");
+        assertThat(missingAmount.getStatus()).isEqualTo(400);
+        assertThat(missingAmount.getContentAsString()).contains("Amount is required");
+    }
+    
+    @Test
+    @DisplayName("Should reject an empty history batch or a null entry with 400")
+    void shouldRejectEmptyOrNullHistoryEntries() throws Exception {
+        // When / Then
+        assertThat(perform(json(post("/api/contributions/history"), "[]")).getStatus()).isEqualTo(400);
+        assertThat(perform(json(post("/api/contributions/history"), "[null]")).getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should reject sub-cent history amounts with 400")
+    void shouldRejectSubCentHistoryAmount() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(json(post("/api/contributions/history"),
+            "[{\"accountId\":" + accountId + ",\"contributionType\":\"pre_tax\",\"amount\":250.005,"
+                + "\"payPeriodDate\":\"2026-01-15\"}]"));
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should validate every contribution in a bulk update")
+    void shouldValidateBulkContributions() throws Exception {
+        // When
+        MockHttpServletResponse invalidElement = perform(json(put("/api/contributions/account/{accountId}/bulk", accountId),
+            "[{\"contributionType\":\"roth\",\"monthlyAmount\":-5}]"));
+        MockHttpServletResponse nullElement = perform(json(put("/api/contributions/account/{accountId}/bulk", accountId),
+            "[null]"));
+        
+        // Then
+        assertThat(invalidElement.getStatus()).isEqualTo(400);
+        assertThat(invalidElement.getContentAsString()).contains("Monthly amount must be positive or zero");
+        assertThat(nullElement.getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should reject an out-of-range history limit with 400")
+    void shouldRejectHistoryLimitOutOfRange() throws Exception {
+        // When / Then
+        assertThat(perform(get("/api/contributions/account/{accountId}/history", accountId).param("limit", "0"))
+            .getStatus()).isEqualTo(400);
+        assertThat(perform(get("/api/contributions/account/{accountId}/history", accountId).param("limit", "5001"))
+            .getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should reject a non-positive audit or ledger limit with 400")
+    void shouldRejectNonPositiveAuditAndLedgerLimit() throws Exception {
+        // When
+        MockHttpServletResponse audit = perform(get("/api/audit/account/{entityId}", accountId).param("limit", "0"));
+        MockHttpServletResponse ledger = perform(get("/api/accounts/{accountId}/ledger", accountId).param("limit", "-1"));
+        
+        // Then
+        assertThat(audit.getStatus()).isEqualTo(400);
+        assertThat(audit.getContentAsString()).contains("\"error\":\"Bad Request\"");
+        assertThat(ledger.getStatus()).isEqualTo(400);
+    }
+    
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+    
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
@@ -0,0 +1,178 @@
+package com.finova.account.controller;
+
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.service.RetirementAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Integration tests for the service-to-service endpoints under /internal
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "finova.bulk-lookup.max-users=3",
+    "finova.provisioning.max-users=3",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureMockMvc
+@DisplayName("InternalAccountController Tests")
+class InternalAccountControllerTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(100_000);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    private Long userId;
+    
+    @BeforeEach
+    void createAccount() {
+        userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("Bulk Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("10000.00"));
+        account.setAsOfDate(LocalDate.now());
+        retirementAccountService.createAccount(account);
+    }
+    
+    @Test
+    @DisplayName("Should stream one NDJSON line per requested user to a caller with the service role")
+    void shouldStreamAccountsToServiceCaller() throws Exception {
+        // Given
+        Long userWithoutAccounts = USER_IDS.incrementAndGet();
+        
+        // When
+        MvcResult started = mockMvc.perform(bulk("[" + userWithoutAccounts + "," + userId + "]").with(serviceToken()))
+            .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"userId\":" + userId + ",\"accounts\":[{").contains("Bulk Test 401(k)");
+        assertThat(lines[1]).isEqualTo("{\"userId\":" + userWithoutAccounts + ",\"accounts\":[]}");
+    }
+    
+    @Test
+    @DisplayName("Should reject callers without a token or without the service role")
+    void shouldRequireServiceRole() throws Exception {
+        // When
+        MockHttpServletResponse anonymous = perform(bulk("[" + userId + "]"));
+        MockHttpServletResponse endUser = perform(bulk("[" + userId + "]")
+            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_user"))));
+        
+        // Then
+        assertThat(anonymous.getStatus()).isEqualTo(401);
+        assertThat(endUser.getStatus()).isEqualTo(403);
+        assertThat(endUser.getContentAsString()).doesNotContain("Bulk Test 401(k)");
+    }
+    
+    @Test
+    @DisplayName("Should not answer cross-origin requests")
+    void shouldNotAllowCrossOriginRequests() throws Exception {
+        // When
+        MockHttpServletResponse preflight = perform(options("/internal/accounts/bulk")
+            .header(HttpHeaders.ORIGIN, "https://app.finova.com")
+            .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST"));
+        
+        // Then
+        assertThat(preflight.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should reject a null body or more users than max-users with 400")
+    void shouldRejectNullOrOversizedBatch() throws Exception {
+        // When / Then
+        assertThat(perform(bulk("null").with(serviceToken())).getStatus()).isEqualTo(400);
+        assertThat(perform(bulk("[1,2,3,4]").with(serviceToken())).getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should provision a batch of new users for a caller with the service role")
+    void shouldProvisionUsersForServiceCaller() throws Exception {
+        // Given
+        Long newUser = USER_IDS.incrementAndGet();
+        
+        // When
+        MockHttpServletResponse response = perform(provision("[" + newUser + "," + userId + "]").with(serviceToken()));
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString())
+            .contains("\"provisioned\":[" + newUser + "]")
+            .contains("\"alreadyProvisioned\":[" + userId + "]");
+        assertThat(retirementAccountService.getAccountsByUserId(newUser)).hasSize(1);
+    }
+    
+    @Test
+    @DisplayName("Should only provision users for a caller with the service role")
+    void shouldRequireServiceRoleToProvision() throws Exception {
+        // Given
+        Long newUser = USER_IDS.incrementAndGet();
+        
+        // When
+        MockHttpServletResponse anonymous = perform(provision("[" + newUser + "]"));
+        MockHttpServletResponse endUser = perform(provision("[" + newUser + "]")
+            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_user"))));
+        
+        // Then
+        assertThat(anonymous.getStatus()).isEqualTo(401);
+        assertThat(endUser.getStatus()).isEqualTo(403);
+        assertThat(retirementAccountService.getAccountsByUserId(newUser)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should reject a null provisioning batch or more users than max-users with 400")
+    void shouldRejectNullOrOversizedProvisioningBatch() throws Exception {
+        // When / Then
+        assertThat(perform(provision("null").with(serviceToken())).getStatus()).isEqualTo(400);
+        assertThat(perform(provision("[1,2,3,4]").with(serviceToken())).getStatus()).isEqualTo(400);
+    }
+    
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+    
+    private static MockHttpServletRequestBuilder bulk(String body) {
+        return post("/internal/accounts/bulk").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+    
+    private static MockHttpServletRequestBuilder provision(String body) {
+        return post("/internal/provisioning/users").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+    
+    private static RequestPostProcessor serviceToken() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_service"));
+    }
+}
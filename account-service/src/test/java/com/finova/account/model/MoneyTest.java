@@ -0,0 +1,111 @@
+package com.finova.account.model;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.account.config.MoneyJacksonModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the Money value type, its JPA converter and its JSON mapping
+ */
+@DisplayName("Money Tests")
+class MoneyTest {
+    
+    private final MoneyConverter converter = new MoneyConverter();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MoneyJacksonModule());
+    
+    @Test
+    @DisplayName("Should keep whole-cent amounts exact, whatever their scale")
+    void shouldKeepWholeCentAmounts() {
+        // When
+        Money fromString = Money.of("1250.5");
+        Money fromPaddedDecimal = Money.of(new BigDecimal("1250.5000"));
+        Money fromWholeNumber = Money.of(new BigDecimal("1250"));
+        
+        // Then
+        assertThat(fromString.getCents()).isEqualTo(125_050L);
+        assertThat(fromPaddedDecimal).isEqualTo(fromString);
+        assertThat(fromWholeNumber.toBigDecimal()).isEqualByComparingTo("1250.00");
+        assertThat(fromString.toBigDecimal().scale()).isEqualTo(Money.SCALE);
+        assertThat(fromString).hasToString("1250.50");
+    }
+    
+    @Test
+    @DisplayName("Should reject sub-cent amounts instead of rounding them")
+    void shouldRejectSubCentAmounts() {
+        // When / Then
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.005")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Amount has more than 2 decimal places: 10.005");
+        assertThatThrownBy(() -> Money.of("-0.001"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("Should pass null through and treat it as zero only when asked")
+    void shouldHandleNulls() {
+        // Given
+        List<Money> amounts = Arrays.asList(Money.of("1.25"), null, Money.of("2.50"));
+        
+        // When / Then
+        assertThat(Money.of((BigDecimal) null)).isNull();
+        assertThat(Money.toBigDecimal(null)).isNull();
+        assertThat(Money.orZero(null)).isSameAs(Money.ZERO);
+        assertThat(Money.sum(amounts, amount -> amount)).isEqualTo(Money.of("3.75"));
+        assertThat(Money.ofCents(0L)).isSameAs(Money.ZERO);
+    }
+    
+    @Test
+    @DisplayName("Should throw on overflow instead of wrapping")
+    void shouldThrowOnOverflow() {
+        // Given
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money min = Money.ofCents(Long.MIN_VALUE);
+        
+        // When / Then
+        assertThatThrownBy(() -> max.plus(Money.ofCents(1L))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.minus(Money.ofCents(1L))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2L)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(min::negate).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.sum(List.of(max, Money.ofCents(1L)), amount -> amount))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+            .isInstanceOf(ArithmeticException.class);
+    }
+    
+    @Test
+    @DisplayName("Should round-trip through the NUMERIC column converter")
+    void shouldConvertToAndFromColumn() {
+        // Given
+        Money amount = Money.of("106965.67");
+        
+        // When
+        BigDecimal column = converter.convertToDatabaseColumn(amount);
+        
+        // Then
+        assertThat(column).isEqualTo(new BigDecimal("106965.67"));
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(amount);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should write JSON numbers and read numbers or numeric strings")
+    void shouldMapToAndFromJson() throws Exception {
+        // When / Then
+        assertThat(objectMapper.writeValueAsString(Money.of("1250.50"))).isEqualTo("1250.50");
+        assertThat(objectMapper.readValue("1250.5", Money.class)).isEqualTo(Money.of("1250.50"));
+        assertThat(objectMapper.readValue("\" 42.10 \"", Money.class)).isEqualTo(Money.of("42.10"));
+        assertThat(objectMapper.readValue("null", Money.class)).isNull();
+        assertThatThrownBy(() -> objectMapper.readValue("1250.505", Money.class))
+            .isInstanceOf(JsonMappingException.class);
+    }
+}
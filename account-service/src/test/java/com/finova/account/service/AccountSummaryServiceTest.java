@@ -0,0 +1,170 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountSummaryDTO;
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.dto.ContributionDTO;
+import com.finova.account.dto.IncomeSourceDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.model.Money;
+import com.finova.account.repository.ContributionRepository;
+import com.finova.account.repository.ContributionTypeTotals;
+import com.finova.account.repository.IncomeSourceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the per-user account_summary row under concurrent writes
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("AccountSummaryService Tests")
+class AccountSummaryServiceTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(90_000);
+    private static final int WRITES = 200;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private ContributionService contributionService;
+    
+    @Autowired
+    private IncomeSourceService incomeSourceService;
+    
+    @Autowired
+    private ContributionRepository contributionRepository;
+    
+    @Autowired
+    private IncomeSourceRepository incomeSourceRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    @DisplayName("Should match totals recomputed from child rows after 200 concurrent writes for one user")
+    void shouldMatchRecomputedTotalsAfterConcurrentWrites() throws Exception {
+        // Given
+        Long userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = retirementAccountService.createAccount(account(userId));
+        Long accountId = account.getId();
+        AtomicInteger conflicts = new AtomicInteger();
+        
+        List<Callable<Object>> writes = new ArrayList<>();
+        for (int i = 0; i < WRITES; i++) {
+            int n = i;
+            switch (n % 4) {
+                case 0 -> writes.add(() -> contributionService.createContribution(contribution(accountId, n)));
+                case 1 -> writes.add(() -> incomeSourceService.createIncomeSource(incomeSource(accountId, n)));
+                case 2 -> writes.add(() -> retirementAccountService.postLedgerEntry(accountId,
+                    new BalanceLedgerEntryDTO("contribution", new BigDecimal(n + ".25"), "Payroll " + n)));
+                default -> writes.add(() -> {
+                    // Edits the primary account without touching its balance, racing the ledger appends
+                    RetirementAccountDTO edit = account(userId);
+                    edit.setAccountName("Renamed " + n);
+                    edit.setCurrentBalance(null);
+                    try {
+                        return retirementAccountService.updateAccount(accountId, edit);
+                    } catch (OptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                        return null;
+                    }
+                });
+            }
+        }
+        
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Object> write : executor.invokeAll(writes, 2, TimeUnit.MINUTES)) {
+                write.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // Then
+        AccountSummaryDTO summary = accountSummaryService.getSummary(userId);
+        List<ContributionTypeTotals> totalsByType = contributionRepository.getTotalsByTypeForUserId(userId);
+        assertThat(summary.getCurrentBalance()).isEqualByComparingTo(jdbcTemplate.queryForObject(
+            "SELECT current_balance FROM retirement_accounts WHERE id = ?", BigDecimal.class, accountId));
+        assertThat(summary.getCurrentBalance()).isEqualByComparingTo(expectedBalance());
+        assertThat(summary.getTotalMonthlyContributions()).isEqualByComparingTo(
+            Money.sum(totalsByType, totals -> Money.of(totals.getTotalMonthly())).toBigDecimal());
+        assertThat(summary.getTotalAnnualContributions()).isEqualByComparingTo(
+            Money.sum(totalsByType, totals -> Money.of(totals.getTotalAnnual())).toBigDecimal());
+        assertThat(summary.getTotalProjectedIncome()).isEqualByComparingTo(
+            incomeSourceRepository.getTotalProjectedMonthlyIncomeByUserId(userId));
+        assertThat(summary.getPrimaryAccountId()).isEqualTo(accountId);
+        assertThat(conflicts.get()).isLessThan(WRITES / 4);
+    }
+    
+    /**
+     * Opening balance plus every ledger append
+     */
+    private static BigDecimal expectedBalance() {
+        BigDecimal balance = new BigDecimal("50000.00");
+        for (int n = 2; n < WRITES; n += 4) {
+            balance = balance.add(new BigDecimal(n + ".25"));
+        }
+        return balance;
+    }
+    
+    private static RetirementAccountDTO account(Long userId) {
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("Summary Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("50000.00"));
+        account.setAsOfDate(LocalDate.now());
+        account.setStatus("on_track");
+        return account;
+    }
+    
+    private static ContributionDTO contribution(Long accountId, int n) {
+        ContributionDTO dto = new ContributionDTO();
+        dto.setAccountId(accountId);
+        dto.setContributionType(n % 8 == 0 ? "pre_tax" : "roth");
+        dto.setPercentage(new BigDecimal("5"));
+        dto.setMonthlyAmount(new BigDecimal(n + ".10"));
+        dto.setAnnualAmount(new BigDecimal(n + ".10").multiply(new BigDecimal("12")));
+        dto.setEffectiveDate(LocalDate.now());
+        return dto;
+    }
+    
+    private static IncomeSourceDTO incomeSource(Long accountId, int n) {
+        IncomeSourceDTO dto = new IncomeSourceDTO();
+        dto.setAccountId(accountId);
+        dto.setSourceType("ira");
+        dto.setSourceName("Source " + n);
+        dto.setCurrentBalance(new BigDecimal("1000"));
+        dto.setProjectedMonthlyIncome(new BigDecimal(n + ".05"));
+        dto.setActive(true);
+        return dto;
+    }
+}
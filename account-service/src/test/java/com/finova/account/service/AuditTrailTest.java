@@ -0,0 +1,316 @@
+package com.finova.account.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.finova.account.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the audit trail's hand-off, overflow, failure and shutdown behaviour,
+ * against a JdbcTemplate that records inserted rows
+ */
+@DisplayName("AuditTrail Tests")
+class AuditTrailTest {
+    
+    private final Queue<Long> writtenEntityIds = new ConcurrentLinkedQueue<>();
+    private final Queue<String> writerThreads = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicLong rejectedEntityId = new AtomicLong(-1);
+    private final AtomicLong ids = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @TempDir
+    Path tempDir;
+    
+    private JdbcTemplate jdbcTemplate;
+    private CountDownLatch writerBlocked;
+    private CountDownLatch releaseWriter;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(call -> {
+            if (releaseWriter != null && Thread.currentThread().getName().equals("audit-writer")) {
+                writerBlocked.countDown();
+                releaseWriter.await(10, TimeUnit.SECONDS);
+            }
+            if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            List<Object[]> rows = call.getArgument(1);
+            if (rows.stream().anyMatch(row -> row[1].equals(rejectedEntityId.get()))) {
+                throw new IllegalArgumentException("value too long for column");
+            }
+            rows.forEach(row -> writtenEntityIds.add((Long) row[1]));
+            writerThreads.add(Thread.currentThread().getName());
+            return new int[rows.size()];
+        });
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenAnswer(call -> {
+            if (failuresLeft.get() > 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return 1;
+        });
+    }
+    
+    @Test
+    @DisplayName("Should write every record exactly once when producers race stop()")
+    void shouldWriteEveryRecordFromConcurrentProducers() throws Exception {
+        // Given
+        AuditTrail auditTrail = auditTrail("caller-runs", 64, 10_000);
+        auditTrail.start();
+        int producers = 8;
+        int perProducer = 500;
+        CountDownLatch halfway = new CountDownLatch(producers);
+        
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    record(auditTrail);
+                    if (i == perProducer / 2) {
+                        halfway.countDown();
+                    }
+                }
+            }));
+        }
+        halfway.await(10, TimeUnit.SECONDS);
+        auditTrail.stop();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        // Then
+        int total = producers * perProducer;
+        assertThat(writtenEntityIds).hasSize(total).doesNotHaveDuplicates();
+        assertThat(count("finova.audit.enqueued") + count("finova.audit.caller_runs")).isEqualTo(total);
+        assertThat(count("finova.audit.dropped")).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should drop records that overflow a full buffer under the drop policy")
+    void shouldDropOnOverflow() throws Exception {
+        // Given
+        AuditTrail auditTrail = auditTrail("drop", 4, 10_000);
+        blockWriterOnFirstBatch(auditTrail);
+        
+        // When
+        for (int i = 0; i < 6; i++) {
+            record(auditTrail);
+        }
+        releaseWriter.countDown();
+        auditTrail.stop();
+        
+        // Then
+        assertThat(count("finova.audit.dropped")).isEqualTo(2);
+        assertThat(writtenEntityIds).hasSize(5);
+    }
+    
+    @Test
+    @DisplayName("Should write overflowing records on the caller's thread under the caller-runs policy")
+    void shouldRunOnCallerOnOverflow() throws Exception {
+        // Given
+        AuditTrail auditTrail = auditTrail("caller-runs", 4, 10_000);
+        blockWriterOnFirstBatch(auditTrail);
+        
+        // When
+        for (int i = 0; i < 6; i++) {
+            record(auditTrail);
+        }
+        releaseWriter.countDown();
+        auditTrail.stop();
+        
+        // Then
+        assertThat(count("finova.audit.caller_runs")).isEqualTo(2);
+        assertThat(writerThreads).contains(Thread.currentThread().getName());
+        assertThat(writtenEntityIds).hasSize(7).doesNotHaveDuplicates();
+    }
+    
+    @Test
+    @DisplayName("Should drain buffered records on stop() before returning")
+    void shouldDrainOnShutdown() {
+        // Given
+        AuditTrail auditTrail = auditTrail("caller-runs", 64, 10_000);
+        auditTrail.start();
+        for (int i = 0; i < 20; i++) {
+            record(auditTrail);
+        }
+        
+        // When
+        auditTrail.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).hasSize(20);
+        assertThat(auditTrail.isRunning()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should retry a failed batch up to max-write-attempts instead of discarding it")
+    void shouldRetryFailedBatch() {
+        // Given
+        failuresLeft.set(2);
+        AuditTrail auditTrail = auditTrail("caller-runs", 64, 10_000);
+        auditTrail.start();
+        
+        // When
+        for (int i = 0; i < 3; i++) {
+            record(auditTrail);
+        }
+        auditTrail.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).hasSize(3);
+        assertThat(count("finova.audit.write.failures")).isEqualTo(2);
+        assertThat(spillFile()).doesNotExist();
+    }
+    
+    @Test
+    @DisplayName("Should write the rest of a failing batch and set aside only the record the database rejects")
+    void shouldIsolateRejectedRecord() throws Exception {
+        // Given
+        rejectedEntityId.set(5);
+        AuditTrail auditTrail = auditTrail("caller-runs", 64, 10_000);
+        blockWriterOnFirstBatch(auditTrail);
+        for (int i = 0; i < 9; i++) {
+            record(auditTrail);
+        }
+        
+        // When
+        releaseWriter.countDown();
+        auditTrail.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(Files.readAllLines(rejectedFile())).singleElement().asString().contains("\"entityId\":5");
+        assertThat(count("finova.audit.rejected")).isEqualTo(1);
+        assertThat(spillFile()).doesNotExist();
+    }
+    
+    @Test
+    @DisplayName("Should reject unreadable and rejected lines when replaying the spill file")
+    void shouldRejectFailingLinesOnReplay() throws Exception {
+        // Given
+        AuditTrail failing = auditTrail("caller-runs", 64, 10_000);
+        failuresLeft.set(Integer.MAX_VALUE);
+        for (int i = 0; i < 3; i++) {
+            record(failing);
+        }
+        Files.writeString(spillFile(), "{not json\n", StandardOpenOption.APPEND);
+        failuresLeft.set(0);
+        rejectedEntityId.set(2);
+        
+        // When
+        AuditTrail restarted = auditTrail("caller-runs", 64, 10_000);
+        restarted.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count("finova.audit.rejected") < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        restarted.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(Files.readAllLines(rejectedFile())).hasSize(2).contains("{not json");
+        assertThat(spillFile()).doesNotExist();
+        assertThat(tempDir.resolve("audit-spill.ndjson.replay")).doesNotExist();
+    }
+    
+    @Test
+    @DisplayName("Should spill unwritten records at the shutdown timeout and replay them at the next start")
+    void shouldSpillOnShutdownAndReplayOnStart() throws Exception {
+        // Given
+        failuresLeft.set(Integer.MAX_VALUE);
+        AuditTrail failing = auditTrail("caller-runs", 64, 300);
+        failing.start();
+        for (int i = 0; i < 3; i++) {
+            record(failing);
+        }
+        
+        // When
+        failing.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).isEmpty();
+        assertThat(Files.readAllLines(spillFile())).hasSize(3);
+        assertThat(count("finova.audit.spilled")).isEqualTo(3);
+        
+        // When
+        failuresLeft.set(0);
+        AuditTrail restarted = auditTrail("caller-runs", 64, 10_000);
+        restarted.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writtenEntityIds.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        restarted.stop();
+        
+        // Then
+        assertThat(writtenEntityIds).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(tempDir).isEmptyDirectory();
+    }
+    
+    private AuditTrail auditTrail(String overflowPolicy, int capacity, long shutdownTimeoutMs) {
+        return new AuditTrail(mock(AuditEntryRepository.class), jdbcTemplate, mock(PlatformTransactionManager.class),
+            JsonMapper.builder().findAndAddModules().build(), meterRegistry,
+            true, capacity, 16, 10, 3, overflowPolicy, shutdownTimeoutMs, spillFile().toString());
+    }
+    
+    /**
+     * Start the writer and hold it inside its first batch insert, so later records stay buffered
+     */
+    private void blockWriterOnFirstBatch(AuditTrail auditTrail) throws InterruptedException {
+        writerBlocked = new CountDownLatch(1);
+        releaseWriter = new CountDownLatch(1);
+        auditTrail.start();
+        record(auditTrail);
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+    
+    private void record(AuditTrail auditTrail) {
+        long id = ids.incrementAndGet();
+        auditTrail.recordUpdate("account", id, 1001L, Map.of("accountName", "Before"), Map.of("accountName", "After " + id));
+    }
+    
+    private Path spillFile() {
+        return tempDir.resolve("audit-spill.ndjson");
+    }
+    
+    private Path rejectedFile() {
+        return tempDir.resolve("audit-spill.ndjson.rejected");
+    }
+    
+    private long count(String counter) {
+        return (long) meterRegistry.counter(counter).count();
+    }
+}
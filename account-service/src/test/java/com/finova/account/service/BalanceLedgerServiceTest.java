@@ -0,0 +1,151 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.BalanceLedgerEntryDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.model.BalanceCheckpoint;
+import com.finova.account.model.Money;
+import com.finova.account.model.RetirementAccount;
+import com.finova.account.repository.BalanceCheckpointRepository;
+import com.finova.account.repository.RetirementAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the balance ledger: sequencing, checkpoints and point-in-time balances
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "finova.ledger.checkpoint-interval=3",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("BalanceLedgerService Tests")
+class BalanceLedgerServiceTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(20_000);
+    
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private RetirementAccountRepository retirementAccountRepository;
+    
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private Long accountId;
+    
+    @BeforeEach
+    void createAccount() {
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(USER_IDS.incrementAndGet());
+        account.setAccountName("Ledger Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("1000.00"));
+        account.setAsOfDate(LocalDate.now());
+        accountId = retirementAccountService.createAccount(account).getId();
+    }
+    
+    @Test
+    @DisplayName("Should number entries consecutively and keep the materialised balance in step")
+    void shouldNumberEntriesConsecutively() {
+        // When
+        balanceLedgerService.appendEntry(accountId, "contribution", new BigDecimal("250.00"), "Payroll");
+        balanceLedgerService.appendEntry(accountId, "withdrawal", new BigDecimal("-100.50"), "Fee");
+        
+        // Then
+        List<BalanceLedgerEntryDTO> entries = balanceLedgerService.getRecentEntries(accountId, 10);
+        assertThat(entries).extracting(BalanceLedgerEntryDTO::getSequenceNumber).containsExactly(3L, 2L, 1L);
+        assertThat(entries.get(2).getEntryType()).isEqualTo("opening");
+        assertThat(balanceLedgerService.getCurrentBalance(accountId)).isEqualByComparingTo("1149.50");
+        assertThat(retirementAccountRepository.findById(accountId).orElseThrow().getCurrentBalance())
+            .isEqualTo(Money.of("1149.50"));
+    }
+    
+    @Test
+    @DisplayName("Should write a checkpoint every interval and add only the tail after it")
+    void shouldCheckpointEveryInterval() {
+        // Given
+        for (int i = 0; i < 6; i++) {
+            balanceLedgerService.appendEntry(accountId, "contribution", new BigDecimal("10.00"), "Payroll");
+        }
+        
+        // When
+        BalanceCheckpoint latest = balanceCheckpointRepository
+            .findFirstByAccountIdOrderBySequenceNumberDesc(accountId).orElseThrow();
+        
+        // Then
+        assertThat(latest.getSequenceNumber()).isEqualTo(6L);
+        assertThat(latest.getBalance()).isEqualByComparingTo("1050.00");
+        assertThat(balanceLedgerService.getCurrentBalance(accountId)).isEqualByComparingTo("1060.00");
+    }
+    
+    @Test
+    @DisplayName("Should compute as-of balances from the ledger prefix in sequence order")
+    void shouldComputeAsOfBalancesInSequenceOrder() {
+        // Given entries 2 to 5, where entry 4 was written by a node whose clock runs behind entry 3's
+        for (int i = 0; i < 4; i++) {
+            balanceLedgerService.appendEntry(accountId, "contribution", new BigDecimal("100.00"), "Payroll");
+        }
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        setRecordedAt(1, base);
+        setRecordedAt(2, base.plusMinutes(10));
+        setRecordedAt(3, base.plusMinutes(30));
+        setRecordedAt(4, base.plusMinutes(20));
+        setRecordedAt(5, base.plusMinutes(40));
+        
+        // Then
+        assertThat(balanceLedgerService.getBalanceAsOf(accountId, base.minusMinutes(1))).isEqualByComparingTo("0");
+        assertThat(balanceLedgerService.getBalanceAsOf(accountId, base)).isEqualByComparingTo("1000.00");
+        assertThat(balanceLedgerService.getBalanceAsOf(accountId, base.plusMinutes(15))).isEqualByComparingTo("1100.00");
+        // Entry 4 is included from its own timestamp, and with it entry 3 that precedes it in the ledger
+        assertThat(balanceLedgerService.getBalanceAsOf(accountId, base.plusMinutes(25))).isEqualByComparingTo("1300.00");
+        // The checkpoint at entry 3 is used for the later as-of balance
+        assertThat(balanceLedgerService.getBalanceAsOf(accountId, base.plusMinutes(45))).isEqualByComparingTo("1400.00");
+    }
+    
+    @Test
+    @DisplayName("Should refresh an account loaded before an append in place, keeping it managed")
+    void shouldRefreshAccountsLoadedBeforeAnAppend() {
+        // When
+        RetirementAccount[] accounts = transactionTemplate.execute(status -> {
+            RetirementAccount loaded = retirementAccountRepository.findById(accountId).orElseThrow();
+            balanceLedgerService.appendEntry(accountId, "contribution", new BigDecimal("75.00"), "Payroll");
+            return new RetirementAccount[] {loaded, retirementAccountRepository.findById(accountId).orElseThrow()};
+        });
+        
+        // Then
+        assertThat(accounts[1]).isSameAs(accounts[0]);
+        assertThat(accounts[0].getCurrentBalance()).isEqualTo(Money.of("1075.00"));
+        assertThat(accounts[0].getLedgerSequence()).isEqualTo(2L);
+    }
+    
+    private void setRecordedAt(long sequenceNumber, LocalDateTime recordedAt) {
+        jdbcTemplate.update("UPDATE balance_ledger SET recorded_at = ? WHERE account_id = ? AND sequence_number = ?",
+            Timestamp.valueOf(recordedAt), accountId, sequenceNumber);
+    }
+}
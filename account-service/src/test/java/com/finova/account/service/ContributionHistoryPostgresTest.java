@@ -0,0 +1,157 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.ContributionHistoryDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.finova.account.service.ContributionHistoryServiceTest.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for the monthly-partitioned contribution history on an embedded PostgreSQL,
+ * running the PostgreSQL migrations and partition upkeep that H2 skips
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("ContributionHistory on PostgreSQL Tests")
+class ContributionHistoryPostgresTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(70_000);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private static EmbeddedPostgres postgres;
+    
+    @Autowired
+    private ContributionHistoryService contributionHistoryService;
+    
+    @Autowired
+    private ContributionHistoryPartitionManager partitionManager;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Long userId;
+    private Long accountId;
+    
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+    
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+    
+    @BeforeEach
+    void createAccount() {
+        userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("Partition Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("10000.00"));
+        account.setAsOfDate(LocalDate.now());
+        accountId = retirementAccountService.createAccount(account).getId();
+    }
+    
+    @Test
+    @DisplayName("Should migrate contribution_history as a range-partitioned table with upcoming months created at startup")
+    void shouldCreatePartitionedTableAndUpcomingPartitions() {
+        // When
+        String strategy = jdbcTemplate.queryForObject(
+            "SELECT pt.partstrat::text FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+            "WHERE c.relname = 'contribution_history'", String.class);
+        
+        // Then
+        assertThat(strategy).isEqualTo("r");
+        YearMonth current = YearMonth.now();
+        assertThat(partitions()).contains(
+            partitionName(current), partitionName(current.plusMonths(1)),
+            partitionName(current.plusMonths(2)), partitionName(current.plusMonths(3)));
+    }
+    
+    @Test
+    @DisplayName("Should route rows into their month's partition, creating back-dated partitions on demand")
+    void shouldRouteRowsIntoMonthlyPartitions() {
+        // Given
+        LocalDate backDated = LocalDate.now().minusYears(2).withDayOfMonth(15);
+        LocalDate current = LocalDate.now().withDayOfMonth(1);
+        
+        // When
+        contributionHistoryService.recordHistory(List.of(
+            entry(accountId, "pre_tax", "250.00", backDated),
+            entry(accountId, "roth", "100.00", current)));
+        
+        // Then
+        assertThat(jdbcTemplate.query(
+            "SELECT tableoid::regclass::text AS partition, amount FROM contribution_history WHERE user_id = ? ORDER BY pay_period_date",
+            (rs, row) -> tuple(rs.getString("partition"), rs.getBigDecimal("amount")), userId))
+            .containsExactly(
+                tuple(partitionName(YearMonth.from(backDated)), new BigDecimal("250.00")),
+                tuple(partitionName(YearMonth.from(current)), new BigDecimal("100.00")));
+        assertThat(contributionHistoryService.getAccountHistory(accountId, backDated, current.plusDays(1), 500))
+            .extracting(ContributionHistoryDTO::getPayPeriodDate)
+            .containsExactly(backDated, current);
+    }
+    
+    @Test
+    @DisplayName("Should drop whole partitions that end before the retention window")
+    void shouldDropExpiredPartitions() {
+        // Given
+        YearMonth expired = YearMonth.now().minusYears(8);
+        YearMonth retained = YearMonth.now().minusYears(1);
+        contributionHistoryService.recordHistory(List.of(
+            entry(accountId, "pre_tax", "250.00", expired.atDay(15)),
+            entry(accountId, "pre_tax", "250.00", retained.atDay(15))));
+        
+        // When
+        partitionManager.retireExpiredHistory();
+        
+        // Then
+        assertThat(partitions()).doesNotContain(partitionName(expired)).contains(partitionName(retained));
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT pay_period_date FROM contribution_history WHERE user_id = ?", LocalDate.class, userId))
+            .containsExactly(retained.atDay(15));
+    }
+    
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'contribution_history'", String.class);
+    }
+    
+    private static String partitionName(YearMonth month) {
+        return "contribution_history_p" + month.format(PARTITION_SUFFIX);
+    }
+}
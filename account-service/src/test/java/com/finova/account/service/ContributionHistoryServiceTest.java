@@ -0,0 +1,155 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.ContributionHistoryDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import com.finova.account.repository.ContributionHistoryTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for pay-period contribution history on the development database (H2),
+ * where the table is not partitioned and retention falls back to a range delete
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("ContributionHistoryService Tests")
+class ContributionHistoryServiceTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(60_000);
+    
+    @Autowired
+    private ContributionHistoryService contributionHistoryService;
+    
+    @Autowired
+    private ContributionHistoryPartitionManager partitionManager;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Long userId;
+    private Long accountId;
+    
+    @BeforeEach
+    void createAccount() {
+        userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("History Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("10000.00"));
+        account.setAsOfDate(LocalDate.now());
+        accountId = retirementAccountService.createAccount(account).getId();
+    }
+    
+    @Test
+    @DisplayName("Should record a batch and read back only the requested half-open date range")
+    void shouldReadHistoryInRange() {
+        // Given
+        contributionHistoryService.recordHistory(List.of(
+            entry(accountId, "pre_tax", "250.00", LocalDate.of(2026, 1, 31)),
+            entry(accountId, "pre_tax", "250.00", LocalDate.of(2026, 2, 1)),
+            entry(accountId, "roth", "100.00", LocalDate.of(2026, 2, 15)),
+            entry(accountId, "pre_tax", "250.00", LocalDate.of(2026, 3, 1))));
+        
+        // When
+        List<ContributionHistoryDTO> february = contributionHistoryService.getAccountHistory(
+            accountId, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1), 500);
+        
+        // Then
+        assertThat(february)
+            .extracting(ContributionHistoryDTO::getPayPeriodDate, ContributionHistoryDTO::getContributionType,
+                ContributionHistoryDTO::getUserId)
+            .containsExactly(
+                tuple(LocalDate.of(2026, 2, 1), "pre_tax", userId),
+                tuple(LocalDate.of(2026, 2, 15), "roth", userId));
+    }
+    
+    @Test
+    @DisplayName("Should total a user's history by contribution type")
+    void shouldTotalHistoryByType() {
+        // Given
+        contributionHistoryService.recordHistory(List.of(
+            entry(accountId, "pre_tax", "250.00", LocalDate.of(2026, 4, 15)),
+            entry(accountId, "pre_tax", "250.50", LocalDate.of(2026, 4, 30)),
+            entry(accountId, "roth", "100.00", LocalDate.of(2026, 4, 30)),
+            entry(accountId, "roth", "999.00", LocalDate.of(2026, 5, 15))));
+        
+        // When
+        Map<String, Object> totals = contributionHistoryService.getHistoryTotals(
+            userId, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 5, 1));
+        
+        // Then
+        assertThat(totals.get("total")).hasToString("600.50");
+        @SuppressWarnings("unchecked")
+        List<ContributionHistoryTotals> byType = (List<ContributionHistoryTotals>) totals.get("totalsByType");
+        assertThat(byType)
+            .extracting(ContributionHistoryTotals::getContributionType, ContributionHistoryTotals::getPayPeriodCount)
+            .containsExactlyInAnyOrder(tuple("pre_tax", 2L), tuple("roth", 1L));
+    }
+    
+    @Test
+    @DisplayName("Should reject the whole batch when one entry names an unknown account")
+    void shouldRejectUnknownAccount() {
+        // Given
+        List<ContributionHistoryDTO> entries = List.of(
+            entry(accountId, "pre_tax", "250.00", LocalDate.of(2026, 6, 15)),
+            entry(Long.MAX_VALUE, "pre_tax", "250.00", LocalDate.of(2026, 6, 15)));
+        
+        // When / Then
+        assertThatThrownBy(() -> contributionHistoryService.recordHistory(entries))
+            .hasMessage("Account not found with id: " + Long.MAX_VALUE);
+        assertThat(historyCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should delete history older than the retention window where the table is not partitioned")
+    void shouldDeleteExpiredHistory() {
+        // Given
+        LocalDate expired = LocalDate.now().minusYears(8);
+        contributionHistoryService.recordHistory(List.of(
+            entry(accountId, "pre_tax", "250.00", expired),
+            entry(accountId, "pre_tax", "250.00", LocalDate.now())));
+        
+        // When
+        partitionManager.retireExpiredHistory();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT pay_period_date FROM contribution_history WHERE user_id = ?", LocalDate.class, userId))
+            .containsExactly(LocalDate.now());
+    }
+    
+    private long historyCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contribution_history WHERE user_id = ?", Long.class, userId);
+    }
+    
+    static ContributionHistoryDTO entry(Long accountId, String type, String amount, LocalDate payPeriodDate) {
+        ContributionHistoryDTO entry = new ContributionHistoryDTO();
+        entry.setAccountId(accountId);
+        entry.setContributionType(type);
+        entry.setAmount(new BigDecimal(amount));
+        entry.setPayPeriodDate(payPeriodDate);
+        return entry;
+    }
+}
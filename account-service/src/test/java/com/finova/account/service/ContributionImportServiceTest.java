@@ -0,0 +1,193 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.ContributionImportJobDTO;
+import com.finova.account.dto.RetirementAccountDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for background contribution imports: parsing, rejected rows and resume
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "finova.import.chunk-size=2",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("ContributionImportService Tests")
+class ContributionImportServiceTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(50_000);
+    private static final String HEADER = "user_id,account_type,contribution_type,amount,pay_period_date,memo\n";
+    
+    @Autowired
+    private ContributionImportService contributionImportService;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Long userId;
+    
+    @BeforeEach
+    void createAccount() {
+        userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("Import Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("10000.00"));
+        account.setAsOfDate(LocalDate.now());
+        retirementAccountService.createAccount(account);
+    }
+    
+    @Test
+    @DisplayName("Should queue the upload and import it into contribution history in the background")
+    void shouldImportIntoContributionHistory() {
+        // Given
+        String file = HEADER
+            + userId + ",401k,pre_tax,250.00,2026-01-15,\n"
+            + userId + ",,roth,100.00,2026-01-31,\n";
+        
+        // When
+        ContributionImportJobDTO queued = contributionImportService.importContributions(csv(file), "payroll.csv", null);
+        ContributionImportJobDTO job = awaitFinished(queued.getId());
+        
+        // Then
+        assertThat(queued.getStatus()).isIn("queued", "running", "completed");
+        assertThat(job.getStatus()).isEqualTo("completed");
+        assertThat(job.getImportedRows()).isEqualTo(2);
+        assertThat(historyAmounts()).containsExactly(new BigDecimal("250.00"), new BigDecimal("100.00"));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM contributions c JOIN retirement_accounts a ON a.id = c.account_id WHERE a.user_id = ?",
+            Long.class, userId)).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should read quoted fields with commas, escaped quotes and line breaks as one record")
+    void shouldParseQuotedFields() {
+        // Given
+        String file = HEADER
+            + userId + ",401k,pre_tax,250.00,2026-02-15,\"Adjusted, see \"\"note\"\"\nsecond line\"\n"
+            + "\n"
+            + userId + ",401k,pre_tax,oops,2026-02-28,plain\n";
+        
+        // When
+        ContributionImportJobDTO job = awaitFinished(
+            contributionImportService.importContributions(csv(file), "quoted.csv", null).getId());
+        
+        // Then the multi-line memo is one record and the blank line is not a record
+        assertThat(job.getStatus()).isEqualTo("completed");
+        assertThat(job.getImportedRows()).isEqualTo(1);
+        assertThat(job.getErrors()).extracting(ContributionImportJobDTO.RowError::getRow).containsExactly(2L);
+    }
+    
+    @Test
+    @DisplayName("Should report every rejected row with its record number and reason")
+    void shouldReportRejectedRows() {
+        // Given
+        String file = HEADER
+            + "abc,401k,pre_tax,250.00,2026-03-15,\n"
+            + userId + ",401k,pre_tax,,2026-03-15,\n"
+            + userId + ",ira,pre_tax,250.00,2026-03-15,\n"
+            + userId + ",401k,pre_tax,250.00,15/03/2026,\n"
+            + userId + ",401k,pre_tax,-5.00,2026-03-15,\n"
+            + userId + ",401k,pre_tax,250.00,2026-03-31,\n";
+        
+        // When
+        ContributionImportJobDTO job = awaitFinished(
+            contributionImportService.importContributions(csv(file), "errors.csv", null).getId());
+        
+        // Then
+        assertThat(job.getStatus()).isEqualTo("completed");
+        assertThat(job.getImportedRows()).isEqualTo(1);
+        assertThat(job.getFailedRows()).isEqualTo(5);
+        assertThat(job.getErrors()).extracting(ContributionImportJobDTO.RowError::getRow, ContributionImportJobDTO.RowError::getMessage)
+            .containsExactly(
+                tuple(1L, "Invalid user_id: 'abc'"),
+                tuple(2L, "amount is required"),
+                tuple(3L, "No ira account found for user_id: " + userId),
+                tuple(4L, "Invalid pay_period_date: '15/03/2026'"),
+                tuple(5L, "amount must be positive or zero"));
+    }
+    
+    @Test
+    @DisplayName("Should fail a file without the required columns")
+    void shouldFailWithoutRequiredColumns() {
+        // When
+        ContributionImportJobDTO job = awaitFinished(contributionImportService.importContributions(
+            csv("user_id,contribution_type,monthly_amount\n" + userId + ",pre_tax,250.00\n"), "legacy.csv", null).getId());
+        
+        // Then
+        assertThat(job.getStatus()).isEqualTo("failed");
+        assertThat(job.getErrorMessage()).isEqualTo("Missing required column: amount");
+    }
+    
+    @Test
+    @DisplayName("Should resume a failed import after its last committed chunk without duplicating rows")
+    void shouldResumeFromLastCommittedChunk() {
+        // Given a file that breaks in its third chunk, on an unterminated quote
+        String rows = userId + ",401k,pre_tax,1.00,2026-04-15,\n"
+            + userId + ",401k,pre_tax,2.00,2026-04-15,\n"
+            + userId + ",401k,pre_tax,3.00,2026-04-30,\n"
+            + userId + ",401k,pre_tax,4.00,2026-04-30,\n";
+        ContributionImportJobDTO failed = awaitFinished(contributionImportService.importContributions(
+            csv(HEADER + rows + userId + ",401k,pre_tax,5.00,2026-05-15,\"unterminated\n"), "payroll.csv", null).getId());
+        
+        // When the corrected file is re-sent with the job ID
+        ContributionImportJobDTO resumed = awaitFinished(contributionImportService.importContributions(
+            csv(HEADER + rows + userId + ",401k,pre_tax,5.00,2026-05-15,fixed\n"), "payroll.csv", failed.getId()).getId());
+        
+        // Then
+        assertThat(failed.getStatus()).isEqualTo("failed");
+        assertThat(failed.getLastCommittedRow()).isEqualTo(4);
+        assertThat(resumed.getId()).isEqualTo(failed.getId());
+        assertThat(resumed.getStatus()).isEqualTo("completed");
+        assertThat(resumed.getLastCommittedRow()).isEqualTo(5);
+        assertThat(resumed.getImportedRows()).isEqualTo(5);
+        assertThat(historyAmounts()).containsExactly(
+            new BigDecimal("1.00"), new BigDecimal("2.00"), new BigDecimal("3.00"), new BigDecimal("4.00"), new BigDecimal("5.00"));
+    }
+    
+    private ContributionImportJobDTO awaitFinished(Long jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ContributionImportJobDTO job = contributionImportService.getImportJob(jobId);
+        while (!"completed".equals(job.getStatus()) && !"failed".equals(job.getStatus())) {
+            assertThat(System.currentTimeMillis()).as("import %d finished", jobId).isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            job = contributionImportService.getImportJob(jobId);
+        }
+        return job;
+    }
+    
+    private List<BigDecimal> historyAmounts() {
+        return jdbcTemplate.queryForList(
+            "SELECT amount FROM contribution_history WHERE user_id = ? ORDER BY id", BigDecimal.class, userId);
+    }
+    
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
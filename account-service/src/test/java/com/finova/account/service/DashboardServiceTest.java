@@ -0,0 +1,120 @@
+package com.finova.account.service;
+
+import com.finova.account.client.PlanningClient;
+import com.finova.account.client.UserClient;
+import com.finova.account.dto.RetirementAccountDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the composite dashboard's degraded paths
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "finova.outbox.transport=local",
+    "finova.outbox.relay.enabled=false",
+    "finova.downstream.planning-service.timeout-ms=200",
+    "finova.downstream.user-service.timeout-ms=150",
+    "logging.level.org.hibernate.SQL=INFO"
+})
+@DisplayName("DashboardService Tests")
+class DashboardServiceTest {
+    
+    private static final AtomicLong USER_IDS = new AtomicLong(40_000);
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private RetirementAccountService retirementAccountService;
+    
+    @Autowired
+    private FeignClientProperties feignClientProperties;
+    
+    @MockBean
+    private PlanningClient planningClient;
+    
+    @MockBean
+    private UserClient userClient;
+    
+    private Long userId;
+    
+    @BeforeEach
+    void createAccount() {
+        userId = USER_IDS.incrementAndGet();
+        RetirementAccountDTO account = new RetirementAccountDTO();
+        account.setUserId(userId);
+        account.setAccountName("Dashboard Test 401(k)");
+        account.setAccountType("401k");
+        account.setCurrentBalance(new BigDecimal("75000.00"));
+        account.setAsOfDate(LocalDate.now());
+        retirementAccountService.createAccount(account);
+    }
+    
+    @Test
+    @DisplayName("Should return every section when both downstreams answer")
+    void shouldCombineDownstreamSections() {
+        // Given
+        when(planningClient.getRetirementPlan(anyLong(), any())).thenReturn(Map.of("projectedBalance", 1_200_000));
+        when(userClient.getUserProfile(anyLong(), any())).thenReturn(Map.of("firstName", "Alex"));
+        
+        // When
+        Map<String, Object> dashboard = dashboardService.getCompositeDashboard(userId, null);
+        
+        // Then
+        assertThat(dashboard.get("retirementPlan")).isEqualTo(Map.of("projectedBalance", 1_200_000));
+        assertThat(dashboard.get("userProfile")).isEqualTo(Map.of("firstName", "Alex"));
+        assertThat(dashboard.get("sources")).isEqualTo(Map.of("planning-service", "ok", "user-service", "ok"));
+    }
+    
+    @Test
+    @DisplayName("Should drop a slow section at its timeout and a failing one at once")
+    void shouldDegradeSlowAndFailingSections() {
+        // Given
+        when(planningClient.getRetirementPlan(anyLong(), any())).thenAnswer(call -> {
+            Thread.sleep(2_000);
+            return Map.of("projectedBalance", 1_200_000);
+        });
+        when(userClient.getUserProfile(anyLong(), any())).thenThrow(new IllegalStateException("user-service unavailable"));
+        
+        // When
+        long started = System.nanoTime();
+        Map<String, Object> dashboard = dashboardService.getCompositeDashboard(userId, null);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        
+        // Then
+        assertThat(elapsedMs).isLessThan(1_500);
+        assertThat(dashboard.get("retirementPlan")).isNull();
+        assertThat(dashboard.get("userProfile")).isNull();
+        assertThat(dashboard.get("sources")).isEqualTo(Map.of("planning-service", "timeout", "user-service", "error"));
+        assertThat(dashboard.get("primaryAccount")).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("Should bound Feign connect and read timeouts by the dashboard's downstream budgets")
+    void shouldBindFeignTimeoutsToDownstreamBudgets() {
+        // When
+        Map<String, FeignClientProperties.FeignClientConfiguration> config = feignClientProperties.getConfig();
+        
+        // Then
+        assertThat(config.get("planning-service").getConnectTimeout()).isEqualTo(200);
+        assertThat(config.get("planning-service").getReadTimeout()).isEqualTo(200);
+        assertThat(config.get("user-service").getConnectTimeout()).isEqualTo(150);
+        assertThat(config.get("user-service").getReadTimeout()).isEqualTo(150);
+    }
+}
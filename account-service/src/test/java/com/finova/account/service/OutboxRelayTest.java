@@ -0,0 +1,169 @@
+package com.finova.account.service;
+
+import com.finova.account.dto.AccountEventDTO;
+import com.finova.account.model.OutboxEvent;
+import com.finova.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the outbox relay, against an in-memory outbox
+ */
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+    
+    private final List<OutboxEvent> outbox = new ArrayList<>();
+    private final List<List<AccountEventDTO>> delivered = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private OutboxEventRepository outboxEventRepository;
+    private RuntimeException transportFailure;
+    
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any())).thenAnswer(call -> pending().stream()
+            .limit(call.<Pageable>getArgument(0).getPageSize())
+            .collect(Collectors.toList()));
+        when(outboxEventRepository.countByPublishedAtIsNull()).thenAnswer(call -> (long) pending().size());
+        when(outboxEventRepository.findFirstByPublishedAtIsNullOrderByIdAsc())
+            .thenAnswer(call -> pending().stream().findFirst());
+        when(outboxEventRepository.markPublished(anyList(), any())).thenAnswer(call -> {
+            List<Long> ids = call.getArgument(0);
+            withIds(ids).forEach(event -> {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setPublishedAt(call.getArgument(1));
+            });
+            return ids.size();
+        });
+        when(outboxEventRepository.markFailed(anyList(), anyString())).thenAnswer(call -> {
+            List<Long> ids = call.getArgument(0);
+            withIds(ids).forEach(event -> {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(call.getArgument(1));
+            });
+            return ids.size();
+        });
+    }
+    
+    @Test
+    @DisplayName("Should deliver pending events in commit order, one batch at a time")
+    void shouldDeliverPendingEventsInBatches() {
+        // Given
+        addEvents(5);
+        
+        // When
+        relay(true, 2, 10).relay();
+        
+        // Then
+        assertThat(delivered).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(delivered.stream().flatMap(List::stream).map(AccountEventDTO::getAggregateId))
+            .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(pending()).isEmpty();
+        assertThat(meterRegistry.counter("finova.outbox.published").count()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("Should stop at the batch limit and leave the rest for the next run")
+    void shouldStopAtTheBatchLimit() {
+        // Given
+        addEvents(5);
+        
+        // When
+        relay(true, 2, 1).relay();
+        
+        // Then
+        assertThat(delivered).hasSize(1);
+        assertThat(pending()).hasSize(3);
+        assertThat(meterRegistry.get("finova.outbox.pending").gauge().value()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Should keep a failed batch pending and re-send it with the same event IDs")
+    void shouldRedeliverFailedBatches() {
+        // Given
+        addEvents(3);
+        OutboxRelay relay = relay(true, 2, 10);
+        transportFailure = new IllegalStateException("analytics-service unavailable");
+        
+        // When
+        relay.relay();
+        List<String> firstAttempt = eventIds(delivered.get(0));
+        transportFailure = null;
+        relay.relay();
+        
+        // Then the failed run stopped after its first batch, and the retry started from it again
+        assertThat(delivered).hasSize(3);
+        assertThat(eventIds(delivered.get(1))).isEqualTo(firstAttempt);
+        assertThat(outbox.get(0).getAttempts()).isEqualTo(2);
+        assertThat(outbox.get(0).getLastError()).isEqualTo("analytics-service unavailable");
+        assertThat(outbox.get(2).getAttempts()).isEqualTo(1);
+        assertThat(pending()).isEmpty();
+        assertThat(meterRegistry.counter("finova.outbox.publish.failures").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        addEvents(2);
+        
+        // When
+        relay(false, 2, 10).relay();
+        
+        // Then
+        assertThat(delivered).isEmpty();
+        verify(outboxEventRepository, never()).findByPublishedAtIsNullOrderByIdAsc(any());
+    }
+    
+    private OutboxRelay relay(boolean enabled, int batchSize, int maxBatchesPerRun) {
+        OutboxPublisher publisher = events -> {
+            delivered.add(List.copyOf(events));
+            if (transportFailure != null) {
+                throw transportFailure;
+            }
+        };
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new OutboxRelay(outboxEventRepository, publisher, transactionTemplate, meterRegistry,
+            enabled, batchSize, maxBatchesPerRun, 24);
+    }
+    
+    private void addEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            long id = outbox.size() + 1;
+            OutboxEvent event = new OutboxEvent("account", id, 1001L, "account.updated", "{}");
+            event.setId(id);
+            outbox.add(event);
+        }
+    }
+    
+    private List<OutboxEvent> pending() {
+        return outbox.stream().filter(event -> event.getPublishedAt() == null).collect(Collectors.toList());
+    }
+    
+    private List<OutboxEvent> withIds(List<Long> ids) {
+        return outbox.stream().filter(event -> ids.contains(event.getId())).collect(Collectors.toList());
+    }
+    
+    private List<String> eventIds(List<AccountEventDTO> events) {
+        return events.stream().map(AccountEventDTO::getEventId).collect(Collectors.toList());
+    }
+}
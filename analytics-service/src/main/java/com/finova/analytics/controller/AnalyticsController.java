@@ -1,12 +1,17 @@
 package com.finova.analytics.controller;
 
+import com.finova.analytics.dto.AccountEventDTO;
 import com.finova.analytics.dto.AnalyticsDashboardDTO;
 import com.finova.analytics.service.AnalyticsService;
+import com.finova.analytics.service.EventIngestionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/analytics")
 @RequiredArgsConstructor
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class AnalyticsController {
     
     private final AnalyticsService analyticsService;
+    private final EventIngestionService eventIngestionService;
     
     @GetMapping("/dashboard/{userId}")
     public ResponseEntity<AnalyticsDashboardDTO> getDashboard(
@@ -24,5 +30,10 @@ public class AnalyticsController {
         AnalyticsDashboardDTO dashboard = analyticsService.getDashboard(userId, period);
         return ResponseEntity.ok(dashboard);
     }
+    
+    @PostMapping("/events")
+    public ResponseEntity<Map<String, Object>> ingestEvents(@RequestBody List<AccountEventDTO> events) {
+        log.info("POST /api/analytics/events with {} events", events.size());
+        return ResponseEntity.ok(eventIngestionService.ingest(events));
+    }
 }
-
@@ -0,0 +1,27 @@
+package com.finova.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Account change event delivered by account-service's outbox relay
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountEventDTO {
+    
+    private String eventId;  // Idempotency key
+    private String eventType;
+    private String aggregateType;
+    private Long aggregateId;
+    private Long userId;
+    private LocalDateTime occurredAt;
+    private Map<String, Object> payload;
+}
@@ -0,0 +1,41 @@
+package com.finova.analytics.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "account_events")
+@CompoundIndexes({
+    @CompoundIndex(name = "user_occurred_idx", def = "{'userId': 1, 'occurredAt': -1}")
+})
+public class AccountEvent {
+    
+    @Id
+    private String eventId;  // Idempotency key from the account-service outbox
+    
+    private String eventType;
+    
+    private String aggregateType;
+    
+    private Long aggregateId;
+    
+    private Long userId;
+    
+    private LocalDateTime occurredAt;
+    
+    private Map<String, Object> payload;
+    
+    private LocalDateTime ingestedAt;
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 @Document(collection = "account_snapshots")
 @CompoundIndexes({
     @CompoundIndex(name = "user_date_idx", def = "{'userId': 1, 'snapshotDate': -1}"),
-    @CompoundIndex(name = "user_account_date_idx", def = "{'userId': 1, 'accountType': 1, 'snapshotDate': -1}")
+    @CompoundIndex(name = "user_account_date_idx", def = "{'userId': 1, 'accountType': 1, 'snapshotDate': -1}"),
+    @CompoundIndex(name = "user_account_id_date_idx", def = "{'userId': 1, 'accountId': 1, 'snapshotDate': -1}")
 })
 public class AccountSnapshot {
     
@@ -29,6 +30,8 @@ public class AccountSnapshot {
     
     private Long userId;
     
+    private Long accountId;  // Source account for ingested snapshots; null for TOTAL and generated data
+    
     private AccountType accountType;
     
     private LocalDate snapshotDate;
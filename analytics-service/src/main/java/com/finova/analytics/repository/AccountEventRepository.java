@@ -0,0 +1,9 @@
+package com.finova.analytics.repository;
+
+import com.finova.analytics.model.AccountEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountEventRepository extends MongoRepository<AccountEvent, String> {
+}
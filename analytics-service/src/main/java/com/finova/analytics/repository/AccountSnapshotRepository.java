@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccountSnapshotRepository extends MongoRepository<AccountSnapshot, String> {
@@ -17,6 +18,11 @@ public interface AccountSnapshotRepository extends MongoRepository<AccountSnapsh
     List<AccountSnapshot> findByUserIdAndAccountTypeAndSnapshotDateBetweenOrderBySnapshotDateAsc(
             Long userId, AccountSnapshot.AccountType accountType, LocalDate startDate, LocalDate endDate);
     
+    Optional<AccountSnapshot> findFirstByUserIdAndAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long userId, Long accountId, LocalDate date);
+    
+    List<AccountSnapshot> findByUserIdAndAccountIdIsNotNullAndSnapshotDateLessThanEqual(Long userId, LocalDate date);
+    
     @Query("{ 'userId': ?0, 'snapshotDate': ?1 }")
     List<AccountSnapshot> findByUserIdAndDate(Long userId, LocalDate date);
     
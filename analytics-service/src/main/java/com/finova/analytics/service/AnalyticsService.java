@@ -201,9 +201,14 @@ public class AnalyticsService {
             );
         }
         
-        Double totalBalance = snapshots.stream()
-                .mapToDouble(AccountSnapshot::getBalance)
-                .sum();
+        // Ingested snapshots are per account, so balances are summed per account type
+        Map<AccountSnapshot.AccountType, Double> balancesByType = snapshots.stream()
+                .filter(s -> s.getAccountType() != null && s.getAccountType() != AccountSnapshot.AccountType.TOTAL
+                        && s.getBalance() != null)
+                .collect(Collectors.groupingBy(AccountSnapshot::getAccountType,
+                        () -> new EnumMap<>(AccountSnapshot.AccountType.class),
+                        Collectors.summingDouble(AccountSnapshot::getBalance)));
+        double totalBalance = balancesByType.values().stream().mapToDouble(Double::doubleValue).sum();
         
         Map<String, String> colors = Map.of(
                 "401K", "#4F46E5",
@@ -213,14 +218,13 @@ public class AnalyticsService {
                 "PENSION", "#8B5CF6"
         );
         
-        return snapshots.stream()
-                .filter(s -> s.getAccountType() != AccountSnapshot.AccountType.TOTAL)
-                .map(snapshot -> AccountBreakdownDTO.builder()
-                        .accountType(snapshot.getAccountType().name())
-                        .accountName(getAccountDisplayName(snapshot.getAccountType()))
-                        .balance(snapshot.getBalance())
-                        .percentage((snapshot.getBalance() / totalBalance) * 100)
-                        .color(colors.getOrDefault(snapshot.getAccountType().name(), "#6B7280"))
+        return balancesByType.entrySet().stream()
+                .map(entry -> AccountBreakdownDTO.builder()
+                        .accountType(entry.getKey().name())
+                        .accountName(getAccountDisplayName(entry.getKey()))
+                        .balance(entry.getValue())
+                        .percentage(totalBalance > 0 ? (entry.getValue() / totalBalance) * 100 : 0.0)
+                        .color(colors.getOrDefault(entry.getKey().name(), "#6B7280"))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,189 @@
+package com.finova.analytics.service;
+
+import com.finova.analytics.dto.AccountEventDTO;
+import com.finova.analytics.model.AccountEvent;
+import com.finova.analytics.model.AccountSnapshot;
+import com.finova.analytics.repository.AccountEventRepository;
+import com.finova.analytics.repository.AccountSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ingests account change events relayed from account-service.
+ * 
+ * Delivery is at-least-once, so events are deduplicated by event ID. An event is
+ * applied before its marker is stored; applying is set-based (snapshot balances are
+ * overwritten, not incremented), so re-applying after a partial failure is harmless.
+ * Balances are snapshotted per account, and the TOTAL is the sum of every account's
+ * latest balance; events for account types without a reporting bucket are rejected.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventIngestionService {
+    
+    private final AccountEventRepository accountEventRepository;
+    private final AccountSnapshotRepository accountSnapshotRepository;
+    
+    public Map<String, Object> ingest(List<AccountEventDTO> events) {
+        int ingested = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        
+        for (AccountEventDTO event : events) {
+            if (event.getEventId() == null || accountEventRepository.existsById(event.getEventId())) {
+                duplicates++;
+                continue;
+            }
+            
+            // Rejected events are still recorded, so redelivery does not reject them again and
+            // they can be replayed from account_events once their account type is mapped
+            if (!apply(event)) {
+                rejected++;
+            }
+            accountEventRepository.save(AccountEvent.builder()
+                    .eventId(event.getEventId())
+                    .eventType(event.getEventType())
+                    .aggregateType(event.getAggregateType())
+                    .aggregateId(event.getAggregateId())
+                    .userId(event.getUserId())
+                    .occurredAt(event.getOccurredAt())
+                    .payload(event.getPayload())
+                    .ingestedAt(LocalDateTime.now())
+                    .build());
+            ingested++;
+        }
+        
+        log.debug("Ingested {} account events ({} duplicates, {} rejected)", ingested, duplicates, rejected);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("received", events.size());
+        result.put("ingested", ingested);
+        result.put("duplicates", duplicates);
+        result.put("rejected", rejected);
+        return result;
+    }
+    
+    /**
+     * Apply an account event to the user's snapshots. Returns false if the event was rejected
+     * because its account type is not one analytics reports on.
+     */
+    private boolean apply(AccountEventDTO event) {
+        if (!"account".equals(event.getAggregateType()) || event.getUserId() == null || event.getAggregateId() == null) {
+            return true;
+        }
+        
+        Long userId = event.getUserId();
+        Long accountId = event.getAggregateId();
+        LocalDate date = event.getOccurredAt() != null ? event.getOccurredAt().toLocalDate() : LocalDate.now();
+        
+        if ("account.deleted".equals(event.getEventType())) {
+            // A deleted account stops counting towards the total from the day it was deleted
+            accountSnapshotRepository
+                    .findFirstByUserIdAndAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(userId, accountId, date)
+                    .ifPresent(latest -> {
+                        upsertAccountSnapshot(userId, accountId, latest.getAccountType(), date, 0.0);
+                        refreshTotalSnapshot(userId, date);
+                    });
+            return true;
+        }
+        
+        Map<String, Object> payload = event.getPayload();
+        if (payload == null || !(payload.get("currentBalance") instanceof Number)) {
+            return true;
+        }
+        
+        Object rawType = payload.get("accountType");
+        AccountSnapshot.AccountType accountType = mapAccountType(rawType != null ? rawType.toString() : null);
+        if (accountType == null) {
+            log.warn("Rejected account event {}: account {} has unrecognised account type '{}'",
+                    event.getEventId(), accountId, rawType);
+            return false;
+        }
+        
+        upsertAccountSnapshot(userId, accountId, accountType, date, ((Number) payload.get("currentBalance")).doubleValue());
+        refreshTotalSnapshot(userId, date);
+        return true;
+    }
+    
+    /**
+     * Set one account's balance for a day; snapshots are keyed by account, so two accounts
+     * of the same type never overwrite each other
+     */
+    private void upsertAccountSnapshot(Long userId, Long accountId, AccountSnapshot.AccountType accountType,
+                                       LocalDate date, Double balance) {
+        AccountSnapshot snapshot = accountSnapshotRepository
+                .findFirstByUserIdAndAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(userId, accountId, date)
+                .filter(latest -> date.equals(latest.getSnapshotDate()))
+                .orElseGet(() -> AccountSnapshot.builder().userId(userId).accountId(accountId).snapshotDate(date).build());
+        snapshot.setAccountType(accountType);
+        snapshot.setBalance(balance);
+        accountSnapshotRepository.save(snapshot);
+    }
+    
+    /**
+     * Recompute the day's TOTAL from each account's latest balance on or before that day,
+     * so accounts without an event that day still count
+     */
+    private void refreshTotalSnapshot(Long userId, LocalDate date) {
+        Map<Long, AccountSnapshot> latestByAccount = new HashMap<>();
+        for (AccountSnapshot snapshot : accountSnapshotRepository
+                .findByUserIdAndAccountIdIsNotNullAndSnapshotDateLessThanEqual(userId, date)) {
+            latestByAccount.merge(snapshot.getAccountId(), snapshot,
+                    (a, b) -> a.getSnapshotDate().isAfter(b.getSnapshotDate()) ? a : b);
+        }
+        double total = latestByAccount.values().stream()
+                .filter(s -> s.getBalance() != null)
+                .mapToDouble(AccountSnapshot::getBalance)
+                .sum();
+        
+        List<AccountSnapshot> existing = accountSnapshotRepository
+                .findByUserIdAndAccountTypeAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                        userId, AccountSnapshot.AccountType.TOTAL, date, date);
+        AccountSnapshot snapshot = existing.isEmpty()
+                ? AccountSnapshot.builder().userId(userId).accountType(AccountSnapshot.AccountType.TOTAL).snapshotDate(date).build()
+                : existing.get(existing.size() - 1);
+        snapshot.setBalance(total);
+        accountSnapshotRepository.save(snapshot);
+    }
+    
+    /**
+     * Map an account-service account type to a reporting bucket, or null if it is not recognised
+     */
+    private AccountSnapshot.AccountType mapAccountType(String accountType) {
+        if (accountType == null) {
+            return null;
+        }
+        switch (accountType.trim().toLowerCase()) {
+            // Employer-sponsored defined-contribution plans share the 401(k) bucket
+            case "401k":
+            case "401(k)":
+            case "401a":
+            case "401(a)":
+            case "403b":
+            case "403(b)":
+            case "457":
+            case "457b":
+            case "457(b)":
+                return AccountSnapshot.AccountType.K401;
+            case "ira":
+            case "traditional_ira":
+                return AccountSnapshot.AccountType.IRA_TRADITIONAL;
+            case "roth_ira":
+                return AccountSnapshot.AccountType.IRA_ROTH;
+            case "pension":
+                return AccountSnapshot.AccountType.PENSION;
+            case "brokerage":
+                return AccountSnapshot.AccountType.BROKERAGE;
+            default:
+                return null;
+        }
+    }
+}
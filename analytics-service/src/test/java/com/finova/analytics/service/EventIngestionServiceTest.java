@@ -0,0 +1,188 @@
+package com.finova.analytics.service;
+
+import com.finova.analytics.dto.AccountEventDTO;
+import com.finova.analytics.model.AccountEvent;
+import com.finova.analytics.model.AccountSnapshot;
+import com.finova.analytics.repository.AccountEventRepository;
+import com.finova.analytics.repository.AccountSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for account event ingestion, against in-memory stand-ins for the Mongo repositories
+ */
+@DisplayName("EventIngestionService Tests")
+class EventIngestionServiceTest {
+    
+    private static final Long USER_ID = 1001L;
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+    
+    private final Map<String, AccountEvent> events = new HashMap<>();
+    private final List<AccountSnapshot> snapshots = new ArrayList<>();
+    
+    private EventIngestionService eventIngestionService;
+    
+    @BeforeEach
+    void setUp() {
+        AccountEventRepository accountEventRepository = mock(AccountEventRepository.class);
+        when(accountEventRepository.existsById(anyString())).thenAnswer(call -> events.containsKey(call.<String>getArgument(0)));
+        when(accountEventRepository.save(any())).thenAnswer(call -> {
+            AccountEvent event = call.getArgument(0);
+            events.put(event.getEventId(), event);
+            return event;
+        });
+        
+        AccountSnapshotRepository accountSnapshotRepository = mock(AccountSnapshotRepository.class);
+        when(accountSnapshotRepository.save(any())).thenAnswer(call -> {
+            AccountSnapshot snapshot = call.getArgument(0);
+            if (snapshots.stream().noneMatch(stored -> stored == snapshot)) {
+                snapshots.add(snapshot);
+            }
+            return snapshot;
+        });
+        when(accountSnapshotRepository.findFirstByUserIdAndAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                any(), any(), any())).thenAnswer(call -> snapshots.stream()
+                .filter(s -> s.getUserId().equals(call.getArgument(0)) && Objects.equals(s.getAccountId(), call.getArgument(1))
+                        && !s.getSnapshotDate().isAfter(call.getArgument(2)))
+                .max(Comparator.comparing(AccountSnapshot::getSnapshotDate)));
+        when(accountSnapshotRepository.findByUserIdAndAccountIdIsNotNullAndSnapshotDateLessThanEqual(any(), any()))
+                .thenAnswer(call -> snapshots.stream()
+                        .filter(s -> s.getUserId().equals(call.getArgument(0)) && s.getAccountId() != null
+                                && !s.getSnapshotDate().isAfter(call.getArgument(1)))
+                        .collect(Collectors.toList()));
+        when(accountSnapshotRepository.findByUserIdAndAccountTypeAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                any(), eq(AccountSnapshot.AccountType.TOTAL), any(), any())).thenAnswer(call -> snapshots.stream()
+                .filter(s -> s.getUserId().equals(call.getArgument(0)) && s.getAccountType() == AccountSnapshot.AccountType.TOTAL
+                        && !s.getSnapshotDate().isBefore(call.getArgument(2)) && !s.getSnapshotDate().isAfter(call.getArgument(3)))
+                .collect(Collectors.toList()));
+        
+        eventIngestionService = new EventIngestionService(accountEventRepository, accountSnapshotRepository);
+    }
+    
+    @Test
+    @DisplayName("Should apply a redelivered batch only once")
+    void shouldIgnoreRedeliveredEvents() {
+        // Given
+        List<AccountEventDTO> batch = List.of(
+                balanceChanged(1L, "401a", 50000, MONDAY),
+                balanceChanged(2L, "roth_ira", 12000, MONDAY));
+        
+        // When
+        Map<String, Object> first = eventIngestionService.ingest(batch);
+        Map<String, Object> second = eventIngestionService.ingest(batch);
+        
+        // Then
+        assertThat(first).containsEntry("ingested", 2).containsEntry("duplicates", 0);
+        assertThat(second).containsEntry("ingested", 0).containsEntry("duplicates", 2);
+        assertThat(snapshots).hasSize(3);
+        assertThat(total(MONDAY.toLocalDate())).isEqualTo(62000.0);
+    }
+    
+    @Test
+    @DisplayName("Should keep accounts of the same type apart so the total counts both")
+    void shouldTotalAccountsOfTheSameType() {
+        // When
+        eventIngestionService.ingest(List.of(
+                balanceChanged(1L, "401k", 50000, MONDAY),
+                balanceChanged(2L, "401k", 30000, MONDAY.plusHours(1)),
+                balanceChanged(1L, "401k", 55000, MONDAY.plusHours(2))));
+        
+        // Then
+        assertThat(total(MONDAY.toLocalDate())).isEqualTo(85000.0);
+        assertThat(snapshots).filteredOn(s -> s.getAccountType() == AccountSnapshot.AccountType.K401).hasSize(2);
+    }
+    
+    @Test
+    @DisplayName("Should carry forward accounts without an event on the day of the total")
+    void shouldCarryForwardEarlierBalances() {
+        // Given
+        eventIngestionService.ingest(List.of(
+                balanceChanged(1L, "401a", 50000, MONDAY),
+                balanceChanged(2L, "ira", 20000, MONDAY)));
+        
+        // When
+        eventIngestionService.ingest(List.of(balanceChanged(2L, "ira", 21000, MONDAY.plusDays(1))));
+        
+        // Then
+        assertThat(total(MONDAY.toLocalDate())).isEqualTo(70000.0);
+        assertThat(total(MONDAY.toLocalDate().plusDays(1))).isEqualTo(71000.0);
+    }
+    
+    @Test
+    @DisplayName("Should drop a deleted account from later totals")
+    void shouldDropDeletedAccounts() {
+        // Given
+        eventIngestionService.ingest(List.of(
+                balanceChanged(1L, "401a", 50000, MONDAY),
+                balanceChanged(2L, "brokerage", 8000, MONDAY)));
+        
+        // When
+        eventIngestionService.ingest(List.of(event(2L, "account.deleted", Map.of("id", 2L), MONDAY.plusDays(1))));
+        
+        // Then
+        assertThat(total(MONDAY.toLocalDate())).isEqualTo(58000.0);
+        assertThat(total(MONDAY.toLocalDate().plusDays(1))).isEqualTo(50000.0);
+    }
+    
+    @Test
+    @DisplayName("Should reject unknown and missing account types without touching the total")
+    void shouldRejectUnknownAccountTypes() {
+        // Given
+        eventIngestionService.ingest(List.of(balanceChanged(1L, "401k", 50000, MONDAY)));
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("currentBalance", 9000);
+        
+        // When
+        Map<String, Object> result = eventIngestionService.ingest(List.of(
+                balanceChanged(2L, "crypto_wallet", 4000, MONDAY),
+                event(3L, "account.updated", payload, MONDAY)));
+        
+        // Then
+        assertThat(result).containsEntry("ingested", 2).containsEntry("rejected", 2);
+        assertThat(total(MONDAY.toLocalDate())).isEqualTo(50000.0);
+        assertThat(events).hasSize(3);
+    }
+    
+    private double total(LocalDate date) {
+        return snapshots.stream()
+                .filter(s -> s.getAccountType() == AccountSnapshot.AccountType.TOTAL && s.getSnapshotDate().equals(date))
+                .map(AccountSnapshot::getBalance)
+                .findFirst()
+                .orElseThrow();
+    }
+    
+    private AccountEventDTO balanceChanged(Long accountId, String accountType, double balance, LocalDateTime occurredAt) {
+        return event(accountId, "account.balance_changed", Map.of("accountType", accountType, "currentBalance", balance), occurredAt);
+    }
+    
+    private AccountEventDTO event(Long accountId, String eventType, Map<String, Object> payload, LocalDateTime occurredAt) {
+        return AccountEventDTO.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(eventType)
+                .aggregateType("account")
+                .aggregateId(accountId)
+                .userId(USER_ID)
+                .occurredAt(occurredAt)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Rebuilds src/main/resources/historical/us-monthly-returns.bin from us-annual-returns.csv.
+ *
+ * Run from planning-service with: java scripts/GenerateHistoricalReturns.java [csv] [bin]
+ *
+ * Each annual figure becomes twelve identical monthly rates that compound to it, (1 + r)^(1/12) - 1,
+ * so a bootstrap over the output is effectively annual. StrictMath keeps the output byte-for-byte
+ * reproducible; HistoricalReturnsTest checks the committed file against the CSV with the same formula.
+ */
+public class GenerateHistoricalReturns {
+    
+    private static final int MAGIC = 0x464E5254;
+    private static final int FORMAT_VERSION = 1;
+    private static final int SERIES = 4;
+    
+    public static void main(String[] args) throws IOException {
+        Path csv = Path.of(args.length > 0 ? args[0] : "src/main/resources/historical/us-annual-returns.csv");
+        Path bin = Path.of(args.length > 1 ? args[1] : "src/main/resources/historical/us-monthly-returns.bin");
+        
+        List<String[]> rows = Files.readAllLines(csv).stream()
+            .filter(line -> !line.isBlank() && !line.startsWith("#") && !line.startsWith("year"))
+            .map(line -> line.split(","))
+            .toList();
+        int firstYear = Integer.parseInt(rows.get(0)[0].trim());
+        
+        try (OutputStream file = Files.newOutputStream(bin);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(firstYear);
+            out.writeInt(1);
+            out.writeInt(rows.size() * 12);
+            out.writeInt(SERIES);
+            for (int y = 0; y < rows.size(); y++) {
+                String[] row = rows.get(y);
+                if (row.length != SERIES + 1 || Integer.parseInt(row[0].trim()) != firstYear + y) {
+                    throw new IllegalStateException("Expected year " + (firstYear + y) + " with " + SERIES
+                        + " figures, found " + String.join(",", row));
+                }
+                float[] monthly = new float[SERIES];
+                for (int s = 0; s < SERIES; s++) {
+                    monthly[s] = (float) monthlyRate(Double.parseDouble(row[s + 1].trim()));
+                }
+                for (int m = 0; m < 12; m++) {
+                    for (float rate : monthly) {
+                        out.writeFloat(rate);
+                    }
+                }
+            }
+        }
+        System.out.println("Wrote " + rows.size() + " years from " + firstYear + " to " + bin);
+    }
+    
+    static double monthlyRate(double annualPercent) {
+        return StrictMath.pow(1 + annualPercent / 100.0, 1.0 / 12) - 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.finova.planning.config;
+
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration for the planning API
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    
+    /**
+     * Bind request parameters with Spring Boot's application converters, so enum options such as
+     * mode=fast or solveFor=retirement-age match constants regardless of case and separators
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        ApplicationConversionService.addApplicationConverters(registry);
+    }
+}
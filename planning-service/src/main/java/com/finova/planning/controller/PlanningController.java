@@ -1,23 +1,48 @@
 package com.finova.planning.controller;
 
+import com.finova.planning.dto.ClaimingStrategyRequestDTO;
+import com.finova.planning.dto.ClaimingStrategyResultDTO;
+import com.finova.planning.dto.GoalSeekResultDTO;
+import com.finova.planning.dto.ProjectionYearDTO;
 import com.finova.planning.dto.RetirementPlanDTO;
+import com.finova.planning.dto.ScenarioGridDTO;
+import com.finova.planning.dto.ScenarioGridRequestDTO;
 import com.finova.planning.dto.SocialSecurityDTO;
 import com.finova.planning.dto.InvestmentStrategyDTO;
 import com.finova.planning.dto.UserDTO;
 import com.finova.planning.security.UserContext;
+import com.finova.planning.service.CapitalMarketAssumptions;
+import com.finova.planning.service.ClaimingStrategyService;
+import com.finova.planning.service.EfficientFrontierService;
+import com.finova.planning.service.GoalSeekService;
+import com.finova.planning.service.GoalSeekTarget;
+import com.finova.planning.service.MonteCarloSimulationService;
+import com.finova.planning.service.ProjectionScheduleService;
+import com.finova.planning.service.ProjectionMode;
 import com.finova.planning.service.RetirementCalculatorService;
+import com.finova.planning.service.ScenarioGridService;
+import com.finova.planning.service.SimulationMode;
 import com.finova.planning.service.SocialSecurityService;
 import com.finova.planning.service.InvestmentStrategyService;
 import com.finova.planning.service.AuthenticationService;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Planning operations
@@ -25,20 +50,42 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
+@Validated
 public class PlanningController {
-
+    
     @Autowired
     private RetirementCalculatorService retirementCalculatorService;
     
+    @Autowired
+    private MonteCarloSimulationService monteCarloSimulationService;
+    
+    @Autowired
+    private ScenarioGridService scenarioGridService;
+    
+    @Autowired
+    private GoalSeekService goalSeekService;
+    
+    @Autowired
+    private ProjectionScheduleService projectionScheduleService;
+    
     @Autowired
     private SocialSecurityService socialSecurityService;
     
+    @Autowired
+    private ClaimingStrategyService claimingStrategyService;
+    
     @Autowired
     private InvestmentStrategyService investmentStrategyService;
     
+    @Autowired
+    private EfficientFrontierService efficientFrontierService;
+    
+    @Autowired
+    private CapitalMarketAssumptions capitalMarketAssumptions;
+    
     @Autowired
     private AuthenticationService authenticationService;
-
+    
     /**
      * Health check endpoint
      */
@@ -50,7 +97,7 @@ public class PlanningController {
         response.put("timestamp", String.valueOf(System.currentTimeMillis()));
         return ResponseEntity.ok(response);
     }
-
+    
     // ========== RETIREMENT PLANNING ENDPOINTS ==========
     
     /**
@@ -70,20 +117,97 @@ public class PlanningController {
     }
     
     /**
-     * Calculate retirement plan with custom parameters
+     * Calculate retirement plan with custom parameters; mode=exact uses BigDecimal arithmetic for statements
      */
     @PostMapping("/planning/retirement-plan/calculate")
     @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#planDTO.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
-    public ResponseEntity<RetirementPlanDTO> calculateRetirementPlan(@Valid @RequestBody RetirementPlanDTO planDTO) {
+    public ResponseEntity<RetirementPlanDTO> calculateRetirementPlan(
+            @Valid @RequestBody RetirementPlanDTO planDTO,
+            @RequestParam(defaultValue = "fast") ProjectionMode mode) {
         // Validate user access
         if (!authenticationService.validateUserAccess(planDTO.getUserId())) {
             return ResponseEntity.status(403).build();
         }
         
-        RetirementPlanDTO calculatedPlan = retirementCalculatorService.calculateRetirementPlan(planDTO);
+        RetirementPlanDTO calculatedPlan = retirementCalculatorService.calculateRetirementPlan(planDTO, mode);
         return ResponseEntity.ok(calculatedPlan);
     }
     
+    /**
+     * Calculate a retirement plan and simulate it with random returns for a probability of success
+     * and percentile outcome bands; the same seed reproduces the same result. Bootstrap mode replays
+     * blocks of historical months for a portfolio of the given stock and bond percentages.
+     */
+    @PostMapping("/planning/retirement-plan/simulate")
+    @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#planDTO.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<RetirementPlanDTO> simulateRetirementPlan(
+            @Valid @RequestBody RetirementPlanDTO planDTO,
+            @RequestParam(required = false) Integer paths,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "parametric") SimulationMode mode,
+            @RequestParam(required = false) Integer stocksPercentage,
+            @RequestParam(required = false) Integer bondsPercentage) {
+        // Validate user access
+        if (!authenticationService.validateUserAccess(planDTO.getUserId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        RetirementPlanDTO calculatedPlan = retirementCalculatorService.calculateRetirementPlan(planDTO);
+        return ResponseEntity.ok(monteCarloSimulationService.simulate(calculatedPlan, paths, seed, mode,
+            stocksPercentage, bondsPercentage));
+    }
+    
+    /**
+     * Stream a year-by-year schedule of balances, contributions, withdrawals and growth through
+     * retirement as newline-delimited JSON, one line per year
+     */
+    @PostMapping("/planning/retirement-plan/schedule")
+    @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#planDTO.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<StreamingResponseBody> getProjectionSchedule(@Valid @RequestBody RetirementPlanDTO planDTO) {
+        // Validate user access
+        if (!authenticationService.validateUserAccess(planDTO.getUserId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        Iterator<ProjectionYearDTO> rows = projectionScheduleService.schedule(planDTO);
+        StreamingResponseBody body = out -> projectionScheduleService.writeSchedule(rows, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+    
+    /**
+     * Solve a plan for the monthly contribution, retirement age or return rate that reaches its desired income
+     */
+    @PostMapping("/planning/retirement-plan/goal-seek")
+    @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#planDTO.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<GoalSeekResultDTO> goalSeek(
+            @Valid @RequestBody RetirementPlanDTO planDTO,
+            @RequestParam(defaultValue = "monthly_contribution") GoalSeekTarget solveFor) {
+        // Validate user access
+        if (!authenticationService.validateUserAccess(planDTO.getUserId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(goalSeekService.solve(planDTO, solveFor));
+    }
+    
+    /**
+     * Solve many users' plans for the same input in one request, for advisors and batch jobs
+     */
+    @PostMapping("/planning/retirement-plan/goal-seek/batch")
+    @PreAuthorize("isAuthenticated() and (hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<List<GoalSeekResultDTO>> goalSeekBatch(
+            @RequestBody List<@Valid @NotNull RetirementPlanDTO> plans,
+            @RequestParam(defaultValue = "monthly_contribution") GoalSeekTarget solveFor) {
+        // Validate user access
+        for (RetirementPlanDTO plan : plans) {
+            if (!authenticationService.validateUserAccess(plan.getUserId())) {
+                return ResponseEntity.status(403).build();
+            }
+        }
+        
+        return ResponseEntity.ok(goalSeekService.solveBatch(plans, solveFor));
+    }
+    
     /**
      * Get what-if scenarios for retirement planning
      */
@@ -130,6 +254,21 @@ public class PlanningController {
         return ResponseEntity.ok(scenarios);
     }
     
+    /**
+     * Evaluate projections over ranges of retirement age, contribution, return rate and inflation,
+     * returned as columnar arrays for heatmaps and what-if sliders
+     */
+    @PostMapping("/planning/scenarios/grid")
+    @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#request.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<ScenarioGridDTO> getScenarioGrid(@Valid @RequestBody ScenarioGridRequestDTO request) {
+        // Validate user access
+        if (!authenticationService.validateUserAccess(request.getUserId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(scenarioGridService.evaluate(request));
+    }
+    
     // ========== SOCIAL SECURITY ENDPOINTS ==========
     
     /**
@@ -164,6 +303,20 @@ public class PlanningController {
         return ResponseEntity.ok(calculatedSS);
     }
     
+    /**
+     * Rank claiming ages for a worker, or pairs of claiming ages for a couple, by expected lifetime benefits
+     */
+    @PostMapping("/planning/social-security/claiming-strategy")
+    @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#request.userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
+    public ResponseEntity<ClaimingStrategyResultDTO> optimizeClaimingStrategy(@Valid @RequestBody ClaimingStrategyRequestDTO request) {
+        // Validate user access
+        if (!authenticationService.validateUserAccess(request.getUserId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(claimingStrategyService.optimize(request));
+    }
+    
     // ========== INVESTMENT STRATEGY ENDPOINTS ==========
     
     /**
@@ -171,16 +324,46 @@ public class PlanningController {
      */
     @GetMapping("/planning/investment-strategy/{userId}")
     @PreAuthorize("isAuthenticated() and (@authenticationService.validateUserAccess(#userId) or hasRole('ADMIN') or hasRole('FINANCIAL_ADVISOR'))")
-    public ResponseEntity<InvestmentStrategyDTO> getInvestmentStrategy(@PathVariable Long userId, @RequestParam(required = false) Integer age) {
+    public ResponseEntity<InvestmentStrategyDTO> getInvestmentStrategy(@PathVariable Long userId, @RequestParam(required = false) Integer age,
+                                                                       @RequestParam(required = false) Integer riskTolerance,
+                                                                       @RequestParam(required = false) BigDecimal portfolioValue) {
         // Validate user access
         if (!authenticationService.validateUserAccess(userId)) {
             return ResponseEntity.status(403).build();
         }
         
-        InvestmentStrategyDTO strategy = investmentStrategyService.generateStrategy(userId, age);
+        InvestmentStrategyDTO strategy = investmentStrategyService.generateStrategy(userId, age, riskTolerance, portfolioValue);
         return ResponseEntity.ok(strategy);
     }
     
+    /**
+     * Get the efficient frontier for the current capital market assumptions
+     */
+    @GetMapping("/planning/investment-strategy/frontier")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> getEfficientFrontier() {
+        EfficientFrontierService.Frontier frontier = efficientFrontierService.frontier();
+        List<String> assetClasses = new ArrayList<>();
+        for (int i = 0; i < capitalMarketAssumptions.size(); i++) {
+            assetClasses.add(capitalMarketAssumptions.assetClass(i));
+        }
+        
+        List<Map<String, Object>> points = new ArrayList<>();
+        for (int p = 0; p < frontier.size(); p++) {
+            Map<String, Object> point = new HashMap<>();
+            point.put("expectedReturn", frontier.expectedReturns()[p] * 100);
+            point.put("volatility", frontier.volatilities()[p] * 100);
+            point.put("weights", frontier.weights()[p]);
+            points.add(point);
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("assumptionsVersion", frontier.version());
+        response.put("assetClasses", assetClasses);
+        response.put("points", points);
+        return ResponseEntity.ok(response);
+    }
+    
     // ========== PLANNING TOOLS OVERVIEW ==========
     
     /**
@@ -213,12 +396,30 @@ public class PlanningController {
             "endpoint", "/api/planning/investment-strategy/" + userId
         ));
         
+        tools.put("projectionSchedule", Map.of(
+            "title", "Projection Schedule",
+            "description", "Year-by-year balances through retirement for charts",
+            "endpoint", "/api/planning/retirement-plan/schedule"
+        ));
+        
+        tools.put("goalSeek", Map.of(
+            "title", "Goal Seek",
+            "description", "Find the contribution, retirement age or return that meets your income goal",
+            "endpoint", "/api/planning/retirement-plan/goal-seek"
+        ));
+        
         tools.put("scenarios", Map.of(
             "title", "What-If Scenarios",
             "description", "Compare different retirement scenarios",
             "endpoint", "/api/planning/scenarios/" + userId
         ));
         
+        tools.put("scenarioGrid", Map.of(
+            "title", "Scenario Grid",
+            "description", "Sweep retirement age, contributions, returns and inflation in one request",
+            "endpoint", "/api/planning/scenarios/grid"
+        ));
+        
         return ResponseEntity.ok(tools);
     }
     
@@ -259,4 +460,29 @@ public class PlanningController {
         
         return ResponseEntity.ok(dashboard);
     }
+    
+    /**
+     * Invalid request parameters, such as an empty or oversized scenario grid or goal-seek batch
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Bad Request");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+    
+    /**
+     * Invalid elements of a request body list, such as a goal-seek batch plan without a user ID
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Bad Request");
+        response.put("message", ex.getConstraintViolations().stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", ")));
+        return ResponseEntity.badRequest().body(response);
+    }
 }
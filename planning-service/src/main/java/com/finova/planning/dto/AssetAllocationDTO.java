@@ -0,0 +1,37 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Recommended holding in one asset class
+ */
+public class AssetAllocationDTO {
+    
+    private String assetClass;
+    private String category; // "stocks", "bonds" or "cash"
+    private Integer percentage;
+    private BigDecimal amount;
+    
+    // Constructors
+    public AssetAllocationDTO() {}
+    
+    public AssetAllocationDTO(String assetClass, String category, Integer percentage, BigDecimal amount) {
+        this.assetClass = assetClass;
+        this.category = category;
+        this.percentage = percentage;
+        this.amount = amount;
+    }
+    
+    // Getters and Setters
+    public String getAssetClass() { return assetClass; }
+    public void setAssetClass(String assetClass) { this.assetClass = assetClass; }
+    
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    
+    public Integer getPercentage() { return percentage; }
+    public void setPercentage(Integer percentage) { this.percentage = percentage; }
+    
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+}
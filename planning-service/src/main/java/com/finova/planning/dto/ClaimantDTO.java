@@ -0,0 +1,50 @@
+package com.finova.planning.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One person's Social Security inputs for claiming-strategy optimization
+ */
+public class ClaimantDTO {
+    
+    @NotNull(message = "Date of birth is required")
+    @Past(message = "Date of birth must be in the past")
+    private LocalDate dateOfBirth;
+    
+    @PositiveOrZero(message = "Current salary must be positive or zero")
+    private BigDecimal currentSalary;
+    
+    @PositiveOrZero(message = "Years of work history must be positive or zero")
+    private Integer yearsOfWorkHistory;
+    
+    @Valid
+    private List<EarningsRecordDTO> earningsHistory; // replaces the history estimated from current salary
+    
+    // Constructors
+    public ClaimantDTO() {}
+    
+    public ClaimantDTO(LocalDate dateOfBirth, BigDecimal currentSalary) {
+        this.dateOfBirth = dateOfBirth;
+        this.currentSalary = currentSalary;
+    }
+    
+    // Getters and Setters
+    public LocalDate getDateOfBirth() { return dateOfBirth; }
+    public void setDateOfBirth(LocalDate dateOfBirth) { this.dateOfBirth = dateOfBirth; }
+    
+    public BigDecimal getCurrentSalary() { return currentSalary; }
+    public void setCurrentSalary(BigDecimal currentSalary) { this.currentSalary = currentSalary; }
+    
+    public Integer getYearsOfWorkHistory() { return yearsOfWorkHistory; }
+    public void setYearsOfWorkHistory(Integer yearsOfWorkHistory) { this.yearsOfWorkHistory = yearsOfWorkHistory; }
+    
+    public List<EarningsRecordDTO> getEarningsHistory() { return earningsHistory; }
+    public void setEarningsHistory(List<EarningsRecordDTO> earningsHistory) { this.earningsHistory = earningsHistory; }
+}
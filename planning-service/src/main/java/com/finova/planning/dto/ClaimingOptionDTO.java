@@ -0,0 +1,32 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Monthly Social Security benefit when claiming at one age between 62 and 70
+ */
+public class ClaimingOptionDTO {
+    
+    private Integer ageYears;
+    private Integer ageMonths;
+    private BigDecimal monthlyBenefit;
+    
+    // Constructors
+    public ClaimingOptionDTO() {}
+    
+    public ClaimingOptionDTO(Integer ageYears, Integer ageMonths, BigDecimal monthlyBenefit) {
+        this.ageYears = ageYears;
+        this.ageMonths = ageMonths;
+        this.monthlyBenefit = monthlyBenefit;
+    }
+    
+    // Getters and Setters
+    public Integer getAgeYears() { return ageYears; }
+    public void setAgeYears(Integer ageYears) { this.ageYears = ageYears; }
+    
+    public Integer getAgeMonths() { return ageMonths; }
+    public void setAgeMonths(Integer ageMonths) { this.ageMonths = ageMonths; }
+    
+    public BigDecimal getMonthlyBenefit() { return monthlyBenefit; }
+    public void setMonthlyBenefit(BigDecimal monthlyBenefit) { this.monthlyBenefit = monthlyBenefit; }
+}
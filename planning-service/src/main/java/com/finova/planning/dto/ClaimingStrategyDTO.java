@@ -0,0 +1,55 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One ranked claiming strategy; spouse fields are null for a single worker
+ */
+public class ClaimingStrategyDTO {
+    
+    private Integer rank;
+    private Integer workerClaimAgeYears;
+    private Integer workerClaimAgeMonths;
+    private Integer spouseClaimAgeYears;
+    private Integer spouseClaimAgeMonths;
+    
+    // Monthly benefits once both have claimed, including any spousal top-up
+    private BigDecimal workerMonthlyBenefit;
+    private BigDecimal spouseMonthlyBenefit;
+    
+    private BigDecimal expectedLifetimeBenefits; // mortality-weighted present value, today's dollars
+    private BigDecimal differenceFromBest;
+    
+    // Constructors
+    public ClaimingStrategyDTO() {}
+    
+    // Getters and Setters
+    public Integer getRank() { return rank; }
+    public void setRank(Integer rank) { this.rank = rank; }
+    
+    public Integer getWorkerClaimAgeYears() { return workerClaimAgeYears; }
+    public void setWorkerClaimAgeYears(Integer workerClaimAgeYears) { this.workerClaimAgeYears = workerClaimAgeYears; }
+    
+    public Integer getWorkerClaimAgeMonths() { return workerClaimAgeMonths; }
+    public void setWorkerClaimAgeMonths(Integer workerClaimAgeMonths) { this.workerClaimAgeMonths = workerClaimAgeMonths; }
+    
+    public Integer getSpouseClaimAgeYears() { return spouseClaimAgeYears; }
+    public void setSpouseClaimAgeYears(Integer spouseClaimAgeYears) { this.spouseClaimAgeYears = spouseClaimAgeYears; }
+    
+    public Integer getSpouseClaimAgeMonths() { return spouseClaimAgeMonths; }
+    public void setSpouseClaimAgeMonths(Integer spouseClaimAgeMonths) { this.spouseClaimAgeMonths = spouseClaimAgeMonths; }
+    
+    public BigDecimal getWorkerMonthlyBenefit() { return workerMonthlyBenefit; }
+    public void setWorkerMonthlyBenefit(BigDecimal workerMonthlyBenefit) { this.workerMonthlyBenefit = workerMonthlyBenefit; }
+    
+    public BigDecimal getSpouseMonthlyBenefit() { return spouseMonthlyBenefit; }
+    public void setSpouseMonthlyBenefit(BigDecimal spouseMonthlyBenefit) { this.spouseMonthlyBenefit = spouseMonthlyBenefit; }
+    
+    public BigDecimal getExpectedLifetimeBenefits() { return expectedLifetimeBenefits; }
+    public void setExpectedLifetimeBenefits(BigDecimal expectedLifetimeBenefits) {
+        this.expectedLifetimeBenefits = expectedLifetimeBenefits;
+    }
+    
+    public BigDecimal getDifferenceFromBest() { return differenceFromBest; }
+    public void setDifferenceFromBest(BigDecimal differenceFromBest) { this.differenceFromBest = differenceFromBest; }
+}
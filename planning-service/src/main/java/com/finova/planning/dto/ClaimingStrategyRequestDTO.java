@@ -0,0 +1,54 @@
+package com.finova.planning.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * Claiming-strategy request: a worker and an optional spouse.
+ * Without a spouse, only the worker's 97 claiming months are compared.
+ */
+public class ClaimingStrategyRequestDTO {
+    
+    @NotNull(message = "User ID is required")
+    private Long userId;
+    
+    @NotNull(message = "Worker is required")
+    @Valid
+    private ClaimantDTO worker;
+    
+    @Valid
+    private ClaimantDTO spouse;
+    
+    private BigDecimal discountRate; // annual real rate in percent; benefits are inflation-adjusted
+    
+    @Positive(message = "Number of strategies must be positive")
+    private Integer topStrategies;
+    
+    // Constructors
+    public ClaimingStrategyRequestDTO() {}
+    
+    public ClaimingStrategyRequestDTO(Long userId, ClaimantDTO worker, ClaimantDTO spouse) {
+        this.userId = userId;
+        this.worker = worker;
+        this.spouse = spouse;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public ClaimantDTO getWorker() { return worker; }
+    public void setWorker(ClaimantDTO worker) { this.worker = worker; }
+    
+    public ClaimantDTO getSpouse() { return spouse; }
+    public void setSpouse(ClaimantDTO spouse) { this.spouse = spouse; }
+    
+    public BigDecimal getDiscountRate() { return discountRate; }
+    public void setDiscountRate(BigDecimal discountRate) { this.discountRate = discountRate; }
+    
+    public Integer getTopStrategies() { return topStrategies; }
+    public void setTopStrategies(Integer topStrategies) { this.topStrategies = topStrategies; }
+}
@@ -0,0 +1,47 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Claiming strategies ranked by mortality-weighted lifetime benefits, best first
+ */
+public class ClaimingStrategyResultDTO {
+    
+    private Long userId;
+    private BigDecimal workerPrimaryInsuranceAmount;
+    private BigDecimal spousePrimaryInsuranceAmount;
+    private BigDecimal discountRate;
+    private Integer strategiesEvaluated;
+    private List<ClaimingStrategyDTO> strategies;
+    
+    // Constructors
+    public ClaimingStrategyResultDTO() {}
+    
+    public ClaimingStrategyResultDTO(Long userId) {
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public BigDecimal getWorkerPrimaryInsuranceAmount() { return workerPrimaryInsuranceAmount; }
+    public void setWorkerPrimaryInsuranceAmount(BigDecimal workerPrimaryInsuranceAmount) {
+        this.workerPrimaryInsuranceAmount = workerPrimaryInsuranceAmount;
+    }
+    
+    public BigDecimal getSpousePrimaryInsuranceAmount() { return spousePrimaryInsuranceAmount; }
+    public void setSpousePrimaryInsuranceAmount(BigDecimal spousePrimaryInsuranceAmount) {
+        this.spousePrimaryInsuranceAmount = spousePrimaryInsuranceAmount;
+    }
+    
+    public BigDecimal getDiscountRate() { return discountRate; }
+    public void setDiscountRate(BigDecimal discountRate) { this.discountRate = discountRate; }
+    
+    public Integer getStrategiesEvaluated() { return strategiesEvaluated; }
+    public void setStrategiesEvaluated(Integer strategiesEvaluated) { this.strategiesEvaluated = strategiesEvaluated; }
+    
+    public List<ClaimingStrategyDTO> getStrategies() { return strategies; }
+    public void setStrategies(List<ClaimingStrategyDTO> strategies) { this.strategies = strategies; }
+}
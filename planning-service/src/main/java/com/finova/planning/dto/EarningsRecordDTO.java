@@ -0,0 +1,34 @@
+package com.finova.planning.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+/**
+ * Covered earnings for one calendar year
+ */
+public class EarningsRecordDTO {
+    
+    @NotNull(message = "Earnings year is required")
+    private Integer year;
+    
+    @NotNull(message = "Earnings amount is required")
+    @PositiveOrZero(message = "Earnings must be positive or zero")
+    private BigDecimal amount;
+    
+    // Constructors
+    public EarningsRecordDTO() {}
+    
+    public EarningsRecordDTO(Integer year, BigDecimal amount) {
+        this.year = year;
+        this.amount = amount;
+    }
+    
+    // Getters and Setters
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+}
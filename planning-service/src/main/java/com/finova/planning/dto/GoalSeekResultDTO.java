@@ -0,0 +1,53 @@
+package com.finova.planning.dto;
+
+import com.finova.planning.service.GoalSeekTarget;
+
+import java.math.BigDecimal;
+
+/**
+ * Goal-seek result: the solved plan input and the plan recalculated with it
+ */
+public class GoalSeekResultDTO {
+    
+    private Long userId;
+    private GoalSeekTarget solveFor;
+    private Boolean feasible;
+    private BigDecimal value; // contribution in dollars, age in years or return rate in percent
+    private String method; // "closed_form" or "newton"
+    private Integer iterations;
+    private String message;
+    private RetirementPlanDTO plan;
+    
+    // Constructors
+    public GoalSeekResultDTO() {}
+    
+    public GoalSeekResultDTO(Long userId, GoalSeekTarget solveFor) {
+        this.userId = userId;
+        this.solveFor = solveFor;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public GoalSeekTarget getSolveFor() { return solveFor; }
+    public void setSolveFor(GoalSeekTarget solveFor) { this.solveFor = solveFor; }
+    
+    public Boolean getFeasible() { return feasible; }
+    public void setFeasible(Boolean feasible) { this.feasible = feasible; }
+    
+    public BigDecimal getValue() { return value; }
+    public void setValue(BigDecimal value) { this.value = value; }
+    
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    
+    public Integer getIterations() { return iterations; }
+    public void setIterations(Integer iterations) { this.iterations = iterations; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    
+    public RetirementPlanDTO getPlan() { return plan; }
+    public void setPlan(RetirementPlanDTO plan) { this.plan = plan; }
+}
@@ -37,6 +37,13 @@ public class InvestmentStrategyDTO {
     private BigDecimal bondsAmount;
     private BigDecimal cashAmount;
     
+    // Frontier portfolio behind the allocation
+    private Integer riskTolerance; // 1 (lowest risk) to 10
+    private BigDecimal expectedReturn; // annual percent
+    private BigDecimal expectedVolatility; // annual percent
+    private String assumptionsVersion;
+    private List<AssetAllocationDTO> allocations;
+    
     // Performance data
     private String returnPercentage;
     private BigDecimal contributions;
@@ -102,6 +109,21 @@ public class InvestmentStrategyDTO {
     public BigDecimal getCashAmount() { return cashAmount; }
     public void setCashAmount(BigDecimal cashAmount) { this.cashAmount = cashAmount; }
     
+    public Integer getRiskTolerance() { return riskTolerance; }
+    public void setRiskTolerance(Integer riskTolerance) { this.riskTolerance = riskTolerance; }
+    
+    public BigDecimal getExpectedReturn() { return expectedReturn; }
+    public void setExpectedReturn(BigDecimal expectedReturn) { this.expectedReturn = expectedReturn; }
+    
+    public BigDecimal getExpectedVolatility() { return expectedVolatility; }
+    public void setExpectedVolatility(BigDecimal expectedVolatility) { this.expectedVolatility = expectedVolatility; }
+    
+    public String getAssumptionsVersion() { return assumptionsVersion; }
+    public void setAssumptionsVersion(String assumptionsVersion) { this.assumptionsVersion = assumptionsVersion; }
+    
+    public List<AssetAllocationDTO> getAllocations() { return allocations; }
+    public void setAllocations(List<AssetAllocationDTO> allocations) { this.allocations = allocations; }
+    
     public String getReturnPercentage() { return returnPercentage; }
     public void setReturnPercentage(String returnPercentage) { this.returnPercentage = returnPercentage; }
     
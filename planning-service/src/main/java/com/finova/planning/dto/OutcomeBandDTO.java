@@ -0,0 +1,47 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Percentiles of simulated portfolio balances at one age
+ */
+public class OutcomeBandDTO {
+    
+    private Integer age;
+    private BigDecimal p10;
+    private BigDecimal p25;
+    private BigDecimal p50;
+    private BigDecimal p75;
+    private BigDecimal p90;
+    
+    // Constructors
+    public OutcomeBandDTO() {}
+    
+    public OutcomeBandDTO(Integer age, BigDecimal p10, BigDecimal p25, BigDecimal p50, BigDecimal p75, BigDecimal p90) {
+        this.age = age;
+        this.p10 = p10;
+        this.p25 = p25;
+        this.p50 = p50;
+        this.p75 = p75;
+        this.p90 = p90;
+    }
+    
+    // Getters and Setters
+    public Integer getAge() { return age; }
+    public void setAge(Integer age) { this.age = age; }
+    
+    public BigDecimal getP10() { return p10; }
+    public void setP10(BigDecimal p10) { this.p10 = p10; }
+    
+    public BigDecimal getP25() { return p25; }
+    public void setP25(BigDecimal p25) { this.p25 = p25; }
+    
+    public BigDecimal getP50() { return p50; }
+    public void setP50(BigDecimal p50) { this.p50 = p50; }
+    
+    public BigDecimal getP75() { return p75; }
+    public void setP75(BigDecimal p75) { this.p75 = p75; }
+    
+    public BigDecimal getP90() { return p90; }
+    public void setP90(BigDecimal p90) { this.p90 = p90; }
+}
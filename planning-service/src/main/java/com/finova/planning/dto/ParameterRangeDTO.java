@@ -0,0 +1,39 @@
+package com.finova.planning.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive range of values for one scenario grid dimension; a range without "to" is a single value
+ */
+public class ParameterRangeDTO {
+    
+    @NotNull(message = "Range start is required")
+    private BigDecimal from;
+    
+    private BigDecimal to;
+    
+    @Positive(message = "Range step must be positive")
+    private BigDecimal step;
+    
+    // Constructors
+    public ParameterRangeDTO() {}
+    
+    public ParameterRangeDTO(BigDecimal from, BigDecimal to, BigDecimal step) {
+        this.from = from;
+        this.to = to;
+        this.step = step;
+    }
+    
+    // Getters and Setters
+    public BigDecimal getFrom() { return from; }
+    public void setFrom(BigDecimal from) { this.from = from; }
+    
+    public BigDecimal getTo() { return to; }
+    public void setTo(BigDecimal to) { this.to = to; }
+    
+    public BigDecimal getStep() { return step; }
+    public void setStep(BigDecimal step) { this.step = step; }
+}
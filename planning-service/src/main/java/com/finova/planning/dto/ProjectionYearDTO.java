@@ -0,0 +1,50 @@
+package com.finova.planning.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One year of a projection schedule; amounts are nominal unless noted
+ */
+public class ProjectionYearDTO {
+    
+    private Integer year; // years from today, 0 is the opening balance
+    private Integer age; // age at the end of the year
+    private String phase; // "accumulation" or "retirement"
+    private BigDecimal contributions;
+    private BigDecimal withdrawals;
+    private BigDecimal growth;
+    private BigDecimal balance;
+    private BigDecimal realBalance; // balance in today's dollars
+    private BigDecimal shortfall; // withdrawals the balance could not cover
+    
+    // Constructors
+    public ProjectionYearDTO() {}
+    
+    // Getters and Setters
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    
+    public Integer getAge() { return age; }
+    public void setAge(Integer age) { this.age = age; }
+    
+    public String getPhase() { return phase; }
+    public void setPhase(String phase) { this.phase = phase; }
+    
+    public BigDecimal getContributions() { return contributions; }
+    public void setContributions(BigDecimal contributions) { this.contributions = contributions; }
+    
+    public BigDecimal getWithdrawals() { return withdrawals; }
+    public void setWithdrawals(BigDecimal withdrawals) { this.withdrawals = withdrawals; }
+    
+    public BigDecimal getGrowth() { return growth; }
+    public void setGrowth(BigDecimal growth) { this.growth = growth; }
+    
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+    
+    public BigDecimal getRealBalance() { return realBalance; }
+    public void setRealBalance(BigDecimal realBalance) { this.realBalance = realBalance; }
+    
+    public BigDecimal getShortfall() { return shortfall; }
+    public void setShortfall(BigDecimal shortfall) { this.shortfall = shortfall; }
+}
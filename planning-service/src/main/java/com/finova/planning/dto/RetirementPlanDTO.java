@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * DTO for retirement planning calculations
@@ -43,6 +44,9 @@ public class RetirementPlanDTO {
     @PositiveOrZero(message = "Expected inflation rate must be positive or zero")
     private BigDecimal expectedInflationRate;
     
+    @PositiveOrZero(message = "Expected volatility must be positive or zero")
+    private BigDecimal expectedVolatility; // annual standard deviation of returns, in percent
+    
     // Calculated results
     private Integer yearsToRetirement;
     private BigDecimal projectedBalance;
@@ -50,6 +54,14 @@ public class RetirementPlanDTO {
     private String status; // "on_track", "behind", "ahead"
     private String recommendations;
     
+    // Monte Carlo simulation results
+    private String simulationMode; // "PARAMETRIC" or "BOOTSTRAP"
+    private String historicalFrequency; // bootstrap only: "ANNUAL" when each year is twelve identical months, else "MONTHLY"
+    private Integer simulationPaths;
+    private Long simulationSeed;
+    private BigDecimal successProbability; // share of paths that fund the whole retirement, 0 to 1
+    private List<OutcomeBandDTO> outcomeBands;
+    
     // Constructors
     public RetirementPlanDTO() {}
     
@@ -117,6 +129,27 @@ public class RetirementPlanDTO {
     public String getRecommendations() { return recommendations; }
     public void setRecommendations(String recommendations) { this.recommendations = recommendations; }
     
+    public BigDecimal getExpectedVolatility() { return expectedVolatility; }
+    public void setExpectedVolatility(BigDecimal expectedVolatility) { this.expectedVolatility = expectedVolatility; }
+    
+    public String getSimulationMode() { return simulationMode; }
+    public void setSimulationMode(String simulationMode) { this.simulationMode = simulationMode; }
+    
+    public String getHistoricalFrequency() { return historicalFrequency; }
+    public void setHistoricalFrequency(String historicalFrequency) { this.historicalFrequency = historicalFrequency; }
+    
+    public Integer getSimulationPaths() { return simulationPaths; }
+    public void setSimulationPaths(Integer simulationPaths) { this.simulationPaths = simulationPaths; }
+    
+    public Long getSimulationSeed() { return simulationSeed; }
+    public void setSimulationSeed(Long simulationSeed) { this.simulationSeed = simulationSeed; }
+    
+    public BigDecimal getSuccessProbability() { return successProbability; }
+    public void setSuccessProbability(BigDecimal successProbability) { this.successProbability = successProbability; }
+    
+    public List<OutcomeBandDTO> getOutcomeBands() { return outcomeBands; }
+    public void setOutcomeBands(List<OutcomeBandDTO> outcomeBands) { this.outcomeBands = outcomeBands; }
+    
     private void calculateYearsToRetirement() {
         if (currentAge != null && retirementAge != null) {
             this.yearsToRetirement = retirementAge - currentAge;
@@ -0,0 +1,68 @@
+package com.finova.planning.dto;
+
+import java.util.List;
+
+/**
+ * Scenario grid result in columnar form for heatmap rendering.
+ * 
+ * Each result array holds one value per cell. The cell for retirementAges[a], monthlyContributions[c],
+ * expectedReturnRates[r] and expectedInflationRates[i] is at index ((a * C + c) * R + r) * I + i,
+ * where C, R and I are the lengths of the contribution, return rate and inflation axes.
+ */
+public class ScenarioGridDTO {
+    
+    private Long userId;
+    private List<String> dimensions;
+    private int cellCount;
+    
+    // Axes
+    private int[] retirementAges;
+    private double[] monthlyContributions;
+    private double[] expectedReturnRates;
+    private double[] expectedInflationRates;
+    
+    // Results, one value per cell
+    private double[] projectedBalance;
+    private double[] projectedMonthlyIncome;
+    private double[] realMonthlyIncome; // projected income in today's dollars
+    private boolean[] onTrack; // nominal projected income meets the desired income, as in a plan's status
+    
+    // Constructors
+    public ScenarioGridDTO() {}
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public List<String> getDimensions() { return dimensions; }
+    public void setDimensions(List<String> dimensions) { this.dimensions = dimensions; }
+    
+    public int getCellCount() { return cellCount; }
+    public void setCellCount(int cellCount) { this.cellCount = cellCount; }
+    
+    public int[] getRetirementAges() { return retirementAges; }
+    public void setRetirementAges(int[] retirementAges) { this.retirementAges = retirementAges; }
+    
+    public double[] getMonthlyContributions() { return monthlyContributions; }
+    public void setMonthlyContributions(double[] monthlyContributions) { this.monthlyContributions = monthlyContributions; }
+    
+    public double[] getExpectedReturnRates() { return expectedReturnRates; }
+    public void setExpectedReturnRates(double[] expectedReturnRates) { this.expectedReturnRates = expectedReturnRates; }
+    
+    public double[] getExpectedInflationRates() { return expectedInflationRates; }
+    public void setExpectedInflationRates(double[] expectedInflationRates) {
+        this.expectedInflationRates = expectedInflationRates;
+    }
+    
+    public double[] getProjectedBalance() { return projectedBalance; }
+    public void setProjectedBalance(double[] projectedBalance) { this.projectedBalance = projectedBalance; }
+    
+    public double[] getProjectedMonthlyIncome() { return projectedMonthlyIncome; }
+    public void setProjectedMonthlyIncome(double[] projectedMonthlyIncome) { this.projectedMonthlyIncome = projectedMonthlyIncome; }
+    
+    public double[] getRealMonthlyIncome() { return realMonthlyIncome; }
+    public void setRealMonthlyIncome(double[] realMonthlyIncome) { this.realMonthlyIncome = realMonthlyIncome; }
+    
+    public boolean[] getOnTrack() { return onTrack; }
+    public void setOnTrack(boolean[] onTrack) { this.onTrack = onTrack; }
+}
@@ -0,0 +1,77 @@
+package com.finova.planning.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+/**
+ * Scenario grid request: fixed plan inputs plus a range for each swept parameter.
+ * Ranges that are omitted default to the single value the retirement plan would use.
+ */
+public class ScenarioGridRequestDTO {
+    
+    @NotNull(message = "User ID is required")
+    private Long userId;
+    
+    @NotNull(message = "Current age is required")
+    @Positive(message = "Current age must be positive")
+    private Integer currentAge;
+    
+    @PositiveOrZero(message = "Current savings must be positive or zero")
+    private BigDecimal currentSavings;
+    
+    @PositiveOrZero(message = "Employer match must be positive or zero")
+    private BigDecimal employerMatch;
+    
+    @PositiveOrZero(message = "Desired monthly income must be positive or zero")
+    private BigDecimal desiredMonthlyIncome;
+    
+    @NotNull(message = "Retirement age range is required")
+    @Valid
+    private ParameterRangeDTO retirementAge;
+    
+    @Valid
+    private ParameterRangeDTO monthlyContribution;
+    
+    @Valid
+    private ParameterRangeDTO expectedReturnRate;
+    
+    @Valid
+    private ParameterRangeDTO expectedInflationRate;
+    
+    // Constructors
+    public ScenarioGridRequestDTO() {}
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Integer getCurrentAge() { return currentAge; }
+    public void setCurrentAge(Integer currentAge) { this.currentAge = currentAge; }
+    
+    public BigDecimal getCurrentSavings() { return currentSavings; }
+    public void setCurrentSavings(BigDecimal currentSavings) { this.currentSavings = currentSavings; }
+    
+    public BigDecimal getEmployerMatch() { return employerMatch; }
+    public void setEmployerMatch(BigDecimal employerMatch) { this.employerMatch = employerMatch; }
+    
+    public BigDecimal getDesiredMonthlyIncome() { return desiredMonthlyIncome; }
+    public void setDesiredMonthlyIncome(BigDecimal desiredMonthlyIncome) { this.desiredMonthlyIncome = desiredMonthlyIncome; }
+    
+    public ParameterRangeDTO getRetirementAge() { return retirementAge; }
+    public void setRetirementAge(ParameterRangeDTO retirementAge) { this.retirementAge = retirementAge; }
+    
+    public ParameterRangeDTO getMonthlyContribution() { return monthlyContribution; }
+    public void setMonthlyContribution(ParameterRangeDTO monthlyContribution) { this.monthlyContribution = monthlyContribution; }
+    
+    public ParameterRangeDTO getExpectedReturnRate() { return expectedReturnRate; }
+    public void setExpectedReturnRate(ParameterRangeDTO expectedReturnRate) { this.expectedReturnRate = expectedReturnRate; }
+    
+    public ParameterRangeDTO getExpectedInflationRate() { return expectedInflationRate; }
+    public void setExpectedInflationRate(ParameterRangeDTO expectedInflationRate) {
+        this.expectedInflationRate = expectedInflationRate;
+    }
+}
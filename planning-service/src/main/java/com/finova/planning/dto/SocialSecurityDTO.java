@@ -1,11 +1,13 @@
 package com.finova.planning.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * DTO for Social Security benefits estimation
@@ -25,6 +27,9 @@ public class SocialSecurityDTO {
     @PositiveOrZero(message = "Years of work history must be positive or zero")
     private Integer yearsOfWorkHistory;
     
+    @Valid
+    private List<EarningsRecordDTO> earningsHistory; // replaces the history estimated from current salary
+    
     private String claimAge; // "Age 62", "Age 67 (Full Retirement Age)", "Age 70"
     
     // Calculated benefits
@@ -34,6 +39,10 @@ public class SocialSecurityDTO {
     
     // Additional information
     private Integer fullRetirementAge;
+    private Integer fullRetirementAgeMonths; // months past the full retirement age in years, 0 to 10
+    private BigDecimal averageIndexedMonthlyEarnings;
+    private BigDecimal primaryInsuranceAmount;
+    private List<ClaimingOptionDTO> claimingOptions; // every month from 62 to 70
     private String recommendations;
     
     // Constructors
@@ -77,6 +86,21 @@ public class SocialSecurityDTO {
     public Integer getFullRetirementAge() { return fullRetirementAge; }
     public void setFullRetirementAge(Integer fullRetirementAge) { this.fullRetirementAge = fullRetirementAge; }
     
+    public Integer getFullRetirementAgeMonths() { return fullRetirementAgeMonths; }
+    public void setFullRetirementAgeMonths(Integer fullRetirementAgeMonths) { this.fullRetirementAgeMonths = fullRetirementAgeMonths; }
+    
+    public List<EarningsRecordDTO> getEarningsHistory() { return earningsHistory; }
+    public void setEarningsHistory(List<EarningsRecordDTO> earningsHistory) { this.earningsHistory = earningsHistory; }
+    
+    public BigDecimal getAverageIndexedMonthlyEarnings() { return averageIndexedMonthlyEarnings; }
+    public void setAverageIndexedMonthlyEarnings(BigDecimal averageIndexedMonthlyEarnings) { this.averageIndexedMonthlyEarnings = averageIndexedMonthlyEarnings; }
+    
+    public BigDecimal getPrimaryInsuranceAmount() { return primaryInsuranceAmount; }
+    public void setPrimaryInsuranceAmount(BigDecimal primaryInsuranceAmount) { this.primaryInsuranceAmount = primaryInsuranceAmount; }
+    
+    public List<ClaimingOptionDTO> getClaimingOptions() { return claimingOptions; }
+    public void setClaimingOptions(List<ClaimingOptionDTO> claimingOptions) { this.claimingOptions = claimingOptions; }
+    
     public String getRecommendations() { return recommendations; }
     public void setRecommendations(String recommendations) { this.recommendations = recommendations; }
     
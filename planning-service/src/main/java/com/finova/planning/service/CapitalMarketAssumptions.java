@@ -0,0 +1,139 @@
+package com.finova.planning.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versioned capital market assumptions: expected returns, volatilities and correlations per asset class.
+ *
+ * Read once at startup from a CSV resource into primitive arrays. The covariance matrix is stored
+ * row-major in a flat array and checked to be positive definite, so optimizers can rely on it.
+ * Returns and covariances are annual and in decimal form.
+ */
+@Component
+public class CapitalMarketAssumptions {
+    
+    public static final List<String> CATEGORIES = List.of("stocks", "bonds", "cash");
+    
+    private final String version;
+    private final String[] assetClasses;
+    private final String[] categories;
+    private final double[] expectedReturns;
+    private final double[] volatilities;
+    private final double[] covariance;
+    
+    public CapitalMarketAssumptions(
+            @Value("${finova.planning.investment.assumptions-resource:investment/capital-market-assumptions.csv}") String resource) {
+        String fileVersion = null;
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#") || line.startsWith("asset_class")) {
+                    continue;
+                }
+                String[] cells = line.split(",");
+                if (cells[0].trim().equals("version")) {
+                    fileVersion = cells[1].trim();
+                } else {
+                    rows.add(cells);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read capital market assumptions from " + resource, e);
+        }
+        if (fileVersion == null || rows.isEmpty()) {
+            throw new IllegalStateException("Capital market assumptions in " + resource + " need a version and asset classes");
+        }
+        
+        int n = rows.size();
+        this.version = fileVersion;
+        this.assetClasses = new String[n];
+        this.categories = new String[n];
+        this.expectedReturns = new double[n];
+        this.volatilities = new double[n];
+        this.covariance = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            String[] cells = rows.get(i);
+            if (cells.length != 4 + n) {
+                throw new IllegalStateException("Asset class " + cells[0].trim() + " needs " + n + " correlations");
+            }
+            assetClasses[i] = cells[0].trim();
+            categories[i] = cells[1].trim();
+            if (!CATEGORIES.contains(categories[i])) {
+                throw new IllegalStateException("Asset class " + assetClasses[i] + " must be in one of " + CATEGORIES);
+            }
+            expectedReturns[i] = Double.parseDouble(cells[2].trim()) / 100.0;
+            volatilities[i] = Double.parseDouble(cells[3].trim()) / 100.0;
+        }
+        for (int i = 0; i < n; i++) {
+            String[] cells = rows.get(i);
+            for (int j = 0; j < n; j++) {
+                double correlation = Double.parseDouble(cells[4 + j].trim());
+                if (correlation != Double.parseDouble(rows.get(j)[4 + i].trim()) || (i == j && correlation != 1.0)) {
+                    throw new IllegalStateException("Correlations must be symmetric with a unit diagonal");
+                }
+                covariance[i * n + j] = correlation * volatilities[i] * volatilities[j];
+            }
+        }
+        if (!positiveDefinite(covariance, n)) {
+            throw new IllegalStateException("Capital market assumptions " + version + " have a covariance matrix that is not positive definite");
+        }
+    }
+    
+    /**
+     * Cholesky factorisation succeeds only for a positive definite matrix
+     */
+    private static boolean positiveDefinite(double[] matrix, int n) {
+        double[] lower = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = matrix[i * n + j];
+                for (int k = 0; k < j; k++) {
+                    sum -= lower[i * n + k] * lower[j * n + k];
+                }
+                if (i == j) {
+                    if (sum <= 0) {
+                        return false;
+                    }
+                    lower[i * n + i] = Math.sqrt(sum);
+                } else {
+                    lower[i * n + j] = sum / lower[j * n + j];
+                }
+            }
+        }
+        return true;
+    }
+    
+    public String getVersion() { return version; }
+    
+    public int size() { return assetClasses.length; }
+    
+    public String assetClass(int i) { return assetClasses[i]; }
+    
+    public String category(int i) { return categories[i]; }
+    
+    public double expectedReturn(int i) { return expectedReturns[i]; }
+    
+    public double volatility(int i) { return volatilities[i]; }
+    
+    /**
+     * Covariance matrix, row-major; callers must not modify it
+     */
+    double[] covariance() { return covariance; }
+    
+    /**
+     * Expected returns in asset order; callers must not modify them
+     */
+    double[] expectedReturns() { return expectedReturns; }
+}
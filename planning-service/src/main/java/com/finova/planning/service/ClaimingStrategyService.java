@@ -0,0 +1,241 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.ClaimantDTO;
+import com.finova.planning.dto.ClaimingStrategyDTO;
+import com.finova.planning.dto.ClaimingStrategyRequestDTO;
+import com.finova.planning.dto.ClaimingStrategyResultDTO;
+import com.finova.planning.dto.SocialSecurityDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks Social Security claiming strategies for a worker and optional spouse by expected lifetime
+ * benefits, over every pair of claiming months from 62 to 70.
+ *
+ * Each person's own benefit, spousal top-up and the survivor benefit they leave behind come from
+ * the PIA engine. Lifetimes are independent Gompertz draws conditioned on current age, and benefits
+ * are discounted at a real rate since they are inflation-adjusted. Within a strategy every benefit
+ * is constant from a start month onwards, so suffix sums of the discounted probabilities that both,
+ * only the worker or only the spouse are alive reduce each cell of the grid to a handful of array
+ * reads. Only the best strategies are kept, in a bounded heap that rejects cells below its floor.
+ *
+ * A survivor steps up to the deceased's benefit at the deceased's chosen claiming age, floored at
+ * 82.5% of their PIA, from the survivor's own claiming age. Survivor reductions before full
+ * retirement age and the earnings test are not modelled.
+ */
+@Service
+public class ClaimingStrategyService {
+    
+    private static final int OPTIONS = SocialSecurityTables.LATEST_CLAIM_MONTHS - SocialSecurityTables.EARLIEST_CLAIM_MONTHS + 1;
+    private static final int MAX_AGE_MONTHS = 110 * 12;
+    private static final double SURVIVOR_FLOOR = 0.825;
+    
+    private final SocialSecurityService socialSecurityService;
+    private final SocialSecurityTables socialSecurityTables;
+    private final double defaultDiscountRate;
+    private final int defaultTopStrategies;
+    private final int maxTopStrategies;
+    private final double mortalityModalAge;
+    private final double mortalityDispersion;
+    
+    public ClaimingStrategyService(SocialSecurityService socialSecurityService, SocialSecurityTables socialSecurityTables,
+                                   @Value("${finova.planning.claiming-strategy.default-discount-rate:2.0}") double defaultDiscountRate,
+                                   @Value("${finova.planning.claiming-strategy.default-top-strategies:10}") int defaultTopStrategies,
+                                   @Value("${finova.planning.claiming-strategy.max-top-strategies:100}") int maxTopStrategies,
+                                   @Value("${finova.planning.claiming-strategy.mortality-modal-age:88.0}") double mortalityModalAge,
+                                   @Value("${finova.planning.claiming-strategy.mortality-dispersion:10.0}") double mortalityDispersion) {
+        this.socialSecurityService = socialSecurityService;
+        this.socialSecurityTables = socialSecurityTables;
+        this.defaultDiscountRate = defaultDiscountRate;
+        this.defaultTopStrategies = defaultTopStrategies;
+        this.maxTopStrategies = maxTopStrategies;
+        this.mortalityModalAge = mortalityModalAge;
+        this.mortalityDispersion = mortalityDispersion;
+    }
+    
+    /**
+     * Evaluate every feasible pair of claiming months and return the best strategies
+     */
+    public ClaimingStrategyResultDTO optimize(ClaimingStrategyRequestDTO request) {
+        int topStrategies = request.getTopStrategies() != null ? request.getTopStrategies() : defaultTopStrategies;
+        if (topStrategies > maxTopStrategies) {
+            throw new IllegalArgumentException("At most " + maxTopStrategies + " strategies can be returned");
+        }
+        double discountRate = request.getDiscountRate() != null ? request.getDiscountRate().doubleValue() : defaultDiscountRate;
+        if (discountRate <= -100) {
+            throw new IllegalArgumentException("Discount rate must be greater than -100%");
+        }
+        
+        LocalDate today = LocalDate.now();
+        Claimant worker = claimant(request.getUserId(), request.getWorker(), today);
+        Claimant spouse = request.getSpouse() != null ? claimant(request.getUserId(), request.getSpouse(), today) : null;
+        
+        int horizon = MAX_AGE_MONTHS - Math.min(worker.ageMonths(), spouse != null ? spouse.ageMonths() : MAX_AGE_MONTHS);
+        double[] workerSurvival = survival(worker.ageMonths(), horizon);
+        double[] spouseSurvival = spouse != null ? survival(spouse.ageMonths(), horizon) : new double[horizon];
+        
+        // Discounted probability mass from month t onwards that both, only the worker or only the spouse are alive
+        double[] both = new double[horizon + 1];
+        double[] workerOnly = new double[horizon + 1];
+        double[] spouseOnly = new double[horizon + 1];
+        double monthlyDiscount = Math.pow(1 + discountRate / 100.0, -1.0 / 12.0);
+        for (int t = horizon - 1; t >= 0; t--) {
+            double discount = Math.pow(monthlyDiscount, t);
+            double pw = workerSurvival[t];
+            double ps = spouseSurvival[t];
+            both[t] = both[t + 1] + discount * pw * ps;
+            workerOnly[t] = workerOnly[t + 1] + discount * pw * (1 - ps);
+            spouseOnly[t] = spouseOnly[t + 1] + discount * (1 - pw) * ps;
+        }
+        
+        Options w = options(worker, spouse, horizon);
+        Options s = spouse != null ? options(spouse, worker, horizon) : Options.none(horizon);
+        
+        PriorityQueue<Cell> best = new PriorityQueue<>(topStrategies + 1, Comparator.comparingDouble(Cell::value));
+        for (int i = 0; i < w.count(); i++) {
+            double ownW = w.own()[i];
+            double survivorW = w.survivor()[i];
+            int tw = w.start()[i];
+            double bothFromW = both[tw];
+            double workerOnlyFromW = workerOnly[tw];
+            for (int j = 0; j < s.count(); j++) {
+                int ts = s.start()[j];
+                int tb = Math.max(tw, ts);
+                double value = ownW * bothFromW + s.own()[j] * both[ts]
+                    + (w.spousal()[tb] + s.spousal()[tb]) * both[tb]
+                    + Math.max(ownW, s.survivor()[j]) * workerOnlyFromW
+                    + Math.max(s.own()[j], survivorW) * spouseOnly[ts];
+                if (best.size() < topStrategies) {
+                    best.add(new Cell(i, j, value));
+                } else if (value > best.peek().value()) {
+                    best.poll();
+                    best.add(new Cell(i, j, value));
+                }
+            }
+        }
+        
+        List<Cell> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.comparingDouble(Cell::value).reversed());
+        List<ClaimingStrategyDTO> strategies = new ArrayList<>(ranked.size());
+        for (Cell cell : ranked) {
+            strategies.add(strategy(strategies.size() + 1, cell, ranked.get(0).value(), w, s, spouse != null));
+        }
+        
+        ClaimingStrategyResultDTO result = new ClaimingStrategyResultDTO(request.getUserId());
+        result.setWorkerPrimaryInsuranceAmount(worker.primaryInsuranceAmount());
+        result.setSpousePrimaryInsuranceAmount(spouse != null ? spouse.primaryInsuranceAmount() : null);
+        result.setDiscountRate(BigDecimal.valueOf(discountRate));
+        result.setStrategiesEvaluated(w.count() * s.count());
+        result.setStrategies(strategies);
+        return result;
+    }
+    
+    private Claimant claimant(Long userId, ClaimantDTO claimantDTO, LocalDate today) {
+        int ageMonths = (int) Period.between(claimantDTO.getDateOfBirth(), today).toTotalMonths();
+        if (ageMonths >= MAX_AGE_MONTHS) {
+            throw new IllegalArgumentException("Claimants must be younger than " + MAX_AGE_MONTHS / 12);
+        }
+        SocialSecurityDTO ssDTO = new SocialSecurityDTO(userId, claimantDTO.getDateOfBirth(),
+            claimantDTO.getCurrentSalary(), claimantDTO.getYearsOfWorkHistory());
+        ssDTO.setEarningsHistory(claimantDTO.getEarningsHistory());
+        ssDTO = socialSecurityService.calculateBenefits(ssDTO);
+        
+        double[] monthlyBenefits = new double[OPTIONS];
+        for (int k = 0; k < OPTIONS; k++) {
+            monthlyBenefits[k] = ssDTO.getClaimingOptions().get(k).getMonthlyBenefit().doubleValue();
+        }
+        return new Claimant(ageMonths, ssDTO.getFullRetirementAge() * 12 + ssDTO.getFullRetirementAgeMonths(),
+            ssDTO.getPrimaryInsuranceAmount(), monthlyBenefits);
+    }
+    
+    /**
+     * Feasible claiming months from the later of 62 and today, with the benefits each one implies
+     */
+    private Options options(Claimant self, Claimant other, int horizon) {
+        int first = Math.min(OPTIONS - 1, Math.max(0, self.ageMonths() - SocialSecurityTables.EARLIEST_CLAIM_MONTHS));
+        int count = OPTIONS - first;
+        int[] claimMonths = new int[count];
+        int[] start = new int[count];
+        double[] own = new double[count];
+        double[] survivor = new double[count];
+        double pia = self.primaryInsuranceAmount().doubleValue();
+        for (int k = 0; k < count; k++) {
+            claimMonths[k] = SocialSecurityTables.EARLIEST_CLAIM_MONTHS + first + k;
+            start[k] = Math.max(0, claimMonths[k] - self.ageMonths());
+            own[k] = self.monthlyBenefits()[first + k];
+            survivor[k] = Math.max(own[k], Math.floor(pia * SURVIVOR_FLOOR));
+        }
+        
+        // The spousal top-up starts once both have claimed; its reduction depends on this person's age then
+        double[] spousal = new double[horizon + 1];
+        double excess = other != null ? 0.5 * other.primaryInsuranceAmount().doubleValue() - pia : 0;
+        if (excess > 0) {
+            for (int t = 0; t <= horizon; t++) {
+                int ageMonths = Math.min(SocialSecurityTables.LATEST_CLAIM_MONTHS, self.ageMonths() + t);
+                if (ageMonths >= SocialSecurityTables.EARLIEST_CLAIM_MONTHS) {
+                    spousal[t] = Math.floor(excess * socialSecurityTables.spousalFactor(self.fullRetirementAgeMonths(), ageMonths));
+                }
+            }
+        }
+        return new Options(count, claimMonths, start, own, survivor, spousal);
+    }
+    
+    /**
+     * Monthly probabilities of being alive under a Gompertz law, conditioned on being alive today
+     */
+    private double[] survival(int ageMonths, int horizon) {
+        double[] alive = new double[horizon];
+        double age = ageMonths / 12.0;
+        double hazardToday = Math.exp((age - mortalityModalAge) / mortalityDispersion);
+        for (int t = 0; t < horizon && ageMonths + t < MAX_AGE_MONTHS; t++) {
+            alive[t] = Math.exp(hazardToday - Math.exp((age + t / 12.0 - mortalityModalAge) / mortalityDispersion));
+        }
+        return alive;
+    }
+    
+    private ClaimingStrategyDTO strategy(int rank, Cell cell, double bestValue, Options w, Options s, boolean married) {
+        int tb = Math.max(w.start()[cell.i()], s.start()[cell.j()]);
+        ClaimingStrategyDTO strategy = new ClaimingStrategyDTO();
+        strategy.setRank(rank);
+        strategy.setWorkerClaimAgeYears(w.claimMonths()[cell.i()] / 12);
+        strategy.setWorkerClaimAgeMonths(w.claimMonths()[cell.i()] % 12);
+        strategy.setWorkerMonthlyBenefit(dollars(w.own()[cell.i()] + w.spousal()[tb]));
+        if (married) {
+            strategy.setSpouseClaimAgeYears(s.claimMonths()[cell.j()] / 12);
+            strategy.setSpouseClaimAgeMonths(s.claimMonths()[cell.j()] % 12);
+            strategy.setSpouseMonthlyBenefit(dollars(s.own()[cell.j()] + s.spousal()[tb]));
+        }
+        strategy.setExpectedLifetimeBenefits(dollars(cell.value()));
+        strategy.setDifferenceFromBest(dollars(cell.value() - bestValue));
+        return strategy;
+    }
+    
+    private static BigDecimal dollars(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    private record Claimant(int ageMonths, int fullRetirementAgeMonths, BigDecimal primaryInsuranceAmount,
+                            double[] monthlyBenefits) {}
+    
+    /**
+     * Per-option claiming month, start month from today, own benefit and survivor benefit left behind;
+     * spousal is indexed by the month both have claimed
+     */
+    private record Options(int count, int[] claimMonths, int[] start, double[] own, double[] survivor, double[] spousal) {
+        
+        static Options none(int horizon) {
+            return new Options(1, new int[1], new int[1], new double[1], new double[1], new double[horizon + 1]);
+        }
+    }
+    
+    private record Cell(int i, int j, double value) {}
+}
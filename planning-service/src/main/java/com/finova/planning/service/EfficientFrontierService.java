@@ -0,0 +1,165 @@
+package com.finova.planning.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Long-only mean-variance efficient frontiers, computed once per capital market assumptions version.
+ *
+ * Each frontier point maximises expected return less half the variance scaled by a risk aversion,
+ * fully invested with no short positions. Risk aversions are swept geometrically from near the
+ * minimum-variance portfolio to near the highest-return asset class, warm-starting each point from
+ * the last. Points are solved by pairwise coordinate descent: every step moves weight from the
+ * held asset with the largest gradient to the asset with the smallest, by the exact minimiser
+ * along that direction, and updates the gradient in place. The solver works on flat primitive
+ * arrays allocated once per frontier.
+ */
+@Service
+public class EfficientFrontierService {
+    
+    private static final double MAX_RISK_AVERSION = 1000.0;
+    private static final double MIN_RISK_AVERSION = 0.25;
+    private static final double TOLERANCE = 1e-12;
+    private static final int MAX_ITERATIONS = 100_000;
+    
+    private final CapitalMarketAssumptions capitalMarketAssumptions;
+    private final int frontierPoints;
+    
+    private final ConcurrentMap<String, Frontier> frontiers = new ConcurrentHashMap<>();
+    
+    public EfficientFrontierService(CapitalMarketAssumptions capitalMarketAssumptions,
+                                    @Value("${finova.planning.investment.frontier-points:50}") int frontierPoints) {
+        this.capitalMarketAssumptions = capitalMarketAssumptions;
+        this.frontierPoints = frontierPoints;
+    }
+    
+    /**
+     * The efficient frontier for the current assumptions, computed on first use of each version
+     */
+    public Frontier frontier() {
+        return frontiers.computeIfAbsent(capitalMarketAssumptions.getVersion(), version -> compute(capitalMarketAssumptions));
+    }
+    
+    private Frontier compute(CapitalMarketAssumptions assumptions) {
+        int n = assumptions.size();
+        double[] covariance = assumptions.covariance();
+        double[] expectedReturns = assumptions.expectedReturns();
+        double[] weights = new double[n];
+        double[] gradient = new double[n];
+        
+        // As risk aversion grows without bound the optimum approaches the lowest-variance portfolio
+        int lowestVariance = 0;
+        for (int i = 1; i < n; i++) {
+            if (covariance[i * n + i] < covariance[lowestVariance * n + lowestVariance]) {
+                lowestVariance = i;
+            }
+        }
+        weights[lowestVariance] = 1.0;
+        
+        double[][] pointWeights = new double[frontierPoints][];
+        double[] pointReturns = new double[frontierPoints];
+        double[] pointVolatilities = new double[frontierPoints];
+        int points = 0;
+        double step = Math.pow(MIN_RISK_AVERSION / MAX_RISK_AVERSION, 1.0 / Math.max(1, frontierPoints - 1));
+        double riskAversion = MAX_RISK_AVERSION;
+        for (int p = 0; p < frontierPoints; p++, riskAversion *= step) {
+            solve(covariance, expectedReturns, n, riskAversion, weights, gradient);
+            
+            double expectedReturn = 0;
+            double variance = 0;
+            for (int i = 0; i < n; i++) {
+                expectedReturn += expectedReturns[i] * weights[i];
+                for (int j = 0; j < n; j++) {
+                    variance += weights[i] * covariance[i * n + j] * weights[j];
+                }
+            }
+            double volatility = Math.sqrt(Math.max(0, variance));
+            
+            // Neighbouring risk aversions can land on the same corner portfolio
+            if (points == 0 || volatility > pointVolatilities[points - 1] + 1e-9) {
+                pointWeights[points] = weights.clone();
+                pointReturns[points] = expectedReturn;
+                pointVolatilities[points] = volatility;
+                points++;
+            }
+        }
+        return new Frontier(assumptions.getVersion(), Arrays.copyOf(pointReturns, points),
+            Arrays.copyOf(pointVolatilities, points), Arrays.copyOf(pointWeights, points));
+    }
+    
+    /**
+     * Minimise (riskAversion / 2) w'Cw - r'w over the simplex, starting from and updating weights in place
+     */
+    static int solve(double[] covariance, double[] expectedReturns, int n, double riskAversion,
+                     double[] weights, double[] gradient) {
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                sum += covariance[i * n + j] * weights[j];
+            }
+            gradient[i] = riskAversion * sum - expectedReturns[i];
+        }
+        
+        int iterations = 0;
+        while (iterations < MAX_ITERATIONS) {
+            int buy = -1;
+            int sell = -1;
+            for (int i = 0; i < n; i++) {
+                if (buy < 0 || gradient[i] < gradient[buy]) {
+                    buy = i;
+                }
+                if (weights[i] > 0 && (sell < 0 || gradient[i] > gradient[sell])) {
+                    sell = i;
+                }
+            }
+            // Optimal when no held asset has a larger marginal cost than any other asset
+            if (gradient[sell] - gradient[buy] <= TOLERANCE) {
+                break;
+            }
+            iterations++;
+            
+            double curvature = riskAversion * (covariance[buy * n + buy] + covariance[sell * n + sell]
+                - 2 * covariance[buy * n + sell]);
+            double shift = curvature > 0 ? (gradient[sell] - gradient[buy]) / curvature : weights[sell];
+            if (shift >= weights[sell]) {
+                shift = weights[sell];
+                weights[sell] = 0;
+            } else {
+                weights[sell] -= shift;
+            }
+            weights[buy] += shift;
+            for (int i = 0; i < n; i++) {
+                gradient[i] += riskAversion * shift * (covariance[i * n + buy] - covariance[i * n + sell]);
+            }
+        }
+        return iterations;
+    }
+    
+    /**
+     * Frontier points ordered by volatility; returns and volatilities are annual decimals
+     */
+    public record Frontier(String version, double[] expectedReturns, double[] volatilities, double[][] weights) {
+        
+        public int size() {
+            return volatilities.length;
+        }
+        
+        /**
+         * The highest-return point within a volatility budget that scales from the minimum-variance
+         * portfolio at risk tolerance 1 to the most volatile point at 10
+         */
+        public int pointFor(int riskTolerance) {
+            double lowest = volatilities[0];
+            double budget = lowest + (volatilities[size() - 1] - lowest) * (riskTolerance - 1) / 9.0;
+            int point = 0;
+            while (point + 1 < size() && volatilities[point + 1] <= budget + 1e-12) {
+                point++;
+            }
+            return point;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.GoalSeekResultDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Inverts the retirement projection: finds the monthly contribution, retirement age or return rate
+ * at which a plan's projected monthly income reaches its desired monthly income.
+ *
+ * The projection is linear in the contribution and has a logarithmic inverse in the number of months,
+ * so those two are solved in closed form. The return rate has no closed form and is found by Newton's
+ * method, falling back to bisection whenever a step leaves the bracket. Every answer is rounded up to
+ * the precision users enter and then checked against the calculator, so the returned plan is on track.
+ */
+@Service
+public class GoalSeekService {
+    
+    // Balance that supports one dollar of monthly income under the 4% withdrawal rule
+    private static final double BALANCE_PER_MONTHLY_INCOME = 12.0 / 0.04;
+    
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    
+    private static final int MAX_ITERATIONS = 100;
+    private static final double RATE_TOLERANCE = 1e-12;
+    
+    private final RetirementCalculatorService retirementCalculatorService;
+    private final int maxRetirementAge;
+    private final double maxReturnRate;
+    private final int maxBatchSize;
+    private final int parallelThreshold;
+    
+    public GoalSeekService(RetirementCalculatorService retirementCalculatorService,
+                           @Value("${finova.planning.goal-seek.max-retirement-age:80}") int maxRetirementAge,
+                           @Value("${finova.planning.goal-seek.max-return-rate:15.0}") double maxReturnRate,
+                           @Value("${finova.planning.goal-seek.max-batch-size:10000}") int maxBatchSize,
+                           @Value("${finova.planning.goal-seek.parallel-threshold:256}") int parallelThreshold) {
+        this.retirementCalculatorService = retirementCalculatorService;
+        this.maxRetirementAge = maxRetirementAge;
+        this.maxReturnRate = maxReturnRate;
+        this.maxBatchSize = maxBatchSize;
+        this.parallelThreshold = parallelThreshold;
+    }
+    
+    /**
+     * Solve one plan for the given input; the other inputs are taken from the plan or defaulted
+     */
+    public GoalSeekResultDTO solve(RetirementPlanDTO planDTO, GoalSeekTarget solveFor) {
+        if (planDTO.getCurrentAge() == null) {
+            throw new IllegalArgumentException("Current age is required");
+        }
+        if (solveFor != GoalSeekTarget.RETIREMENT_AGE && planDTO.getRetirementAge() == null) {
+            throw new IllegalArgumentException("Retirement age is required to solve for " + solveFor);
+        }
+        retirementCalculatorService.setDefaults(planDTO);
+        
+        GoalSeekResultDTO result = new GoalSeekResultDTO(planDTO.getUserId(), solveFor);
+        switch (solveFor) {
+            case MONTHLY_CONTRIBUTION -> solveMonthlyContribution(planDTO, result);
+            case RETIREMENT_AGE -> solveRetirementAge(planDTO, result);
+            case RETURN_RATE -> solveReturnRate(planDTO, result);
+        }
+        result.setPlan(retirementCalculatorService.calculateRetirementPlan(planDTO));
+        return result;
+    }
+    
+    /**
+     * Solve many plans for the same input, in parallel for large batches; results keep the request order
+     */
+    public List<GoalSeekResultDTO> solveBatch(List<RetirementPlanDTO> plans, GoalSeekTarget solveFor) {
+        if (plans.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Goal-seek batch has " + plans.size() + " plans, the limit is "
+                + maxBatchSize);
+        }
+        return (plans.size() >= parallelThreshold ? plans.parallelStream() : plans.stream())
+            .map(plan -> solve(plan, solveFor))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * The balance at retirement is savings * growth + (contribution + match) * annuity, solved for the contribution
+     */
+    private void solveMonthlyContribution(RetirementPlanDTO planDTO, GoalSeekResultDTO result) {
+        int months = (planDTO.getRetirementAge() - planDTO.getCurrentAge()) * 12;
+        double monthlyRate = ProjectionMath.monthlyRate(planDTO.getExpectedReturnRate().doubleValue());
+        double savingsAtRetirement = ProjectionMath.futureValue(planDTO.getCurrentSavings().doubleValue(),
+            monthlyRate, months);
+        double annuityFactor = ProjectionMath.annuityFactor(monthlyRate, months);
+        double shortfall = targetBalance(planDTO) - savingsAtRetirement;
+        result.setMethod("closed_form");
+        result.setIterations(0);
+        
+        if (shortfall > 0 && annuityFactor <= 0) {
+            infeasible(result, "There are no months left to contribute before the retirement age");
+            return;
+        }
+        
+        double contribution = shortfall > 0
+            ? Math.max(0, shortfall / annuityFactor - planDTO.getEmployerMatch().doubleValue()) : 0;
+        BigDecimal value = settle(planDTO, BigDecimal.valueOf(contribution).setScale(2, RoundingMode.CEILING),
+            CENT, BigDecimal.ZERO.setScale(2), null, RetirementPlanDTO::setMonthlyContribution);
+        finish(result, value, value.signum() == 0 ? "Current savings and the employer match reach the goal" : null);
+    }
+    
+    /**
+     * Solves savings * g^n + c * (g^n - 1) / r = target for the month count n, then rounds up to whole years
+     */
+    private void solveRetirementAge(RetirementPlanDTO planDTO, GoalSeekResultDTO result) {
+        int currentAge = planDTO.getCurrentAge();
+        double savings = planDTO.getCurrentSavings().doubleValue();
+        double contribution = planDTO.getMonthlyContribution().add(planDTO.getEmployerMatch()).doubleValue();
+        double monthlyRate = ProjectionMath.monthlyRate(planDTO.getExpectedReturnRate().doubleValue());
+        double target = targetBalance(planDTO);
+        result.setMethod("closed_form");
+        result.setIterations(0);
+        
+        double months;
+        if (savings >= target) {
+            months = 0;
+        } else if (monthlyRate == 0.0) {
+            months = contribution > 0 ? (target - savings) / contribution : Double.POSITIVE_INFINITY;
+        } else {
+            double perpetuity = contribution / monthlyRate;
+            double ratio = (target + perpetuity) / (savings + perpetuity);
+            months = ratio > 0 ? Math.log(ratio) / Math.log1p(monthlyRate) : Double.POSITIVE_INFINITY;
+        }
+        
+        if (!(months <= (maxRetirementAge - currentAge) * 12.0)) {
+            planDTO.setRetirementAge(Math.max(currentAge, maxRetirementAge));
+            infeasible(result, "The goal is not reached by age " + maxRetirementAge);
+            return;
+        }
+        BigDecimal value = settle(planDTO, BigDecimal.valueOf(currentAge + (int) Math.ceil(months / 12.0)),
+            BigDecimal.ONE, BigDecimal.valueOf(currentAge), BigDecimal.valueOf(maxRetirementAge),
+            (plan, age) -> plan.setRetirementAge(age.intValueExact()));
+        if (value == null) {
+            infeasible(result, "The goal is not reached by age " + maxRetirementAge);
+            return;
+        }
+        finish(result, value, null);
+    }
+    
+    /**
+     * The balance is increasing and convex in the rate, so Newton steps from the top of the bracket
+     * approach the root from above; bisection guards against steps that leave the bracket
+     */
+    private void solveReturnRate(RetirementPlanDTO planDTO, GoalSeekResultDTO result) {
+        int months = (planDTO.getRetirementAge() - planDTO.getCurrentAge()) * 12;
+        double savings = planDTO.getCurrentSavings().doubleValue();
+        double contribution = planDTO.getMonthlyContribution().add(planDTO.getEmployerMatch()).doubleValue();
+        double target = targetBalance(planDTO);
+        result.setMethod("newton");
+        result.setIterations(0);
+        
+        double low = 0.0;
+        double high = ProjectionMath.monthlyRate(maxReturnRate);
+        if (ProjectionMath.projectBalance(savings, contribution, low, months) >= target) {
+            planDTO.setExpectedReturnRate(BigDecimal.ZERO.setScale(2));
+            finish(result, planDTO.getExpectedReturnRate(), "The goal is reached without any growth");
+            return;
+        }
+        if (ProjectionMath.projectBalance(savings, contribution, high, months) < target) {
+            infeasible(result, "The goal needs more than a " + maxReturnRate + "% annual return");
+            return;
+        }
+        
+        double rate = high;
+        int iterations = 0;
+        while (iterations < MAX_ITERATIONS && high - low > RATE_TOLERANCE) {
+            iterations++;
+            double growth = ProjectionMath.growthFactor(rate, months);
+            double annuity = ProjectionMath.annuityFactor(rate, months);
+            double excess = savings * growth + contribution * annuity - target;
+            if (excess >= 0) {
+                high = rate;
+            } else {
+                low = rate;
+            }
+            
+            // d/dr of g^n is n g^(n-1); d/dr of (g^n - 1) / r is (n g^(n-1) - annuity) / r
+            double growthSlope = months * growth / (1 + rate);
+            double slope = savings * growthSlope + contribution * (growthSlope - annuity) / rate;
+            double next = rate - excess / slope;
+            if (!(next > low && next < high)) {
+                next = (low + high) / 2;
+            }
+            if (Math.abs(next - rate) <= RATE_TOLERANCE) {
+                rate = next;
+                break;
+            }
+            rate = next;
+        }
+        result.setIterations(iterations);
+        
+        BigDecimal value = settle(planDTO, BigDecimal.valueOf(rate * 1200).setScale(2, RoundingMode.CEILING),
+            CENT, BigDecimal.ZERO.setScale(2), null, RetirementPlanDTO::setExpectedReturnRate);
+        finish(result, value, null);
+    }
+    
+    /**
+     * Move an estimate up by steps until the plan is on track, then down while it stays on track.
+     * The projected income is rounded to the cent, so the smallest on-track value can sit a step
+     * either side of the rounded continuous solution. Returns null when max is passed; the plan is
+     * left holding the returned value.
+     */
+    private BigDecimal settle(RetirementPlanDTO planDTO, BigDecimal estimate, BigDecimal step, BigDecimal min,
+                              BigDecimal max, BiConsumer<RetirementPlanDTO, BigDecimal> setter) {
+        BigDecimal value = estimate.max(min);
+        setter.accept(planDTO, value);
+        while (!onTrack(planDTO)) {
+            if (max != null && value.compareTo(max) >= 0) {
+                return null;
+            }
+            value = value.add(step);
+            setter.accept(planDTO, value);
+        }
+        while (value.compareTo(min) > 0) {
+            setter.accept(planDTO, value.subtract(step));
+            if (!onTrack(planDTO)) {
+                break;
+            }
+            value = value.subtract(step);
+        }
+        setter.accept(planDTO, value);
+        return value;
+    }
+    
+    private double targetBalance(RetirementPlanDTO planDTO) {
+        return planDTO.getDesiredMonthlyIncome().doubleValue() * BALANCE_PER_MONTHLY_INCOME;
+    }
+    
+    private boolean onTrack(RetirementPlanDTO planDTO) {
+        return "on_track".equals(retirementCalculatorService.calculateRetirementPlan(planDTO).getStatus());
+    }
+    
+    private void finish(GoalSeekResultDTO result, BigDecimal value, String message) {
+        result.setFeasible(true);
+        result.setValue(value);
+        result.setMessage(message);
+    }
+    
+    private void infeasible(GoalSeekResultDTO result, String message) {
+        result.setFeasible(false);
+        result.setMessage(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.finova.planning.service;
+
+/**
+ * Plan input the goal-seek solver adjusts to reach the desired monthly income
+ */
+public enum GoalSeekTarget {
+    
+    /**
+     * Employee monthly contribution, in addition to the employer match
+     */
+    MONTHLY_CONTRIBUTION,
+    
+    /**
+     * Earliest whole-year retirement age
+     */
+    RETIREMENT_AGE,
+    
+    /**
+     * Expected annual return rate, in percent
+     */
+    RETURN_RATE
+}
@@ -0,0 +1,134 @@
+package com.finova.planning.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Historical monthly returns for stocks, bonds and cash, and monthly inflation, memory-mapped read-only.
+ *
+ * The dataset is a big-endian binary file: six ints (magic "FNRT", format version, first year,
+ * first month, month count, series count) followed by one float per series for each month, in the
+ * order stocks, bonds, cash, inflation, as simple monthly rates. The mapping lives outside the heap
+ * and is shared by every thread through absolute reads, which never move the buffer's position.
+ *
+ * The bundled series covers 1928-2024 from annual US figures (S&P 500 total return, 10-year
+ * Treasury bond, 3-month Treasury bill, CPI) in historical/us-annual-returns.csv, each year spread
+ * over twelve identical months by scripts/GenerateHistoricalReturns.java. A bootstrap over it is
+ * therefore effectively annual and understates within-year volatility; {@link #isAnnual()} reports
+ * this so responses can say so. A monthly series in the same format can be supplied through
+ * finova.planning.historical.returns-file.
+ */
+@Component
+public class HistoricalReturns {
+    
+    public static final int STOCKS = 0;
+    public static final int BONDS = 1;
+    public static final int CASH = 2;
+    public static final int INFLATION = 3;
+    
+    private static final int MAGIC = 0x464E5254;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 6 * Integer.BYTES;
+    private static final int SERIES = 4;
+    private static final String BUNDLED_RESOURCE = "historical/us-monthly-returns.bin";
+    
+    private final int firstYear;
+    private final int firstMonth;
+    private final int months;
+    private final FloatBuffer returns;
+    private final boolean annual;
+    private final Path extractedCopy;
+    
+    public HistoricalReturns(@Value("${finova.planning.historical.returns-file:}") String returnsFile) {
+        Path path;
+        try {
+            if (!returnsFile.isBlank()) {
+                path = Path.of(returnsFile);
+                extractedCopy = null;
+            } else {
+                // A resource inside a jar cannot be mapped, so it is extracted once to a temporary file
+                ClassPathResource resource = new ClassPathResource(BUNDLED_RESOURCE);
+                if (resource.isFile()) {
+                    path = resource.getFile().toPath();
+                    extractedCopy = null;
+                } else {
+                    path = Files.createTempFile("finova-returns", ".bin");
+                    try (InputStream in = resource.getInputStream()) {
+                        Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    extractedCopy = path;
+                }
+            }
+            
+            ByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(4) != FORMAT_VERSION) {
+                throw new IllegalStateException(path + " is not a version " + FORMAT_VERSION + " historical returns file");
+            }
+            this.firstYear = mapped.getInt(8);
+            this.firstMonth = mapped.getInt(12);
+            this.months = mapped.getInt(16);
+            if (mapped.getInt(20) != SERIES || mapped.capacity() != HEADER_BYTES + (long) months * SERIES * Float.BYTES) {
+                throw new IllegalStateException(path + " should hold " + SERIES + " series for " + months + " months");
+            }
+            this.returns = mapped.position(HEADER_BYTES).slice().asFloatBuffer();
+            this.annual = repeatsEachYear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map historical returns", e);
+        }
+    }
+    
+    @PreDestroy
+    void deleteExtractedCopy() throws IOException {
+        if (extractedCopy != null) {
+            Files.deleteIfExists(extractedCopy);
+        }
+    }
+    
+    public int getFirstYear() { return firstYear; }
+    
+    public int getFirstMonth() { return firstMonth; }
+    
+    public int getMonths() { return months; }
+    
+    /**
+     * Whether every calendar year holds twelve identical months, as in a series built from annual figures
+     */
+    public boolean isAnnual() { return annual; }
+    
+    /**
+     * Simple return (or inflation rate) of one series in one month, counted from the first month
+     */
+    public double monthlyReturn(int month, int series) {
+        return returns.get(month * SERIES + series);
+    }
+    
+    private boolean repeatsEachYear() {
+        if (firstMonth != 1 || months % 12 != 0) {
+            return false;
+        }
+        for (int month = 0; month < months; month++) {
+            for (int series = 0; series < SERIES; series++) {
+                if (returns.get(month * SERIES + series) != returns.get((month - month % 12) * SERIES + series)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
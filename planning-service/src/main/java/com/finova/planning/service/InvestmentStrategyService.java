@@ -1,63 +1,147 @@
 package com.finova.planning.service;
 
+import com.finova.planning.dto.AssetAllocationDTO;
 import com.finova.planning.dto.InvestmentStrategyDTO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Service for investment strategy recommendations
+ * Service for investment strategy recommendations.
+ *
+ * Allocations are points on the efficient frontier for the current capital market assumptions,
+ * chosen by risk tolerance; without one, tolerance falls from 10 at 25 to 1 at 70. The frontier is
+ * optimized once per assumptions version, so each request is a lookup and some rounding.
  */
 @Service
 public class InvestmentStrategyService {
     
+    private static final List<String> SUGGESTED_ALLOCATIONS = List.of(
+        "Diversify across asset classes",
+        "Rebalance portfolio quarterly",
+        "Consider low-cost index funds",
+        "Review allocation annually"
+    );
+    
+    private final EfficientFrontierService efficientFrontierService;
+    private final CapitalMarketAssumptions capitalMarketAssumptions;
+    private final BigDecimal defaultPortfolioValue;
+    
+    public InvestmentStrategyService(EfficientFrontierService efficientFrontierService,
+                                     CapitalMarketAssumptions capitalMarketAssumptions,
+                                     @Value("${finova.planning.investment.default-portfolio-value:106965}") BigDecimal defaultPortfolioValue) {
+        this.efficientFrontierService = efficientFrontierService;
+        this.capitalMarketAssumptions = capitalMarketAssumptions;
+        this.defaultPortfolioValue = defaultPortfolioValue;
+    }
+    
     /**
-     * Generate investment strategy recommendations
+     * Generate investment strategy recommendations from age alone
      */
     public InvestmentStrategyDTO generateStrategy(Long userId, Integer age) {
+        return generateStrategy(userId, age, null, null);
+    }
+    
+    /**
+     * Generate investment strategy recommendations from the efficient frontier point matching a risk tolerance
+     */
+    public InvestmentStrategyDTO generateStrategy(Long userId, Integer age, Integer riskTolerance, BigDecimal portfolioValue) {
+        if (age == null) age = 42; // Default age
+        if (riskTolerance == null) {
+            riskTolerance = Math.max(1, Math.min(10, 10 - (age - 25) / 5));
+        } else if (riskTolerance < 1 || riskTolerance > 10) {
+            throw new IllegalArgumentException("Risk tolerance must be between 1 and 10");
+        }
+        if (portfolioValue != null && portfolioValue.signum() < 0) {
+            throw new IllegalArgumentException("Portfolio value must be positive or zero");
+        }
+        
+        EfficientFrontierService.Frontier frontier = efficientFrontierService.frontier();
+        int point = frontier.pointFor(riskTolerance);
+        int[] percentages = wholePercentages(frontier.weights()[point]);
+        
         InvestmentStrategyDTO strategy = new InvestmentStrategyDTO();
         strategy.setUserId(userId);
-        strategy.setPortfolioValue(new BigDecimal("106965"));
+        strategy.setPortfolioValue(portfolioValue != null ? portfolioValue : defaultPortfolioValue);
         
-        // Age-based allocation strategy
-        if (age == null) age = 42; // Default age
+        int[] categoryPercentages = new int[CapitalMarketAssumptions.CATEGORIES.size()];
+        List<AssetAllocationDTO> allocations = new ArrayList<>();
+        for (int i = 0; i < percentages.length; i++) {
+            String category = capitalMarketAssumptions.category(i);
+            categoryPercentages[CapitalMarketAssumptions.CATEGORIES.indexOf(category)] += percentages[i];
+            if (percentages[i] > 0) {
+                allocations.add(new AssetAllocationDTO(capitalMarketAssumptions.assetClass(i), category, percentages[i],
+                    strategy.getPortfolioValue().multiply(BigDecimal.valueOf(percentages[i]))
+                        .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)));
+            }
+        }
+        int stocksPercentage = categoryPercentages[0];
+        strategy.setStocksPercentage(stocksPercentage);
+        strategy.setBondsPercentage(categoryPercentages[1]);
+        strategy.setCashPercentage(categoryPercentages[2]);
+        strategy.setAllocations(allocations);
         
-        if (age < 35) {
-            // Aggressive Growth
+        if (stocksPercentage >= 70) {
             strategy.setCurrentStrategy("Aggressive Growth");
             strategy.setRiskLevel("High");
-            strategy.setStocksPercentage(80);
-            strategy.setBondsPercentage(15);
-            strategy.setCashPercentage(5);
-        } else if (age < 55) {
-            // Moderate Growth
+        } else if (stocksPercentage >= 45) {
             strategy.setCurrentStrategy("Moderate Growth");
             strategy.setRiskLevel("Moderate");
-            strategy.setStocksPercentage(65);
-            strategy.setBondsPercentage(30);
-            strategy.setCashPercentage(5);
         } else {
-            // Conservative
             strategy.setCurrentStrategy("Conservative");
             strategy.setRiskLevel("Low");
-            strategy.setStocksPercentage(40);
-            strategy.setBondsPercentage(50);
-            strategy.setCashPercentage(10);
         }
+        strategy.setRiskTolerance(riskTolerance);
+        strategy.setExpectedReturn(percent(frontier.expectedReturns()[point]));
+        strategy.setExpectedVolatility(percent(frontier.volatilities()[point]));
+        strategy.setAssumptionsVersion(frontier.version());
         
         // Set performance data (sample)
         strategy.setReturnPercentage("+8.4%");
         strategy.setContributions(new BigDecimal("7800"));
         strategy.setTotalGain(new BigDecimal("8973"));
         
-        // Generate recommendations
-        generateRecommendations(strategy, age);
+        strategy.setRecommendations(generateRecommendations(age));
+        strategy.setSuggestedAllocations(new ArrayList<>(SUGGESTED_ALLOCATIONS));
         
         return strategy;
     }
     
-    private void generateRecommendations(InvestmentStrategyDTO strategy, Integer age) {
+    /**
+     * Round weights to whole percentages summing to 100, giving leftover points to the largest remainders
+     */
+    static int[] wholePercentages(double[] weights) {
+        int[] percentages = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            percentages[i] = (int) Math.floor(weights[i] * 100 + 1e-9);
+            total += percentages[i];
+        }
+        while (total < 100) {
+            int largest = 0;
+            double largestRemainder = -1;
+            for (int i = 0; i < weights.length; i++) {
+                double remainder = weights[i] * 100 - percentages[i];
+                if (remainder > largestRemainder) {
+                    largest = i;
+                    largestRemainder = remainder;
+                }
+            }
+            percentages[largest]++;
+            total++;
+        }
+        return percentages;
+    }
+    
+    private static BigDecimal percent(double value) {
+        return BigDecimal.valueOf(value * 100).setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    private String generateRecommendations(int age) {
         StringBuilder recommendations = new StringBuilder();
         
         if (age < 35) {
@@ -71,12 +155,6 @@ public class InvestmentStrategyService {
             recommendations.append("Consider increasing bond allocation for stability.");
         }
         
-        strategy.setRecommendations(recommendations.toString());
-        strategy.setSuggestedAllocations(Arrays.asList(
-            "Diversify across asset classes",
-            "Rebalance portfolio quarterly",
-            "Consider low-cost index funds",
-            "Review allocation annually"
-        ));
+        return recommendations.toString();
     }
 }
@@ -0,0 +1,426 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.OutcomeBandDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Monte Carlo simulation of retirement outcomes.
+ *
+ * Each path adds monthly contributions until retirement and pays monthly withdrawals of the
+ * desired income (growing with inflation) afterwards. In parametric mode a path draws one
+ * lognormal return per year, and contributions and withdrawals within a year compound at that
+ * year's monthly rate in closed form, so a path costs two exp() calls per year rather than one
+ * per month. In bootstrap mode a path steps month by month through blocks of consecutive
+ * historical months, each starting at a random month and wrapping from the last month to the
+ * first, so every path lives through a real sequence of returns and inflation. The portfolio is
+ * rebalanced monthly to a stock, bond and cash mix, and the memory-mapped series is read in place.
+ *
+ * All paths advance together one year at a time, in fixed-size blocks on a fork-join pool.
+ * Every block gets its own SplittableRandom split from the seed in block order, so a given seed
+ * reproduces the same result whatever the parallelism. Only each path's current state is kept in
+ * primitive arrays, and a year's percentiles are taken from a copy of its balances before the
+ * next year is simulated, so a request needs about 40 bytes per path whatever the horizon
+ * (4 MB at the 100,000-path cap) rather than a balance for every path and year.
+ */
+@Service
+public class MonteCarloSimulationService {
+    
+    private static final double[] PERCENTILES = {0.10, 0.25, 0.50, 0.75, 0.90};
+    
+    private final HistoricalReturns historicalReturns;
+    private final int defaultPaths;
+    private final int maxPaths;
+    private final int blockSize;
+    private final BigDecimal defaultVolatility;
+    private final int blockMonths;
+    private final int defaultStocksPercentage;
+    private final int defaultBondsPercentage;
+    private final ForkJoinPool pool;
+    
+    public MonteCarloSimulationService(HistoricalReturns historicalReturns,
+                                       @Value("${finova.planning.monte-carlo.default-paths:10000}") int defaultPaths,
+                                       @Value("${finova.planning.monte-carlo.max-paths:100000}") int maxPaths,
+                                       @Value("${finova.planning.monte-carlo.block-size:512}") int blockSize,
+                                       @Value("${finova.planning.monte-carlo.parallelism:0}") int parallelism,
+                                       @Value("${finova.planning.monte-carlo.default-volatility:12.0}") BigDecimal defaultVolatility,
+                                       @Value("${finova.planning.historical.block-months:120}") int blockMonths,
+                                       @Value("${finova.planning.historical.default-stocks-percentage:60}") int defaultStocksPercentage,
+                                       @Value("${finova.planning.historical.default-bonds-percentage:30}") int defaultBondsPercentage) {
+        this.historicalReturns = historicalReturns;
+        this.defaultPaths = defaultPaths;
+        this.maxPaths = maxPaths;
+        this.blockSize = blockSize;
+        this.defaultVolatility = defaultVolatility;
+        this.blockMonths = blockMonths;
+        this.defaultStocksPercentage = defaultStocksPercentage;
+        this.defaultBondsPercentage = defaultBondsPercentage;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    @PreDestroy
+    void stopPool() {
+        pool.shutdownNow();
+    }
+    
+    /**
+     * Simulate a calculated plan with parametric returns and add its success probability and outcome bands.
+     * A null path count uses the default; a null seed picks one, which is returned in the plan.
+     */
+    public RetirementPlanDTO simulate(RetirementPlanDTO planDTO, Integer paths, Long seed) {
+        return simulate(planDTO, paths, seed, SimulationMode.PARAMETRIC, null, null);
+    }
+    
+    /**
+     * Simulate a calculated plan in the given mode. Bootstrap mode holds the given stock and bond
+     * percentages, defaulting each when null, and the rest in cash; parametric mode ignores them.
+     */
+    public RetirementPlanDTO simulate(RetirementPlanDTO planDTO, Integer paths, Long seed, SimulationMode mode,
+                                      Integer stocksPercentage, Integer bondsPercentage) {
+        int pathCount = paths != null ? Math.max(1, Math.min(paths, maxPaths)) : defaultPaths;
+        long simulationSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        
+        int accumulationYears = Math.max(0, planDTO.getRetirementAge() - planDTO.getCurrentAge());
+        int retirementYears = planDTO.getExpectedRetirementDuration();
+        double startingBalance = planDTO.getCurrentSavings().doubleValue();
+        double monthlyContribution = planDTO.getMonthlyContribution().add(planDTO.getEmployerMatch()).doubleValue();
+        double monthlyWithdrawal = planDTO.getDesiredMonthlyIncome().doubleValue();
+        
+        Simulation simulation;
+        if (mode == SimulationMode.BOOTSTRAP) {
+            int stocks = stocksPercentage != null ? stocksPercentage : defaultStocksPercentage;
+            int bonds = bondsPercentage != null ? bondsPercentage : defaultBondsPercentage;
+            if (stocks < 0 || bonds < 0 || stocks + bonds > 100) {
+                throw new IllegalArgumentException("Stock and bond percentages must be positive and total at most 100");
+            }
+            simulation = new BootstrapSimulation(pathCount, accumulationYears, retirementYears, startingBalance,
+                monthlyContribution, monthlyWithdrawal, historicalReturns, Math.max(1, blockMonths),
+                stocks / 100.0, bonds / 100.0);
+        } else {
+            if (planDTO.getExpectedVolatility() == null) {
+                planDTO.setExpectedVolatility(defaultVolatility);
+            }
+            
+            // Lognormal parameters matching the arithmetic mean and standard deviation of annual returns
+            double mean = planDTO.getExpectedReturnRate().doubleValue() / 100.0;
+            double volatility = planDTO.getExpectedVolatility().doubleValue() / 100.0;
+            double logVariance = Math.log1p(volatility * volatility / ((1 + mean) * (1 + mean)));
+            double inflation = planDTO.getExpectedInflationRate().doubleValue() / 100.0;
+            
+            simulation = new ParametricSimulation(pathCount, accumulationYears, retirementYears, startingBalance,
+                monthlyContribution, monthlyWithdrawal, inflation,
+                Math.log1p(mean) - logVariance / 2, Math.sqrt(logVariance));
+        }
+        
+        int blocks = (pathCount + blockSize - 1) / blockSize;
+        SplittableRandom master = new SplittableRandom(simulationSeed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int block = 0; block < blocks; block++) {
+            streams[block] = master.split();
+        }
+        
+        // Percentiles of each year's balances are taken before the next year overwrites them
+        List<OutcomeBandDTO> bands = new ArrayList<>(simulation.totalYears + 1);
+        double[] column = new double[pathCount];
+        bands.add(outcomeBand(simulation, column, planDTO.getCurrentAge()));
+        for (int year = 1; year <= simulation.totalYears; year++) {
+            pool.invoke(new PathBlockTask(simulation, year, streams, 0, blocks));
+            bands.add(outcomeBand(simulation, column, planDTO.getCurrentAge() + year));
+        }
+        
+        int successes = 0;
+        for (boolean funded : simulation.funded) {
+            successes += funded ? 1 : 0;
+        }
+        
+        planDTO.setSimulationMode(mode.name());
+        planDTO.setHistoricalFrequency(mode != SimulationMode.BOOTSTRAP ? null
+            : historicalReturns.isAnnual() ? "ANNUAL" : "MONTHLY");
+        planDTO.setSimulationPaths(pathCount);
+        planDTO.setSimulationSeed(simulationSeed);
+        planDTO.setSuccessProbability(BigDecimal.valueOf((double) successes / pathCount).setScale(4, RoundingMode.HALF_UP));
+        planDTO.setOutcomeBands(bands);
+        return planDTO;
+    }
+    
+    /**
+     * Percentiles of the paths' current balances, selected in a scratch copy so the
+     * simulation's own balances keep their path order
+     */
+    private static OutcomeBandDTO outcomeBand(Simulation simulation, double[] column, int age) {
+        System.arraycopy(simulation.balances, 0, column, 0, simulation.paths);
+        BigDecimal[] p = columnPercentiles(column, 0, simulation.paths);
+        return new OutcomeBandDTO(age, p[0], p[1], p[2], p[3], p[4]);
+    }
+    
+    /**
+     * Percentiles of one column by linear interpolation between closest ranks. The column is only
+     * partially ordered: each rank is found by quickselect on the part above the previous one.
+     */
+    private static BigDecimal[] columnPercentiles(double[] balances, int from, int length) {
+        BigDecimal[] result = new BigDecimal[PERCENTILES.length];
+        int end = from + length;
+        int searchFrom = from;
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            double rank = PERCENTILES[i] * (length - 1);
+            int lower = from + (int) rank;
+            select(balances, searchFrom, end, lower);
+            double lowerValue = balances[lower];
+            double upperValue = lower + 1 < end ? min(balances, lower + 1, end) : lowerValue;
+            double value = lowerValue + (rank - (int) rank) * (upperValue - lowerValue);
+            result[i] = BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
+            searchFrom = lower;
+        }
+        return result;
+    }
+    
+    /**
+     * Reorder a[from, to) so that a[k] holds the value it would have if sorted, with nothing
+     * smaller after it and nothing larger before it
+     */
+    private static void select(double[] a, int from, int to, int k) {
+        int left = from;
+        int right = to - 1;
+        while (right > left) {
+            // Median of three as the pivot
+            int middle = (left + right) >>> 1;
+            if (a[middle] < a[left]) swap(a, middle, left);
+            if (a[right] < a[left]) swap(a, right, left);
+            if (a[right] < a[middle]) swap(a, right, middle);
+            double pivot = a[middle];
+            
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (a[i] < pivot) i++;
+                while (a[j] > pivot) j--;
+                if (i <= j) {
+                    swap(a, i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+    
+    private static double min(double[] a, int from, int to) {
+        double min = a[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+    
+    private static void swap(double[] a, int i, int j) {
+        double tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+    
+    /**
+     * Inputs and per-path state shared by all blocks of one simulation
+     */
+    private abstract static class Simulation {
+        
+        final int paths;
+        final int accumulationYears;
+        final int totalYears;
+        final double monthlyContribution;
+        
+        // State of each path at the end of the last simulated year; funded turns false for good
+        // once a withdrawal empties the balance
+        final double[] balances;
+        final double[] withdrawals;
+        final boolean[] funded;
+        
+        Simulation(int paths, int accumulationYears, int retirementYears, double startingBalance,
+                   double monthlyContribution, double monthlyWithdrawal) {
+            this.paths = paths;
+            this.accumulationYears = accumulationYears;
+            this.totalYears = accumulationYears + retirementYears;
+            this.monthlyContribution = monthlyContribution;
+            this.balances = new double[paths];
+            this.withdrawals = new double[paths];
+            this.funded = new boolean[paths];
+            Arrays.fill(balances, startingBalance);
+            Arrays.fill(withdrawals, monthlyWithdrawal);
+            Arrays.fill(funded, true);
+        }
+        
+        /**
+         * Advance paths [from, to) through one year with their block's random stream
+         */
+        abstract void simulateYear(int year, int from, int to, SplittableRandom random);
+    }
+    
+    /**
+     * Independent lognormal annual returns with a fixed inflation rate
+     */
+    private static final class ParametricSimulation extends Simulation {
+        
+        final double inflation;
+        final double logMean;
+        final double logVolatility;
+        
+        ParametricSimulation(int paths, int accumulationYears, int retirementYears, double startingBalance,
+                             double monthlyContribution, double monthlyWithdrawal, double inflation,
+                             double logMean, double logVolatility) {
+            super(paths, accumulationYears, retirementYears, startingBalance, monthlyContribution, monthlyWithdrawal);
+            this.inflation = inflation;
+            this.logMean = logMean;
+            this.logVolatility = logVolatility;
+        }
+        
+        @Override
+        void simulateYear(int year, int from, int to, SplittableRandom random) {
+            boolean accumulating = year <= accumulationYears;
+            for (int path = from; path < to; path++) {
+                double logReturn = logMean + logVolatility * random.nextGaussian();
+                double monthlyGrowth = Math.exp(logReturn / 12);
+                double growth = power12(monthlyGrowth);
+                
+                // Twelve end-of-month payments compounded to year end at this year's monthly rate
+                double paymentFactor = Math.abs(monthlyGrowth - 1) < 1e-12 ? 12 : (growth - 1) / (monthlyGrowth - 1);
+                
+                if (accumulating) {
+                    balances[path] = balances[path] * growth + monthlyContribution * paymentFactor;
+                } else if (funded[path]) {
+                    double balance = balances[path] * growth - withdrawals[path] * paymentFactor;
+                    withdrawals[path] *= 1 + inflation;
+                    if (balance <= 0) {
+                        balance = 0;
+                        funded[path] = false;
+                    }
+                    balances[path] = balance;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Circular block bootstrap of historical months, with withdrawals following historical inflation
+     */
+    private static final class BootstrapSimulation extends Simulation {
+        
+        final HistoricalReturns returns;
+        final int months;
+        final int blockMonths;
+        final double stocksWeight;
+        final double bondsWeight;
+        final double cashWeight;
+        
+        // Historical month each path reads next, and the months left in its current block
+        final int[] nextMonths;
+        final int[] remainingMonths;
+        
+        BootstrapSimulation(int paths, int accumulationYears, int retirementYears, double startingBalance,
+                            double monthlyContribution, double monthlyWithdrawal, HistoricalReturns returns,
+                            int blockMonths, double stocksWeight, double bondsWeight) {
+            super(paths, accumulationYears, retirementYears, startingBalance, monthlyContribution, monthlyWithdrawal);
+            this.returns = returns;
+            this.months = returns.getMonths();
+            this.blockMonths = Math.min(blockMonths, months);
+            this.stocksWeight = stocksWeight;
+            this.bondsWeight = bondsWeight;
+            this.cashWeight = 1 - stocksWeight - bondsWeight;
+            this.nextMonths = new int[paths];
+            this.remainingMonths = new int[paths];
+        }
+        
+        @Override
+        void simulateYear(int year, int from, int to, SplittableRandom random) {
+            boolean accumulating = year <= accumulationYears;
+            for (int path = from; path < to; path++) {
+                double balance = balances[path];
+                double withdrawal = withdrawals[path];
+                boolean solvent = funded[path];
+                int month = nextMonths[path];
+                int remaining = remainingMonths[path];
+                
+                for (int m = 0; m < 12 && (accumulating || solvent); m++) {
+                    if (remaining == 0) {
+                        month = random.nextInt(months);
+                        remaining = blockMonths;
+                    }
+                    double growth = 1 + stocksWeight * returns.monthlyReturn(month, HistoricalReturns.STOCKS)
+                        + bondsWeight * returns.monthlyReturn(month, HistoricalReturns.BONDS)
+                        + cashWeight * returns.monthlyReturn(month, HistoricalReturns.CASH);
+                    
+                    if (accumulating) {
+                        balance = balance * growth + monthlyContribution;
+                    } else {
+                        balance = balance * growth - withdrawal;
+                        withdrawal *= 1 + returns.monthlyReturn(month, HistoricalReturns.INFLATION);
+                        if (balance <= 0) {
+                            balance = 0;
+                            solvent = false;
+                        }
+                    }
+                    month = month + 1 < months ? month + 1 : 0;
+                    remaining--;
+                }
+                
+                balances[path] = balance;
+                withdrawals[path] = withdrawal;
+                funded[path] = solvent;
+                nextMonths[path] = month;
+                remainingMonths[path] = remaining;
+            }
+        }
+    }
+    
+    private static double power12(double x) {
+        double x2 = x * x;
+        double x4 = x2 * x2;
+        return x4 * x4 * x4;
+    }
+    
+    /**
+     * Splits a range of path blocks until one block remains, then advances it through one year
+     */
+    private final class PathBlockTask extends RecursiveAction {
+        
+        private final Simulation simulation;
+        private final int year;
+        private final SplittableRandom[] streams;
+        private final int fromBlock;
+        private final int toBlock;
+        
+        PathBlockTask(Simulation simulation, int year, SplittableRandom[] streams, int fromBlock, int toBlock) {
+            this.simulation = simulation;
+            this.year = year;
+            this.streams = streams;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock == 1) {
+                int from = fromBlock * blockSize;
+                simulation.simulateYear(year, from, Math.min(from + blockSize, simulation.paths), streams[fromBlock]);
+                return;
+            }
+            int middle = (fromBlock + toBlock) >>> 1;
+            invokeAll(new PathBlockTask(simulation, year, streams, fromBlock, middle),
+                new PathBlockTask(simulation, year, streams, middle, toBlock));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.finova.planning.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bounded memo of planning calculation results, shared across users.
+ *
+ * Keys are the calculation name plus its normalised inputs (after defaults are applied), never
+ * the user, so everyone asking about the same plan shares one entry. Decimal inputs are stripped
+ * of trailing zeros so that 7, 7.0 and 7.00 hit the same entry. Values must be immutable; callers
+ * copy them onto their own DTOs. Entries expire after a TTL and the least valuable are evicted
+ * beyond the maximum size. Hits, misses and evictions are published as cache metrics tagged
+ * cache=planning-results, alongside a finova.planning.cache.hit_ratio gauge.
+ */
+@Component
+public class PlanningResultCache {
+    
+    private final Cache<List<Object>, Object> cache;
+    
+    public PlanningResultCache(MeterRegistry meterRegistry,
+                               @Value("${finova.planning.cache.enabled:true}") boolean enabled,
+                               @Value("${finova.planning.cache.maximum-size:10000}") long maximumSize,
+                               @Value("${finova.planning.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = enabled
+            ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build()
+            : null;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "planning-results");
+            meterRegistry.gauge("finova.planning.cache.hit_ratio", cache, c -> c.stats().hitRate());
+        }
+    }
+    
+    /**
+     * Return the cached result of a calculation for these inputs, computing it on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String calculation, Supplier<T> compute, Object... inputs) {
+        if (cache == null) {
+            return compute.get();
+        }
+        return (T) cache.get(key(calculation, inputs), k -> compute.get());
+    }
+    
+    private static List<Object> key(String calculation, Object[] inputs) {
+        Object[] key = new Object[inputs.length + 1];
+        key[0] = calculation;
+        for (int i = 0; i < inputs.length; i++) {
+            key[i + 1] = inputs[i] instanceof BigDecimal decimal ? decimal.stripTrailingZeros() : inputs[i];
+        }
+        return Arrays.asList(key);
+    }
+}
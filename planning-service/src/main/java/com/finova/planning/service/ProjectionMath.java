@@ -0,0 +1,68 @@
+package com.finova.planning.service;
+
+/**
+ * Closed-form compound growth kernels on primitive doubles.
+ * 
+ * Growth factors are computed as exp(n * log1p(r)) and expm1(n * log1p(r)), which stay accurate
+ * for the small monthly rates used in planning, and avoid BigDecimal.pow allocating ever-wider
+ * intermediates over long horizons. Results agree with the exact BigDecimal projection to well
+ * within a cent on realistic balances; RetirementCalculatorServiceTest cross-checks the two.
+ */
+public final class ProjectionMath {
+    
+    private ProjectionMath() {}
+    
+    /**
+     * Monthly rate from an annual percentage, e.g. 7.0 becomes 0.0058333...
+     */
+    public static double monthlyRate(double annualRatePercent) {
+        return annualRatePercent / 1200.0;
+    }
+    
+    /**
+     * Growth of one dollar over the given number of months at a monthly rate, (1 + r)^n
+     */
+    public static double growthFactor(double monthlyRate, int months) {
+        return Math.exp(months * Math.log1p(monthlyRate));
+    }
+    
+    /**
+     * Future value of one dollar paid at the end of each month, ((1 + r)^n - 1) / r
+     */
+    public static double annuityFactor(double monthlyRate, int months) {
+        if (monthlyRate == 0.0) {
+            return months;
+        }
+        return Math.expm1(months * Math.log1p(monthlyRate)) / monthlyRate;
+    }
+    
+    /**
+     * Future value of a lump sum after the given number of months at a monthly rate
+     */
+    public static double futureValue(double presentValue, double monthlyRate, int months) {
+        return presentValue * growthFactor(monthlyRate, months);
+    }
+    
+    /**
+     * Future value of a level monthly contribution paid at the end of each month
+     */
+    public static double futureValueOfContributions(double monthlyContribution, double monthlyRate, int months) {
+        return monthlyContribution * annuityFactor(monthlyRate, months);
+    }
+    
+    /**
+     * Projected balance of current savings plus monthly contributions
+     */
+    public static double projectBalance(double currentSavings, double monthlyContribution,
+                                        double monthlyRate, int months) {
+        return futureValue(currentSavings, monthlyRate, months)
+            + futureValueOfContributions(monthlyContribution, monthlyRate, months);
+    }
+    
+    /**
+     * Monthly income a balance supports under the 4% withdrawal rule
+     */
+    public static double monthlyIncome(double balance) {
+        return balance * 0.04 / 12.0;
+    }
+}
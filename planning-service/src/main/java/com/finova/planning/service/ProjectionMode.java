@@ -0,0 +1,17 @@
+package com.finova.planning.service;
+
+/**
+ * Arithmetic used for retirement projections
+ */
+public enum ProjectionMode {
+    
+    /**
+     * Closed-form primitive double arithmetic, for interactive and batch calculations
+     */
+    FAST,
+    
+    /**
+     * BigDecimal arithmetic, for statements and other figures of record
+     */
+    EXACT
+}
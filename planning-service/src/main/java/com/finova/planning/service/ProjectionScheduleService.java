@@ -0,0 +1,164 @@
+package com.finova.planning.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.planning.dto.ProjectionYearDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Year-by-year projection schedules through accumulation and retirement.
+ *
+ * Rows are produced lazily by an iterator holding only the running balance, so a schedule is
+ * never materialised as a list and can be streamed as it is computed. Each year compounds monthly
+ * at the plan's return rate in closed form, so the balance at retirement matches the plan's
+ * projected balance. Withdrawals start at the desired monthly income and grow with inflation,
+ * as in the Monte Carlo simulation, and real balances are deflated to today's dollars.
+ */
+@Service
+public class ProjectionScheduleService {
+    
+    private static final byte[] NEWLINE = {'\n'};
+    private static final int FLUSH_INTERVAL = 10;
+    
+    private final RetirementCalculatorService retirementCalculatorService;
+    private final ObjectMapper objectMapper;
+    private final int maxYears;
+    
+    public ProjectionScheduleService(RetirementCalculatorService retirementCalculatorService, ObjectMapper objectMapper,
+                                     @Value("${finova.planning.schedule.max-years:120}") int maxYears) {
+        this.retirementCalculatorService = retirementCalculatorService;
+        this.objectMapper = objectMapper;
+        this.maxYears = maxYears;
+    }
+    
+    /**
+     * Validate a plan and return its schedule rows, computed one at a time as they are read
+     */
+    public Iterator<ProjectionYearDTO> schedule(RetirementPlanDTO planDTO) {
+        if (planDTO.getCurrentAge() == null || planDTO.getRetirementAge() == null) {
+            throw new IllegalArgumentException("Current age and retirement age are required");
+        }
+        if (planDTO.getRetirementAge() < planDTO.getCurrentAge()) {
+            throw new IllegalArgumentException("Retirement age must be no earlier than the current age");
+        }
+        retirementCalculatorService.setDefaults(planDTO);
+        
+        int accumulationYears = planDTO.getRetirementAge() - planDTO.getCurrentAge();
+        int totalYears = accumulationYears + planDTO.getExpectedRetirementDuration();
+        if (totalYears > maxYears) {
+            throw new IllegalArgumentException("Schedule spans " + totalYears + " years, the limit is " + maxYears);
+        }
+        double inflation = planDTO.getExpectedInflationRate().doubleValue() / 100.0;
+        
+        return new Schedule(planDTO.getCurrentAge(), accumulationYears, totalYears,
+            planDTO.getCurrentSavings().doubleValue(),
+            planDTO.getMonthlyContribution().add(planDTO.getEmployerMatch()).doubleValue(),
+            planDTO.getDesiredMonthlyIncome().doubleValue(),
+            ProjectionMath.monthlyRate(planDTO.getExpectedReturnRate().doubleValue()), inflation);
+    }
+    
+    /**
+     * Write schedule rows as newline-delimited JSON, flushing every few rows
+     */
+    public void writeSchedule(Iterator<ProjectionYearDTO> rows, OutputStream out) throws IOException {
+        int written = 0;
+        while (rows.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(rows.next()));
+            out.write(NEWLINE);
+            if (++written % FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+    
+    /**
+     * Lazily computed schedule; state is the running balance, withdrawal and inflation deflator
+     */
+    private static final class Schedule implements Iterator<ProjectionYearDTO> {
+        
+        private final int currentAge;
+        private final int accumulationYears;
+        private final int totalYears;
+        private final double monthlyContribution;
+        private final double inflation;
+        private final double yearGrowth;
+        private final double yearAnnuity;
+        
+        private int year;
+        private double balance;
+        private double monthlyWithdrawal;
+        private double deflator = 1.0;
+        
+        Schedule(int currentAge, int accumulationYears, int totalYears, double currentSavings,
+                 double monthlyContribution, double monthlyWithdrawal, double monthlyRate, double inflation) {
+            this.currentAge = currentAge;
+            this.accumulationYears = accumulationYears;
+            this.totalYears = totalYears;
+            this.monthlyContribution = monthlyContribution;
+            this.inflation = inflation;
+            this.yearGrowth = ProjectionMath.growthFactor(monthlyRate, 12);
+            this.yearAnnuity = ProjectionMath.annuityFactor(monthlyRate, 12);
+            this.balance = currentSavings;
+            this.monthlyWithdrawal = monthlyWithdrawal;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return year <= totalYears;
+        }
+        
+        @Override
+        public ProjectionYearDTO next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            double start = balance;
+            double contributions = 0;
+            double withdrawals = 0;
+            double shortfall = 0;
+            
+            if (year > 0 && year <= accumulationYears) {
+                contributions = monthlyContribution * 12;
+                balance = start * yearGrowth + monthlyContribution * yearAnnuity;
+            } else if (year > accumulationYears) {
+                // Twelve withdrawals valued at year end; a balance that cannot cover them pays a share of each
+                double available = start * yearGrowth;
+                double required = monthlyWithdrawal * yearAnnuity;
+                double funded = required > 0 ? Math.min(1.0, available / required) : 1.0;
+                withdrawals = monthlyWithdrawal * 12 * funded;
+                shortfall = monthlyWithdrawal * 12 - withdrawals;
+                balance = funded < 1.0 ? 0.0 : available - required;
+                monthlyWithdrawal *= 1 + inflation;
+            }
+            if (year > 0) {
+                deflator *= 1 + inflation;
+            }
+            
+            ProjectionYearDTO row = new ProjectionYearDTO();
+            row.setYear(year);
+            row.setAge(currentAge + year);
+            row.setPhase(year <= accumulationYears ? "accumulation" : "retirement");
+            row.setContributions(cents(contributions));
+            row.setWithdrawals(cents(withdrawals));
+            row.setGrowth(cents(year > 0 ? balance - start - contributions + withdrawals : 0));
+            row.setBalance(cents(balance));
+            row.setRealBalance(cents(balance / deflator));
+            row.setShortfall(cents(shortfall));
+            year++;
+            return row;
+        }
+        
+        private static BigDecimal cents(double value) {
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.finova.planning.service;
 
 import com.finova.planning.dto.RetirementPlanDTO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 
 /**
@@ -12,55 +14,115 @@ import java.math.RoundingMode;
 @Service
 public class RetirementCalculatorService {
     
+    private final PlanningResultCache planningResultCache;
+    
+    // Annual rate as a fraction; every projection, simulation and grid defaults a missing rate to this
+    private final double defaultInflationRate;
+    
+    public RetirementCalculatorService(PlanningResultCache planningResultCache,
+                                       @Value("${finova.planning.default-inflation-rate:0.03}") double defaultInflationRate) {
+        this.planningResultCache = planningResultCache;
+        this.defaultInflationRate = defaultInflationRate;
+    }
+    
     /**
-     * Calculate retirement projections
+     * Calculate retirement projections with the fast double arithmetic
      */
     public RetirementPlanDTO calculateRetirementPlan(RetirementPlanDTO planDTO) {
+        return calculateRetirementPlan(planDTO, ProjectionMode.FAST);
+    }
+    
+    /**
+     * Calculate retirement projections in the given mode; identical inputs share one cached result
+     */
+    public RetirementPlanDTO calculateRetirementPlan(RetirementPlanDTO planDTO, ProjectionMode mode) {
         // Set default values if not provided
         setDefaults(planDTO);
         
+        PlanOutcome outcome = planningResultCache.get("retirement-plan", () -> project(planDTO, mode),
+            mode, planDTO.getCurrentAge(), planDTO.getRetirementAge(), planDTO.getCurrentSavings(),
+            planDTO.getMonthlyContribution(), planDTO.getEmployerMatch(), planDTO.getExpectedReturnRate(),
+            planDTO.getDesiredMonthlyIncome());
+        
+        planDTO.setYearsToRetirement(outcome.yearsToRetirement());
+        planDTO.setProjectedBalance(outcome.projectedBalance());
+        planDTO.setProjectedMonthlyIncome(outcome.projectedMonthlyIncome());
+        planDTO.setStatus(outcome.status());
+        planDTO.setRecommendations(outcome.recommendations());
+        return planDTO;
+    }
+    
+    /**
+     * Project a plan whose defaults are set, without modifying it
+     */
+    private PlanOutcome project(RetirementPlanDTO planDTO, ProjectionMode mode) {
         // Calculate years to retirement
         int yearsToRetirement = planDTO.getRetirementAge() - planDTO.getCurrentAge();
-        planDTO.setYearsToRetirement(yearsToRetirement);
+        int totalMonths = yearsToRetirement * 12;
         
         // Calculate total monthly contributions
         BigDecimal totalMonthlyContribution = planDTO.getMonthlyContribution()
             .add(planDTO.getEmployerMatch() != null ? planDTO.getEmployerMatch() : BigDecimal.ZERO);
         
-        // Calculate projected balance using compound interest formula
-        BigDecimal monthlyRate = planDTO.getExpectedReturnRate().divide(new BigDecimal("1200"), 10, RoundingMode.HALF_UP);
-        int totalMonths = yearsToRetirement * 12;
+        BigDecimal projectedBalance = mode == ProjectionMode.EXACT
+            ? projectBalanceExact(planDTO.getCurrentSavings(), totalMonthlyContribution,
+                planDTO.getExpectedReturnRate(), totalMonths)
+            : projectBalanceFast(planDTO.getCurrentSavings(), totalMonthlyContribution,
+                planDTO.getExpectedReturnRate(), totalMonths);
+        
+        // Calculate projected monthly income (4% rule)
+        BigDecimal projectedMonthlyIncome = projectedBalance
+            .multiply(new BigDecimal("0.04"))
+            .divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
+        
+        // Determine status
+        if (projectedMonthlyIncome.compareTo(planDTO.getDesiredMonthlyIncome()) >= 0) {
+            return new PlanOutcome(yearsToRetirement, projectedBalance, projectedMonthlyIncome, "on_track",
+                "Great job! You're on track to meet your retirement goals.");
+        }
+        return new PlanOutcome(yearsToRetirement, projectedBalance, projectedMonthlyIncome, "behind",
+            "Consider increasing your monthly contributions to meet your retirement goals.");
+    }
+    
+    /**
+     * Projected balance using the closed-form compound interest formula on doubles, rounded to cents
+     */
+    private BigDecimal projectBalanceFast(BigDecimal currentSavings, BigDecimal monthlyContribution,
+                                          BigDecimal annualRatePercent, int totalMonths) {
+        double balance = ProjectionMath.projectBalance(currentSavings.doubleValue(), monthlyContribution.doubleValue(),
+            ProjectionMath.monthlyRate(annualRatePercent.doubleValue()), totalMonths);
+        return BigDecimal.valueOf(balance).setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Projected balance using the compound interest formula on BigDecimal, rounded to cents.
+     * The growth factor is computed once, to 34 significant digits.
+     */
+    private BigDecimal projectBalanceExact(BigDecimal currentSavings, BigDecimal monthlyContribution,
+                                           BigDecimal annualRatePercent, int totalMonths) {
+        BigDecimal monthlyRate = annualRatePercent.divide(new BigDecimal("1200"), 10, RoundingMode.HALF_UP);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(totalMonths, MathContext.DECIMAL128);
         
         // Future value of current savings
-        BigDecimal futureValueCurrentSavings = planDTO.getCurrentSavings()
-            .multiply(BigDecimal.ONE.add(monthlyRate).pow(totalMonths));
+        BigDecimal futureValueCurrentSavings = currentSavings.multiply(growth);
         
         // Future value of monthly contributions
         BigDecimal futureValueContributions;
-        if (monthlyRate.compareTo(BigDecimal.ZERO) > 0) {
-            futureValueContributions = totalMonthlyContribution
-                .multiply(BigDecimal.ONE.add(monthlyRate).pow(totalMonths).subtract(BigDecimal.ONE))
+        if (monthlyRate.signum() != 0) {
+            futureValueContributions = monthlyContribution
+                .multiply(growth.subtract(BigDecimal.ONE))
                 .divide(monthlyRate, 2, RoundingMode.HALF_UP);
         } else {
-            futureValueContributions = totalMonthlyContribution.multiply(new BigDecimal(totalMonths));
+            futureValueContributions = monthlyContribution.multiply(new BigDecimal(totalMonths));
         }
         
-        BigDecimal projectedBalance = futureValueCurrentSavings.add(futureValueContributions);
-        planDTO.setProjectedBalance(projectedBalance);
-        
-        // Calculate projected monthly income (4% rule)
-        BigDecimal projectedMonthlyIncome = projectedBalance
-            .multiply(new BigDecimal("0.04"))
-            .divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
-        planDTO.setProjectedMonthlyIncome(projectedMonthlyIncome);
-        
-        // Determine status
-        determineStatus(planDTO);
-        
-        return planDTO;
+        return futureValueCurrentSavings.add(futureValueContributions).setScale(2, RoundingMode.HALF_UP);
     }
     
-    private void setDefaults(RetirementPlanDTO planDTO) {
+    /**
+     * Fill in default plan inputs that were not provided
+     */
+    void setDefaults(RetirementPlanDTO planDTO) {
         if (planDTO.getCurrentSavings() == null) {
             planDTO.setCurrentSavings(new BigDecimal("106965.67"));
         }
@@ -79,18 +141,14 @@ public class RetirementCalculatorService {
         if (planDTO.getExpectedRetirementDuration() == null) {
             planDTO.setExpectedRetirementDuration(25);
         }
-    }
-    
-    private void determineStatus(RetirementPlanDTO planDTO) {
-        if (planDTO.getProjectedMonthlyIncome() != null && planDTO.getDesiredMonthlyIncome() != null) {
-            int comparison = planDTO.getProjectedMonthlyIncome().compareTo(planDTO.getDesiredMonthlyIncome());
-            if (comparison >= 0) {
-                planDTO.setStatus("on_track");
-                planDTO.setRecommendations("Great job! You're on track to meet your retirement goals.");
-            } else {
-                planDTO.setStatus("behind");
-                planDTO.setRecommendations("Consider increasing your monthly contributions to meet your retirement goals.");
-            }
+        if (planDTO.getExpectedInflationRate() == null) {
+            planDTO.setExpectedInflationRate(BigDecimal.valueOf(defaultInflationRate).movePointRight(2));
         }
     }
+    
+    /**
+     * Calculated fields of a plan, cached by its inputs
+     */
+    private record PlanOutcome(int yearsToRetirement, BigDecimal projectedBalance, BigDecimal projectedMonthlyIncome,
+                               String status, String recommendations) {}
 }
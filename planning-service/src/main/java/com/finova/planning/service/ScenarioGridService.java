@@ -0,0 +1,205 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.ParameterRangeDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import com.finova.planning.dto.ScenarioGridDTO;
+import com.finova.planning.dto.ScenarioGridRequestDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates retirement projections over the Cartesian product of retirement age, monthly
+ * contribution, return rate and inflation ranges.
+ *
+ * Projections are linear in the contribution, so the growth and annuity factors are computed once
+ * per (retirement age, return rate) pair and every contribution and inflation cell under that pair
+ * costs a few multiplications. Pairs are evaluated in parallel once the grid is large enough.
+ */
+@Service
+public class ScenarioGridService {
+    
+    private static final List<String> DIMENSIONS =
+        List.of("retirementAge", "monthlyContribution", "expectedReturnRate", "expectedInflationRate");
+    
+    private final RetirementCalculatorService retirementCalculatorService;
+    private final int maxCells;
+    private final int parallelThreshold;
+    
+    public ScenarioGridService(RetirementCalculatorService retirementCalculatorService,
+                               @Value("${finova.planning.scenario-grid.max-cells:100000}") int maxCells,
+                               @Value("${finova.planning.scenario-grid.parallel-threshold:4096}") int parallelThreshold) {
+        this.retirementCalculatorService = retirementCalculatorService;
+        this.maxCells = maxCells;
+        this.parallelThreshold = parallelThreshold;
+    }
+    
+    /**
+     * Evaluate every cell of a scenario grid
+     */
+    public ScenarioGridDTO evaluate(ScenarioGridRequestDTO request) {
+        // Unswept inputs default to the same values as a single retirement plan
+        RetirementPlanDTO defaults = new RetirementPlanDTO();
+        defaults.setCurrentSavings(request.getCurrentSavings());
+        defaults.setEmployerMatch(request.getEmployerMatch());
+        defaults.setDesiredMonthlyIncome(request.getDesiredMonthlyIncome());
+        retirementCalculatorService.setDefaults(defaults);
+        
+        double[] ageValues = values("retirementAge", request.getRetirementAge(), null);
+        double[] contributions = values("monthlyContribution", request.getMonthlyContribution(),
+            defaults.getMonthlyContribution());
+        double[] returnRates = values("expectedReturnRate", request.getExpectedReturnRate(),
+            defaults.getExpectedReturnRate());
+        double[] inflationRates = values("expectedInflationRate", request.getExpectedInflationRate(),
+            defaults.getExpectedInflationRate());
+        
+        int[] retirementAges = new int[ageValues.length];
+        for (int a = 0; a < ageValues.length; a++) {
+            retirementAges[a] = (int) ageValues[a];
+            if (retirementAges[a] != ageValues[a] || retirementAges[a] < request.getCurrentAge()) {
+                throw new IllegalArgumentException("Retirement ages must be whole years no earlier than the current age");
+            }
+        }
+        
+        // Every axis has at most maxCells values, so the running product stays well inside a long
+        long cells = 1;
+        for (int length : new int[] {retirementAges.length, contributions.length, returnRates.length, inflationRates.length}) {
+            cells *= length;
+            if (cells > maxCells) {
+                throw new IllegalArgumentException("Scenario grid has more than " + maxCells + " cells");
+            }
+        }
+        
+        int cellCount = (int) cells;
+        Grid grid = new Grid(request.getCurrentAge(), retirementAges, contributions, returnRates, inflationRates,
+            defaults.getCurrentSavings().doubleValue(), defaults.getEmployerMatch().doubleValue(),
+            defaults.getDesiredMonthlyIncome().doubleValue(), cellCount);
+        
+        IntStream pairs = IntStream.range(0, retirementAges.length * returnRates.length);
+        (cellCount >= parallelThreshold ? pairs.parallel() : pairs).forEach(grid::evaluatePair);
+        
+        ScenarioGridDTO result = new ScenarioGridDTO();
+        result.setUserId(request.getUserId());
+        result.setDimensions(DIMENSIONS);
+        result.setCellCount(cellCount);
+        result.setRetirementAges(retirementAges);
+        result.setMonthlyContributions(contributions);
+        result.setExpectedReturnRates(returnRates);
+        result.setExpectedInflationRates(inflationRates);
+        result.setProjectedBalance(grid.projectedBalance);
+        result.setProjectedMonthlyIncome(grid.projectedMonthlyIncome);
+        result.setRealMonthlyIncome(grid.realMonthlyIncome);
+        result.setOnTrack(grid.onTrack);
+        return result;
+    }
+    
+    /**
+     * Expand a range into its values, or the default as a single value when the range is omitted
+     */
+    private double[] values(String name, ParameterRangeDTO range, BigDecimal defaultValue) {
+        if (range == null) {
+            if (defaultValue == null) {
+                throw new IllegalArgumentException("A " + name + " range is required");
+            }
+            return new double[] {defaultValue.doubleValue()};
+        }
+        BigDecimal to = range.getTo() != null ? range.getTo() : range.getFrom();
+        BigDecimal span = to.subtract(range.getFrom());
+        if (span.signum() < 0) {
+            throw new IllegalArgumentException("The " + name + " range ends before it starts");
+        }
+        if (span.signum() > 0 && (range.getStep() == null || range.getStep().signum() <= 0)) {
+            throw new IllegalArgumentException("The " + name + " range needs a positive step");
+        }
+        // Bounded before dividing: a tiny step over a wide range has more values than an int holds
+        if (span.signum() > 0 && span.compareTo(range.getStep().multiply(BigDecimal.valueOf(maxCells - 1L))) > 0) {
+            throw new IllegalArgumentException("The " + name + " range has more than " + maxCells + " values");
+        }
+        
+        // Stepping in BigDecimal keeps values such as 0.1 increments exact
+        int count = span.signum() == 0 ? 1 : span.divideToIntegralValue(range.getStep()).intValueExact() + 1;
+        double[] values = new double[count];
+        BigDecimal value = range.getFrom();
+        for (int i = 0; i < count; i++) {
+            values[i] = value.doubleValue();
+            if (count > 1) {
+                value = value.add(range.getStep());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Grid axes and columnar results; each (retirement age, return rate) pair writes its own cells
+     */
+    private static final class Grid {
+        
+        final int currentAge;
+        final int[] retirementAges;
+        final double[] contributions;
+        final double[] returnRates;
+        final double[] inflationRates;
+        final double currentSavings;
+        final double employerMatch;
+        final double desiredMonthlyIncome;
+        
+        final double[] projectedBalance;
+        final double[] projectedMonthlyIncome;
+        final double[] realMonthlyIncome;
+        final boolean[] onTrack;
+        
+        Grid(int currentAge, int[] retirementAges, double[] contributions, double[] returnRates,
+             double[] inflationRates, double currentSavings, double employerMatch, double desiredMonthlyIncome,
+             int cellCount) {
+            this.currentAge = currentAge;
+            this.retirementAges = retirementAges;
+            this.contributions = contributions;
+            this.returnRates = returnRates;
+            this.inflationRates = inflationRates;
+            this.currentSavings = currentSavings;
+            this.employerMatch = employerMatch;
+            this.desiredMonthlyIncome = desiredMonthlyIncome;
+            this.projectedBalance = new double[cellCount];
+            this.projectedMonthlyIncome = new double[cellCount];
+            this.realMonthlyIncome = new double[cellCount];
+            this.onTrack = new boolean[cellCount];
+        }
+        
+        void evaluatePair(int pair) {
+            int a = pair / returnRates.length;
+            int r = pair % returnRates.length;
+            int years = retirementAges[a] - currentAge;
+            int months = years * 12;
+            
+            double monthlyRate = ProjectionMath.monthlyRate(returnRates[r]);
+            double savingsAtRetirement = ProjectionMath.futureValue(currentSavings, monthlyRate, months);
+            double annuityFactor = ProjectionMath.annuityFactor(monthlyRate, months);
+            double[] deflators = new double[inflationRates.length];
+            for (int i = 0; i < inflationRates.length; i++) {
+                deflators[i] = Math.pow(1 + inflationRates[i] / 100.0, years);
+            }
+            
+            for (int c = 0; c < contributions.length; c++) {
+                double balance = savingsAtRetirement + (contributions[c] + employerMatch) * annuityFactor;
+                double income = ProjectionMath.monthlyIncome(balance);
+                // Nominal, like a single plan's status and goal seek: the desired income is not deflated
+                boolean incomeMeetsGoal = cents(income) >= desiredMonthlyIncome;
+                int base = ((a * contributions.length + c) * returnRates.length + r) * inflationRates.length;
+                
+                for (int i = 0; i < inflationRates.length; i++) {
+                    projectedBalance[base + i] = cents(balance);
+                    projectedMonthlyIncome[base + i] = cents(income);
+                    realMonthlyIncome[base + i] = cents(income / deflators[i]);
+                    onTrack[base + i] = incomeMeetsGoal;
+                }
+            }
+        }
+        
+        private static double cents(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.finova.planning.service;
+
+/**
+ * Source of returns for Monte Carlo simulations
+ */
+public enum SimulationMode {
+    
+    /**
+     * Independent lognormal annual returns from the plan's expected return and volatility
+     */
+    PARAMETRIC,
+    
+    /**
+     * Blocks of consecutive months resampled from historical stock, bond, cash and inflation series.
+     * The bundled series is built from annual figures, so it resamples whole-year returns spread over
+     * identical months; results report this as a historical frequency of ANNUAL.
+     */
+    BOOTSTRAP
+}
@@ -1,40 +1,150 @@
 package com.finova.planning.service;
 
+import com.finova.planning.dto.ClaimingOptionDTO;
+import com.finova.planning.dto.EarningsRecordDTO;
 import com.finova.planning.dto.SocialSecurityDTO;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * Service for Social Security benefits calculations
+ * Service for Social Security benefits calculations.
+ *
+ * Benefits follow the Social Security formula: earnings are capped at each year's taxable maximum
+ * and wage-indexed to the year the worker turns 60, the highest 35 years are averaged into AIME,
+ * the PIA applies 90%, 32% and 15% across the bend points for the year the worker turns 62, and
+ * each claiming month from 62 to 70 is reduced or credited relative to the full retirement age.
+ * Without an earnings history, one is estimated from the current salary as a constant share of
+ * the average wage over the years of work history, continuing until 62. Estimates for workers
+ * under 60 use projected wages and are expressed in today's dollars. COLAs after 62, the earnings
+ * test and spousal benefits are not modelled.
  */
 @Service
 public class SocialSecurityService {
     
+    private static final int COMPUTATION_YEARS = 35;
+    
+    private final SocialSecurityTables socialSecurityTables;
+    private final PlanningResultCache planningResultCache;
+    
+    public SocialSecurityService(SocialSecurityTables socialSecurityTables, PlanningResultCache planningResultCache) {
+        this.socialSecurityTables = socialSecurityTables;
+        this.planningResultCache = planningResultCache;
+    }
+    
     /**
-     * Calculate Social Security benefits
+     * Calculate Social Security benefits; identical inputs share one cached result
      */
     public SocialSecurityDTO calculateBenefits(SocialSecurityDTO ssDTO) {
         // Set defaults if not provided
         setDefaults(ssDTO);
         
-        // Simplified calculation based on current salary
-        BigDecimal baseMonthlyBenefit = calculateBaseBenefit(ssDTO.getCurrentSalary());
-        
-        // Calculate benefits at different ages
-        ssDTO.setBenefitAt62(baseMonthlyBenefit.multiply(new BigDecimal("0.75"))); // 75% of full benefit
-        ssDTO.setBenefitAt67(baseMonthlyBenefit); // Full benefit at age 67
-        ssDTO.setBenefitAt70(baseMonthlyBenefit.multiply(new BigDecimal("1.32"))); // 132% of full benefit
+        int birthYear = ssDTO.getDateOfBirth().getYear();
+        int currentYear = Year.now().getValue();
+        Benefits benefits = planningResultCache.get("social-security",
+            () -> calculateBenefits(birthYear, currentYear, ssDTO.getCurrentSalary(), ssDTO.getYearsOfWorkHistory(),
+                ssDTO.getEarningsHistory()),
+            birthYear, currentYear, ssDTO.getCurrentSalary(), ssDTO.getYearsOfWorkHistory(),
+            earningsKey(ssDTO.getEarningsHistory()));
         
-        ssDTO.setFullRetirementAge(67);
+        int[] monthly = benefits.monthlyBenefits();
+        List<ClaimingOptionDTO> claimingOptions = new ArrayList<>(monthly.length);
+        for (int i = 0; i < monthly.length; i++) {
+            int claimMonths = SocialSecurityTables.EARLIEST_CLAIM_MONTHS + i;
+            claimingOptions.add(new ClaimingOptionDTO(claimMonths / 12, claimMonths % 12, BigDecimal.valueOf(monthly[i])));
+        }
         
-        // Generate recommendations
-        generateRecommendations(ssDTO);
+        ssDTO.setAverageIndexedMonthlyEarnings(benefits.averageIndexedMonthlyEarnings());
+        ssDTO.setPrimaryInsuranceAmount(benefits.primaryInsuranceAmount());
+        ssDTO.setClaimingOptions(claimingOptions);
+        ssDTO.setBenefitAt62(benefitAt(monthly, 62));
+        ssDTO.setBenefitAt67(benefitAt(monthly, 67));
+        ssDTO.setBenefitAt70(benefitAt(monthly, 70));
+        ssDTO.setFullRetirementAge(benefits.fullRetirementAgeMonths() / 12);
+        ssDTO.setFullRetirementAgeMonths(benefits.fullRetirementAgeMonths() % 12);
+        ssDTO.setRecommendations(benefits.recommendations());
         
         return ssDTO;
     }
     
+    private Benefits calculateBenefits(int birthYear, int currentYear, BigDecimal currentSalary,
+                                       int yearsOfWorkHistory, List<EarningsRecordDTO> earningsHistory) {
+        int eligibilityYear = birthYear + 62;
+        if (eligibilityYear < 1979 || eligibilityYear > socialSecurityTables.getLastYear()) {
+            throw new IllegalArgumentException("Benefits can be estimated for workers turning 62 between 1979 and "
+                + socialSecurityTables.getLastYear());
+        }
+        
+        // Nominal covered earnings by year, up to the year before eligibility
+        double[] earnings = new double[eligibilityYear - SocialSecurityTables.FIRST_YEAR];
+        double salaryShareOfAverageWage = currentSalary.doubleValue() / socialSecurityTables.wageIndex(currentYear);
+        int futureFrom = currentYear;
+        if (earningsHistory != null) {
+            for (EarningsRecordDTO record : earningsHistory) {
+                if (record.getYear() >= SocialSecurityTables.FIRST_YEAR && record.getYear() < eligibilityYear) {
+                    earnings[record.getYear() - SocialSecurityTables.FIRST_YEAR] += record.getAmount().doubleValue();
+                }
+                futureFrom = Math.max(futureFrom, record.getYear() + 1);
+            }
+        } else {
+            for (int year = Math.max(SocialSecurityTables.FIRST_YEAR, currentYear - yearsOfWorkHistory);
+                 year < Math.min(currentYear, eligibilityYear); year++) {
+                earnings[year - SocialSecurityTables.FIRST_YEAR] = salaryShareOfAverageWage * socialSecurityTables.wageIndex(year);
+            }
+        }
+        for (int year = futureFrom; year < eligibilityYear; year++) {
+            earnings[year - SocialSecurityTables.FIRST_YEAR] = salaryShareOfAverageWage * socialSecurityTables.wageIndex(year);
+        }
+        
+        // Cap and wage-index each year, then average the highest 35 years over 420 months
+        double[] indexed = new double[earnings.length];
+        for (int i = 0; i < earnings.length; i++) {
+            int year = SocialSecurityTables.FIRST_YEAR + i;
+            indexed[i] = Math.min(earnings[i], socialSecurityTables.taxableMaximum(year))
+                * socialSecurityTables.indexFactor(eligibilityYear, year);
+        }
+        Arrays.sort(indexed);
+        double total = 0;
+        for (int i = indexed.length - 1; i >= Math.max(0, indexed.length - COMPUTATION_YEARS); i--) {
+            total += indexed[i];
+        }
+        double aime = Math.floor(total / (COMPUTATION_YEARS * 12));
+        
+        // Future amounts are brought back to today's wage level
+        int indexingYear = eligibilityYear - 2;
+        double todaysDollars = indexingYear > currentYear
+            ? socialSecurityTables.wageIndex(currentYear) / socialSecurityTables.wageIndex(indexingYear) : 1.0;
+        
+        double firstBendPoint = socialSecurityTables.firstBendPoint(eligibilityYear);
+        double secondBendPoint = socialSecurityTables.secondBendPoint(eligibilityYear);
+        double pia = 0.90 * Math.min(aime, firstBendPoint)
+            + 0.32 * Math.max(0, Math.min(aime, secondBendPoint) - firstBendPoint)
+            + 0.15 * Math.max(0, aime - secondBendPoint);
+        
+        // AIME is rounded down to the dollar, the PIA to the dime and benefits to the dollar
+        double aimeToday = Math.floor(aime * todaysDollars);
+        double piaToday = Math.floor(pia * todaysDollars * 10) / 10;
+        int fullRetirementAgeMonths = socialSecurityTables.fullRetirementAgeMonths(birthYear);
+        int[] monthlyBenefits = new int[SocialSecurityTables.LATEST_CLAIM_MONTHS - SocialSecurityTables.EARLIEST_CLAIM_MONTHS + 1];
+        for (int i = 0; i < monthlyBenefits.length; i++) {
+            int claimMonths = SocialSecurityTables.EARLIEST_CLAIM_MONTHS + i;
+            monthlyBenefits[i] = (int) Math.floor(piaToday * socialSecurityTables.claimingFactor(fullRetirementAgeMonths, claimMonths));
+        }
+        
+        int atFullRetirementAge = monthlyBenefits[fullRetirementAgeMonths - SocialSecurityTables.EARLIEST_CLAIM_MONTHS];
+        int delayIncrease = atFullRetirementAge > 0
+            ? (int) Math.round((monthlyBenefits[monthlyBenefits.length - 1] * 100.0) / atFullRetirementAge) - 100 : 0;
+        
+        return new Benefits(BigDecimal.valueOf((long) aimeToday), BigDecimal.valueOf(piaToday).setScale(2),
+            fullRetirementAgeMonths, monthlyBenefits,
+            generateRecommendations(currentYear - birthYear, fullRetirementAgeMonths, delayIncrease));
+    }
+    
     private void setDefaults(SocialSecurityDTO ssDTO) {
         if (ssDTO.getDateOfBirth() == null) {
             ssDTO.setDateOfBirth(LocalDate.of(1983, 5, 15));
@@ -47,24 +157,44 @@ public class SocialSecurityService {
         }
     }
     
-    private BigDecimal calculateBaseBenefit(BigDecimal salary) {
-        // Simplified formula: approximately 40% of pre-retirement income for average earners
-        return salary.multiply(new BigDecimal("0.40")).divide(new BigDecimal("12"), BigDecimal.ROUND_HALF_UP);
+    private static BigDecimal benefitAt(int[] monthlyBenefits, int ageYears) {
+        return BigDecimal.valueOf(monthlyBenefits[ageYears * 12 - SocialSecurityTables.EARLIEST_CLAIM_MONTHS]);
     }
     
-    private void generateRecommendations(SocialSecurityDTO ssDTO) {
-        Integer currentAge = ssDTO.getCurrentAge();
-        if (currentAge != null) {
-            if (currentAge < 62) {
-                ssDTO.setRecommendations("Continue working and building your earnings record. " +
-                    "Consider delaying Social Security until full retirement age for maximum benefits.");
-            } else if (currentAge < 67) {
-                ssDTO.setRecommendations("You can claim reduced benefits now, but waiting until " +
-                    "full retirement age (67) will give you 100% of your benefit.");
-            } else {
-                ssDTO.setRecommendations("You're at or past full retirement age. " +
-                    "Delaying until age 70 can increase your benefits by up to 32%.");
-            }
+    /**
+     * Earnings history as a cache key component: year and amount pairs, or null without a history
+     */
+    private static List<Object> earningsKey(List<EarningsRecordDTO> earningsHistory) {
+        if (earningsHistory == null) {
+            return null;
+        }
+        List<Object> key = new ArrayList<>(earningsHistory.size() * 2);
+        for (EarningsRecordDTO record : earningsHistory) {
+            key.add(record.getYear());
+            key.add(record.getAmount().stripTrailingZeros());
+        }
+        return key;
+    }
+    
+    private String generateRecommendations(int currentAge, int fullRetirementAgeMonths, int delayIncrease) {
+        String fullRetirementAge = fullRetirementAgeMonths % 12 == 0
+            ? String.valueOf(fullRetirementAgeMonths / 12)
+            : (fullRetirementAgeMonths / 12) + " and " + (fullRetirementAgeMonths % 12) + " months";
+        if (currentAge < 62) {
+            return "Continue working and building your earnings record. " +
+                "Consider delaying Social Security until full retirement age for maximum benefits.";
+        } else if (currentAge * 12 < fullRetirementAgeMonths) {
+            return "You can claim reduced benefits now, but waiting until " +
+                "full retirement age (" + fullRetirementAge + ") will give you 100% of your benefit.";
+        } else {
+            return "You're at or past full retirement age. " +
+                "Delaying until age 70 can increase your benefits by up to " + delayIncrease + "%.";
         }
     }
+    
+    /**
+     * Calculated benefits, cached by birth year, salary and earnings; monthlyBenefits runs from 62 to 70
+     */
+    private record Benefits(BigDecimal averageIndexedMonthlyEarnings, BigDecimal primaryInsuranceAmount,
+                            int fullRetirementAgeMonths, int[] monthlyBenefits, String recommendations) {}
 }
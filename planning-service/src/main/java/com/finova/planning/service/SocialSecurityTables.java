@@ -0,0 +1,222 @@
+package com.finova.planning.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Social Security benefit formula tables, built once at startup as primitive arrays.
+ *
+ * The national average wage index (AWI) and taxable maximum are read from a yearly CSV resource
+ * and projected beyond the last published year at an assumed wage growth. From them, every
+ * eligibility year gets its PIA bend points (the 1979 amounts of $180 and $1,085 scaled by
+ * AWI two years before eligibility) and a row of wage-indexing factors for each earnings year.
+ * Claiming and spousal adjustments are tabulated per full retirement age for every month from 62
+ * to 70. Lookups are plain array reads.
+ */
+@Component
+public class SocialSecurityTables {
+    
+    public static final int FIRST_YEAR = 1951;
+    public static final int EARLIEST_CLAIM_MONTHS = 62 * 12;
+    public static final int LATEST_CLAIM_MONTHS = 70 * 12;
+    
+    private static final int BEND_POINT_BASE_YEAR = 1977;
+    private static final int FIRST_BEND_POINT_ELIGIBILITY_YEAR = 1979;
+    private static final double FIRST_BEND_POINT_1979 = 180;
+    private static final double SECOND_BEND_POINT_1979 = 1085;
+    
+    // Full retirement ages run from 65 to 67 in two-month steps
+    private static final int MIN_FULL_RETIREMENT_AGE_MONTHS = 65 * 12;
+    private static final int MAX_FULL_RETIREMENT_AGE_MONTHS = 67 * 12;
+    
+    private final int lastYear;
+    private final int lastPublishedWageIndexYear;
+    
+    // Indexed by year - FIRST_YEAR
+    private final double[] wageIndex;
+    private final double[] taxableMaximum;
+    private final int[] firstBendPoint;
+    private final int[] secondBendPoint;
+    
+    // indexFactors[eligibility year - FIRST_YEAR][earnings year - FIRST_YEAR]
+    private final double[][] indexFactors;
+    
+    // claimingFactors[(full retirement age months - 780) / 2][claiming age months - 744], likewise spousalFactors
+    private final double[][] claimingFactors;
+    private final double[][] spousalFactors;
+    
+    public SocialSecurityTables(
+            @Value("${finova.planning.social-security.wage-index-resource:social-security/wage-index.csv}") String wageIndexResource,
+            @Value("${finova.planning.social-security.wage-growth:0.035}") double wageGrowth,
+            @Value("${finova.planning.social-security.projection-years:80}") int projectionYears) {
+        List<double[]> rows = readRows(wageIndexResource);
+        this.lastYear = Year.now().getValue() + projectionYears;
+        int years = lastYear - FIRST_YEAR + 1;
+        this.wageIndex = new double[years];
+        this.taxableMaximum = new double[years];
+        
+        int lastWageIndexYear = FIRST_YEAR - 1;
+        int lastTaxableMaximumYear = FIRST_YEAR - 1;
+        for (double[] row : rows) {
+            int i = (int) row[0] - FIRST_YEAR;
+            if (!Double.isNaN(row[1])) {
+                wageIndex[i] = row[1];
+                lastWageIndexYear = (int) row[0];
+            }
+            if (!Double.isNaN(row[2])) {
+                taxableMaximum[i] = row[2];
+                lastTaxableMaximumYear = (int) row[0];
+            }
+        }
+        this.lastPublishedWageIndexYear = lastWageIndexYear;
+        
+        // Projected wages grow at the assumed rate; the taxable maximum follows wages, in multiples of $300
+        for (int year = lastWageIndexYear + 1; year <= lastYear; year++) {
+            wageIndex[year - FIRST_YEAR] = wageIndex[year - 1 - FIRST_YEAR] * (1 + wageGrowth);
+        }
+        double baseMaximum = taxableMaximum[lastTaxableMaximumYear - FIRST_YEAR];
+        double baseWageIndex = wageIndex[lastTaxableMaximumYear - 2 - FIRST_YEAR];
+        for (int year = lastTaxableMaximumYear + 1; year <= lastYear; year++) {
+            double projected = baseMaximum * wageIndex[year - 2 - FIRST_YEAR] / baseWageIndex;
+            taxableMaximum[year - FIRST_YEAR] = Math.max(baseMaximum, Math.round(projected / 300) * 300.0);
+        }
+        
+        this.firstBendPoint = new int[years];
+        this.secondBendPoint = new int[years];
+        this.indexFactors = new double[years][];
+        for (int eligibility = FIRST_BEND_POINT_ELIGIBILITY_YEAR; eligibility <= lastYear; eligibility++) {
+            int e = eligibility - FIRST_YEAR;
+            double indexingWage = wageIndex[e - 2];
+            double scale = indexingWage / wageIndex[BEND_POINT_BASE_YEAR - FIRST_YEAR];
+            firstBendPoint[e] = (int) Math.round(FIRST_BEND_POINT_1979 * scale);
+            secondBendPoint[e] = (int) Math.round(SECOND_BEND_POINT_1979 * scale);
+            
+            // Earnings from the indexing year (age 60) onwards count at face value
+            double[] factors = new double[e + 1];
+            for (int y = 0; y <= e; y++) {
+                factors[y] = y < e - 2 ? indexingWage / wageIndex[y] : 1.0;
+            }
+            indexFactors[e] = factors;
+        }
+        
+        int fullRetirementAges = (MAX_FULL_RETIREMENT_AGE_MONTHS - MIN_FULL_RETIREMENT_AGE_MONTHS) / 2 + 1;
+        this.claimingFactors = new double[fullRetirementAges][LATEST_CLAIM_MONTHS - EARLIEST_CLAIM_MONTHS + 1];
+        this.spousalFactors = new double[fullRetirementAges][LATEST_CLAIM_MONTHS - EARLIEST_CLAIM_MONTHS + 1];
+        for (int f = 0; f < fullRetirementAges; f++) {
+            int fullRetirementAgeMonths = MIN_FULL_RETIREMENT_AGE_MONTHS + 2 * f;
+            for (int claim = EARLIEST_CLAIM_MONTHS; claim <= LATEST_CLAIM_MONTHS; claim++) {
+                claimingFactors[f][claim - EARLIEST_CLAIM_MONTHS] = claimingAdjustment(fullRetirementAgeMonths, claim);
+                spousalFactors[f][claim - EARLIEST_CLAIM_MONTHS] = spousalAdjustment(fullRetirementAgeMonths, claim);
+            }
+        }
+    }
+    
+    /**
+     * Early claims lose 5/9 of 1% for each of the first 36 months before full retirement age and
+     * 5/12 of 1% for each month beyond; delayed claims gain 2/3 of 1% a month (workers born 1943 or later)
+     */
+    private static double claimingAdjustment(int fullRetirementAgeMonths, int claimMonths) {
+        int delta = claimMonths - fullRetirementAgeMonths;
+        if (delta >= 0) {
+            return 1.0 + delta * (2.0 / 3.0) / 100.0;
+        }
+        int early = -delta;
+        return 1.0 - Math.min(early, 36) * (5.0 / 9.0) / 100.0 - Math.max(0, early - 36) * (5.0 / 12.0) / 100.0;
+    }
+    
+    /**
+     * Spousal benefits lose 25/36 of 1% for each of the first 36 months before full retirement age and
+     * 5/12 of 1% for each month beyond; they earn no delayed credits
+     */
+    private static double spousalAdjustment(int fullRetirementAgeMonths, int claimMonths) {
+        int early = Math.max(0, fullRetirementAgeMonths - claimMonths);
+        return 1.0 - Math.min(early, 36) * (25.0 / 36.0) / 100.0 - Math.max(0, early - 36) * (5.0 / 12.0) / 100.0;
+    }
+    
+    /**
+     * Full retirement age in months for a birth year: 65 through 1937, rising two months a year
+     * to 66 for 1943-1954, then two months a year to 67 from 1960
+     */
+    public int fullRetirementAgeMonths(int birthYear) {
+        if (birthYear <= 1937) {
+            return 65 * 12;
+        } else if (birthYear <= 1942) {
+            return 65 * 12 + 2 * (birthYear - 1937);
+        } else if (birthYear <= 1954) {
+            return 66 * 12;
+        } else if (birthYear <= 1959) {
+            return 66 * 12 + 2 * (birthYear - 1954);
+        }
+        return 67 * 12;
+    }
+    
+    public int getLastYear() { return lastYear; }
+    
+    public int getLastPublishedWageIndexYear() { return lastPublishedWageIndexYear; }
+    
+    public double wageIndex(int year) { return wageIndex[year - FIRST_YEAR]; }
+    
+    public double taxableMaximum(int year) { return taxableMaximum[year - FIRST_YEAR]; }
+    
+    public int firstBendPoint(int eligibilityYear) { return firstBendPoint[eligibilityYear - FIRST_YEAR]; }
+    
+    public int secondBendPoint(int eligibilityYear) { return secondBendPoint[eligibilityYear - FIRST_YEAR]; }
+    
+    /**
+     * Factor that wage-indexes one year's earnings for a worker first eligible in the given year
+     */
+    public double indexFactor(int eligibilityYear, int earningsYear) {
+        return indexFactors[eligibilityYear - FIRST_YEAR][earningsYear - FIRST_YEAR];
+    }
+    
+    /**
+     * Share of the PIA paid when claiming at the given age in months, from 62 to 70
+     */
+    public double claimingFactor(int fullRetirementAgeMonths, int claimMonths) {
+        int f = (fullRetirementAgeMonths - MIN_FULL_RETIREMENT_AGE_MONTHS) / 2;
+        return claimingFactors[f][claimMonths - EARLIEST_CLAIM_MONTHS];
+    }
+    
+    /**
+     * Share of the full spousal benefit paid when claiming at the given age in months, from 62 to 70
+     */
+    public double spousalFactor(int fullRetirementAgeMonths, int claimMonths) {
+        int f = (fullRetirementAgeMonths - MIN_FULL_RETIREMENT_AGE_MONTHS) / 2;
+        return spousalFactors[f][claimMonths - EARLIEST_CLAIM_MONTHS];
+    }
+    
+    /**
+     * Rows of year, wage index and taxable maximum; blank cells are NaN
+     */
+    private static List<double[]> readRows(String resource) {
+        List<double[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#") || line.startsWith("year")) {
+                    continue;
+                }
+                String[] cells = line.split(",", -1);
+                rows.add(new double[] {
+                    Integer.parseInt(cells[0].trim()),
+                    cells[1].isBlank() ? Double.NaN : Double.parseDouble(cells[1].trim()),
+                    cells[2].isBlank() ? Double.NaN : Double.parseDouble(cells[2].trim())
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read Social Security wage index from " + resource, e);
+        }
+        return rows;
+    }
+}
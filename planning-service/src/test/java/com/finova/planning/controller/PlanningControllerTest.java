@@ -0,0 +1,156 @@
+package com.finova.planning.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.planning.dto.RetirementPlanDTO;
+import com.finova.planning.service.AuthenticationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Integration tests for PlanningController request binding, through the full MVC and
+ * method-security stack
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "spring.security.oauth2.resourceserver.jwt.issuer-uri=",
+    "spring.security.oauth2.resourceserver.jwt.jwk-set-uri="
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@DisplayName("PlanningController Tests")
+class PlanningControllerTest {
+    
+    private static final String CALCULATE = "/api/planning/retirement-plan/calculate";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockBean
+    private AuthenticationService authenticationService;
+    
+    private RetirementPlanDTO plan;
+    
+    @BeforeEach
+    void setUp() {
+        when(authenticationService.validateUserAccess(any())).thenReturn(true);
+        plan = new RetirementPlanDTO(1001L, 42, 65);
+        plan.setCurrentSavings(new BigDecimal("106965.67"));
+        plan.setMonthlyContribution(new BigDecimal("650"));
+    }
+    
+    @Test
+    @DisplayName("Should calculate in fast mode when no mode parameter is given")
+    void shouldDefaultToFastMode() throws Exception {
+        // When
+        MockHttpServletResponse defaulted = perform(calculate());
+        MockHttpServletResponse fast = perform(calculate().param("mode", "fast"));
+        
+        // Then
+        assertThat(defaulted.getStatus()).isEqualTo(200);
+        assertThat(fast.getStatus()).isEqualTo(200);
+        assertThat(json(defaulted).get("projectedBalance").decimalValue())
+            .isEqualByComparingTo(json(fast).get("projectedBalance").decimalValue());
+    }
+    
+    @Test
+    @DisplayName("Should bind the mode parameter regardless of case")
+    void shouldBindModeIgnoringCase() throws Exception {
+        // When
+        MockHttpServletResponse lower = perform(calculate().param("mode", "exact"));
+        MockHttpServletResponse upper = perform(calculate().param("mode", "EXACT"));
+        
+        // Then
+        assertThat(lower.getStatus()).isEqualTo(200);
+        assertThat(upper.getStatus()).isEqualTo(200);
+        assertThat(json(lower).get("projectedBalance").decimalValue())
+            .isEqualByComparingTo(json(upper).get("projectedBalance").decimalValue());
+    }
+    
+    @Test
+    @DisplayName("Should reject an unknown mode with 400")
+    void shouldRejectUnknownMode() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(calculate().param("mode", "approximate"));
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("Should reject a scenario grid range with too many values to count with 400")
+    void shouldRejectUncountableGridRange() throws Exception {
+        // Given
+        String request = "{\"userId\":1001,\"currentAge\":40,\"retirementAge\":{\"from\":65},"
+            + "\"monthlyContribution\":{\"from\":0,\"to\":10000000000,\"step\":0.001}}";
+        
+        // When
+        MockHttpServletResponse response = perform(post("/api/planning/scenarios/grid")
+            .contentType(MediaType.APPLICATION_JSON).content(request));
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(json(response).get("error").asText()).isEqualTo("Bad Request");
+        assertThat(json(response).get("message").asText()).contains("monthlyContribution range has more than");
+    }
+    
+    @Test
+    @WithMockUser(roles = "FINANCIAL_ADVISOR")
+    @DisplayName("Should validate every plan in a goal-seek batch and reject invalid ones with 400")
+    void shouldValidateGoalSeekBatchPlans() throws Exception {
+        // Given
+        RetirementPlanDTO withoutUser = new RetirementPlanDTO(null, 42, 65);
+        RetirementPlanDTO negativeAge = new RetirementPlanDTO(1002L, -1, 65);
+        
+        // When
+        MockHttpServletResponse valid = perform(goalSeekBatch(List.of(plan)));
+        MockHttpServletResponse invalid = perform(goalSeekBatch(List.of(plan, withoutUser, negativeAge)));
+        MockHttpServletResponse nullPlan = perform(goalSeekBatch(Arrays.asList(plan, null)));
+        
+        // Then
+        assertThat(valid.getStatus()).isEqualTo(200);
+        assertThat(invalid.getStatus()).isEqualTo(400);
+        assertThat(json(invalid).get("message").asText())
+            .contains("User ID is required", "Current age must be positive");
+        assertThat(nullPlan.getStatus()).isEqualTo(400);
+    }
+    
+    private MockHttpServletRequestBuilder calculate() throws Exception {
+        return post(CALCULATE).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(plan));
+    }
+    
+    private MockHttpServletRequestBuilder goalSeekBatch(List<RetirementPlanDTO> plans) throws Exception {
+        return post("/api/planning/retirement-plan/goal-seek/batch")
+            .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(plans));
+    }
+    
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+    
+    private JsonNode json(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readTree(response.getContentAsString());
+    }
+}
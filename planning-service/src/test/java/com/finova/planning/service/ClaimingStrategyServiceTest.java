@@ -0,0 +1,141 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.ClaimantDTO;
+import com.finova.planning.dto.ClaimingStrategyDTO;
+import com.finova.planning.dto.ClaimingStrategyRequestDTO;
+import com.finova.planning.dto.ClaimingStrategyResultDTO;
+import com.finova.planning.dto.SocialSecurityDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Claiming strategies respond to longevity and earnings, and the grid shortcut matches a direct sum
+ */
+@DisplayName("ClaimingStrategyService Tests")
+class ClaimingStrategyServiceTest {
+    
+    private final SocialSecurityTables tables = new SocialSecurityTables("social-security/wage-index.csv", 0.035, 80);
+    private final SocialSecurityService socialSecurityService =
+        new SocialSecurityService(tables, PlanningFixtures.uncachedResults());
+    private final ClaimingStrategyService service = service(88.0, 10.0);
+    
+    @Test
+    @DisplayName("Should delay a long-lived single worker to 70 and claim at 62 for a short-lived one")
+    void shouldLetLongevityDecideSingleWorkersClaimingAge() {
+        // When
+        ClaimingStrategyDTO longLived = single(service(100.0, 8.0), 0.0).getStrategies().get(0);
+        ClaimingStrategyDTO shortLived = single(service(66.0, 4.0), 2.0).getStrategies().get(0);
+        
+        // Then
+        assertThat(longLived.getWorkerClaimAgeYears()).isEqualTo(70);
+        assertThat(longLived.getWorkerClaimAgeMonths()).isZero();
+        assertThat(shortLived.getWorkerClaimAgeYears()).isEqualTo(62);
+        assertThat(shortLived.getWorkerClaimAgeMonths()).isZero();
+        assertThat(shortLived.getSpouseClaimAgeYears()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should value a single worker's strategy as the month-by-month discounted sum")
+    void shouldMatchMonthByMonthSumForSingleWorker() {
+        // When
+        ClaimingStrategyResultDTO result = single(service, 3.0);
+        
+        // Then
+        assertThat(result.getStrategiesEvaluated()).isEqualTo(97);
+        ClaimingStrategyDTO best = result.getStrategies().get(0);
+        LocalDate dateOfBirth = LocalDate.now().minusYears(55);
+        SocialSecurityDTO benefits = socialSecurityService.calculateBenefits(
+            new SocialSecurityDTO(1L, dateOfBirth, new BigDecimal("90000"), 30));
+        int ageMonths = (int) Period.between(dateOfBirth, LocalDate.now()).toTotalMonths();
+        int claimMonths = best.getWorkerClaimAgeYears() * 12 + best.getWorkerClaimAgeMonths();
+        double monthlyBenefit = benefits.getClaimingOptions().get(claimMonths - 744).getMonthlyBenefit().doubleValue();
+        
+        double expected = 0;
+        double age = ageMonths / 12.0;
+        for (int t = claimMonths - ageMonths; ageMonths + t < 110 * 12; t++) {
+            double alive = Math.exp(Math.exp((age - 88.0) / 10.0) - Math.exp((age + t / 12.0 - 88.0) / 10.0));
+            expected += monthlyBenefit * alive * Math.pow(1.03, -t / 12.0);
+        }
+        assertThat(best.getExpectedLifetimeBenefits().doubleValue()).isCloseTo(expected, within(0.01));
+    }
+    
+    @Test
+    @DisplayName("Should rank couple strategies and delay the higher earner's claim")
+    void shouldRankCoupleStrategiesAndDelayHigherEarner() {
+        // Given
+        ClaimantDTO worker = new ClaimantDTO(LocalDate.now().minusYears(58), new BigDecimal("160000"));
+        ClaimantDTO spouse = new ClaimantDTO(LocalDate.now().minusYears(56), new BigDecimal("25000"));
+        
+        // When
+        ClaimingStrategyResultDTO result = service.optimize(new ClaimingStrategyRequestDTO(1L, worker, spouse));
+        
+        // Then
+        List<ClaimingStrategyDTO> strategies = result.getStrategies();
+        assertThat(result.getStrategiesEvaluated()).isEqualTo(97 * 97);
+        assertThat(strategies).hasSize(10);
+        assertThat(strategies.get(0).getDifferenceFromBest().signum()).isZero();
+        assertThat(strategies).extracting(ClaimingStrategyDTO::getRank)
+            .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(strategies).extracting(ClaimingStrategyDTO::getExpectedLifetimeBenefits)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        
+        // The higher earner's benefit doubles as the survivor benefit, so it is worth delaying
+        ClaimingStrategyDTO best = strategies.get(0);
+        assertThat(best.getWorkerClaimAgeYears()).isEqualTo(70);
+        assertThat(best.getSpouseClaimAgeYears()).isLessThan(70);
+        assertThat(best.getSpouseMonthlyBenefit()).isGreaterThan(result.getSpousePrimaryInsuranceAmount());
+    }
+    
+    @Test
+    @DisplayName("Should skip claiming months that have already passed")
+    void shouldSkipClaimingMonthsAlreadyPassed() {
+        // Given
+        ClaimantDTO worker = new ClaimantDTO(LocalDate.now().minusYears(65).minusMonths(6), new BigDecimal("70000"));
+        
+        // When
+        ClaimingStrategyResultDTO result = service.optimize(new ClaimingStrategyRequestDTO(1L, worker, null));
+        
+        // Then
+        assertThat(result.getStrategiesEvaluated()).isLessThanOrEqualTo(97 - 3 * 12 - 6);
+        assertThat(result.getStrategies()).allSatisfy(strategy ->
+            assertThat(strategy.getWorkerClaimAgeYears() * 12 + strategy.getWorkerClaimAgeMonths())
+                .isGreaterThanOrEqualTo(65 * 12 + 6));
+    }
+    
+    @Test
+    @DisplayName("Should reject a request for more strategies than max-top-strategies")
+    void shouldRejectTooManyStrategies() {
+        // Given
+        ClaimingStrategyRequestDTO request = new ClaimingStrategyRequestDTO(1L,
+            new ClaimantDTO(LocalDate.now().minusYears(50), new BigDecimal("60000")), null);
+        request.setTopStrategies(101);
+        
+        // When / Then
+        assertThatThrownBy(() -> service.optimize(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("At most 100 strategies can be returned");
+    }
+    
+    private ClaimingStrategyResultDTO single(ClaimingStrategyService claimingStrategyService, double discountRate) {
+        ClaimantDTO worker = new ClaimantDTO(LocalDate.now().minusYears(55), new BigDecimal("90000"));
+        worker.setYearsOfWorkHistory(30);
+        ClaimingStrategyRequestDTO request = new ClaimingStrategyRequestDTO(1L, worker, null);
+        request.setDiscountRate(BigDecimal.valueOf(discountRate));
+        return claimingStrategyService.optimize(request);
+    }
+    
+    private ClaimingStrategyService service(double mortalityModalAge, double mortalityDispersion) {
+        return new ClaimingStrategyService(socialSecurityService, tables, 2.0, 10, 100,
+            mortalityModalAge, mortalityDispersion);
+    }
+}
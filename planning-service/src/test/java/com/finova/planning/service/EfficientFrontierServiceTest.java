@@ -0,0 +1,119 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.InvestmentStrategyDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Frontier points are feasible, ordered and undominated by random portfolios, and strategies follow risk tolerance
+ */
+@DisplayName("EfficientFrontierService Tests")
+class EfficientFrontierServiceTest {
+    
+    private final CapitalMarketAssumptions assumptions =
+        new CapitalMarketAssumptions("investment/capital-market-assumptions.csv");
+    private final EfficientFrontierService frontierService = new EfficientFrontierService(assumptions, 50);
+    private final InvestmentStrategyService strategyService =
+        new InvestmentStrategyService(frontierService, assumptions, new BigDecimal("106965"));
+    
+    @Test
+    @DisplayName("Should return fully invested long-only points ordered by risk, cached per assumptions version")
+    void shouldReturnFullyInvestedPointsOrderedByRisk() {
+        // When
+        EfficientFrontierService.Frontier frontier = frontierService.frontier();
+        
+        // Then
+        assertThat(frontier.size()).isGreaterThan(10);
+        assertThat(frontierService.frontier()).isSameAs(frontier);
+        for (int p = 0; p < frontier.size(); p++) {
+            assertThat(Arrays.stream(frontier.weights()[p]).min().orElseThrow()).as("smallest weight of point %d", p)
+                .isGreaterThanOrEqualTo(0);
+            assertThat(Arrays.stream(frontier.weights()[p]).sum()).as("total weight of point %d", p)
+                .isCloseTo(1.0, within(1e-9));
+            if (p > 0) {
+                assertThat(frontier.volatilities()[p]).isGreaterThan(frontier.volatilities()[p - 1]);
+                assertThat(frontier.expectedReturns()[p]).isGreaterThanOrEqualTo(frontier.expectedReturns()[p - 1] - 1e-12);
+            }
+        }
+        // The riskiest end approaches the highest-return asset class, emerging markets
+        assertThat(frontier.weights()[frontier.size() - 1][3]).isGreaterThan(0.9);
+    }
+    
+    @Test
+    @DisplayName("Should not be dominated by any random long-only portfolio")
+    void shouldNotBeDominatedByRandomPortfolios() {
+        // Given
+        EfficientFrontierService.Frontier frontier = frontierService.frontier();
+        int n = assumptions.size();
+        Random random = new Random(49);
+        double[] weights = new double[n];
+        
+        for (int sample = 0; sample < 20000; sample++) {
+            // When
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                weights[i] = -Math.log(1 - random.nextDouble());
+                total += weights[i];
+            }
+            double expectedReturn = 0;
+            double variance = 0;
+            for (int i = 0; i < n; i++) {
+                weights[i] /= total;
+                expectedReturn += weights[i] * assumptions.expectedReturn(i);
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    variance += weights[i] * assumptions.covariance()[i * n + j] * weights[j];
+                }
+            }
+            double volatility = Math.sqrt(variance);
+            
+            // Then
+            for (int p = 0; p < frontier.size(); p++) {
+                boolean dominates = expectedReturn >= frontier.expectedReturns()[p]
+                    && volatility < frontier.volatilities()[p] - 1e-6;
+                assertThat(dominates).as("sample %d dominates frontier point %d", sample, p).isFalse();
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should take more risk for a higher risk tolerance and reject tolerances above 10")
+    void shouldFollowRiskTolerance() {
+        // When
+        InvestmentStrategyDTO cautious = strategyService.generateStrategy(1L, 42, 1, new BigDecimal("250000"));
+        InvestmentStrategyDTO bold = strategyService.generateStrategy(1L, 42, 10, null);
+        InvestmentStrategyDTO byAge = strategyService.generateStrategy(1L, 30);
+        
+        // Then
+        assertThat(cautious.getStocksPercentage() + cautious.getBondsPercentage() + cautious.getCashPercentage())
+            .isEqualTo(100);
+        assertThat(cautious.getAllocations().stream().mapToInt(a -> a.getPercentage()).sum()).isEqualTo(100);
+        assertThat(cautious.getStocksPercentage()).isLessThan(bold.getStocksPercentage());
+        assertThat(cautious.getExpectedVolatility()).isLessThan(bold.getExpectedVolatility());
+        assertThat(cautious.getCurrentStrategy()).isEqualTo("Conservative");
+        assertThat(bold.getCurrentStrategy()).isEqualTo("Aggressive Growth");
+        assertThat(bold.getPortfolioValue()).isEqualTo(new BigDecimal("106965"));
+        assertThat(byAge.getRiskTolerance()).isEqualTo(9);
+        assertThat(byAge.getAssumptionsVersion()).isEqualTo("2025.4");
+        assertThatThrownBy(() -> strategyService.generateStrategy(1L, 42, 11, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("Should round allocation percentages to whole numbers totalling 100")
+    void shouldRoundPercentagesToOneHundred() {
+        // When / Then
+        assertThat(InvestmentStrategyService.wholePercentages(new double[] {1 / 3.0, 1 / 3.0, 1 / 3.0}))
+            .containsExactly(34, 33, 33);
+        assertThat(InvestmentStrategyService.wholePercentages(new double[] {1.0, 0.0})).containsExactly(100, 0);
+    }
+}
@@ -0,0 +1,149 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.GoalSeekResultDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Goal-seek answers are on track and the smallest such value at the precision users enter
+ */
+@DisplayName("GoalSeekService Tests")
+class GoalSeekServiceTest {
+    
+    private final RetirementCalculatorService calculator =
+        new RetirementCalculatorService(PlanningFixtures.uncachedResults(), 0.03);
+    private final GoalSeekService goalSeekService = new GoalSeekService(calculator, 80, 15.0, 100, 8);
+    
+    @Test
+    @DisplayName("Should find the smallest on-track monthly contribution to the cent")
+    void shouldFindSmallestOnTrackContribution() {
+        String[] rates = {"0", "0.5", "4.25", "7.0", "11"};
+        int[] currentAges = {25, 42, 58};
+        for (String rate : rates) {
+            for (int currentAge : currentAges) {
+                // Given
+                RetirementPlanDTO plan = plan(currentAge, 65, rate);
+                
+                // When
+                GoalSeekResultDTO result = goalSeekService.solve(plan, GoalSeekTarget.MONTHLY_CONTRIBUTION);
+                
+                // Then
+                assertThat(result.getFeasible()).isTrue();
+                assertThat(result.getPlan().getStatus()).isEqualTo("on_track");
+                if (result.getValue().signum() > 0) {
+                    RetirementPlanDTO lower = plan(currentAge, 65, rate);
+                    lower.setMonthlyContribution(result.getValue().subtract(new BigDecimal("0.01")));
+                    assertThat(calculator.calculateRetirementPlan(lower).getStatus())
+                        .as("rate %s, age %d", rate, currentAge)
+                        .isEqualTo("behind");
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should find the earliest on-track retirement age")
+    void shouldFindEarliestOnTrackRetirementAge() {
+        // Given
+        RetirementPlanDTO plan = plan(42, null, "7.0");
+        
+        // When
+        GoalSeekResultDTO result = goalSeekService.solve(plan, GoalSeekTarget.RETIREMENT_AGE);
+        
+        // Then
+        assertThat(result.getFeasible()).isTrue();
+        int age = result.getValue().intValueExact();
+        assertThat(result.getPlan().getStatus()).isEqualTo("on_track");
+        assertThat(calculator.calculateRetirementPlan(plan(42, age - 1, "7.0")).getStatus()).isEqualTo("behind");
+    }
+    
+    @Test
+    @DisplayName("Should find the lowest on-track return rate to the basis point by Newton's method")
+    void shouldFindLowestOnTrackReturnRate() {
+        // Given
+        RetirementPlanDTO plan = plan(35, 65, "0");
+        
+        // When
+        GoalSeekResultDTO result = goalSeekService.solve(plan, GoalSeekTarget.RETURN_RATE);
+        
+        // Then
+        assertThat(result.getFeasible()).isTrue();
+        assertThat(result.getMethod()).isEqualTo("newton");
+        assertThat(result.getIterations()).isLessThan(20);
+        assertThat(result.getPlan().getStatus()).isEqualTo("on_track");
+        String lowerRate = result.getValue().subtract(new BigDecimal("0.01")).toPlainString();
+        assertThat(calculator.calculateRetirementPlan(plan(35, 65, lowerRate)).getStatus()).isEqualTo("behind");
+    }
+    
+    @Test
+    @DisplayName("Should report an unreachable goal as infeasible with a message")
+    void shouldReportUnreachableGoalAsInfeasible() {
+        // Given
+        RetirementPlanDTO plan = plan(60, 62, "3");
+        plan.setDesiredMonthlyIncome(new BigDecimal("50000"));
+        
+        // When
+        GoalSeekResultDTO result = goalSeekService.solve(plan, GoalSeekTarget.RETURN_RATE);
+        
+        // Then
+        assertThat(result.getFeasible()).isFalse();
+        assertThat(result.getValue()).isNull();
+        assertThat(result.getMessage()).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("Should keep the request order in a parallel batch")
+    void shouldKeepRequestOrderInBatch() {
+        // Given
+        List<RetirementPlanDTO> plans = plans(50);
+        
+        // When
+        List<GoalSeekResultDTO> results = goalSeekService.solveBatch(plans, GoalSeekTarget.MONTHLY_CONTRIBUTION);
+        
+        // Then
+        assertThat(results).extracting(GoalSeekResultDTO::getUserId)
+            .containsExactlyElementsOf(plans.stream().map(RetirementPlanDTO::getUserId).toList());
+    }
+    
+    @Test
+    @DisplayName("Should reject a batch larger than max-batch-size")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<RetirementPlanDTO> plans = plans(101);
+        
+        // When / Then
+        assertThatThrownBy(() -> goalSeekService.solveBatch(plans, GoalSeekTarget.MONTHLY_CONTRIBUTION))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Goal-seek batch has 101 plans, the limit is 100");
+    }
+    
+    private List<RetirementPlanDTO> plans(int count) {
+        List<RetirementPlanDTO> plans = new ArrayList<>();
+        for (long userId = 1; userId <= count; userId++) {
+            RetirementPlanDTO plan = plan((int) (20 + userId % 40), 67, "6");
+            plan.setUserId(userId);
+            plans.add(plan);
+        }
+        return plans;
+    }
+    
+    private RetirementPlanDTO plan(int currentAge, Integer retirementAge, String rate) {
+        RetirementPlanDTO plan = new RetirementPlanDTO();
+        plan.setUserId(1L);
+        plan.setCurrentAge(currentAge);
+        plan.setRetirementAge(retirementAge);
+        plan.setCurrentSavings(new BigDecimal("25000"));
+        plan.setMonthlyContribution(new BigDecimal("500"));
+        plan.setDesiredMonthlyIncome(new BigDecimal("6200"));
+        plan.setExpectedReturnRate(new BigDecimal(rate));
+        return plan;
+    }
+}
@@ -0,0 +1,101 @@
+package com.finova.planning.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The bundled binary returns file is exactly what the annual CSV generates, and its annual origin is detected
+ */
+@DisplayName("HistoricalReturns Tests")
+class HistoricalReturnsTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Should hold exactly the monthly rates generated from the annual CSV")
+    void shouldMatchAnnualCsv() throws IOException {
+        // Given
+        List<String[]> rows = annualRows();
+        
+        // When
+        try (InputStream in = new ClassPathResource("historical/us-monthly-returns.bin").getInputStream();
+             DataInputStream bin = new DataInputStream(in)) {
+            
+            // Then
+            assertThat(bin.readInt()).isEqualTo(0x464E5254);
+            assertThat(bin.readInt()).isEqualTo(1);
+            assertThat(bin.readInt()).isEqualTo(Integer.parseInt(rows.get(0)[0]));
+            assertThat(bin.readInt()).isEqualTo(1);
+            assertThat(bin.readInt()).isEqualTo(rows.size() * 12);
+            assertThat(bin.readInt()).isEqualTo(4);
+            for (String[] row : rows) {
+                for (int month = 0; month < 12; month++) {
+                    for (int series = 0; series < 4; series++) {
+                        double annual = Double.parseDouble(row[series + 1]) / 100.0;
+                        float expected = (float) (StrictMath.pow(1 + annual, 1.0 / 12) - 1);
+                        assertThat(bin.readFloat()).as("series %d in %s month %d", series, row[0], month + 1)
+                            .isEqualTo(expected);
+                    }
+                }
+            }
+            assertThat(bin.read()).as("bytes after the last month").isEqualTo(-1);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should report the bundled series as annual")
+    void shouldReportBundledSeriesAsAnnual() {
+        // When
+        HistoricalReturns returns = new HistoricalReturns("");
+        
+        // Then
+        assertThat(returns.isAnnual()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should report a series whose months differ within a year as monthly")
+    void shouldReportVaryingMonthsAsMonthly() throws IOException {
+        // Given
+        Path file = tempDir.resolve("monthly.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            for (int header : new int[] {0x464E5254, 1, 2000, 1, 12, 4}) {
+                out.writeInt(header);
+            }
+            for (int month = 0; month < 12; month++) {
+                for (int series = 0; series < 4; series++) {
+                    out.writeFloat(month / 1000f);
+                }
+            }
+        }
+        
+        // When
+        HistoricalReturns returns = new HistoricalReturns(file.toString());
+        
+        // Then
+        assertThat(returns.isAnnual()).isFalse();
+        assertThat(returns.monthlyReturn(11, HistoricalReturns.STOCKS)).isEqualTo(0.011f);
+    }
+    
+    private List<String[]> annualRows() throws IOException {
+        try (InputStream in = new ClassPathResource("historical/us-annual-returns.csv").getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#") && !line.startsWith("year"))
+                .map(line -> line.split(","))
+                .toList();
+        }
+    }
+}
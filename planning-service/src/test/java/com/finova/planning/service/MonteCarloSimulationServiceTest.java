@@ -0,0 +1,201 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.OutcomeBandDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Reproducibility and limiting cases of the Monte Carlo engine, parametric and historical bootstrap
+ */
+@DisplayName("MonteCarloSimulationService Tests")
+class MonteCarloSimulationServiceTest {
+    
+    private static final HistoricalReturns HISTORICAL_RETURNS = new HistoricalReturns("");
+    
+    private final RetirementCalculatorService calculator =
+        new RetirementCalculatorService(PlanningFixtures.uncachedResults(), 0.03);
+    private final List<MonteCarloSimulationService> services = new ArrayList<>();
+    
+    @AfterEach
+    void stopPools() {
+        services.forEach(MonteCarloSimulationService::stopPool);
+    }
+    
+    @Test
+    @DisplayName("Should give the same result for the same seed whatever the parallelism")
+    void shouldReproduceSeedWhateverTheParallelism() {
+        // When
+        RetirementPlanDTO single = service(1).simulate(plan(), 5000, 42L);
+        RetirementPlanDTO parallel = service(4).simulate(plan(), 5000, 42L);
+        
+        // Then
+        assertThat(parallel.getSuccessProbability()).isEqualTo(single.getSuccessProbability());
+        assertThat(parallel.getOutcomeBands())
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(single.getOutcomeBands());
+    }
+    
+    @Test
+    @DisplayName("Should return ordered percentile bands for every age from today to the end of retirement")
+    void shouldReturnOrderedBandsOverTheWholeHorizon() {
+        // When
+        RetirementPlanDTO result = service(2).simulate(plan(), 10000, 7L);
+        
+        // Then
+        // Age 42 today through the end of a 25-year retirement from 65
+        assertThat(result.getOutcomeBands()).hasSize(65 - 42 + 25 + 1);
+        assertThat(result.getOutcomeBands().get(0).getAge()).isEqualTo(42);
+        assertThat(result.getOutcomeBands()).allSatisfy(band -> {
+            assertThat(band.getP10()).as("p10 at %d", band.getAge()).isLessThanOrEqualTo(band.getP25());
+            assertThat(band.getP25()).as("p25 at %d", band.getAge()).isLessThanOrEqualTo(band.getP50());
+            assertThat(band.getP50()).as("p50 at %d", band.getAge()).isLessThanOrEqualTo(band.getP75());
+            assertThat(band.getP75()).as("p75 at %d", band.getAge()).isLessThanOrEqualTo(band.getP90());
+        });
+        assertThat(result.getSuccessProbability()).isStrictlyBetween(BigDecimal.ZERO, BigDecimal.ONE);
+    }
+    
+    @Test
+    @DisplayName("Should start every band at the current savings")
+    void shouldStartBandsAtCurrentSavings() {
+        // Given
+        RetirementPlanDTO plan = plan();
+        
+        // When
+        OutcomeBandDTO today = service(2).simulate(plan, 2000, 11L).getOutcomeBands().get(0);
+        
+        // Then
+        BigDecimal savings = plan.getCurrentSavings().setScale(0, RoundingMode.HALF_UP);
+        assertThat(List.of(today.getP10(), today.getP50(), today.getP90())).allSatisfy(p ->
+            assertThat(p).isEqualByComparingTo(savings));
+    }
+    
+    @Test
+    @DisplayName("Should collapse to a single path when volatility is zero")
+    void shouldCollapseToSinglePathWithoutVolatility() {
+        // Given
+        RetirementPlanDTO plan = plan();
+        plan.setExpectedVolatility(BigDecimal.ZERO);
+        
+        // When
+        RetirementPlanDTO result = service(2).simulate(plan, 1000, 1L);
+        
+        // Then
+        assertThat(result.getOutcomeBands()).allSatisfy(band ->
+            assertThat(band.getP10()).as("band at %d", band.getAge()).isEqualTo(band.getP90()));
+        assertThat(result.getSuccessProbability()).isIn(new BigDecimal("0.0000"), new BigDecimal("1.0000"));
+    }
+    
+    @Test
+    @DisplayName("Should lower the success probability for a higher income goal")
+    void shouldLowerSuccessForHigherIncomeGoal() {
+        // Given
+        RetirementPlanDTO modest = plan();
+        modest.setDesiredMonthlyIncome(new BigDecimal("4000"));
+        RetirementPlanDTO ambitious = plan();
+        ambitious.setDesiredMonthlyIncome(new BigDecimal("12000"));
+        MonteCarloSimulationService service = service(2);
+        
+        // When
+        BigDecimal modestSuccess = service.simulate(modest, 10000, 3L).getSuccessProbability();
+        BigDecimal ambitiousSuccess = service.simulate(ambitious, 10000, 3L).getSuccessProbability();
+        
+        // Then
+        assertThat(modestSuccess).isGreaterThan(ambitiousSuccess);
+    }
+    
+    @Test
+    @DisplayName("Should cap the path count at max-paths")
+    void shouldCapPathCount() {
+        // When
+        RetirementPlanDTO result = service(2, 5000).simulate(plan(), 1_000_000, 5L);
+        
+        // Then
+        assertThat(result.getSimulationPaths()).isEqualTo(5000);
+    }
+    
+    @Test
+    @DisplayName("Should map the bundled 1928-2024 history from its header")
+    void shouldMapBundledHistory() {
+        // When
+        double stocks1931 = 1;
+        double inflation1980 = 1;
+        for (int m = 0; m < 12; m++) {
+            stocks1931 *= 1 + HISTORICAL_RETURNS.monthlyReturn((1931 - 1928) * 12 + m, HistoricalReturns.STOCKS);
+            inflation1980 *= 1 + HISTORICAL_RETURNS.monthlyReturn((1980 - 1928) * 12 + m, HistoricalReturns.INFLATION);
+        }
+        
+        // Then
+        assertThat(HISTORICAL_RETURNS.getFirstYear()).isEqualTo(1928);
+        assertThat(HISTORICAL_RETURNS.getFirstMonth()).isEqualTo(1);
+        assertThat(HISTORICAL_RETURNS.getMonths()).isEqualTo((2024 - 1928 + 1) * 12);
+        // 1931 was the worst year for stocks; 1980 had double-digit inflation
+        assertThat(stocks1931).isLessThan(0.6);
+        assertThat(inflation1980).isGreaterThan(1.1);
+    }
+    
+    @Test
+    @DisplayName("Should reproduce a bootstrap seed whatever the parallelism")
+    void shouldReproduceBootstrapWhateverTheParallelism() {
+        // When
+        RetirementPlanDTO single = service(1).simulate(plan(), 3000, 42L, SimulationMode.BOOTSTRAP, null, null);
+        RetirementPlanDTO parallel = service(4).simulate(plan(), 3000, 42L, SimulationMode.BOOTSTRAP, null, null);
+        
+        // Then
+        assertThat(single.getSimulationMode()).isEqualTo("BOOTSTRAP");
+        assertThat(single.getHistoricalFrequency()).isEqualTo("ANNUAL");
+        assertThat(parallel.getSuccessProbability()).isEqualTo(single.getSuccessProbability());
+        assertThat(parallel.getOutcomeBands())
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(single.getOutcomeBands());
+        OutcomeBandDTO tenYearsOut = single.getOutcomeBands().get(10);
+        assertThat(tenYearsOut.getP10()).isLessThan(tenYearsOut.getP90());
+    }
+    
+    @Test
+    @DisplayName("Should follow the income goal in bootstrap mode and reject portfolios over 100%")
+    void shouldFollowIncomeGoalInBootstrapMode() {
+        // Given
+        RetirementPlanDTO modest = plan();
+        modest.setDesiredMonthlyIncome(new BigDecimal("100"));
+        RetirementPlanDTO ambitious = plan();
+        ambitious.setDesiredMonthlyIncome(new BigDecimal("12000"));
+        MonteCarloSimulationService service = service(2);
+        
+        // When
+        BigDecimal modestSuccess = service.simulate(modest, 5000, 3L, SimulationMode.BOOTSTRAP, 60, 40)
+            .getSuccessProbability();
+        BigDecimal ambitiousSuccess = service.simulate(ambitious, 5000, 3L, SimulationMode.BOOTSTRAP, 60, 40)
+            .getSuccessProbability();
+        
+        // Then
+        assertThat(modestSuccess).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(modestSuccess).isGreaterThan(ambitiousSuccess);
+        assertThatThrownBy(() -> service.simulate(plan(), 100, 1L, SimulationMode.BOOTSTRAP, 80, 30))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private RetirementPlanDTO plan() {
+        return calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 65));
+    }
+    
+    private MonteCarloSimulationService service(int parallelism) {
+        return service(parallelism, 100000);
+    }
+    
+    private MonteCarloSimulationService service(int parallelism, int maxPaths) {
+        MonteCarloSimulationService service = new MonteCarloSimulationService(HISTORICAL_RETURNS,
+            10000, maxPaths, 512, parallelism, new BigDecimal("12.0"), 120, 60, 30);
+        services.add(service);
+        return service;
+    }
+}
@@ -0,0 +1,18 @@
+package com.finova.planning.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Shared collaborators for planning services constructed directly in unit tests
+ */
+final class PlanningFixtures {
+    
+    private PlanningFixtures() {}
+    
+    /**
+     * A result cache that is switched off, so every call computes its result
+     */
+    static PlanningResultCache uncachedResults() {
+        return new PlanningResultCache(new SimpleMeterRegistry(), false, 0, 0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.RetirementPlanDTO;
+import com.finova.planning.dto.SocialSecurityDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Identical calculations are shared across users and decimal scales
+ */
+@DisplayName("PlanningResultCache Tests")
+class PlanningResultCacheTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlanningResultCache cache = new PlanningResultCache(meterRegistry, true, 100, 600);
+    private final RetirementCalculatorService calculator = new RetirementCalculatorService(cache, 0.03);
+    private final SocialSecurityService socialSecurityService = new SocialSecurityService(
+        new SocialSecurityTables("social-security/wage-index.csv", 0.035, 80), cache);
+    
+    @Test
+    @DisplayName("Should share one entry between identical plans of different users")
+    void shouldShareEntryBetweenUsers() {
+        // Given
+        RetirementPlanDTO first = calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 65));
+        RetirementPlanDTO second = new RetirementPlanDTO(2L, 42, 65);
+        second.setExpectedReturnRate(new BigDecimal("7.00"));
+        second.setMonthlyContribution(new BigDecimal("650.0"));
+        
+        // When
+        calculator.calculateRetirementPlan(second);
+        
+        // Then
+        assertThat(second.getUserId()).isEqualTo(2L);
+        assertThat(second.getProjectedBalance()).isEqualTo(first.getProjectedBalance());
+        assertThat(second.getStatus()).isEqualTo(first.getStatus());
+        assertThat(hits()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("finova.planning.cache.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+    
+    @Test
+    @DisplayName("Should keep different inputs and modes in separate entries")
+    void shouldSeparateDifferentInputsAndModes() {
+        // When
+        RetirementPlanDTO fast = calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 65));
+        RetirementPlanDTO exact = calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 65),
+            ProjectionMode.EXACT);
+        RetirementPlanDTO later = calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 67));
+        
+        // Then
+        assertThat(later.getProjectedBalance()).isNotEqualTo(fast.getProjectedBalance());
+        assertThat(exact.getProjectedBalance().doubleValue())
+            .isCloseTo(fast.getProjectedBalance().doubleValue(), within(1.0));
+        assertThat(hits()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should cache Social Security results by salary and age")
+    void shouldCacheSocialSecurityResults() {
+        // Given
+        SocialSecurityDTO first = new SocialSecurityDTO();
+        first.setUserId(1L);
+        SocialSecurityDTO second = new SocialSecurityDTO();
+        second.setUserId(2L);
+        
+        // When
+        socialSecurityService.calculateBenefits(first);
+        socialSecurityService.calculateBenefits(second);
+        
+        // Then
+        assertThat(second.getBenefitAt67()).isEqualTo(first.getBenefitAt67());
+        assertThat(hits()).isEqualTo(1.0);
+    }
+    
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,135 @@
+package com.finova.planning.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finova.planning.dto.ProjectionYearDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Schedules agree with the plan projection and account for every dollar year by year
+ */
+@DisplayName("ProjectionScheduleService Tests")
+class ProjectionScheduleServiceTest {
+    
+    private final RetirementCalculatorService calculator =
+        new RetirementCalculatorService(PlanningFixtures.uncachedResults(), 0.03);
+    private final ProjectionScheduleService scheduleService =
+        new ProjectionScheduleService(calculator, new ObjectMapper(), 120);
+    
+    @Test
+    @DisplayName("Should reach the plan's projected balance at the retirement age")
+    void shouldReachProjectedBalanceAtRetirement() {
+        // Given
+        BigDecimal projected = calculator.calculateRetirementPlan(new RetirementPlanDTO(1L, 42, 65)).getProjectedBalance();
+        
+        // When
+        List<ProjectionYearDTO> rows = rows(new RetirementPlanDTO(1L, 42, 65));
+        
+        // Then
+        assertThat(rows).hasSize(65 - 42 + 25 + 1);
+        ProjectionYearDTO atRetirement = rows.get(65 - 42);
+        assertThat(atRetirement.getAge()).isEqualTo(65);
+        assertThat(atRetirement.getPhase()).isEqualTo("accumulation");
+        assertThat(atRetirement.getBalance().doubleValue()).isCloseTo(projected.doubleValue(), within(0.05));
+        assertThat(rows.get(65 - 42 + 1).getPhase()).isEqualTo("retirement");
+    }
+    
+    @Test
+    @DisplayName("Should reconcile each row with the previous balance and deflate it by inflation")
+    void shouldReconcileEachRowWithPreviousBalance() {
+        // Given
+        RetirementPlanDTO plan = new RetirementPlanDTO(1L, 50, 60);
+        plan.setExpectedInflationRate(new BigDecimal("2.5"));
+        
+        // When
+        List<ProjectionYearDTO> rows = rows(plan);
+        
+        // Then
+        for (int i = 1; i < rows.size(); i++) {
+            ProjectionYearDTO row = rows.get(i);
+            BigDecimal expected = rows.get(i - 1).getBalance().add(row.getContributions())
+                .add(row.getGrowth()).subtract(row.getWithdrawals());
+            assertThat(row.getBalance().doubleValue()).as("balance in year %d", row.getYear())
+                .isCloseTo(expected.doubleValue(), within(0.02));
+            assertThat(row.getRealBalance().doubleValue()).as("real balance in year %d", row.getYear())
+                .isCloseTo(row.getBalance().doubleValue() / Math.pow(1.025, row.getYear()), within(0.01));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should default inflation to the shared planning default")
+    void shouldDefaultInflationToSharedDefault() {
+        // When
+        List<ProjectionYearDTO> rows = rows(new RetirementPlanDTO(1L, 50, 60));
+        
+        // Then
+        ProjectionYearDTO tenYearsOut = rows.get(10);
+        assertThat(tenYearsOut.getRealBalance().doubleValue())
+            .isCloseTo(tenYearsOut.getBalance().doubleValue() / Math.pow(1.03, 10), within(0.01));
+    }
+    
+    @Test
+    @DisplayName("Should report the shortfall once the balance is depleted")
+    void shouldReportShortfallWhenDepleted() {
+        // Given
+        RetirementPlanDTO plan = new RetirementPlanDTO(1L, 60, 62);
+        plan.setCurrentSavings(new BigDecimal("100000"));
+        plan.setDesiredMonthlyIncome(new BigDecimal("5000"));
+        
+        // When
+        List<ProjectionYearDTO> rows = rows(plan);
+        
+        // Then
+        ProjectionYearDTO last = rows.get(rows.size() - 1);
+        assertThat(last.getBalance().signum()).isZero();
+        assertThat(last.getShortfall().signum()).isPositive();
+        assertThat(last.getWithdrawals().signum()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should write one JSON line per year")
+    void shouldWriteOneJsonLinePerYear() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // When
+        scheduleService.writeSchedule(scheduleService.schedule(new RetirementPlanDTO(1L, 42, 65)), out);
+        
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(49);
+        assertThat(lines[0]).startsWith("{\"year\":0,\"age\":42,");
+    }
+    
+    @Test
+    @DisplayName("Should reject a schedule longer than max-years")
+    void shouldRejectOverlongHorizon() {
+        // Given
+        RetirementPlanDTO plan = new RetirementPlanDTO(1L, 30, 65);
+        plan.setExpectedRetirementDuration(100);
+        
+        // When / Then
+        assertThatThrownBy(() -> scheduleService.schedule(plan))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Schedule spans 135 years, the limit is 120");
+    }
+    
+    private List<ProjectionYearDTO> rows(RetirementPlanDTO plan) {
+        List<ProjectionYearDTO> rows = new ArrayList<>();
+        Iterator<ProjectionYearDTO> schedule = scheduleService.schedule(plan);
+        schedule.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,139 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.RetirementPlanDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cross-checks the fast double projections against the exact BigDecimal projections.
+ * The two differ only because the exact mode rounds the monthly rate to 10 decimal places,
+ * which moves long-horizon balances by a few parts in 10^8.
+ */
+@DisplayName("RetirementCalculatorService projections")
+class RetirementCalculatorServiceTest {
+    
+    private static final double RELATIVE_TOLERANCE = 1e-7;
+    private static final double ABSOLUTE_TOLERANCE = 0.01;
+    
+    private final RetirementCalculatorService calculator =
+        new RetirementCalculatorService(PlanningFixtures.uncachedResults(), 0.03);
+    
+    @Test
+    void defaultPlanMatchesExact() {
+        assertFastMatchesExact(new RetirementPlanDTO(1L, 42, 65));
+    }
+    
+    @Test
+    void fastMatchesExactAcrossParameterGrid() {
+        int[] currentAges = {18, 30, 42, 55, 64};
+        int[] retirementAges = {60, 65, 70};
+        String[] rates = {"0", "0.5", "3.25", "7.0", "12", "-2"};
+        String[] savings = {"0", "1250.55", "106965.67", "5000000"};
+        String[] contributions = {"0", "650", "2500.10"};
+        
+        for (int currentAge : currentAges) {
+            for (int retirementAge : retirementAges) {
+                if (retirementAge <= currentAge) {
+                    continue;
+                }
+                for (String rate : rates) {
+                    for (String saved : savings) {
+                        for (String contribution : contributions) {
+                            RetirementPlanDTO plan = new RetirementPlanDTO(1L, currentAge, retirementAge);
+                            plan.setExpectedReturnRate(new BigDecimal(rate));
+                            plan.setCurrentSavings(new BigDecimal(saved));
+                            plan.setMonthlyContribution(new BigDecimal(contribution));
+                            plan.setEmployerMatch(BigDecimal.ZERO);
+                            assertFastMatchesExact(plan);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    void zeroRateIsIdenticalInBothModes() {
+        RetirementPlanDTO fast = zeroRatePlan();
+        RetirementPlanDTO exact = zeroRatePlan();
+        calculator.calculateRetirementPlan(fast, ProjectionMode.FAST);
+        calculator.calculateRetirementPlan(exact, ProjectionMode.EXACT);
+        
+        // 10,000 + (500 + 250) * 240 months
+        assertEquals(new BigDecimal("190000.00"), exact.getProjectedBalance());
+        assertEquals(exact.getProjectedBalance(), fast.getProjectedBalance());
+    }
+    
+    @Test
+    void exactModeMatchesFullPrecisionFormula() {
+        for (int years = 1; years <= 50; years += 7) {
+            RetirementPlanDTO plan = new RetirementPlanDTO(1L, 65 - years, 65);
+            calculator.calculateRetirementPlan(plan, ProjectionMode.EXACT);
+            
+            // Same formula with an unrounded growth factor, as computed before the fast path existed
+            BigDecimal monthlyRate = new BigDecimal("7.0").divide(new BigDecimal("1200"), 10, RoundingMode.HALF_UP);
+            BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(years * 12);
+            BigDecimal expected = new BigDecimal("106965.67").multiply(growth)
+                .add(new BigDecimal("975").multiply(growth.subtract(BigDecimal.ONE))
+                    .divide(monthlyRate, 2, RoundingMode.HALF_UP))
+                .setScale(2, RoundingMode.HALF_UP);
+            
+            assertEquals(expected, plan.getProjectedBalance(), years + " years");
+        }
+    }
+    
+    private RetirementPlanDTO zeroRatePlan() {
+        RetirementPlanDTO plan = new RetirementPlanDTO(1L, 45, 65);
+        plan.setExpectedReturnRate(BigDecimal.ZERO);
+        plan.setCurrentSavings(new BigDecimal("10000"));
+        plan.setMonthlyContribution(new BigDecimal("500"));
+        plan.setEmployerMatch(new BigDecimal("250"));
+        return plan;
+    }
+    
+    private void assertFastMatchesExact(RetirementPlanDTO template) {
+        RetirementPlanDTO fast = copy(template);
+        RetirementPlanDTO exact = copy(template);
+        calculator.calculateRetirementPlan(fast, ProjectionMode.FAST);
+        calculator.calculateRetirementPlan(exact, ProjectionMode.EXACT);
+        
+        String scenario = "age " + template.getCurrentAge() + "->" + template.getRetirementAge()
+            + ", rate " + template.getExpectedReturnRate() + ", savings " + template.getCurrentSavings()
+            + ", contribution " + template.getMonthlyContribution();
+        assertWithinTolerance(exact.getProjectedBalance(), fast.getProjectedBalance(), "balance, " + scenario);
+        assertWithinTolerance(exact.getProjectedMonthlyIncome(), fast.getProjectedMonthlyIncome(), "income, " + scenario);
+        assertEquals(exact.getYearsToRetirement(), fast.getYearsToRetirement(), scenario);
+        
+        // Status can only differ when the income sits within tolerance of the goal
+        BigDecimal gap = exact.getProjectedMonthlyIncome().subtract(exact.getDesiredMonthlyIncome()).abs();
+        if (gap.doubleValue() > tolerance(exact.getProjectedMonthlyIncome())) {
+            assertEquals(exact.getStatus(), fast.getStatus(), scenario);
+        }
+    }
+    
+    private void assertWithinTolerance(BigDecimal exact, BigDecimal fast, String message) {
+        double difference = exact.subtract(fast).abs().doubleValue();
+        assertTrue(difference <= tolerance(exact),
+            message + ": exact " + exact + ", fast " + fast + ", difference " + difference);
+    }
+    
+    private double tolerance(BigDecimal exact) {
+        return Math.max(ABSOLUTE_TOLERANCE, exact.abs().doubleValue() * RELATIVE_TOLERANCE);
+    }
+    
+    private RetirementPlanDTO copy(RetirementPlanDTO template) {
+        RetirementPlanDTO plan = new RetirementPlanDTO(template.getUserId(), template.getCurrentAge(),
+            template.getRetirementAge());
+        plan.setCurrentSavings(template.getCurrentSavings());
+        plan.setMonthlyContribution(template.getMonthlyContribution());
+        plan.setEmployerMatch(template.getEmployerMatch());
+        plan.setExpectedReturnRate(template.getExpectedReturnRate());
+        plan.setDesiredMonthlyIncome(template.getDesiredMonthlyIncome());
+        return plan;
+    }
+}
@@ -0,0 +1,187 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.ParameterRangeDTO;
+import com.finova.planning.dto.RetirementPlanDTO;
+import com.finova.planning.dto.ScenarioGridDTO;
+import com.finova.planning.dto.ScenarioGridRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Scenario grid cells agree with single plan calculations
+ */
+@DisplayName("ScenarioGridService Tests")
+class ScenarioGridServiceTest {
+    
+    private final RetirementCalculatorService calculator =
+        new RetirementCalculatorService(PlanningFixtures.uncachedResults(), 0.03);
+    private final ScenarioGridService gridService = new ScenarioGridService(calculator, 100000, 16);
+    
+    @Test
+    @DisplayName("Should match single plan calculations in every sampled cell")
+    void shouldMatchSinglePlanCalculations() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("60", "70", "1"));
+        request.setMonthlyContribution(range("0", "2000", "250"));
+        request.setExpectedReturnRate(range("3", "9", "0.5"));
+        request.setExpectedInflationRate(range("0", "0", null));
+        
+        // When
+        ScenarioGridDTO grid = gridService.evaluate(request);
+        
+        // Then
+        assertThat(grid.getCellCount()).isEqualTo(11 * 9 * 13);
+        int contributions = grid.getMonthlyContributions().length;
+        int rates = grid.getExpectedReturnRates().length;
+        for (int a = 0; a < grid.getRetirementAges().length; a += 3) {
+            for (int c = 0; c < contributions; c += 2) {
+                for (int r = 0; r < rates; r += 4) {
+                    RetirementPlanDTO plan = new RetirementPlanDTO(1L, 40, grid.getRetirementAges()[a]);
+                    plan.setMonthlyContribution(BigDecimal.valueOf(grid.getMonthlyContributions()[c]));
+                    plan.setExpectedReturnRate(BigDecimal.valueOf(grid.getExpectedReturnRates()[r]));
+                    calculator.calculateRetirementPlan(plan);
+                    
+                    int cell = (a * contributions + c) * rates + r;
+                    assertThat(grid.getProjectedBalance()[cell]).as("balance in cell %d", cell)
+                        .isCloseTo(plan.getProjectedBalance().doubleValue(), within(0.01));
+                    assertThat(grid.getProjectedMonthlyIncome()[cell]).as("income in cell %d", cell)
+                        .isCloseTo(plan.getProjectedMonthlyIncome().doubleValue(), within(0.01));
+                    assertThat(grid.getRealMonthlyIncome()[cell]).isEqualTo(grid.getProjectedMonthlyIncome()[cell]);
+                    assertThat(grid.getOnTrack()[cell]).as("on track in cell %d", cell).isEqualTo(plan.isOnTrack());
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should deflate income to today's dollars by the cell's inflation rate")
+    void shouldDeflateIncomeByInflation() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("65", null, null));
+        request.setExpectedInflationRate(range("0", "3", "3"));
+        
+        // When
+        ScenarioGridDTO grid = gridService.evaluate(request);
+        
+        // Then
+        assertThat(grid.getCellCount()).isEqualTo(2);
+        assertThat(grid.getProjectedMonthlyIncome()[1]).isEqualTo(grid.getProjectedMonthlyIncome()[0]);
+        assertThat(grid.getRealMonthlyIncome()[1])
+            .isCloseTo(grid.getProjectedMonthlyIncome()[1] / Math.pow(1.03, 25), within(0.01));
+    }
+    
+    @Test
+    @DisplayName("Should judge on track by nominal income whatever the inflation rate")
+    void shouldJudgeOnTrackByNominalIncome() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("65", null, null));
+        request.setExpectedInflationRate(range("0", "6", "6"));
+        ScenarioGridDTO nominal = gridService.evaluate(request);
+        request.setDesiredMonthlyIncome(BigDecimal.valueOf(nominal.getProjectedMonthlyIncome()[0]));
+        
+        // When
+        ScenarioGridDTO grid = gridService.evaluate(request);
+        
+        // Then
+        assertThat(grid.getRealMonthlyIncome()[1]).isLessThan(request.getDesiredMonthlyIncome().doubleValue());
+        assertThat(grid.getOnTrack()).containsExactly(true, true);
+    }
+    
+    @Test
+    @DisplayName("Should default an unswept inflation rate to the shared planning default")
+    void shouldDefaultInflationToSharedDefault() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("65", null, null));
+        
+        // When
+        ScenarioGridDTO grid = gridService.evaluate(request);
+        
+        // Then
+        assertThat(grid.getExpectedInflationRates()).containsExactly(3.0);
+        assertThat(grid.getRealMonthlyIncome()[0])
+            .isCloseTo(grid.getProjectedMonthlyIncome()[0] / Math.pow(1.03, 25), within(0.01));
+    }
+    
+    @Test
+    @DisplayName("Should cover the whole range with decimal steps")
+    void shouldCoverRangeWithDecimalSteps() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("65", null, null));
+        request.setExpectedReturnRate(range("4", "5", "0.1"));
+        
+        // When
+        ScenarioGridDTO grid = gridService.evaluate(request);
+        
+        // Then
+        assertThat(grid.getExpectedReturnRates()).hasSize(11);
+        assertThat(grid.getExpectedReturnRates()[10]).isEqualTo(5.0);
+    }
+    
+    @Test
+    @DisplayName("Should reject a grid with more cells than max-cells")
+    void shouldRejectOversizedGrid() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("41", "80", "1"));
+        request.setMonthlyContribution(range("0", "10000", "10"));
+        request.setExpectedReturnRate(range("0", "12", "0.5"));
+        
+        // When / Then
+        assertThatThrownBy(() -> gridService.evaluate(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Scenario grid has more than 100000 cells");
+    }
+    
+    @Test
+    @DisplayName("Should reject a range with more values than an int holds before counting them")
+    void shouldRejectRangeTooLargeToCount() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("65", null, null));
+        request.setMonthlyContribution(range("0", "10000000000", "0.001"));
+        
+        // When / Then
+        assertThatThrownBy(() -> gridService.evaluate(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The monthlyContribution range has more than 100000 values");
+    }
+    
+    @Test
+    @DisplayName("Should reject axes whose combined size overflows a long")
+    void shouldRejectAxesWhoseProductOverflows() {
+        // Given
+        ScenarioGridRequestDTO request = request();
+        request.setRetirementAge(range("40", "140", "1"));
+        request.setMonthlyContribution(range("0", "99999", "1"));
+        request.setExpectedReturnRate(range("0", "99999", "1"));
+        request.setExpectedInflationRate(range("0", "99999", "1"));
+        
+        // When / Then
+        assertThatThrownBy(() -> gridService.evaluate(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Scenario grid has more than");
+    }
+    
+    private ScenarioGridRequestDTO request() {
+        ScenarioGridRequestDTO request = new ScenarioGridRequestDTO();
+        request.setUserId(1L);
+        request.setCurrentAge(40);
+        return request;
+    }
+    
+    private ParameterRangeDTO range(String from, String to, String step) {
+        return new ParameterRangeDTO(new BigDecimal(from), to != null ? new BigDecimal(to) : null,
+            step != null ? new BigDecimal(step) : null);
+    }
+}
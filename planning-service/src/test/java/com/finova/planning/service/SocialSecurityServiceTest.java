@@ -0,0 +1,96 @@
+package com.finova.planning.service;
+
+import com.finova.planning.dto.ClaimingOptionDTO;
+import com.finova.planning.dto.EarningsRecordDTO;
+import com.finova.planning.dto.SocialSecurityDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the benefit tables against published SSA figures and the PIA formula on known earnings
+ */
+@DisplayName("SocialSecurityService Tests")
+class SocialSecurityServiceTest {
+    
+    private final SocialSecurityTables tables = new SocialSecurityTables("social-security/wage-index.csv", 0.035, 80);
+    private final SocialSecurityService service =
+        new SocialSecurityService(tables, PlanningFixtures.uncachedResults());
+    
+    @Test
+    @DisplayName("Should derive the published bend points from the wage index")
+    void shouldMatchPublishedBendPoints() {
+        // When / Then
+        assertThat(tables.firstBendPoint(1979)).isEqualTo(180);
+        assertThat(tables.secondBendPoint(1979)).isEqualTo(1085);
+        assertThat(tables.firstBendPoint(2024)).isEqualTo(1174);
+        assertThat(tables.secondBendPoint(2024)).isEqualTo(7078);
+        assertThat(tables.firstBendPoint(2025)).isEqualTo(1226);
+        assertThat(tables.secondBendPoint(2025)).isEqualTo(7391);
+    }
+    
+    @Test
+    @DisplayName("Should reduce and credit claiming factors around the full retirement age")
+    void shouldFollowFullRetirementAgeInClaimingFactors() {
+        // When / Then
+        assertThat(tables.claimingFactor(67 * 12, 62 * 12)).isCloseTo(0.70, within(1e-12));
+        assertThat(tables.claimingFactor(67 * 12, 67 * 12)).isCloseTo(1.00, within(1e-12));
+        assertThat(tables.claimingFactor(67 * 12, 70 * 12)).isCloseTo(1.24, within(1e-12));
+        assertThat(tables.claimingFactor(66 * 12, 62 * 12)).isCloseTo(0.75, within(1e-12));
+        assertThat(tables.claimingFactor(66 * 12, 70 * 12)).isCloseTo(1.32, within(1e-12));
+        assertThat(tables.fullRetirementAgeMonths(1957)).isEqualTo(66 * 12 + 6);
+    }
+    
+    @Test
+    @DisplayName("Should cap, index and average earnings into AIME and apply the PIA formula")
+    void shouldCapIndexAndAverageEarnings() {
+        // Given
+        SocialSecurityDTO ssDTO = new SocialSecurityDTO();
+        ssDTO.setDateOfBirth(LocalDate.of(1963, 3, 1));
+        ssDTO.setEarningsHistory(List.of(
+            new EarningsRecordDTO(2022, new BigDecimal("63795.13")),
+            new EarningsRecordDTO(2023, new BigDecimal("200000")),
+            new EarningsRecordDTO(2024, new BigDecimal("168600"))));
+        
+        // When
+        service.calculateBenefits(ssDTO);
+        
+        // Then
+        // 2022 indexes to the 2023 AWI, 2023 is capped at $160,200 and 2024 counts at face value
+        double total = 63795.13 * 66621.80 / 63795.13 + 160200 + 168600;
+        int aime = (int) Math.floor(total / 420);
+        // Below the first bend point of $1,226, the PIA is 90% of AIME
+        assertThat(aime).isLessThan(1226);
+        double pia = Math.floor(aime * 9.0) / 10;
+        assertThat(ssDTO.getAverageIndexedMonthlyEarnings().intValue()).isEqualTo(aime);
+        assertThat(ssDTO.getPrimaryInsuranceAmount().doubleValue()).isCloseTo(pia, within(1e-9));
+        assertThat(ssDTO.getFullRetirementAge()).isEqualTo(67);
+        assertThat(ssDTO.getFullRetirementAgeMonths()).isZero();
+        assertThat(ssDTO.getBenefitAt62().intValue()).isEqualTo((int) Math.floor(pia * 0.70));
+        assertThat(ssDTO.getBenefitAt67().intValue()).isEqualTo((int) Math.floor(pia));
+        assertThat(ssDTO.getBenefitAt70().intValue()).isEqualTo((int) Math.floor(pia * 1.24));
+    }
+    
+    @Test
+    @DisplayName("Should offer a non-decreasing benefit for every claiming month from 62 to 70")
+    void shouldRaiseClaimingOptionsMonthByMonth() {
+        // When
+        SocialSecurityDTO ssDTO = service.calculateBenefits(new SocialSecurityDTO());
+        
+        // Then
+        assertThat(ssDTO.getClaimingOptions()).hasSize(97);
+        assertThat(ssDTO.getClaimingOptions().get(0).getAgeYears()).isEqualTo(62);
+        assertThat(ssDTO.getClaimingOptions().get(96).getAgeYears()).isEqualTo(70);
+        assertThat(ssDTO.getClaimingOptions()).extracting(ClaimingOptionDTO::getMonthlyBenefit)
+            .isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(ssDTO.getBenefitAt62().signum()).isPositive();
+        assertThat(ssDTO.getPrimaryInsuranceAmount()).isLessThan(ssDTO.getAverageIndexedMonthlyEarnings());
+    }
+}
@@ -0,0 +1,22 @@
+package com.finova.user.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feign client for account-service provisioning, an internal endpoint called with a service token
+ */
+@FeignClient(name = "account-service", url = "${finova.provisioning.account-service-url:}",
+             configuration = AccountProvisioningClientConfig.class)
+public interface AccountProvisioningClient {
+    
+    /**
+     * Provision default accounts for a batch of users
+     */
+    @PostMapping("/internal/provisioning/users")
+    Map<String, List<Long>> provisionUsers(@RequestBody List<Long> userIds);
+}
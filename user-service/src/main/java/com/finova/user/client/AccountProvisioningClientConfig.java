@@ -0,0 +1,20 @@
+package com.finova.user.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Feign configuration for AccountProvisioningClient only. Deliberately not a @Configuration,
+ * so the service token is not added to other Feign clients.
+ */
+public class AccountProvisioningClientConfig {
+    
+    @Bean
+    public ServiceTokenInterceptor serviceTokenInterceptor(
+            @Value("${finova.provisioning.token-uri}") String tokenUri,
+            @Value("${finova.provisioning.client-id}") String clientId,
+            @Value("${finova.provisioning.client-secret}") String clientSecret) {
+        return new ServiceTokenInterceptor(new RestTemplate(), tokenUri, clientId, clientSecret);
+    }
+}
@@ -0,0 +1,68 @@
+package com.finova.user.client;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Adds a service bearer token to account-service calls, which its /internal security chain requires.
+ * The token is obtained with the OAuth 2.0 client credentials grant and reused until shortly before
+ * it expires. A failed token request fails the call, which the caller retries later.
+ */
+public class ServiceTokenInterceptor implements RequestInterceptor {
+    
+    // Renew this long before expiry so a token never lapses while a request is in flight
+    private static final long EXPIRY_MARGIN_SECONDS = 30;
+    
+    private final RestTemplate restTemplate;
+    private final String tokenUri;
+    private final String clientId;
+    private final String clientSecret;
+    
+    private String accessToken;
+    private Instant renewAt = Instant.MIN;
+    
+    public ServiceTokenInterceptor(RestTemplate restTemplate, String tokenUri, String clientId, String clientSecret) {
+        this.restTemplate = restTemplate;
+        this.tokenUri = tokenUri;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+    }
+    
+    @Override
+    public void apply(RequestTemplate template) {
+        template.header(HttpHeaders.AUTHORIZATION, "Bearer " + currentToken());
+    }
+    
+    /**
+     * Return the cached token, requesting a new one once it is close to expiring
+     */
+    synchronized String currentToken() {
+        Instant now = Instant.now();
+        if (accessToken == null || !now.isBefore(renewAt)) {
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+            form.add("grant_type", "client_credentials");
+            form.add("client_id", clientId);
+            form.add("client_secret", clientSecret);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+            
+            Map<?, ?> response = restTemplate.postForObject(tokenUri, new HttpEntity<>(form, headers), Map.class);
+            if (response == null || !(response.get("access_token") instanceof String token)) {
+                throw new IllegalStateException("Token endpoint " + tokenUri + " returned no access_token");
+            }
+            long expiresIn = response.get("expires_in") instanceof Number seconds ? seconds.longValue() : 0;
+            accessToken = token;
+            renewAt = now.plusSeconds(Math.max(0, expiresIn - EXPIRY_MARGIN_SECONDS));
+        }
+        return accessToken;
+    }
+}
@@ -70,6 +70,10 @@ public class User {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
     
+    // Set once account-service has provisioned the user's default accounts
+    @Column(name = "provisioned_at")
+    private LocalDateTime provisionedAt;
+    
     @Column(name = "enabled")
     private boolean enabled = true;
     
@@ -146,6 +150,9 @@ public class User {
     public LocalDateTime getLastLogin() { return lastLogin; }
     public void setLastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; }
     
+    public LocalDateTime getProvisionedAt() { return provisionedAt; }
+    public void setProvisionedAt(LocalDateTime provisionedAt) { this.provisionedAt = provisionedAt; }
+    
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
     
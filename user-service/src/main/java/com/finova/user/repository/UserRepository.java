@@ -1,9 +1,15 @@
 package com.finova.user.repository;
 
 import com.finova.user.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,4 +37,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Check if email exists
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * Find the next users whose default accounts have not been provisioned
+     */
+    @Query("SELECT u.id FROM User u WHERE u.provisionedAt IS NULL ORDER BY u.id")
+    List<Long> findUnprovisionedUserIds(Pageable pageable);
+    
+    /**
+     * Mark users as provisioned
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.provisionedAt = :provisionedAt WHERE u.id IN :ids")
+    int markProvisioned(@Param("ids") List<Long> ids, @Param("provisionedAt") LocalDateTime provisionedAt);
 }
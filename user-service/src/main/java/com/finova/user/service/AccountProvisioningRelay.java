@@ -0,0 +1,124 @@
+package com.finova.user.service;
+
+import com.finova.user.client.AccountProvisioningClient;
+import com.finova.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends newly registered users to account-service for provisioning of their default accounts.
+ * 
+ * Users without provisioned_at act as the pending queue: a registration commit wakes the
+ * relay, which sends them in batches and stamps the ones account-service confirms. Failed
+ * batches stay pending and are retried by the periodic run. account-service provisions
+ * idempotently, so a batch that is delivered twice is harmless.
+ */
+@Component
+public class AccountProvisioningRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AccountProvisioningRelay.class);
+    
+    private final UserRepository userRepository;
+    private final AccountProvisioningClient accountProvisioningClient;
+    private final TransactionTemplate transactionTemplate;
+    
+    // Single worker so batches are never sent concurrently
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-provisioning");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    
+    @Value("${finova.provisioning.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${finova.provisioning.batch-size:100}")
+    private int batchSize;
+    
+    public AccountProvisioningRelay(UserRepository userRepository, AccountProvisioningClient accountProvisioningClient,
+                                    TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.accountProvisioningClient = accountProvisioningClient;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    /**
+     * Wake the relay once a registration has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        requestDrain();
+    }
+    
+    /**
+     * Periodically retry users whose provisioning has not been confirmed
+     */
+    @Scheduled(fixedDelayString = "${finova.provisioning.interval-ms:30000}")
+    public void retryPending() {
+        requestDrain();
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+    
+    private void requestDrain() {
+        if (enabled && drainRequested.compareAndSet(false, true)) {
+            worker.execute(this::drain);
+        }
+    }
+    
+    /**
+     * Send pending users in batches until none are left or a batch is not fully confirmed
+     */
+    private void drain() {
+        // Cleared before reading, so a registration committed during this run triggers another run
+        drainRequested.set(false);
+        
+        while (true) {
+            List<Long> userIds = transactionTemplate.execute(status ->
+                userRepository.findUnprovisionedUserIds(PageRequest.of(0, batchSize)));
+            if (userIds == null || userIds.isEmpty()) {
+                return;
+            }
+            
+            Map<String, List<Long>> result;
+            try {
+                result = accountProvisioningClient.provisionUsers(userIds);
+            } catch (RuntimeException e) {
+                logger.warn("Account provisioning for {} users failed, will retry: {}", userIds.size(), e.getMessage());
+                return;
+            }
+            
+            List<Long> confirmed = new ArrayList<>(result.getOrDefault("provisioned", List.of()));
+            confirmed.addAll(result.getOrDefault("alreadyProvisioned", List.of()));
+            if (!confirmed.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                    userRepository.markProvisioned(confirmed, LocalDateTime.now()));
+            }
+            logger.debug("Provisioned accounts for {} of {} users", confirmed.size(), userIds.size());
+            
+            if (confirmed.size() < userIds.size()) {
+                return;
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.finova.user.dto.RegisterRequest;
 import com.finova.user.model.User;
 import com.finova.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +30,9 @@ public class AuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Authenticate user
      */
@@ -94,6 +98,9 @@ public class AuthService {
             
             User savedUser = userRepository.save(user);
             
+            // Default accounts are provisioned asynchronously once this transaction commits
+            eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId()));
+            
             // Generate JWT token
             String token = jwtService.generateToken(savedUser.getUsername(), savedUser.getId());
             
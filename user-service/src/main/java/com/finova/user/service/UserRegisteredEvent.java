@@ -0,0 +1,15 @@
+package com.finova.user.service;
+
+/**
+ * Published when a new user has been registered
+ */
+public class UserRegisteredEvent {
+    
+    private final Long userId;
+    
+    public UserRegisteredEvent(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Long getUserId() { return userId; }
+}